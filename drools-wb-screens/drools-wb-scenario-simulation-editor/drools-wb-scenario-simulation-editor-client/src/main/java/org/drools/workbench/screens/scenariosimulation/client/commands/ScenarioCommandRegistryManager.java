@@ -16,6 +16,7 @@
 package org.drools.workbench.screens.scenariosimulation.client.commands;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +35,25 @@ import org.kie.workbench.common.command.client.registry.AbstractCommandRegistryM
 @Dependent
 public class ScenarioCommandRegistryManager extends AbstractCommandRegistryManager<AbstractScenarioSimulationUndoableCommand> {
 
+    /**
+     * Default maximum estimated memory, in bytes, retained by the <b>executed</b> <code>Command</code>s
+     */
+    public static final long DEFAULT_MAX_HISTORY_BYTES = 16L * 1024 * 1024;
+
+    protected long maxHistoryBytes = DEFAULT_MAX_HISTORY_BYTES;
+
+    /**
+     * Set the maximum estimated memory, in bytes, retained by the <b>executed</b> <code>Command</code>s: when exceeded,
+     * the oldest ones are discarded and can't be undone anymore. The last executed one is always kept.
+     * @param maxHistoryBytes
+     */
+    public void setMaxHistoryBytes(long maxHistoryBytes) {
+        if (maxHistoryBytes < 0) {
+            throw new IllegalArgumentException("The history size should be a positive number");
+        }
+        this.maxHistoryBytes = maxHistoryBytes;
+    }
+
     /**
      * Method to register the status as it was soon before the command execution,
      * to be used for undo/redo
@@ -43,9 +63,32 @@ public class ScenarioCommandRegistryManager extends AbstractCommandRegistryManag
     public void register(ScenarioSimulationContext context, AbstractScenarioSimulationUndoableCommand command) {
         doneCommandsRegistry.register(command);
         undoneCommandsRegistry.clear();
+        evictOldestCommands();
         setUndoRedoButtonStatus(context);
     }
 
+    /**
+     * Discard the oldest <b>executed</b> <code>Command</code>s exceeding {@link #maxHistoryBytes}
+     */
+    protected void evictOldestCommands() {
+        final List<AbstractScenarioSimulationUndoableCommand> history = doneCommandsRegistry.getHistory();
+        long historyBytes = 0;
+        int toKeep = 0;
+        while (toKeep < history.size()) {
+            historyBytes += history.get(toKeep).getEstimatedSize();
+            if (toKeep > 0 && historyBytes > maxHistoryBytes) {
+                break;
+            }
+            toKeep++;
+        }
+        if (toKeep < history.size()) {
+            doneCommandsRegistry.clear();
+            for (int i = toKeep - 1; i >= 0; i--) {
+                doneCommandsRegistry.register(history.get(i));
+            }
+        }
+    }
+
     /**
      * Calls <b>undo</b> on the last executed <code>Command</code>
      * @param scenarioSimulationContext
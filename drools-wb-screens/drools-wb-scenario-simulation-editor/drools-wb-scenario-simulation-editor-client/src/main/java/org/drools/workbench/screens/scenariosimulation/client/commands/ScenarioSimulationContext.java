@@ -477,6 +477,15 @@ public class ScenarioSimulationContext {
         }
 
         public Status cloneStatus() {
+            return cloneStatus(true);
+        }
+
+        /**
+         * @param cloneModels when <code>false</code>, the returned <code>Status</code> shares the <code>Simulation</code>
+         * and the <code>Background</code> with this one instead of holding a copy of them
+         * @return
+         */
+        public Status cloneStatus(boolean cloneModels) {
             Status toReturn = new Status();
             toReturn.columnId = this.columnId;
             toReturn.columnIndex = this.columnIndex;
@@ -490,8 +499,8 @@ public class ScenarioSimulationContext {
             toReturn.keepData = this.keepData;
             toReturn.gridCellValue = this.gridCellValue;
             toReturn.rowIndex = this.rowIndex;
-            toReturn.simulation = this.simulation.cloneModel();
-            toReturn.background = this.background.cloneModel();
+            toReturn.simulation = cloneModels ? this.simulation.cloneModel() : this.simulation;
+            toReturn.background = cloneModels ? this.background.cloneModel() : this.background;
             toReturn.currentGrid = this.currentGrid;
             toReturn.importPrefix = this.importPrefix;
             return toReturn;
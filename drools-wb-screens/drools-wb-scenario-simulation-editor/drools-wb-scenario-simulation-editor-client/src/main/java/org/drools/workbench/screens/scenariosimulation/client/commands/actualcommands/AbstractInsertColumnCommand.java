@@ -43,6 +43,12 @@ public abstract class AbstractInsertColumnCommand extends AbstractScenarioGridCo
                                                                                       context.getScenarioCellTextAreaSingletonDOMElementFactory(gridWidget),
                                                                                       ScenarioSimulationEditorConstants.INSTANCE.defineValidType());
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertColumn(index, scenarioGridColumnLocal);
+        recordInsertedColumn(context, scenarioGridColumnLocal);
         context.getSelectedScenarioGridLayer().ifPresent(layer -> layer.getScenarioGrid().selectCurrentHeaderCellGroup());
     }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
+    }
 }
@@ -15,10 +15,13 @@
  */
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.drools.scenariosimulation.api.model.AbstractScesimModel;
 import org.drools.scenariosimulation.api.model.Background;
 import org.drools.scenariosimulation.api.model.FactIdentifier;
 import org.drools.scenariosimulation.api.model.FactMappingType;
@@ -34,6 +37,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 import org.kie.workbench.common.command.client.CommandResult;
 import org.kie.workbench.common.command.client.CommandResultBuilder;
 import org.kie.workbench.common.command.client.impl.CommandResultImpl;
+import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 
 import static org.drools.workbench.screens.scenariosimulation.client.utils.ScenarioSimulationUtils.getHeaderBuilder;
 import static org.drools.workbench.screens.scenariosimulation.client.utils.ScenarioSimulationUtils.getScenarioGridColumn;
@@ -42,6 +46,12 @@ public abstract class AbstractScenarioGridCommand extends AbstractScenarioSimula
 
     protected GridWidget gridWidget;
 
+    /**
+     * The rows and columns <i>inserted/deleted</i> by the last execution, <b>undo</b> or <b>redo</b> of this command,
+     * in the order they have been applied. Used only if {@link #isRestorableByGridDeltas()}
+     */
+    protected List<ScenarioGridDelta> restorableGridDeltas = new ArrayList<>();
+
     /**
      * Calling this constructor will set the target <code>GridWidget</code>
      * @param gridWidget
@@ -50,13 +60,31 @@ public abstract class AbstractScenarioGridCommand extends AbstractScenarioSimula
         this.gridWidget = gridWidget;
     }
 
+    /**
+     * Returns <code>true</code> if this command changes the grid only inserting and deleting rows and columns through
+     * {@link #recordInsertedRow(int)}, {@link #deleteRow(ScenarioSimulationContext, int)}, {@link #recordInsertedColumn(ScenarioSimulationContext, GridColumn)}
+     * and {@link #deleteColumn(ScenarioSimulationContext, int)}: <b>undo/redo</b> then revert the recorded <code>ScenarioGridDelta</code>s
+     * instead of restoring a copy of the whole <code>Simulation</code> and <code>Background</code>
+     * @return
+     */
+    protected boolean isRestorableByGridDeltas() {
+        return false;
+    }
+
     @Override
     protected ScenarioSimulationContext.Status setRestorableStatusPreExecution(ScenarioSimulationContext context) {
+        if (isRestorableByGridDeltas()) {
+            restorableGridDeltas.clear();
+            return context.getStatus().cloneStatus(false);
+        }
         return context.getStatus().cloneStatus();
     }
 
     @Override
     protected CommandResult<ScenarioSimulationViolation> setCurrentContext(ScenarioSimulationContext context) {
+        if (isRestorableByGridDeltas()) {
+            return revertGridDeltas(context);
+        }
         try {
             final Simulation simulationToRestore = restorableStatus.getSimulation();
             final Background backgroundToRestore = restorableStatus.getBackground();
@@ -83,6 +111,96 @@ public abstract class AbstractScenarioGridCommand extends AbstractScenarioSimula
         }
     }
 
+    /**
+     * Revert the <code>ScenarioGridDelta</code>s applied by the last execution, <b>undo</b> or <b>redo</b>, in reverse order,
+     * and stores the reverting ones in their place
+     * @param context
+     * @return
+     */
+    protected CommandResult<ScenarioSimulationViolation> revertGridDeltas(ScenarioSimulationContext context) {
+        try {
+            final ScenarioSimulationContext.Status originalStatus = context.getStatus().cloneStatus(false);
+            final List<ScenarioGridDelta> revertingGridDeltas = new ArrayList<>();
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).clearSelections();
+            for (int i = restorableGridDeltas.size() - 1; i >= 0; i--) {
+                revertingGridDeltas.add(restorableGridDeltas.get(i).revert(context, gridWidget));
+            }
+            context.getScenarioSimulationEditorPresenter().reloadTestTools(true);
+            // Models may have been replaced by other commands undo/redo in the meanwhile: always refer to the current ones
+            restorableStatus.setSimulation(originalStatus.getSimulation());
+            restorableStatus.setBackground(originalStatus.getBackground());
+            context.setStatus(restorableStatus);
+            restorableStatus = originalStatus;
+            restorableGridDeltas = revertingGridDeltas;
+            return commonExecution(context);
+        } catch (Exception e) {
+            return new CommandResultImpl<>(CommandResult.Type.ERROR, Collections.singleton(new ScenarioSimulationViolation(e.getMessage())));
+        }
+    }
+
+    /**
+     * Record a row <i>inserted</i> at the given index
+     * @param rowIndex
+     */
+    protected void recordInsertedRow(int rowIndex) {
+        addGridDelta(ScenarioGridDelta.insertedRow(rowIndex));
+    }
+
+    /**
+     * <i>Delete</i> the row at the given index and record it
+     * @param context
+     * @param rowIndex
+     */
+    protected void deleteRow(ScenarioSimulationContext context, int rowIndex) {
+        addGridDelta(ScenarioGridDelta.deleteRow(context, gridWidget, rowIndex));
+    }
+
+    /**
+     * Record the given column as <i>inserted</i>, if it has actually been added to the grid
+     * @param context
+     * @param column
+     */
+    protected void recordInsertedColumn(ScenarioSimulationContext context, GridColumn<?> column) {
+        final int columnIndex = context.getAbstractScesimGridModelByGridWidget(gridWidget).getColumns().indexOf(column);
+        if (columnIndex > -1) {
+            addGridDelta(ScenarioGridDelta.insertedColumn(columnIndex));
+        }
+    }
+
+    /**
+     * <i>Delete</i> the column at the given index and record it
+     * @param context
+     * @param columnIndex
+     */
+    protected void deleteColumn(ScenarioSimulationContext context, int columnIndex) {
+        addGridDelta(ScenarioGridDelta.deleteColumn(context, gridWidget, columnIndex));
+    }
+
+    protected void addGridDelta(ScenarioGridDelta gridDelta) {
+        if (isRestorableByGridDeltas()) {
+            restorableGridDeltas.add(gridDelta);
+        }
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        if (restorableStatus == null) {
+            return ESTIMATED_COMMAND_SIZE;
+        }
+        if (isRestorableByGridDeltas()) {
+            return ESTIMATED_COMMAND_SIZE + restorableGridDeltas.stream().mapToLong(ScenarioGridDelta::getEstimatedSize).sum();
+        }
+        return ESTIMATED_COMMAND_SIZE + getEstimatedSize(restorableStatus.getSimulation()) + getEstimatedSize(restorableStatus.getBackground());
+    }
+
+    protected long getEstimatedSize(AbstractScesimModel<?> abstractScesimModel) {
+        if (abstractScesimModel == null) {
+            return 0;
+        }
+        final long factMappings = abstractScesimModel.getScesimModelDescriptor().getUnmodifiableFactMappings().size();
+        return ESTIMATED_VALUE_SIZE * factMappings * (1 + abstractScesimModel.getUnmodifiableData().size());
+    }
+
     @Override
     public Optional<CommandResult<ScenarioSimulationViolation>> commonUndoRedoPreExecution(final ScenarioSimulationContext context) {
         final Optional<GridWidget> selectedGridWidgetOptional = context.getSelectedGridWidget();
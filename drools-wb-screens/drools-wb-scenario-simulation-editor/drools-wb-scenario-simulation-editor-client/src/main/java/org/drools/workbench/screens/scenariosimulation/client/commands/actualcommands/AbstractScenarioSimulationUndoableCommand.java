@@ -27,6 +27,16 @@ import org.kie.workbench.common.command.client.CommandResult;
  */
 public abstract class AbstractScenarioSimulationUndoableCommand<S> extends AbstractScenarioSimulationCommand {
 
+    /**
+     * Estimated memory, in bytes, retained by a command which doesn't store any model data
+     */
+    public static final long ESTIMATED_COMMAND_SIZE = 256;
+
+    /**
+     * Estimated memory, in bytes, retained by each stored value (a <code>FactMappingValue</code>, a grid cell, ...)
+     */
+    public static final long ESTIMATED_VALUE_SIZE = 128;
+
     /**
      * The <code>ScenarioSimulationContext.Status</code> to restore when calling <b>undo/redo</b>.
      * Needed only for <b>undoable</b> commands.
@@ -58,6 +68,15 @@ public abstract class AbstractScenarioSimulationUndoableCommand<S> extends Abstr
      */
     public abstract Optional<CommandResult<ScenarioSimulationViolation>> commonUndoRedoPreExecution(ScenarioSimulationContext context);
 
+    /**
+     * Returns the estimated memory, in bytes, retained by this command to be <b>undone/redone</b>.
+     * Used to bound the undo/redo history: it has to be overridden by the commands storing model data.
+     * @return
+     */
+    public long getEstimatedSize() {
+        return ESTIMATED_COMMAND_SIZE;
+    }
+
     @Override
     public CommandResult<ScenarioSimulationViolation> execute(final ScenarioSimulationContext context) {
         restorableStatus = setRestorableStatusPreExecution(context);
@@ -98,6 +98,7 @@ public abstract class AbstractSelectedColumnCommand extends AbstractScenarioGrid
         scenarioGridColumnLocal.setInstanceAssigned(cloneInstance);
         scenarioGridColumnLocal.setPropertyAssigned(false);
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertColumn(columnPosition, scenarioGridColumnLocal);
+        recordInsertedColumn(context, scenarioGridColumnLocal);
         return scenarioGridColumnLocal;
     }
 
@@ -31,5 +31,11 @@ public class AppendRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).appendRow(new ScenarioGridRow());
+        recordInsertedRow(context.getAbstractScesimGridModelByGridWidget(gridWidget).getRowCount() - 1);
+    }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
     }
 }
@@ -22,6 +22,8 @@ import org.drools.scenariosimulation.api.model.FactMappingType;
 import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.resources.i18n.ScenarioSimulationEditorConstants;
+import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridColumn;
+import org.uberfire.ext.wires.core.grids.client.model.GridData;
 
 /**
  * <code>Command</code> to <b>delete</b> a column. <b>Eventually</b> add a ne column if the deleted one is the last of its group.
@@ -37,11 +39,14 @@ public class DeleteColumnCommand extends AbstractScenarioGridCommand {
         final ScenarioSimulationContext.Status status = context.getStatus();
         int newColumnPosition = -1;
         if (status.isAsProperty()) {
-            context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteColumn(status.getColumnIndex());
+            deleteColumn(context, status.getColumnIndex());
             newColumnPosition = status.getColumnIndex();
         } else {
-            newColumnPosition = context.getAbstractScesimGridModelByGridWidget(gridWidget).getInstanceLimits(status.getColumnIndex()).getMinRowIndex();
-            context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteInstance(status.getColumnIndex());
+            final GridData.Range instanceLimits = context.getAbstractScesimGridModelByGridWidget(gridWidget).getInstanceLimits(status.getColumnIndex());
+            newColumnPosition = instanceLimits.getMinRowIndex();
+            for (int columnIndex = instanceLimits.getMaxRowIndex(); columnIndex >= instanceLimits.getMinRowIndex(); columnIndex--) {
+                deleteColumn(context, columnIndex);
+            }
         }
         createColumnIfEmptyGroup(context, status, newColumnPosition);
         new ReloadTestToolsCommand().execute(context);
@@ -60,14 +65,21 @@ public class DeleteColumnCommand extends AbstractScenarioGridCommand {
             Map.Entry<String, String> validPlaceholders = context.getAbstractScesimGridModelByGridWidget(gridWidget).getValidPlaceholders();
             String instanceTitle = validPlaceholders.getKey();
             String propertyTitle = validPlaceholders.getValue();
-            context.getAbstractScesimGridModelByGridWidget(gridWidget).insertColumn(newColumnPosition, getScenarioGridColumnLocal(instanceTitle,
-                                                                                                                                  propertyTitle,
-                                                                                                                                  String.valueOf(new Date().getTime()),
-                                                                                                                                  status.getColumnGroup(),
-                                                                                                                                  factMappingType,
-                                                                                                                                  context.getScenarioHeaderTextBoxSingletonDOMElementFactory(gridWidget),
-                                                                                                                                  context.getScenarioCellTextAreaSingletonDOMElementFactory(gridWidget),
-                                                                                                                                  ScenarioSimulationEditorConstants.INSTANCE.defineValidType()));
+            final ScenarioGridColumn scenarioGridColumnLocal = getScenarioGridColumnLocal(instanceTitle,
+                                                                                          propertyTitle,
+                                                                                          String.valueOf(new Date().getTime()),
+                                                                                          status.getColumnGroup(),
+                                                                                          factMappingType,
+                                                                                          context.getScenarioHeaderTextBoxSingletonDOMElementFactory(gridWidget),
+                                                                                          context.getScenarioCellTextAreaSingletonDOMElementFactory(gridWidget),
+                                                                                          ScenarioSimulationEditorConstants.INSTANCE.defineValidType());
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).insertColumn(newColumnPosition, scenarioGridColumnLocal);
+            recordInsertedColumn(context, scenarioGridColumnLocal);
         }
     }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
+    }
 }
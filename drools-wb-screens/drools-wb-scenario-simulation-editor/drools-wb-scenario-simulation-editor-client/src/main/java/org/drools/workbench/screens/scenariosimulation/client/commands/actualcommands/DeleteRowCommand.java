@@ -30,9 +30,15 @@ public class DeleteRowCommand extends AbstractScenarioGridCommand {
 
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteRow(context.getStatus().getRowIndex());
+        deleteRow(context, context.getStatus().getRowIndex());
         if (context.getAbstractScesimGridModelByGridWidget(gridWidget).getRows().isEmpty()) {
             context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(0, new ScenarioGridRow());
+            recordInsertedRow(0);
         }
     }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
+    }
 }
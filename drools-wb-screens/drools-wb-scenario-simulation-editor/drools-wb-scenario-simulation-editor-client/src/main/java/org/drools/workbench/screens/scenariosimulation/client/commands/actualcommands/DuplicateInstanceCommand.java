@@ -80,4 +80,9 @@ public class DuplicateInstanceCommand extends AbstractSelectedColumnCommand {
                     }
                 });
     }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
+    }
 }
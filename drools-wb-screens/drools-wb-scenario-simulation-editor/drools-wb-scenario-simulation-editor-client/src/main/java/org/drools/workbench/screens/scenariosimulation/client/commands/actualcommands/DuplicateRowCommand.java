@@ -31,5 +31,11 @@ public class DuplicateRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).duplicateRow(context.getStatus().getRowIndex(), new ScenarioGridRow());
+        recordInsertedRow(context.getStatus().getRowIndex() + 1);
+    }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
     }
 }
@@ -46,4 +46,9 @@ public class InsertColumnCommand extends AbstractSelectedColumnCommand {
 
         insertNewColumn(context, selectedColumn, columnPosition, cloneInstance);
     }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
+    }
 }
@@ -29,5 +29,11 @@ public class InsertRowCommand extends AbstractScenarioGridCommand {
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(context.getStatus().getRowIndex(),
                                                                              new ScenarioGridRow());
+        recordInsertedRow(context.getStatus().getRowIndex());
+    }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
     }
 }
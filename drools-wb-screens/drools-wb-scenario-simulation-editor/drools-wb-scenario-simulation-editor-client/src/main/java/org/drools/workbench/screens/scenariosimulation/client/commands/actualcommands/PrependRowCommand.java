@@ -31,5 +31,11 @@ public class PrependRowCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         context.getAbstractScesimGridModelByGridWidget(gridWidget).insertRow(0, new ScenarioGridRow());
+        recordInsertedRow(0);
+    }
+
+    @Override
+    protected boolean isRestorableByGridDeltas() {
+        return true;
     }
 }
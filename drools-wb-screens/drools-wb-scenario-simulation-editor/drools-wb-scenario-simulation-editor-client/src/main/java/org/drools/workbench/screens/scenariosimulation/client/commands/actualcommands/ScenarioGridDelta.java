@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.scenariosimulation.api.model.AbstractScesimData;
+import org.drools.scenariosimulation.api.model.AbstractScesimModel;
+import org.drools.scenariosimulation.api.model.FactMapping;
+import org.drools.scenariosimulation.api.model.FactMappingValue;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.drools.workbench.screens.scenariosimulation.client.models.AbstractScesimGridModel;
+import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
+
+import static org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands.AbstractScenarioSimulationUndoableCommand.ESTIMATED_COMMAND_SIZE;
+import static org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands.AbstractScenarioSimulationUndoableCommand.ESTIMATED_VALUE_SIZE;
+
+/**
+ * A row or a column <i>inserted</i> or <i>deleted</i> in a grid, both in the grid <b>and</b> in the underlying model.
+ * <p>
+ * It is recorded by the <code>AbstractScenarioGridCommand</code>s changing only the grid structure, to <b>undo/redo</b>
+ * their changes without a copy of the whole <code>Simulation</code> and <code>Background</code>: a <i>deleted</i> row or
+ * column keeps only its own data, an <i>inserted</i> one only its index.
+ * </p>
+ */
+public abstract class ScenarioGridDelta {
+
+    protected final int index;
+
+    protected ScenarioGridDelta(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the delta of a row inserted at the given index
+     * @param rowIndex
+     * @return
+     */
+    public static ScenarioGridDelta insertedRow(int rowIndex) {
+        return new InsertedRow(rowIndex);
+    }
+
+    /**
+     * <i>Delete</i> the row at the given index and returns its delta
+     * @param context
+     * @param gridWidget
+     * @param rowIndex
+     * @return
+     */
+    public static ScenarioGridDelta deleteRow(ScenarioSimulationContext context, GridWidget gridWidget, int rowIndex) {
+        final AbstractScesimData abstractScesimData = context.getAbstractScesimModelByGridWidget(gridWidget).getDataByIndex(rowIndex);
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteRow(rowIndex);
+        return new DeletedRow(rowIndex, abstractScesimData);
+    }
+
+    /**
+     * Returns the delta of a column inserted at the given index
+     * @param columnIndex
+     * @return
+     */
+    public static ScenarioGridDelta insertedColumn(int columnIndex) {
+        return new InsertedColumn(columnIndex);
+    }
+
+    /**
+     * <i>Delete</i> the column at the given index and returns its delta
+     * @param context
+     * @param gridWidget
+     * @param columnIndex
+     * @return
+     */
+    public static ScenarioGridDelta deleteColumn(ScenarioSimulationContext context, GridWidget gridWidget, int columnIndex) {
+        final AbstractScesimGridModel gridModel = context.getAbstractScesimGridModelByGridWidget(gridWidget);
+        final AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
+        final GridColumn<?> column = (GridColumn<?>) gridModel.getColumns().get(columnIndex);
+        final FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
+        final List<FactMappingValue> factMappingValues = new ArrayList<>();
+        final List<GridCell<?>> cells = new ArrayList<>();
+        for (int rowIndex = 0; rowIndex < gridModel.getRowCount(); rowIndex++) {
+            factMappingValues.add(abstractScesimModel.getDataByIndex(rowIndex).getFactMappingValue(factMapping).orElse(null));
+            cells.add(gridModel.getCell(rowIndex, columnIndex));
+        }
+        gridModel.deleteColumn(columnIndex);
+        return new DeletedColumn(columnIndex, column, factMapping, factMappingValues, cells);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Revert this change in the grid of the given <code>GridWidget</code>
+     * @param context
+     * @param gridWidget
+     * @return the delta of the reverting change, whose <b>revert</b> applies this change again
+     */
+    public abstract ScenarioGridDelta revert(ScenarioSimulationContext context, GridWidget gridWidget);
+
+    /**
+     * Returns the estimated memory, in bytes, retained by this delta
+     * @return
+     */
+    public abstract long getEstimatedSize();
+
+    protected static class InsertedRow extends ScenarioGridDelta {
+
+        protected InsertedRow(int rowIndex) {
+            super(rowIndex);
+        }
+
+        @Override
+        public ScenarioGridDelta revert(ScenarioSimulationContext context, GridWidget gridWidget) {
+            return deleteRow(context, gridWidget, index);
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return ESTIMATED_VALUE_SIZE;
+        }
+    }
+
+    protected static class DeletedRow extends ScenarioGridDelta {
+
+        protected final AbstractScesimData abstractScesimData;
+
+        protected DeletedRow(int rowIndex, AbstractScesimData abstractScesimData) {
+            super(rowIndex);
+            this.abstractScesimData = abstractScesimData;
+        }
+
+        @Override
+        public ScenarioGridDelta revert(ScenarioSimulationContext context, GridWidget gridWidget) {
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).restoreRow(index, new ScenarioGridRow(), abstractScesimData);
+            return insertedRow(index);
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return ESTIMATED_VALUE_SIZE * (1 + abstractScesimData.getUnmodifiableFactMappingValues().size());
+        }
+    }
+
+    protected static class InsertedColumn extends ScenarioGridDelta {
+
+        protected InsertedColumn(int columnIndex) {
+            super(columnIndex);
+        }
+
+        @Override
+        public ScenarioGridDelta revert(ScenarioSimulationContext context, GridWidget gridWidget) {
+            return deleteColumn(context, gridWidget, index);
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return ESTIMATED_VALUE_SIZE;
+        }
+    }
+
+    protected static class DeletedColumn extends ScenarioGridDelta {
+
+        protected final GridColumn<?> column;
+        protected final FactMapping factMapping;
+        protected final List<FactMappingValue> factMappingValues;
+        protected final List<GridCell<?>> cells;
+
+        protected DeletedColumn(int columnIndex, GridColumn<?> column, FactMapping factMapping, List<FactMappingValue> factMappingValues, List<GridCell<?>> cells) {
+            super(columnIndex);
+            this.column = column;
+            this.factMapping = factMapping;
+            this.factMappingValues = factMappingValues;
+            this.cells = cells;
+        }
+
+        @Override
+        public ScenarioGridDelta revert(ScenarioSimulationContext context, GridWidget gridWidget) {
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).restoreColumn(index, column, factMapping, factMappingValues, cells);
+            return insertedColumn(index);
+        }
+
+        @Override
+        public long getEstimatedSize() {
+            return ESTIMATED_COMMAND_SIZE + ESTIMATED_VALUE_SIZE * (factMappingValues.size() + cells.size());
+        }
+    }
+}
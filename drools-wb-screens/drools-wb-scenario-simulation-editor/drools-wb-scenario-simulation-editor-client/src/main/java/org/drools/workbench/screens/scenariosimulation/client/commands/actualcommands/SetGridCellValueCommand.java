@@ -15,20 +15,47 @@
  */
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 import org.drools.scenariosimulation.api.model.AbstractScesimData;
 import org.drools.scenariosimulation.api.model.AbstractScesimModel;
 import org.drools.scenariosimulation.api.model.FactMapping;
+import org.drools.scenariosimulation.api.model.FactMappingValue;
+import org.drools.scenariosimulation.api.model.FactMappingValueStatus;
 import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.utils.ScenarioSimulationUtils;
 import org.drools.workbench.screens.scenariosimulation.client.values.ScenarioGridCellValue;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridColumn;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.kie.workbench.common.command.client.impl.CommandResultImpl;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 
 /**
- * <code>Command</code> to set the <i>value</i> of a grid' cell
+ * <code>Command</code> to set the <i>value</i> of a grid' cell.
+ * <p>
+ * Instead of a copy of the whole <code>Simulation</code> and <code>Background</code>, it only keeps the previous value
+ * and <code>FactMappingValue</code> status of the edited cell: <b>undo/redo</b> swap them with the current ones, without
+ * reloading the grids content.
+ * </p>
  */
 public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
 
+    /**
+     * Whether the edited cell existed when <code>restorableStatus</code> has been stored; if not, restoring it means
+     * deleting the cell.
+     */
+    protected boolean restorableCellPresent;
+
+    /**
+     * The <code>FactMappingValue</code> status of the edited cell when <code>restorableStatus</code> has been stored,
+     * or <code>null</code> if it had no <code>FactMappingValue</code>
+     */
+    protected CellErrorStatus restorableCellErrorStatus;
+
     public SetGridCellValueCommand(GridWidget gridWidget) {
         super(gridWidget);
     }
@@ -36,18 +63,132 @@ public class SetGridCellValueCommand extends AbstractScenarioGridCommand {
     @Override
     protected void internalExecute(ScenarioSimulationContext context) {
         final ScenarioSimulationContext.Status status = context.getStatus();
+        setCellValue(context, status.getRowIndex(), status.getColumnIndex(), status.getGridCellValue());
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).resetError(status.getRowIndex(), status.getColumnIndex());
+    }
+
+    @Override
+    protected ScenarioSimulationContext.Status setRestorableStatusPreExecution(ScenarioSimulationContext context) {
+        final ScenarioSimulationContext.Status toReturn = context.getStatus().cloneStatus(false);
+        final GridCell<?> cell = getCell(context, toReturn.getRowIndex(), toReturn.getColumnIndex());
+        restorableCellPresent = cell != null;
+        restorableCellErrorStatus = getCellErrorStatus(context, toReturn.getRowIndex(), toReturn.getColumnIndex());
+        toReturn.setGridCellValue(getCellValue(cell));
+        return toReturn;
+    }
+
+    @Override
+    protected CommandResult<ScenarioSimulationViolation> setCurrentContext(ScenarioSimulationContext context) {
+        try {
+            final int rowIndex = restorableStatus.getRowIndex();
+            final int columnIndex = restorableStatus.getColumnIndex();
+            final ScenarioSimulationContext.Status originalStatus = context.getStatus().cloneStatus(false);
+            final GridCell<?> cell = getCell(context, rowIndex, columnIndex);
+            final boolean originalCellPresent = cell != null;
+            final CellErrorStatus originalCellErrorStatus = getCellErrorStatus(context, rowIndex, columnIndex);
+            originalStatus.setRowIndex(rowIndex);
+            originalStatus.setColumnIndex(columnIndex);
+            originalStatus.setGridCellValue(getCellValue(cell));
+            context.getAbstractScesimGridModelByGridWidget(gridWidget).clearSelections();
+            if (restorableCellPresent) {
+                setCellValue(context, rowIndex, columnIndex, restorableStatus.getGridCellValue());
+                restoreCellErrorStatus(context, rowIndex, columnIndex, restorableCellErrorStatus);
+            } else {
+                context.getAbstractScesimGridModelByGridWidget(gridWidget).deleteCell(rowIndex, columnIndex);
+            }
+            // Models may have been replaced by other commands undo/redo in the meanwhile: always refer to the current ones
+            restorableStatus.setSimulation(originalStatus.getSimulation());
+            restorableStatus.setBackground(originalStatus.getBackground());
+            context.setStatus(restorableStatus);
+            restorableStatus = originalStatus;
+            restorableCellPresent = originalCellPresent;
+            restorableCellErrorStatus = originalCellErrorStatus;
+            return commonExecution(context);
+        } catch (Exception e) {
+            return new CommandResultImpl<>(CommandResult.Type.ERROR, Collections.singleton(new ScenarioSimulationViolation(e.getMessage())));
+        }
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        return ESTIMATED_COMMAND_SIZE + ESTIMATED_VALUE_SIZE;
+    }
+
+    protected void setCellValue(ScenarioSimulationContext context, int rowIndex, int columnIndex, String value) {
         AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
-        int columnIndex = status.getColumnIndex();
         FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
         ScenarioGridColumn selectedColumn = (ScenarioGridColumn) context.getAbstractScesimGridModelByGridWidget(gridWidget).getColumns().get(columnIndex);
         String placeholder = ScenarioSimulationUtils.getPlaceHolder(selectedColumn.isInstanceAssigned(),
                                                                     selectedColumn.isPropertyAssigned(),
                                                                     factMapping.getFactMappingValueType(),
                                                                     factMapping.getClassName());
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).setCellValue(status.getRowIndex(),
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).setCellValue(rowIndex,
                                                                                 columnIndex,
-                                                                                new ScenarioGridCellValue(status.getGridCellValue(),
+                                                                                new ScenarioGridCellValue(value,
                                                                                                           placeholder));
-        context.getAbstractScesimGridModelByGridWidget(gridWidget).resetError(status.getRowIndex(), columnIndex);
+    }
+
+    protected GridCell<?> getCell(ScenarioSimulationContext context, int rowIndex, int columnIndex) {
+        return context.getAbstractScesimGridModelByGridWidget(gridWidget).getCell(rowIndex, columnIndex);
+    }
+
+    protected Optional<FactMappingValue> getFactMappingValue(ScenarioSimulationContext context, int rowIndex, int columnIndex) {
+        AbstractScesimModel<AbstractScesimData> abstractScesimModel = context.getAbstractScesimModelByGridWidget(gridWidget);
+        FactMapping factMapping = abstractScesimModel.getScesimModelDescriptor().getFactMappingByIndex(columnIndex);
+        return abstractScesimModel.getDataByIndex(rowIndex).getFactMappingValue(factMapping);
+    }
+
+    protected CellErrorStatus getCellErrorStatus(ScenarioSimulationContext context, int rowIndex, int columnIndex) {
+        return getFactMappingValue(context, rowIndex, columnIndex).map(CellErrorStatus::new).orElse(null);
+    }
+
+    protected void restoreCellErrorStatus(ScenarioSimulationContext context, int rowIndex, int columnIndex, CellErrorStatus cellErrorStatus) {
+        getFactMappingValue(context, rowIndex, columnIndex).ifPresent(factMappingValue -> {
+            factMappingValue.resetStatus();
+            if (cellErrorStatus != null) {
+                cellErrorStatus.restore(factMappingValue);
+            }
+        });
+        context.getAbstractScesimGridModelByGridWidget(gridWidget).refreshErrors();
+    }
+
+    protected String getCellValue(GridCell<?> cell) {
+        if (cell == null || cell.getValue() == null || !(cell.getValue().getValue() instanceof String)) {
+            return null;
+        }
+        return (String) cell.getValue().getValue();
+    }
+
+    /**
+     * The status of a <code>FactMappingValue</code>, with the error details shown for it
+     */
+    protected static class CellErrorStatus {
+
+        protected final FactMappingValueStatus status;
+        protected final Object errorValue;
+        protected final String exceptionMessage;
+        protected final List<String> collectionPathToValue;
+
+        protected CellErrorStatus(FactMappingValue factMappingValue) {
+            this.status = factMappingValue.getStatus();
+            this.errorValue = factMappingValue.getErrorValue();
+            this.exceptionMessage = factMappingValue.getExceptionMessage();
+            this.collectionPathToValue = factMappingValue.getCollectionPathToValue();
+        }
+
+        /**
+         * Set this status to the given <code>FactMappingValue</code>, whose status must have been reset
+         * @param factMappingValue
+         */
+        protected void restore(FactMappingValue factMappingValue) {
+            if (FactMappingValueStatus.FAILED_WITH_ERROR == status) {
+                factMappingValue.setErrorValue(errorValue);
+                if (collectionPathToValue != null) {
+                    factMappingValue.setCollectionPathToValue(collectionPathToValue);
+                }
+            } else if (FactMappingValueStatus.FAILED_WITH_EXCEPTION == status) {
+                factMappingValue.setExceptionMessage(exceptionMessage);
+            }
+        }
     }
 }
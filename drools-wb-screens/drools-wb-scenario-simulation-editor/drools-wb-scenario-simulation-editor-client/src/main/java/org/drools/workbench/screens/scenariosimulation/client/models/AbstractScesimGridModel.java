@@ -223,6 +223,20 @@ public abstract class AbstractScesimGridModel<T extends AbstractScesimModel<E>,
         return toReturn;
     }
 
+    /**
+     * This method <i>insert</i> back a row removed with {@link #deleteRow(int)} to both the grid <b>and</b> the underlying model
+     * @param rowIndex
+     * @param row
+     * @param abstractScesimData the data removed from the underlying model
+     */
+    public void restoreRow(int rowIndex, GridRow row, E abstractScesimData) {
+        checkSimulation();
+        abstractScesimModel.addData(rowIndex);
+        abstractScesimModel.replaceData(rowIndex, abstractScesimData);
+        insertRowGridOnly(rowIndex, row, abstractScesimData);
+        refreshErrorsRow(rowIndex);
+    }
+
     /**
      * This method <i>duplicate</i> the row at the given index from both the grid <b>and</b> the underlying model
      * and insert just below the original one
@@ -282,6 +296,32 @@ public abstract class AbstractScesimGridModel<T extends AbstractScesimModel<E>,
         abstractScesimModel.removeFactMappingByIndex(columnIndex);
     }
 
+    /**
+     * This method <i>insert</i> back a column removed with {@link #deleteColumn(int)} to both the grid <b>and</b> the underlying model
+     * @param columnIndex
+     * @param column
+     * @param factMapping the <code>FactMapping</code> removed from the underlying model
+     * @param factMappingValues the <code>FactMappingValue</code>s removed from each row, <code>null</code> for the rows without it
+     * @param cells the cells removed from each row, <code>null</code> for the empty ones
+     */
+    public void restoreColumn(int columnIndex, GridColumn<?> column, FactMapping factMapping, List<FactMappingValue> factMappingValues, List<GridCell<?>> cells) {
+        checkSimulation();
+        abstractScesimModel.getScesimModelDescriptor().addFactMapping(columnIndex, factMapping);
+        IntStream.range(0, factMappingValues.size())
+                .filter(rowIndex -> factMappingValues.get(rowIndex) != null)
+                .forEach(rowIndex -> {
+                    final FactMappingValue removed = factMappingValues.get(rowIndex);
+                    final FactMappingValue restored = abstractScesimModel.getDataByIndex(rowIndex).addMappingValue(removed.getFactIdentifier(),
+                                                                                                                  removed.getExpressionIdentifier(),
+                                                                                                                  removed.getRawValue());
+                    restoreStatus(restored, removed);
+                });
+        insertColumnGridOnly(columnIndex, column);
+        IntStream.range(0, cells.size())
+                .filter(rowIndex -> cells.get(rowIndex) != null)
+                .forEach(rowIndex -> setCellGridOnly(rowIndex, columnIndex, () -> cells.get(rowIndex)));
+    }
+
     /**
      * This method <i>delete</i> the <b>whole instance</b> of the column at the given index from both the grid <b>and</b> the underlying model
      * @param columnIndex
@@ -1096,6 +1136,22 @@ public abstract class AbstractScesimGridModel<T extends AbstractScesimModel<E>,
         });
     }
 
+    /**
+     * Set the status of the <i>source</i> <code>FactMappingValue</code>, with its error details, to the <i>target</i> one
+     * @param target
+     * @param source
+     */
+    protected void restoreStatus(FactMappingValue target, FactMappingValue source) {
+        if (FactMappingValueStatus.FAILED_WITH_ERROR == source.getStatus()) {
+            target.setErrorValue(source.getErrorValue());
+            if (source.getCollectionPathToValue() != null) {
+                target.setCollectionPathToValue(source.getCollectionPathToValue());
+            }
+        } else if (FactMappingValueStatus.FAILED_WITH_EXCEPTION == source.getStatus()) {
+            target.setExceptionMessage(source.getExceptionMessage());
+        }
+    }
+
     /**
      * Returns the correct <b>DOMElement</b> factory to the given data
      * @param modelType
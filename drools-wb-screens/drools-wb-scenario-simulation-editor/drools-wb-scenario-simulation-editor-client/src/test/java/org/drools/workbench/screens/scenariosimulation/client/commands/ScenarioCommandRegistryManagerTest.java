@@ -16,6 +16,8 @@
 
 package org.drools.workbench.screens.scenariosimulation.client.commands;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
@@ -40,6 +42,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class ScenarioCommandRegistryManagerTest extends AbstractScenarioSimulationTest {
@@ -50,6 +53,10 @@ public class ScenarioCommandRegistryManagerTest extends AbstractScenarioSimulati
 
     @Mock
     private AbstractScenarioSimulationUndoableCommand abstractScenarioGridCommandMock;
+    @Mock
+    private AbstractScenarioSimulationUndoableCommand secondAbstractScenarioGridCommandMock;
+    @Mock
+    private AbstractScenarioSimulationUndoableCommand thirdAbstractScenarioGridCommandMock;
 
     @Before
     public void setup() {
@@ -75,6 +82,49 @@ public class ScenarioCommandRegistryManagerTest extends AbstractScenarioSimulati
         assertTrue(undoneCommandsRegistrySpy.isEmpty());
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void setMaxHistoryBytesNegative() {
+        scenarioCommandRegistryManagerSpy.setMaxHistoryBytes(-1);
+    }
+
+    @Test
+    public void registerWithinMaxHistoryBytes() {
+        scenarioCommandRegistryManagerSpy.setMaxHistoryBytes(300);
+        when(abstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        when(secondAbstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        when(thirdAbstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, abstractScenarioGridCommandMock);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, secondAbstractScenarioGridCommandMock);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, thirdAbstractScenarioGridCommandMock);
+        verify(doneCommandsRegistrySpy, never()).clear();
+        assertEquals(Arrays.asList(thirdAbstractScenarioGridCommandMock, secondAbstractScenarioGridCommandMock, abstractScenarioGridCommandMock),
+                     doneCommandsRegistrySpy.getHistory());
+    }
+
+    @Test
+    public void registerExceedingMaxHistoryBytes() {
+        scenarioCommandRegistryManagerSpy.setMaxHistoryBytes(250);
+        when(abstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        when(secondAbstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        when(thirdAbstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, abstractScenarioGridCommandMock);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, secondAbstractScenarioGridCommandMock);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, thirdAbstractScenarioGridCommandMock);
+        verify(doneCommandsRegistrySpy, times(1)).clear();
+        assertEquals(Arrays.asList(thirdAbstractScenarioGridCommandMock, secondAbstractScenarioGridCommandMock),
+                     doneCommandsRegistrySpy.getHistory());
+    }
+
+    @Test
+    public void registerLastCommandExceedingMaxHistoryBytes() {
+        scenarioCommandRegistryManagerSpy.setMaxHistoryBytes(250);
+        when(abstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(100L);
+        when(secondAbstractScenarioGridCommandMock.getEstimatedSize()).thenReturn(1000L);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, abstractScenarioGridCommandMock);
+        scenarioCommandRegistryManagerSpy.register(scenarioSimulationContextLocal, secondAbstractScenarioGridCommandMock);
+        assertEquals(Collections.singletonList(secondAbstractScenarioGridCommandMock), doneCommandsRegistrySpy.getHistory());
+    }
+
     @Test
     public void undoEmpty() {
         final CommandResult<ScenarioSimulationViolation> retrieved = scenarioCommandRegistryManagerSpy.undo(scenarioSimulationContextLocal);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
+import org.junit.Test;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import static org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands.AbstractScenarioSimulationUndoableCommand.ESTIMATED_COMMAND_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Common tests for the commands restored by <code>ScenarioGridDelta</code>s
+ */
+public abstract class AbstractScenarioGridDeltaCommandTest extends AbstractScenarioGridCommandTest {
+
+    @Mock
+    protected ScenarioGridDelta firstGridDeltaMock;
+    @Mock
+    protected ScenarioGridDelta secondGridDeltaMock;
+    @Mock
+    protected ScenarioGridDelta firstRevertingGridDeltaMock;
+    @Mock
+    protected ScenarioGridDelta secondRevertingGridDeltaMock;
+
+    @Test
+    public void isRestorableByGridDeltas() {
+        assertTrue(commandSpy.isRestorableByGridDeltas());
+    }
+
+    @Test
+    @Override
+    public void setRestorableStatus() {
+        commandSpy.restorableGridDeltas.add(firstGridDeltaMock);
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertEquals(simulationMock, restorableStatus.getSimulation());
+        assertEquals(backgroundMock, restorableStatus.getBackground());
+        assertTrue(commandSpy.restorableGridDeltas.isEmpty());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+    }
+
+    @Test
+    @Override
+    public void execute() {
+        commandSpy.execute(scenarioSimulationContextLocal);
+        verify(commandSpy, times(1)).internalExecute(eq(scenarioSimulationContextLocal));
+        assertEquals(simulationMock, commandSpy.restorableStatus.getSimulation());
+        assertEquals(backgroundMock, commandSpy.restorableStatus.getBackground());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextNoSimulationNoBackground() {
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        commandSpy.restorableStatus.setSimulation(null);
+        commandSpy.restorableStatus.setBackground(null);
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        assertEquals(simulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(backgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextSimulationBackground() {
+        final ScenarioSimulationContext.Status status = scenarioSimulationContextLocal.getStatus();
+        commandSpy.restorableStatus = status.cloneStatus(false);
+        commandSpy.restorableGridDeltas = new ArrayList<>(Arrays.asList(firstGridDeltaMock, secondGridDeltaMock));
+        when(firstGridDeltaMock.revert(eq(scenarioSimulationContextLocal), eq(commandSpy.gridWidget))).thenReturn(firstRevertingGridDeltaMock);
+        when(secondGridDeltaMock.revert(eq(scenarioSimulationContextLocal), eq(commandSpy.gridWidget))).thenReturn(secondRevertingGridDeltaMock);
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        InOrder inOrder = inOrder(firstGridDeltaMock, secondGridDeltaMock);
+        inOrder.verify(secondGridDeltaMock, times(1)).revert(eq(scenarioSimulationContextLocal), eq(commandSpy.gridWidget));
+        inOrder.verify(firstGridDeltaMock, times(1)).revert(eq(scenarioSimulationContextLocal), eq(commandSpy.gridWidget));
+        assertEquals(Arrays.asList(secondRevertingGridDeltaMock, firstRevertingGridDeltaMock), commandSpy.restorableGridDeltas);
+        verify(scenarioGridMock, never()).setContent(any(), any());
+        verify(backgroundGridMock, never()).setContent(any(), any());
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+        verify(scenarioSimulationEditorPresenterMock, times(1)).reloadTestTools(eq(true));
+        verify(commandSpy, times(1)).commonExecution(eq(scenarioSimulationContextLocal));
+        assertNotEquals(status, commandSpy.restorableStatus);
+        assertEquals(simulationMock, commandSpy.restorableStatus.getSimulation());
+    }
+
+    @Test
+    public void getEstimatedSize() {
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        commandSpy.restorableGridDeltas = new ArrayList<>(Arrays.asList(firstGridDeltaMock, secondGridDeltaMock));
+        when(firstGridDeltaMock.getEstimatedSize()).thenReturn(1000L);
+        when(secondGridDeltaMock.getEstimatedSize()).thenReturn(500L);
+        assertEquals(ESTIMATED_COMMAND_SIZE + 1500L, commandSpy.getEstimatedSize());
+    }
+
+    protected void assertGridDelta(int position, Class<? extends ScenarioGridDelta> expectedClass, int expectedIndex) {
+        final ScenarioGridDelta gridDelta = commandSpy.restorableGridDeltas.get(position);
+        assertEquals(expectedClass, gridDelta.getClass());
+        assertEquals(expectedIndex, gridDelta.getIndex());
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.runner.RunWith;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_GROUP;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_ID;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.FIRST_INDEX_RIGHT;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.spy;
@@ -38,7 +39,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class AppendColumnCommandTest extends AbstractScenarioGridCommandTest {
+public class AppendColumnCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -62,6 +63,8 @@ public class AppendColumnCommandTest extends AbstractScenarioGridCommandTest {
         verify(commandSpy, times(1)).getScenarioGridColumnLocal(anyString(), anyString(), eq(COLUMN_ID), eq(COLUMN_GROUP), eq(factMappingType), eq(scenarioHeaderTextBoxSingletonDOMElementFactorySpy), eq(scenarioCellTextAreaSingletonDOMElementFactorySpy), eq(ScenarioSimulationEditorConstants.INSTANCE.defineValidType()));
         verify(scenarioGridModelMock, times(1)).getFirstIndexRightOfGroup(eq(COLUMN_GROUP));
         verify(scenarioGridModelMock, times(1)).insertColumn(eq(FIRST_INDEX_RIGHT), eq(gridColumnMock));
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.InsertedColumn.class, gridColumns.indexOf(gridColumnMock));
         verify(scenarioGridMock, times(1)).selectCurrentHeaderCellGroup();
     }
 }
\ No newline at end of file
@@ -23,13 +23,14 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class AppendRowCommandTest extends AbstractScenarioGridCommandTest {
+public class AppendRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -41,5 +42,7 @@ public class AppendRowCommandTest extends AbstractScenarioGridCommandTest {
     public void execute() {
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).appendRow(isA(ScenarioGridRow.class));
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.InsertedRow.class, scenarioGridModelMock.getRowCount() - 1);
     }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_GROUP;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_INDEX;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
@@ -41,7 +42,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DeleteColumnCommandTest extends AbstractScenarioGridCommandTest {
+public class DeleteColumnCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -64,12 +65,17 @@ public class DeleteColumnCommandTest extends AbstractScenarioGridCommandTest {
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
         verify(scenarioGridModelMock, never()).insertColumn(anyInt(), anyObject());
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedColumn.class, COLUMN_INDEX);
         reset(scenarioGridModelMock);
         doReturn(0l).when(scenarioGridModelMock).getGroupSize(COLUMN_GROUP);
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(commandSpy, times(1)).getScenarioGridColumnLocal(anyString(), anyString(), anyString(), eq(COLUMN_GROUP), eq(factMappingType), eq(scenarioHeaderTextBoxSingletonDOMElementFactorySpy), eq(scenarioCellTextAreaSingletonDOMElementFactorySpy), eq(ScenarioSimulationEditorConstants.INSTANCE.defineValidType()));
         verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
         verify(scenarioGridModelMock, times(1)).insertColumn(eq(COLUMN_INDEX), eq(gridColumnMock));
+        assertEquals(2, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedColumn.class, COLUMN_INDEX);
+        assertGridDelta(1, ScenarioGridDelta.InsertedColumn.class, gridColumns.indexOf(gridColumnMock));
     }
 
     @Test
@@ -81,11 +87,16 @@ public class DeleteColumnCommandTest extends AbstractScenarioGridCommandTest {
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
         verify(scenarioGridModelMock, never()).insertColumn(anyInt(), anyObject());
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedColumn.class, COLUMN_INDEX);
         reset(scenarioGridModelMock);
         doReturn(0l).when(scenarioGridModelMock).getGroupSize(COLUMN_GROUP);
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(commandSpy, times(1)).getScenarioGridColumnLocal(anyString(), anyString(), anyString(), eq(COLUMN_GROUP), eq(factMappingType), eq(scenarioHeaderTextBoxSingletonDOMElementFactorySpy), eq(scenarioCellTextAreaSingletonDOMElementFactorySpy), eq(ScenarioSimulationEditorConstants.INSTANCE.defineValidType()));
         verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
         verify(scenarioGridModelMock, times(1)).insertColumn(eq(COLUMN_INDEX  -1), eq(gridColumnMock));
+        assertEquals(2, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedColumn.class, COLUMN_INDEX);
+        assertGridDelta(1, ScenarioGridDelta.InsertedColumn.class, gridColumns.indexOf(gridColumnMock));
     }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
@@ -35,7 +36,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DeleteRowCommandTest extends AbstractScenarioGridCommandTest {
+public class DeleteRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -50,10 +51,15 @@ public class DeleteRowCommandTest extends AbstractScenarioGridCommandTest {
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
         verify(scenarioGridModelMock, never()).insertRow(anyInt(), isA(ScenarioGridRow.class));
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedRow.class, ROW_INDEX);
         reset(scenarioGridModelMock);
         when(rowsMock.isEmpty()).thenReturn(true);
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
         verify(scenarioGridModelMock, times(1)).insertRow(eq(0), isA(ScenarioGridRow.class));
+        assertEquals(2, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.DeletedRow.class, ROW_INDEX);
+        assertGridDelta(1, ScenarioGridDelta.InsertedRow.class, 0);
     }
 }
\ No newline at end of file
@@ -60,7 +60,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DuplicateInstanceCommandTest extends AbstractScenarioGridCommandTest {
+public class DuplicateInstanceCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Mock
     protected ScenarioGridColumn scenarioGridColumnMock1;
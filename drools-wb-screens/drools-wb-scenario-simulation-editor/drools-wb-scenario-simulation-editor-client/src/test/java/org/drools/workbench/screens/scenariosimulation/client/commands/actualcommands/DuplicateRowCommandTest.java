@@ -24,6 +24,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.spy;
@@ -31,7 +32,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class DuplicateRowCommandTest extends AbstractScenarioGridCommandTest {
+public class DuplicateRowCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
@@ -44,5 +45,7 @@ public class DuplicateRowCommandTest extends AbstractScenarioGridCommandTest {
         scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).duplicateRow(eq(ROW_INDEX), isA(ScenarioGridRow.class));
+        assertEquals(1, commandSpy.restorableGridDeltas.size());
+        assertGridDelta(0, ScenarioGridDelta.InsertedRow.class, ROW_INDEX + 1);
     }
 }
\ No newline at end of file
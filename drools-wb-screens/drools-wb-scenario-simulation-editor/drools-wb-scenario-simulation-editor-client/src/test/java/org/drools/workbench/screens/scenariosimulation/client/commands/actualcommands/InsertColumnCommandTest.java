@@ -34,7 +34,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
-public class InsertColumnCommandTest extends AbstractScenarioGridCommandTest {
+public class InsertColumnCommandTest extends AbstractScenarioGridDeltaCommandTest {
 
     @Before
     public void setup() {
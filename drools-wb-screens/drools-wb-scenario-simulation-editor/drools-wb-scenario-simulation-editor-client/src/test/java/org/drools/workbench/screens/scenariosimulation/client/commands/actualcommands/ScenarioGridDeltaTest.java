@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.Scenario;
+import org.drools.workbench.screens.scenariosimulation.client.AbstractScenarioSimulationTest;
+import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
+import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridRow;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.uberfire.ext.wires.core.grids.client.model.GridCell;
+
+import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_INDEX;
+import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands.AbstractScenarioSimulationUndoableCommand.ESTIMATED_COMMAND_SIZE;
+import static org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands.AbstractScenarioSimulationUndoableCommand.ESTIMATED_VALUE_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class ScenarioGridDeltaTest extends AbstractScenarioSimulationTest {
+
+    @Mock
+    private Scenario scenarioMock;
+    @Mock
+    private GridCell<?> gridCellMock;
+
+    @Before
+    public void setup() {
+        super.setup();
+        when(simulationMock.getDataByIndex(anyInt())).thenReturn(scenarioMock);
+        when(scenarioMock.getFactMappingValue(factMappingMock)).thenReturn(Optional.of(factMappingValueMock));
+        when(scenarioMock.getUnmodifiableFactMappingValues()).thenReturn(Arrays.asList(factMappingValueMock, factMappingValueMock));
+        doReturn(1).when(scenarioGridModelMock).getRowCount();
+        doReturn(gridCellMock).when(scenarioGridModelMock).getCell(0, COLUMN_INDEX);
+        doNothing().when(scenarioGridModelMock).deleteColumn(anyInt());
+        doNothing().when(scenarioGridModelMock).restoreRow(anyInt(), any(), any());
+        doNothing().when(scenarioGridModelMock).restoreColumn(anyInt(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void insertedRowRevert() {
+        final ScenarioGridDelta retrieved = ScenarioGridDelta.insertedRow(ROW_INDEX).revert(scenarioSimulationContextLocal, GridWidget.SIMULATION);
+        verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
+        assertTrue(retrieved instanceof ScenarioGridDelta.DeletedRow);
+        assertEquals(ROW_INDEX, retrieved.getIndex());
+        assertEquals(scenarioMock, ((ScenarioGridDelta.DeletedRow) retrieved).abstractScesimData);
+    }
+
+    @Test
+    public void deletedRowRevert() {
+        final ScenarioGridDelta deletedRow = ScenarioGridDelta.deleteRow(scenarioSimulationContextLocal, GridWidget.SIMULATION, ROW_INDEX);
+        verify(scenarioGridModelMock, times(1)).deleteRow(eq(ROW_INDEX));
+        final ScenarioGridDelta retrieved = deletedRow.revert(scenarioSimulationContextLocal, GridWidget.SIMULATION);
+        verify(scenarioGridModelMock, times(1)).restoreRow(eq(ROW_INDEX), isA(ScenarioGridRow.class), eq(scenarioMock));
+        assertTrue(retrieved instanceof ScenarioGridDelta.InsertedRow);
+        assertEquals(ROW_INDEX, retrieved.getIndex());
+    }
+
+    @Test
+    public void insertedColumnRevert() {
+        final ScenarioGridDelta retrieved = ScenarioGridDelta.insertedColumn(COLUMN_INDEX).revert(scenarioSimulationContextLocal, GridWidget.SIMULATION);
+        verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
+        assertTrue(retrieved instanceof ScenarioGridDelta.DeletedColumn);
+        assertEquals(COLUMN_INDEX, retrieved.getIndex());
+    }
+
+    @Test
+    public void deletedColumnRevert() {
+        final ScenarioGridDelta deletedColumn = ScenarioGridDelta.deleteColumn(scenarioSimulationContextLocal, GridWidget.SIMULATION, COLUMN_INDEX);
+        verify(scenarioGridModelMock, times(1)).deleteColumn(eq(COLUMN_INDEX));
+        final ScenarioGridDelta.DeletedColumn retrievedDeletedColumn = (ScenarioGridDelta.DeletedColumn) deletedColumn;
+        assertEquals(gridColumnMock, retrievedDeletedColumn.column);
+        assertEquals(factMappingMock, retrievedDeletedColumn.factMapping);
+        assertEquals(Collections.singletonList(factMappingValueMock), retrievedDeletedColumn.factMappingValues);
+        assertEquals(Collections.singletonList(gridCellMock), retrievedDeletedColumn.cells);
+        final ScenarioGridDelta retrieved = deletedColumn.revert(scenarioSimulationContextLocal, GridWidget.SIMULATION);
+        verify(scenarioGridModelMock, times(1)).restoreColumn(eq(COLUMN_INDEX),
+                                                              eq(gridColumnMock),
+                                                              eq(factMappingMock),
+                                                              eq(Collections.singletonList(factMappingValueMock)),
+                                                              eq(Collections.singletonList(gridCellMock)));
+        assertTrue(retrieved instanceof ScenarioGridDelta.InsertedColumn);
+        assertEquals(COLUMN_INDEX, retrieved.getIndex());
+    }
+
+    @Test
+    public void getEstimatedSize() {
+        assertEquals(ESTIMATED_VALUE_SIZE, ScenarioGridDelta.insertedRow(ROW_INDEX).getEstimatedSize());
+        assertEquals(ESTIMATED_VALUE_SIZE, ScenarioGridDelta.insertedColumn(COLUMN_INDEX).getEstimatedSize());
+        assertEquals(ESTIMATED_VALUE_SIZE * 3, ScenarioGridDelta.deleteRow(scenarioSimulationContextLocal, GridWidget.SIMULATION, ROW_INDEX).getEstimatedSize());
+        assertEquals(ESTIMATED_COMMAND_SIZE + ESTIMATED_VALUE_SIZE * 2, ScenarioGridDelta.deleteColumn(scenarioSimulationContextLocal, GridWidget.SIMULATION, COLUMN_INDEX).getEstimatedSize());
+    }
+}
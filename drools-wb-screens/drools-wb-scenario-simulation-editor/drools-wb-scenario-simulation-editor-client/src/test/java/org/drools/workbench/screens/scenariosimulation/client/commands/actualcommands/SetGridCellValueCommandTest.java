@@ -16,38 +16,179 @@
 
 package org.drools.workbench.screens.scenariosimulation.client.commands.actualcommands;
 
+import java.util.Optional;
+
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.scenariosimulation.api.model.FactMappingValue;
+import org.drools.scenariosimulation.api.model.FactMappingValueStatus;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationContext;
+import org.drools.workbench.screens.scenariosimulation.client.commands.ScenarioSimulationViolation;
 import org.drools.workbench.screens.scenariosimulation.client.enums.GridWidget;
 import org.drools.workbench.screens.scenariosimulation.client.values.ScenarioGridCellValue;
+import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridCell;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.command.client.CommandResult;
+import org.mockito.ArgumentCaptor;
 
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.COLUMN_INDEX;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.MULTIPART_VALUE;
 import static org.drools.workbench.screens.scenariosimulation.client.TestProperties.ROW_INDEX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class SetGridCellValueCommandTest extends AbstractScenarioGridCommandTest {
 
+    private static final String PREVIOUS_VALUE = "PREVIOUS_VALUE";
+
     @Before
     public void setup() {
         super.setup();
         commandSpy = spy(new SetGridCellValueCommand(GridWidget.SIMULATION));
+        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
+        scenarioSimulationContextLocal.getStatus().setColumnIndex(COLUMN_INDEX);
+        doReturn(null).when(scenarioGridModelMock).setCellValue(anyInt(), anyInt(), any());
+        doReturn(null).when(scenarioGridModelMock).deleteCell(anyInt(), anyInt());
+        doReturn(new ScenarioGridCell(new ScenarioGridCellValue(PREVIOUS_VALUE))).when(scenarioGridModelMock).getCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        doNothing().when(scenarioGridModelMock).refreshErrors();
+        doReturn(Optional.of(factMappingValueMock)).when((SetGridCellValueCommand) commandSpy).getFactMappingValue(any(), eq(ROW_INDEX), eq(COLUMN_INDEX));
+        when(factMappingValueMock.getStatus()).thenReturn(FactMappingValueStatus.SUCCESS);
+    }
+
+    @Test
+    @Override
+    public void setRestorableStatus() {
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertEquals(simulationMock, restorableStatus.getSimulation());
+        assertEquals(backgroundMock, restorableStatus.getBackground());
+        assertEquals(PREVIOUS_VALUE, restorableStatus.getGridCellValue());
+        assertTrue(((SetGridCellValueCommand) commandSpy).restorableCellPresent);
+        assertEquals(FactMappingValueStatus.SUCCESS, ((SetGridCellValueCommand) commandSpy).restorableCellErrorStatus.status);
+        verify(simulationMock, never()).cloneModel();
+        verify(backgroundMock, never()).cloneModel();
+    }
+
+    @Test
+    public void setRestorableStatusCellNotPresent() {
+        doReturn(null).when(scenarioGridModelMock).getCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        ScenarioSimulationContext.Status restorableStatus = commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertNull(restorableStatus.getGridCellValue());
+        assertFalse(((SetGridCellValueCommand) commandSpy).restorableCellPresent);
+    }
+
+    @Test
+    public void setRestorableStatusFactMappingValueNotPresent() {
+        doReturn(Optional.empty()).when((SetGridCellValueCommand) commandSpy).getFactMappingValue(any(), eq(ROW_INDEX), eq(COLUMN_INDEX));
+        commandSpy.setRestorableStatusPreExecution(scenarioSimulationContextLocal);
+        assertNull(((SetGridCellValueCommand) commandSpy).restorableCellErrorStatus);
     }
 
     @Test
+    @Override
     public void execute() {
-        scenarioSimulationContextLocal.getStatus().setRowIndex(ROW_INDEX);
-        scenarioSimulationContextLocal.getStatus().setColumnIndex(COLUMN_INDEX);
         scenarioSimulationContextLocal.getStatus().setGridCellValue(MULTIPART_VALUE);
         commandSpy.execute(scenarioSimulationContextLocal);
         verify(scenarioGridModelMock, times(1)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), isA(ScenarioGridCellValue.class));
         verify(scenarioGridModelMock, times(1)).resetError(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        assertEquals(PREVIOUS_VALUE, commandSpy.restorableStatus.getGridCellValue());
+        assertEquals(simulationMock, commandSpy.restorableStatus.getSimulation());
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextNoSimulationNoBackground() {
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        commandSpy.restorableStatus.setSimulation(null);
+        commandSpy.restorableStatus.setBackground(null);
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        assertEquals(simulationMock, scenarioSimulationContextLocal.getStatus().getSimulation());
+        assertEquals(backgroundMock, scenarioSimulationContextLocal.getStatus().getBackground());
+    }
+
+    @Test
+    @Override
+    public void setCurrentContextSimulationBackground() {
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        commandSpy.restorableStatus.setGridCellValue(MULTIPART_VALUE);
+        ((SetGridCellValueCommand) commandSpy).restorableCellPresent = true;
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        ArgumentCaptor<ScenarioGridCellValue> valueCaptor = ArgumentCaptor.forClass(ScenarioGridCellValue.class);
+        verify(scenarioGridModelMock, times(1)).setCellValue(eq(ROW_INDEX), eq(COLUMN_INDEX), valueCaptor.capture());
+        assertEquals(MULTIPART_VALUE, valueCaptor.getValue().getValue());
+        verify(scenarioGridModelMock, never()).resetError(anyInt(), anyInt());
+        verify(factMappingValueMock, times(1)).resetStatus();
+        verify(scenarioGridModelMock, times(1)).refreshErrors();
+        verify(scenarioGridMock, never()).setContent(any(), any());
+        verify(backgroundGridMock, never()).setContent(any(), any());
+        verify(scenarioSimulationEditorPresenterMock, never()).reloadTestTools(eq(true));
+        verify(commandSpy, times(1)).commonExecution(eq(scenarioSimulationContextLocal));
+        assertEquals(MULTIPART_VALUE, scenarioSimulationContextLocal.getStatus().getGridCellValue());
+        assertEquals(PREVIOUS_VALUE, commandSpy.restorableStatus.getGridCellValue());
+        assertTrue(((SetGridCellValueCommand) commandSpy).restorableCellPresent);
+    }
+
+    @Test
+    public void setCurrentContextCellNotPresent() {
+        doReturn(null).when(scenarioGridModelMock).getCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        ((SetGridCellValueCommand) commandSpy).restorableCellPresent = false;
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
+        verify(scenarioGridModelMock, times(1)).deleteCell(eq(ROW_INDEX), eq(COLUMN_INDEX));
+        verify(scenarioGridModelMock, never()).setCellValue(anyInt(), anyInt(), any());
+        assertNull(commandSpy.restorableStatus.getGridCellValue());
+        assertFalse(((SetGridCellValueCommand) commandSpy).restorableCellPresent);
+    }
+
+    @Test
+    public void setCurrentContextRestoresErrorStatus() {
+        final FactMappingValue previousFactMappingValue = mock(FactMappingValue.class);
+        when(previousFactMappingValue.getStatus()).thenReturn(FactMappingValueStatus.FAILED_WITH_ERROR);
+        when(previousFactMappingValue.getErrorValue()).thenReturn(PREVIOUS_VALUE);
+        setCurrentContextRestoringStatus(previousFactMappingValue);
+        verify(factMappingValueMock, times(1)).resetStatus();
+        verify(factMappingValueMock, times(1)).setErrorValue(eq(PREVIOUS_VALUE));
+        verify(factMappingValueMock, never()).setCollectionPathToValue(any());
+        verify(factMappingValueMock, never()).setExceptionMessage(any());
+        verify(scenarioGridModelMock, times(1)).refreshErrors();
+        assertEquals(FactMappingValueStatus.SUCCESS, ((SetGridCellValueCommand) commandSpy).restorableCellErrorStatus.status);
+    }
+
+    @Test
+    public void setCurrentContextRestoresExceptionStatus() {
+        final FactMappingValue previousFactMappingValue = mock(FactMappingValue.class);
+        when(previousFactMappingValue.getStatus()).thenReturn(FactMappingValueStatus.FAILED_WITH_EXCEPTION);
+        when(previousFactMappingValue.getExceptionMessage()).thenReturn(MULTIPART_VALUE);
+        setCurrentContextRestoringStatus(previousFactMappingValue);
+        verify(factMappingValueMock, times(1)).resetStatus();
+        verify(factMappingValueMock, times(1)).setExceptionMessage(eq(MULTIPART_VALUE));
+        verify(factMappingValueMock, never()).setErrorValue(any());
+    }
+
+    private void setCurrentContextRestoringStatus(FactMappingValue previousFactMappingValue) {
+        commandSpy.restorableStatus = scenarioSimulationContextLocal.getStatus().cloneStatus(false);
+        commandSpy.restorableStatus.setGridCellValue(MULTIPART_VALUE);
+        ((SetGridCellValueCommand) commandSpy).restorableCellPresent = true;
+        ((SetGridCellValueCommand) commandSpy).restorableCellErrorStatus = new SetGridCellValueCommand.CellErrorStatus(previousFactMappingValue);
+        final CommandResult<ScenarioSimulationViolation> retrieved = commandSpy.setCurrentContext(scenarioSimulationContextLocal);
+        assertEquals(CommandResult.Type.INFO, retrieved.getType());
     }
-}
\ No newline at end of file
+}
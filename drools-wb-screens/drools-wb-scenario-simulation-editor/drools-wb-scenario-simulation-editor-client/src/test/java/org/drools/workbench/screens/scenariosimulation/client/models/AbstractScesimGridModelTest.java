@@ -251,6 +251,16 @@ public class AbstractScesimGridModelTest extends AbstractScenarioSimulationTest
         verify(abstractScesimGridModelSpy, times(1)).updateIndexColumn();
     }
 
+    @Test
+    public void restoreRow() {
+        abstractScesimGridModelSpy.restoreRow(ROW_INDEX, gridRowMock, scenarioMock);
+        verify(abstractScesimGridModelSpy, atLeast(1)).checkSimulation();
+        verify(simulationMock, times(1)).addData(eq(ROW_INDEX));
+        verify(simulationMock, times(1)).replaceData(eq(ROW_INDEX), eq(scenarioMock));
+        verify(abstractScesimGridModelSpy, times(1)).insertRowGridOnly(eq(ROW_INDEX), eq(gridRowMock), eq(scenarioMock));
+        verify(abstractScesimGridModelSpy, times(1)).refreshErrorsRow(eq(ROW_INDEX));
+    }
+
     @Test
     public void duplicateRow() {
         abstractScesimGridModelSpy.duplicateRow(ROW_INDEX, gridRowMock);
@@ -290,6 +300,29 @@ public class AbstractScesimGridModelTest extends AbstractScenarioSimulationTest
         verify(simulationMock, times(1)).removeFactMappingByIndex(eq(COLUMN_INDEX));
     }
 
+    @Test
+    public void restoreColumn() {
+        FactMappingValue restoredFactMappingValueMock = mock(FactMappingValue.class);
+        when(factMappingValueMock.getFactIdentifier()).thenReturn(factIdentifierMock);
+        when(factMappingValueMock.getRawValue()).thenReturn(GRID_CELL_TEXT);
+        when(factMappingValueMock.getErrorValue()).thenReturn(MULTIPART_VALUE);
+        when(scenarioMock.addMappingValue(any(), any(), any())).thenReturn(restoredFactMappingValueMock);
+        doReturn(null).when(abstractScesimGridModelSpy).setCellGridOnly(anyInt(), anyInt(), any());
+        abstractScesimGridModelSpy.restoreColumn(COLUMN_INDEX,
+                                                 gridColumnMock,
+                                                 factMappingMock,
+                                                 Arrays.asList(factMappingValueMock, null),
+                                                 Arrays.asList(gridCellMock, null));
+        verify(abstractScesimGridModelSpy, atLeast(1)).checkSimulation();
+        verify(simulationDescriptorMock, times(1)).addFactMapping(eq(COLUMN_INDEX), eq(factMappingMock));
+        verify(simulationMock, never()).getDataByIndex(eq(1));
+        verify(scenarioMock, times(1)).addMappingValue(eq(factIdentifierMock), any(), eq(GRID_CELL_TEXT));
+        verify(restoredFactMappingValueMock, times(1)).setErrorValue(eq(MULTIPART_VALUE));
+        verify(abstractScesimGridModelSpy, times(1)).insertColumnGridOnly(eq(COLUMN_INDEX), eq(gridColumnMock));
+        verify(abstractScesimGridModelSpy, times(1)).setCellGridOnly(eq(0), eq(COLUMN_INDEX), any());
+        verify(abstractScesimGridModelSpy, never()).setCellGridOnly(eq(1), anyInt(), any());
+    }
+
     @Test
     public void updateColumnTypeFalse() {
         abstractScesimGridModelSpy.updateColumnProperty(COLUMN_INDEX, gridColumnMock, MULTIPART_VALUE_ELEMENTS, VALUE_CLASS_NAME, false, FactMappingValueType.NOT_EXPRESSION, ScenarioSimulationModel.Type.RULE);
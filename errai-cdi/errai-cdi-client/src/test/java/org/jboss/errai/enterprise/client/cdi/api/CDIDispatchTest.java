@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.enterprise.client.cdi.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.enterprise.inject.Any;
+
+import org.jboss.errai.enterprise.client.cdi.AbstractCDIEventCallback;
+import org.jboss.errai.enterprise.client.cdi.CDIEventTypeLookup;
+import org.jboss.errai.enterprise.client.cdi.EventQualifierSerializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the dispatch of the events fired on the client, through the dispatch plans cached by {@link CDI}.
+ */
+public class CDIDispatchTest {
+
+  public static class Event {
+  }
+
+  public static class SubEvent extends Event {
+  }
+
+  public @interface First {
+  }
+
+  public @interface Second {
+  }
+
+  private static final Annotation FIRST = qualifier(First.class);
+  private static final Annotation SECOND = qualifier(Second.class);
+
+  private final List<Object> received = new ArrayList<>();
+
+  @BeforeClass
+  public static void setupSerializer() {
+    if (!EventQualifierSerializer.isSet()) {
+      EventQualifierSerializer.set(new EventQualifierSerializer() {
+      });
+    }
+  }
+
+  @Before
+  public void setup() {
+    new CDI().__resetSubsystem();
+    CDIEventTypeLookup.get().addLookup(SubEvent.class.getName(), Event.class.getName());
+    new CDI().initLookupTable(CDIEventTypeLookup.get());
+  }
+
+  @After
+  public void tearDown() {
+    new CDI().__resetSubsystem();
+  }
+
+  @Test
+  public void testPlanReusedForSameTypeAndQualifiers() {
+    CDI.subscribe(Event.class.getName(), observer("default", Any.class));
+    final Annotation[] qualifiers = { FIRST };
+
+    CDI.fireEvent(new Event());
+    CDI.fireEvent(new Event());
+    CDI.fireEvent(new Event(), qualifiers);
+    CDI.fireEvent(new Event(), qualifiers);
+
+    assertEquals(2, CDI.getDispatchPlanCount());
+    assertEquals(4, received.size());
+    assertEquals(4, CDI.getDispatchStats().get(Event.class.getName()).getCount());
+  }
+
+  @Test
+  public void testPlansDroppedWhenObserversChange() {
+    CDI.subscribe(Event.class.getName(), observer("first", Any.class));
+    CDI.fireEvent(new Event());
+
+    final Subscription subscription = CDI.subscribe(Event.class.getName(), observer("second", Any.class));
+    assertEquals(0, CDI.getDispatchPlanCount());
+    CDI.fireEvent(new Event());
+    assertEquals(3, received.size());
+
+    subscription.remove();
+    assertEquals(0, CDI.getDispatchPlanCount());
+    CDI.fireEvent(new Event());
+    assertEquals(4, received.size());
+  }
+
+  @Test
+  public void testPlansDroppedWhenLookupTableChanges() {
+    CDI.fireEvent(new SubEvent());
+    assertEquals(1, CDI.getDispatchPlanCount());
+
+    new CDI().initLookupTable(CDIEventTypeLookup.get());
+
+    assertEquals(0, CDI.getDispatchPlanCount());
+  }
+
+  @Test
+  public void testSuperTypeObserversNotified() {
+    CDI.subscribe(SubEvent.class.getName(), observer("sub", Any.class));
+    CDI.subscribe(Event.class.getName(), observer("super", Any.class));
+
+    CDI.fireEvent(new SubEvent());
+    CDI.fireEvent(new Event());
+
+    assertEquals(3, received.size());
+    assertEquals("sub", received.get(0));
+    assertEquals("super", received.get(1));
+    assertEquals("super", received.get(2));
+  }
+
+  @Test
+  public void testObserverOfSeveralTypesNotifiedOnce() {
+    final AbstractCDIEventCallback<Object> observer = observer("both", Any.class);
+    CDI.subscribe(SubEvent.class.getName(), observer);
+    CDI.subscribe(Event.class.getName(), observer);
+
+    CDI.fireEvent(new SubEvent());
+
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  public void testQualifiedObserversMatchClientEvents() {
+    CDI.subscribe(Event.class.getName(), observer("any", Any.class));
+    CDI.subscribe(Event.class.getName(), observer("first", First.class));
+    CDI.subscribe(Event.class.getName(), observer("both", First.class, Second.class));
+
+    CDI.fireEvent(new Event());
+    assertEquals(Collections.singletonList("any"), received);
+
+    received.clear();
+    CDI.fireEvent(new Event(), FIRST);
+    assertEquals(2, received.size());
+    assertTrue(received.contains("any"));
+    assertTrue(received.contains("first"));
+
+    received.clear();
+    CDI.fireEvent(new Event(), FIRST, SECOND);
+    assertEquals(3, received.size());
+  }
+
+  @Test
+  public void testMatchesClientEvent() {
+    final AbstractCDIEventCallback<Object> any = observer("any", Any.class);
+    final AbstractCDIEventCallback<Object> first = observer("first", First.class);
+
+    assertTrue(any.matchesClientEvent(Collections.emptySet()));
+    assertTrue(any.matchesClientEvent(Collections.singleton(Second.class.getName())));
+    assertFalse(first.matchesClientEvent(Collections.emptySet()));
+    assertFalse(first.matchesClientEvent(Collections.singleton(Second.class.getName())));
+    assertTrue(first.matchesClientEvent(new HashSet<>(CDI.getQualifiersPart(new Annotation[] { FIRST, SECOND }))));
+  }
+
+  @Test
+  public void testQualifiersPartCachedByArray() {
+    final Annotation[] qualifiers = { FIRST };
+
+    CDI.fireEvent(new Event(), qualifiers);
+    CDI.fireEvent(new Event(), qualifiers);
+    assertEquals(1, CDI.getQualifiersPartCacheSize());
+
+    CDI.fireEvent(new Event(), FIRST);
+    assertEquals(2, CDI.getQualifiersPartCacheSize());
+  }
+
+  @Test
+  public void testQualifiersPartCacheBounded() {
+    CDI.subscribe(Event.class.getName(), observer("first", First.class));
+
+    for (int i = 0; i < CDI.MAX_QUALIFIERS_PARTS; i++) {
+      CDI.fireEvent(new Event(), FIRST);
+    }
+    assertEquals(CDI.MAX_QUALIFIERS_PARTS, CDI.getQualifiersPartCacheSize());
+
+    CDI.fireEvent(new Event(), FIRST);
+
+    assertEquals(1, CDI.getQualifiersPartCacheSize());
+    assertEquals(CDI.MAX_QUALIFIERS_PARTS + 1, received.size());
+  }
+
+  @SafeVarargs
+  private final AbstractCDIEventCallback<Object> observer(final String name,
+                                                          final Class<? extends Annotation>... qualifiers) {
+    final AbstractCDIEventCallback<Object> observer = new AbstractCDIEventCallback<Object>() {
+      @Override
+      protected void fireEvent(final Object event) {
+        received.add(name);
+      }
+    };
+    for (final Class<? extends Annotation> qualifier : qualifiers) {
+      observer.getQualifiers().add(qualifier.getName());
+    }
+    return observer;
+  }
+
+  private static Annotation qualifier(final Class<? extends Annotation> type) {
+    return new Annotation() {
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return type;
+      }
+    };
+  }
+}
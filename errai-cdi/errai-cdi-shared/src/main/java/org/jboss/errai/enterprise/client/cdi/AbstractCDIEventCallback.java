@@ -49,7 +49,7 @@ public abstract class AbstractCDIEventCallback<T> implements MessageCallback {
     }
 
     if (message.hasPart(CDIProtocol.FromClient)) {
-      if (isDefault() || msgQualifiers.containsAll(qualifierSet)) {
+      if (matchesClientEvent(msgQualifiers)) {
         fireEvent((T) message.get(Object.class, CDIProtocol.BeanReference));
       }
     }
@@ -63,6 +63,23 @@ public abstract class AbstractCDIEventCallback<T> implements MessageCallback {
     }
   }
 
+  /**
+   * @param msgQualifiers the qualifiers of an event fired on the client.
+   * @return true if this observer has to be notified of such an event.
+   */
+  public boolean matchesClientEvent(final Set<String> msgQualifiers) {
+    return isDefault() || msgQualifiers.containsAll(qualifierSet);
+  }
+
+  /**
+   * Notifies this observer of an event fired on the client, which qualifiers were already checked with
+   * {@link #matchesClientEvent(Set)}.
+   */
+  @SuppressWarnings("unchecked")
+  public final void deliverClientEvent(final Object payload) {
+    fireEvent((T) payload);
+  }
+
   protected boolean isDefault() {
     return qualifierSet.size() == 1 && qualifierSet.contains(Any.class.getName());
   }
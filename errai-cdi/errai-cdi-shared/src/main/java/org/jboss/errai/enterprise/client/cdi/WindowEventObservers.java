@@ -21,10 +21,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.gwt.core.client.GWT;
 import jsinterop.annotations.JsType;
 
 @JsType
 public class WindowEventObservers {
+  private static final JsTypeEventObserver<?>[] NO_OBSERVERS = new JsTypeEventObserver<?>[0];
+
   private final Map<String,  List<JsTypeEventObserver<?>>> observers = new HashMap<String, List<JsTypeEventObserver<?>>>();
 
   public static WindowEventObservers createOrGet() {
@@ -34,6 +37,16 @@ public class WindowEventObservers {
     return getWindowEventObservers();
   }
 
+  /**
+   * @return the observers shared through the window, or null if none were ever registered.
+   */
+  public static WindowEventObservers getIfDefined() {
+    if (!GWT.isClient() || !windowEventObserversDefined()) {
+      return null;
+    }
+    return getWindowEventObservers();
+  }
+
   public void add(final String eventType, final JsTypeEventObserver<?> observer) {
     if (!observers.containsKey(eventType)) {
       observers.put(eventType, new ArrayList<JsTypeEventObserver<?>>());
@@ -49,10 +62,11 @@ public class WindowEventObservers {
   }
 
   public JsTypeEventObserver<?>[] get(final String eventType) {
-    if (!observers.containsKey(eventType)) {
-      return new JsTypeEventObserver<?>[0];
+    final List<JsTypeEventObserver<?>> list = observers.get(eventType);
+    if (list == null || list.isEmpty()) {
+      return NO_OBSERVERS;
     }
-    return observers.get(eventType).toArray(new JsTypeEventObserver[0]);
+    return list.toArray(new JsTypeEventObserver[list.size()]);
   }
 
   private static native WindowEventObservers getWindowEventObservers() /*-{
@@ -20,19 +20,15 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.jboss.errai.common.client.api.extension.InitVotes;
-import org.jboss.errai.common.client.protocols.MessageParts;
 import org.jboss.errai.enterprise.client.cdi.AbstractCDIEventCallback;
-import org.jboss.errai.enterprise.client.cdi.CDICommands;
 import org.jboss.errai.enterprise.client.cdi.CDIEventTypeLookup;
 import org.jboss.errai.enterprise.client.cdi.CDIProtocol;
 import org.jboss.errai.enterprise.client.cdi.EventQualifierSerializer;
@@ -61,6 +57,21 @@ public class CDI {
   private static Set<String> localOnlyObserverTypes = new HashSet<>();
   private static Map<String, Collection<String>> lookupTable = Collections.emptyMap();
 
+  /**
+   * Dispatch plans by event type and qualifiers of the events fired on the client. Cleared whenever an observer is
+   * added or removed, or the type lookup table changes.
+   */
+  private static final Map<String, Map<Set<String>, DispatchPlan>> dispatchPlans = new HashMap<>();
+
+  /**
+   * Serialized qualifiers by the qualifier arrays they come from, as {@link javax.enterprise.event.Event}
+   * implementations fire all their events with the same array.
+   */
+  private static final Map<Annotation[], Set<String>> qualifiersParts = new IdentityHashMap<>();
+  static final int MAX_QUALIFIERS_PARTS = 512;
+
+  private static final Map<String, DispatchStats> dispatchStats = new HashMap<>();
+
   private static Logger logger = LoggerFactory.getLogger(CDI.class);
 
   public static String getSubjectNameByType(final String typeName) {
@@ -76,10 +87,14 @@ public class CDI {
     eventObservers.clear();
     localOnlyObserverTypes.clear();
     lookupTable = Collections.emptyMap();
+    dispatchPlans.clear();
+    qualifiersParts.clear();
+    dispatchStats.clear();
   }
 
   public void initLookupTable(final CDIEventTypeLookup lookup) {
     lookupTable = lookup.getTypeLookupMap();
+    dispatchPlans.clear();
   }
 
   /**
@@ -118,17 +133,127 @@ public class CDI {
 
     if (payload == null) return;
 
-    final Map<String, Object> messageMap = new HashMap<>();
-    messageMap.put(MessageParts.CommandType.name(), CDICommands.CDIEvent.name());
-    messageMap.put(CDIProtocol.BeanType.name(), payload.getClass().getName());
-    messageMap.put(CDIProtocol.BeanReference.name(), payload);
-    messageMap.put(CDIProtocol.FromClient.name(), "1");
+    // Events fired on the client don't need a message: the observers are resolved once per event type and
+    // qualifiers, and notified directly.
+    final String beanType = payload.getClass().getName();
+    final Set<String> qualifiersPart = getCachedQualifiersPart(qualifiers);
+    final DispatchPlan plan = getDispatchPlan(beanType, qualifiersPart);
+    final double start = System.currentTimeMillis();
+
+    try {
+      plan.dispatch(payload);
+    }
+    finally {
+      plan.stats.record(System.currentTimeMillis() - start);
+    }
+  }
+
+  private static Set<String> getCachedQualifiersPart(final Annotation[] qualifiers) {
+    if (qualifiers == null || qualifiers.length == 0) {
+      return Collections.emptySet();
+    }
+
+    Set<String> qualifiersPart = qualifiersParts.get(qualifiers);
+    if (qualifiersPart == null) {
+      if (qualifiersParts.size() >= MAX_QUALIFIERS_PARTS) {
+        qualifiersParts.clear();
+      }
+      qualifiersPart = getQualifiersPart(qualifiers);
+      qualifiersParts.put(qualifiers, qualifiersPart);
+    }
+    return qualifiersPart;
+  }
+
+  private static DispatchPlan getDispatchPlan(final String beanType, final Set<String> qualifiersPart) {
+    Map<Set<String>, DispatchPlan> plansByQualifiers = dispatchPlans.get(beanType);
+    if (plansByQualifiers == null) {
+      plansByQualifiers = new HashMap<>();
+      dispatchPlans.put(beanType, plansByQualifiers);
+    }
+
+    DispatchPlan plan = plansByQualifiers.get(qualifiersPart);
+    if (plan == null) {
+      plan = createDispatchPlan(beanType, qualifiersPart);
+      plansByQualifiers.put(qualifiersPart, plan);
+    }
+    return plan;
+  }
+
+  private static DispatchPlan createDispatchPlan(final String beanType, final Set<String> qualifiersPart) {
+    final List<String> beanTypes = getBeanTypes(beanType);
+    final Map<AbstractCDIEventCallback<?>, Boolean> notified = new IdentityHashMap<>();
+    final AbstractCDIEventCallback<?>[][] callbacks = new AbstractCDIEventCallback<?>[beanTypes.size()][];
+
+    for (int i = 0; i < callbacks.length; i++) {
+      final List<AbstractCDIEventCallback<?>> matchingCallbacks = new ArrayList<>();
+      final List<AbstractCDIEventCallback<?>> observers = eventObservers.get(beanTypes.get(i));
+      if (observers != null) {
+        for (final AbstractCDIEventCallback<?> callback : observers) {
+          // An observer of several of the types is notified once.
+          if (notified.put(callback, Boolean.TRUE) == null && callback.matchesClientEvent(qualifiersPart)) {
+            matchingCallbacks.add(callback);
+          }
+        }
+      }
+      callbacks[i] = matchingCallbacks.toArray(new AbstractCDIEventCallback<?>[matchingCallbacks.size()]);
+    }
+
+    DispatchStats stats = dispatchStats.get(beanType);
+    if (stats == null) {
+      stats = new DispatchStats();
+      dispatchStats.put(beanType, stats);
+    }
+
+    return new DispatchPlan(beanType,
+                            beanTypes.toArray(new String[beanTypes.size()]),
+                            callbacks,
+                            stats);
+  }
+
+  /**
+   * @return the given type followed by its super types, breadth first.
+   */
+  private static List<String> getBeanTypes(final String beanType) {
+    final List<String> beanTypes = new ArrayList<>();
+    final Set<String> firedBeanTypes = new HashSet<>();
+    beanTypes.add(beanType);
+    firedBeanTypes.add(beanType);
+    for (int i = 0; i < beanTypes.size(); i++) {
+      final Collection<String> superTypes = lookupTable.get(beanTypes.get(i));
+      if (superTypes != null) {
+        for (final String superType : superTypes) {
+          if (firedBeanTypes.add(superType)) {
+            beanTypes.add(superType);
+          }
+        }
+      }
+    }
+    return beanTypes;
+  }
 
-    if (qualifiers != null && qualifiers.length > 0) {
-      messageMap.put(CDIProtocol.Qualifiers.name(), getQualifiersPart(qualifiers));
+  static int getDispatchPlanCount() {
+    int count = 0;
+    for (final Map<Set<String>, DispatchPlan> plansByQualifiers : dispatchPlans.values()) {
+      count += plansByQualifiers.size();
     }
+    return count;
+  }
+
+  static int getQualifiersPartCacheSize() {
+    return qualifiersParts.size();
+  }
+
+  /**
+   * @return the number of events fired on the client and the time spent notifying their observers, by event type.
+   */
+  public static Map<String, DispatchStats> getDispatchStats() {
+    return Collections.unmodifiableMap(dispatchStats);
+  }
 
-    consumeEventFromMessage(CommandMessage.createWithParts(messageMap));
+  public static void resetDispatchStats() {
+    for (final DispatchStats stats : dispatchStats.values()) {
+      stats.reset();
+    }
   }
 
   public static Subscription subscribeLocal(final String eventType, final AbstractCDIEventCallback<?> callback) {
@@ -153,6 +278,7 @@ public class CDI {
     }
 
     eventObservers.get(eventType).add(callback);
+    dispatchPlans.clear();
 
     if (isLocalOnly) {
       localOnlyObserverTypes.add(eventType);
@@ -168,6 +294,7 @@ public class CDI {
   private static void unsubscribe(final String eventType, final AbstractCDIEventCallback<?> callback) {
     if (eventObservers.containsKey(eventType)) {
       eventObservers.get(eventType).remove(callback);
+      dispatchPlans.clear();
 
       if (!localOnlyObserverTypes.contains(eventType)) {
         if (eventObservers.get(eventType).isEmpty()) {
@@ -183,22 +310,12 @@ public class CDI {
     final String beanType = message.get(String.class, CDIProtocol.BeanType);
     final Object beanRef = message.get(Object.class, CDIProtocol.BeanReference);
 
-    final Set<String> firedBeanTypes = new HashSet<>();
-    final Deque<String> beanTypeQueue = new LinkedList<>();
-    beanTypeQueue.addLast(beanType);
-    firedBeanTypes.add(beanType);
-    while (!beanTypeQueue.isEmpty()) {
-      final String curType = beanTypeQueue.poll();
-      WindowEventObservers.createOrGet().fireEvent(curType, beanRef);
-      _fireEvent(curType, message);
-      if (lookupTable.containsKey(curType)) {
-        for (final String superType : lookupTable.get(curType)) {
-          if (!firedBeanTypes.contains(superType)) {
-            beanTypeQueue.addLast(superType);
-            firedBeanTypes.add(superType);
-          }
-        }
+    final WindowEventObservers windowEventObservers = WindowEventObservers.getIfDefined();
+    for (final String curType : getBeanTypes(beanType)) {
+      if (windowEventObservers != null) {
+        windowEventObservers.fireEvent(curType, beanRef);
       }
+      _fireEvent(curType, message);
     }
   }
 
@@ -248,6 +365,77 @@ public class CDI {
     }
   }
 
+  /**
+   * The observers to notify of the events of a type fired with some qualifiers, resolved once.
+   */
+  private static class DispatchPlan {
+    private final String beanType;
+    private final String[] beanTypes;
+    private final AbstractCDIEventCallback<?>[][] callbacks;
+    private final DispatchStats stats;
+
+    private DispatchPlan(final String beanType,
+                         final String[] beanTypes,
+                         final AbstractCDIEventCallback<?>[][] callbacks,
+                         final DispatchStats stats) {
+      this.beanType = beanType;
+      this.beanTypes = beanTypes;
+      this.callbacks = callbacks;
+      this.stats = stats;
+    }
+
+    private void dispatch(final Object payload) {
+      // Nothing to notify through the window until some JS observer is registered.
+      final WindowEventObservers windowEventObservers = WindowEventObservers.getIfDefined();
+      for (int i = 0; i < beanTypes.length; i++) {
+        if (windowEventObservers != null) {
+          windowEventObservers.fireEvent(beanTypes[i], payload);
+        }
+        for (final AbstractCDIEventCallback<?> callback : callbacks[i]) {
+          try {
+            callback.deliverClientEvent(payload);
+          } catch (final Exception e) {
+            final String potentialTarget = callbackOwnerClass(callback);
+            String actualTarget = potentialTarget.equalsIgnoreCase("undefined.undefined") ? "[unavailable]" : potentialTarget;
+
+            throw new RuntimeException("CDI Event exception: " + beanType + " sent to " + actualTarget, e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Number of events fired on the client and time spent notifying their observers, for an event type.
+   */
+  public static class DispatchStats {
+    private int count;
+    private double totalMillis;
+
+    private void record(final double millis) {
+      count++;
+      totalMillis += millis;
+    }
+
+    private void reset() {
+      count = 0;
+      totalMillis = 0;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public double getTotalMillis() {
+      return totalMillis;
+    }
+
+    @Override
+    public String toString() {
+      return count + " events in " + totalMillis + "ms";
+    }
+  }
+
   public static void addRemoteEventType(final String remoteEvent) {
     remoteEvents.add(remoteEvent);
   }
@@ -79,6 +79,13 @@ public class WindowInjectionContextImpl implements WindowInjectionContext {
     return new JsArray<>(providers.toArray(new JsTypeProvider<?>[providers.size()]));
   }
 
+  /**
+   * @return the number of providers for the given name, as in {@link #getProviders(String)}.
+   */
+  public int getProviderCount(final String name) {
+    return beanProviders.get(name).size();
+  }
+
   @Override
   public boolean hasProvider(final String name) {
     logger.debug("Checking for providers for {}", name);
@@ -20,8 +20,11 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
@@ -31,6 +34,7 @@ import org.jboss.errai.common.client.api.Assert;
 import org.jboss.errai.ioc.client.JsArray;
 import org.jboss.errai.ioc.client.QualifierUtil;
 import org.jboss.errai.ioc.client.WindowInjectionContext;
+import org.jboss.errai.ioc.client.WindowInjectionContextImpl;
 import org.jboss.errai.ioc.client.WindowInjectionContextStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +60,14 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   private final Multimap<String, FactoryHandle> handlesByName = ArrayListMultimap.create();
   private final Multimap<String, SyncBeanDef<?>> runtimeBeanDefsByName = ArrayListMultimap.create();
 
+  /**
+   * Resolved beans by name (or type name) and qualifiers. Cleared when a factory or bean is registered, and
+   * entries are resolved again when the number of JS providers for their name changes, as providers are only added.
+   */
+  private final Map<ResolutionKey, Resolution> resolutions = new HashMap<>();
+  private int resolutionHits = 0;
+  private int resolutionMisses = 0;
+
   @Override
   public void destroyBean(final Object ref) {
     contextManager.destroy(ref);
@@ -136,6 +148,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
   }
 
   private void addFactory(final FactoryHandle handle) {
+    resolutions.clear();
     for (final Class<?> assignableType : handle.getAssignableTypes()) {
       handlesByName.put(assignableType.getName(), handle);
     }
@@ -155,12 +168,63 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     Assert.notNull(name);
     logger.debug("Looking up beans for {}", name);
 
+    return new ArrayList(getResolution(new ResolutionKey(name, keepJsDups, null)));
+  }
+
+  /**
+   * Each lookup counts as a single hit or miss, even when resolving qualified beans filters the unqualified ones.
+   */
+  private List<SyncBeanDef<?>> getResolution(final ResolutionKey key) {
+    final int jsProviderCount = getJsProviderCount(key.name);
+    final Resolution resolution = resolutions.get(key);
+    if (resolution != null && resolution.jsProviderCount == jsProviderCount) {
+      resolutionHits++;
+      return resolution.beanDefs;
+    }
+
+    resolutionMisses++;
+    if (key.qualifiers == null) {
+      return resolveUnqualified(key.name, key.keepJsDups).beanDefs;
+    }
+
+    final Resolution unqualified = getUnqualified(key.name, jsProviderCount);
+    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(key.qualifiers));
+    final List<SyncBeanDef<?>> candidates = new ArrayList<>();
+    for (final SyncBeanDef<?> beanDef : unqualified.beanDefs) {
+      if (beanDef.matches(qualifierSet)) {
+        candidates.add(beanDef);
+      }
+    }
+    // The key is copied, as callers may reuse the qualifiers array for other lookups.
+    resolutions.put(key.copy(), new Resolution(Collections.unmodifiableList(candidates), unqualified.jsProviderCount));
+
+    return candidates;
+  }
+
+  private Resolution getUnqualified(final String name, final int jsProviderCount) {
+    final Resolution resolution = resolutions.get(new ResolutionKey(name, false, null));
+    if (resolution != null && resolution.jsProviderCount == jsProviderCount) {
+      return resolution;
+    }
+
+    return resolveUnqualified(name, false);
+  }
+
+  private Resolution resolveUnqualified(final String name, final boolean keepJsDups) {
+    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
+    final Resolution resolution = new Resolution(resolveBeans(name, keepJsDups, jsProviders), jsProviders.length());
+    resolutions.put(new ResolutionKey(name, keepJsDups, null), resolution);
+
+    return resolution;
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private List<SyncBeanDef<?>> resolveBeans(final String name, final boolean keepJsDups, final JsArray<JsTypeProvider<?>> jsProviders) {
     final Collection<FactoryHandle> handles = handlesByName.get(name);
     final Collection<SyncBeanDef<?>> runtimeBeanDefs = runtimeBeanDefsByName.get(name);
-    final JsArray<JsTypeProvider<?>> jsProviders = getJsProviders(name);
 
     final Set<String> beanDefFactoryNames = new HashSet<>();
-    final Collection beanDefs = new ArrayList<SyncBeanDef<Object>>(handles.size()+runtimeBeanDefs.size()+jsProviders.length());
+    final List beanDefs = new ArrayList<SyncBeanDef<Object>>(handles.size()+runtimeBeanDefs.size()+jsProviders.length());
     beanDefs.addAll(runtimeBeanDefs);
     for (final FactoryHandle handle : handles) {
       if (handle.isAvailableByLookup()) {
@@ -181,14 +245,48 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
     logger.debug("Looked up {} beans: {}", beanDefs.size(), beanDefs);
 
-    return beanDefs;
+    return Collections.unmodifiableList(beanDefs);
+  }
+
+  /**
+   * @return the number of bean lookups answered from the resolution cache.
+   */
+  public int getResolutionHits() {
+    return resolutionHits;
+  }
+
+  /**
+   * @return the number of bean lookups that had to resolve the beans.
+   */
+  public int getResolutionMisses() {
+    return resolutionMisses;
+  }
+
+  public void resetResolutionStatistics() {
+    resolutionHits = 0;
+    resolutionMisses = 0;
+  }
+
+  /**
+   * @return the number of JS providers for the given name, without copying them when the window context was created
+   *         by this script.
+   */
+  private int getJsProviderCount(final String name) {
+    final WindowInjectionContext windowInjectionContext = getWindowInjectionContext();
+    if (windowInjectionContext instanceof WindowInjectionContextImpl) {
+      return ((WindowInjectionContextImpl) windowInjectionContext).getProviderCount(name);
+    }
+
+    return getJsProviders(windowInjectionContext, name).length();
   }
 
   private JsArray<JsTypeProvider<?>> getJsProviders(final String name) {
-    final WindowInjectionContext windowInjectionContext = WindowInjectionContextStorage.createOrGet();
+    return getJsProviders(getWindowInjectionContext(), name);
+  }
 
+  private JsArray<JsTypeProvider<?>> getJsProviders(final WindowInjectionContext windowInjectionContext, final String name) {
     // This check may be false if -generateJsInteropExports is not set
-    if (hasGetProvidersMethod(windowInjectionContext)) {
+    if (windowInjectionContext instanceof WindowInjectionContextImpl || hasGetProvidersMethod(windowInjectionContext)) {
       return windowInjectionContext.getProviders(name);
     }
     else {
@@ -199,6 +297,10 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     }
   }
 
+  WindowInjectionContext getWindowInjectionContext() {
+    return WindowInjectionContextStorage.createOrGet();
+  }
+
   private static native boolean hasGetProvidersMethod(WindowInjectionContext obj)/*-{
     return obj.getProviders != undefined;
   }-*/;
@@ -220,19 +322,10 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     return (Class<T>) defaultType;
   }
 
+  @SuppressWarnings({ "unchecked", "rawtypes" })
   @Override
   public <T> Collection<SyncBeanDef<T>> lookupBeans(final Class<T> type, final Annotation... qualifiers) {
-    final Set<Annotation> qualifierSet = new HashSet<>(Arrays.asList(qualifiers));
-    final Collection<SyncBeanDef<T>> candidates = lookupBeans(type);
-    final Iterator<SyncBeanDef<T>> iter = candidates.iterator();
-    while (iter.hasNext()) {
-      final SyncBeanDef<T> beanDef = iter.next();
-      if (!beanDef.matches(qualifierSet)) {
-        iter.remove();
-      }
-    }
-
-    return candidates;
+    return new ArrayList(getResolution(new ResolutionKey(type.getName(), false, qualifiers)));
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -253,6 +346,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBean(final SyncBeanDef<T> beanDef) {
+    resolutions.clear();
     runtimeBeanDefsByName.put(beanDef.getType().getName(), beanDef);
     if (!beanDef.getType().getName().equals(beanDef.getBeanClass().getName())) {
       runtimeBeanDefsByName.put(beanDef.getBeanClass().getName(), beanDef);
@@ -264,6 +358,7 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
 
   @Override
   public <T> void registerBeanTypeAlias(final SyncBeanDef<T> beanDef, final Class<?> type) {
+    resolutions.clear();
     runtimeBeanDefsByName.put(type.getName(), beanDef);
   }
 
@@ -274,6 +369,78 @@ public class SyncBeanManagerImpl implements SyncBeanManager, BeanManagerSetup {
     contextManager = null;
     handlesByName.clear();
     runtimeBeanDefsByName.clear();
+    resolutions.clear();
+    resetResolutionStatistics();
+  }
+
+  private static final class ResolutionKey {
+    private final String name;
+    private final boolean keepJsDups;
+    private final Annotation[] qualifiers;
+    private final int hashCode;
+
+    private ResolutionKey(final String name, final boolean keepJsDups, final Annotation[] qualifiers) {
+      this.name = name;
+      this.keepJsDups = keepJsDups;
+      this.qualifiers = qualifiers;
+      int hash = name.hashCode() * 31 + (keepJsDups ? 1 : 0);
+      if (qualifiers != null) {
+        // Independent of the order, as the qualifiers are matched as a set.
+        for (final Annotation qualifier : qualifiers) {
+          hash += qualifier.annotationType().getName().hashCode();
+        }
+      }
+      this.hashCode = hash;
+    }
+
+    private ResolutionKey copy() {
+      return (qualifiers == null) ? this : new ResolutionKey(name, keepJsDups, Arrays.copyOf(qualifiers, qualifiers.length));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ResolutionKey)) {
+        return false;
+      }
+      final ResolutionKey other = (ResolutionKey) o;
+      return hashCode == other.hashCode
+              && keepJsDups == other.keepJsDups
+              && name.equals(other.name)
+              && qualifiersEqual(qualifiers, other.qualifiers);
+    }
+
+    private static boolean qualifiersEqual(final Annotation[] a, final Annotation[] b) {
+      if (a == b) {
+        return true;
+      }
+      if (a == null || b == null || a.length != b.length) {
+        return false;
+      }
+      if (Arrays.equals(a, b)) {
+        return true;
+      }
+      final List<Annotation> aList = Arrays.asList(a);
+      final List<Annotation> bList = Arrays.asList(b);
+      return QualifierUtil.contains(aList, bList) && QualifierUtil.contains(bList, aList);
+    }
+  }
+
+  private static final class Resolution {
+    private final List<SyncBeanDef<?>> beanDefs;
+    private final int jsProviderCount;
+
+    private Resolution(final List<SyncBeanDef<?>> beanDefs, final int jsProviderCount) {
+      this.beanDefs = beanDefs;
+      this.jsProviderCount = jsProviderCount;
+    }
   }
 
   // TODO Find way to properly get scope, qualifiers, and assignable types.
@@ -200,6 +200,7 @@ public class IOCProcessor {
     start = System.currentTimeMillis();
     final DependencyGraph dependencyGraph = graphBuilder.createGraph(getReachabilityStrategy());
     log.debug("Resolved dependency graph with {} reachable injectables in {}ms", dependencyGraph.getNumberOfInjectables(), System.currentTimeMillis() - start);
+    log.debug("Dependency graph phase timings in ms: {}", graphBuilder.getPhaseTimings());
 
     FactoryGenerator.resetTotalTime();
     FactoryGenerator.setDependencyGraph(dependencyGraph);
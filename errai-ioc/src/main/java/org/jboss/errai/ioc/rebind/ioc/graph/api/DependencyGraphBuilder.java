@@ -17,7 +17,9 @@
 package org.jboss.errai.ioc.rebind.ioc.graph.api;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javax.enterprise.inject.Produces;
@@ -222,6 +224,14 @@ public interface DependencyGraphBuilder {
    */
   DependencyGraph createGraph(ReachabilityStrategy strategy);
 
+  /**
+   * @return The time in milliseconds spent in each phase of the last call to {@link #createGraph(ReachabilityStrategy)},
+   *         in the order they were run.
+   */
+  default Map<String, Long> getPhaseTimings() {
+    return Collections.emptyMap();
+  }
+
   public static enum ReachabilityStrategy {
     /**
      * With this strategy all types are considered reachable.
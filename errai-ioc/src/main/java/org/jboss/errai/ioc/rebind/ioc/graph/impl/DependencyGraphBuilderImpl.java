@@ -27,11 +27,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -75,6 +77,14 @@ public final class DependencyGraphBuilderImpl implements DependencyGraphBuilder
   private final FactoryNameGenerator nameGenerator = new FactoryNameGenerator();
   private final boolean async;
 
+  /*
+   * Many injection points share the same references (for example the ones of extension provided types, whose
+   * references are copied instead of resolved), so the links of each reference are only traversed once.
+   */
+  private final Map<InjectableReference, Multimap<ResolutionPriority, InjectableImpl>> resolvedByReference = new IdentityHashMap<>();
+  private final Map<MetaClass, Collection<MetaClass>> erasedAssignableTypes = new HashMap<>();
+  private final Map<String, Long> phaseTimings = new LinkedHashMap<>();
+
   public DependencyGraphBuilderImpl(final QualifierFactory qualFactory, final boolean async) {
     this.qualFactory = qualFactory;
     this.async = async;
@@ -130,13 +140,26 @@ public final class DependencyGraphBuilderImpl implements DependencyGraphBuilder
   }
 
   private void processAssignableTypes(final InjectableReference injectableReference) {
-    for (final MetaClass assignable : injectableReference.type.getAllSuperTypesAndInterfaces()) {
-      try {
-        directInjectableReferencesByAssignableTypes.put(assignable.getErased(), injectableReference);
-      } catch (final Throwable t) {
-        throw new RuntimeException("Error occurred adding the assignable type " + assignable.getFullyQualifiedName(), t);
+    for (final MetaClass assignable : getErasedAssignableTypes(injectableReference.type)) {
+      directInjectableReferencesByAssignableTypes.put(assignable, injectableReference);
+    }
+  }
+
+  private Collection<MetaClass> getErasedAssignableTypes(final MetaClass type) {
+    Collection<MetaClass> assignables = erasedAssignableTypes.get(type);
+    if (assignables == null) {
+      assignables = new ArrayList<>();
+      for (final MetaClass assignable : type.getAllSuperTypesAndInterfaces()) {
+        try {
+          assignables.add(assignable.getErased());
+        } catch (final Throwable t) {
+          throw new RuntimeException("Error occurred adding the assignable type " + assignable.getFullyQualifiedName(), t);
+        }
       }
+      erasedAssignableTypes.put(type, assignables);
     }
+
+    return assignables;
   }
 
   private InjectableReference lookupInjectableReference(final MetaClass type, final Qualifier qualifier) {
@@ -167,19 +190,33 @@ public final class DependencyGraphBuilderImpl implements DependencyGraphBuilder
   @Override
   public DependencyGraph createGraph(final ReachabilityStrategy strategy) {
     logger.debug("Creating dependency graph...");
-    resolveSpecializations();
-    linkInjectableReferences();
-    resolveDependencies();
-    validateInjectables();
-    removeUnreachableInjectables(strategy);
-    logger.debug("Finished creating dependency graph.");
+    phaseTimings.clear();
+    timePhase("specializations", this::resolveSpecializations);
+    timePhase("linking", this::linkInjectableReferences);
+    timePhase("resolution", this::resolveDependencies);
+    timePhase("validation", this::validateInjectables);
+    timePhase("reachability", () -> removeUnreachableInjectables(strategy));
+    logger.debug("Finished creating dependency graph: {}", phaseTimings);
 
     return new DependencyGraphImpl(injectablesByName);
   }
 
-  private Collection<Validator> createValidators() {
+  private void timePhase(final String phase, final Runnable runnable) {
+    final long start = System.currentTimeMillis();
+    runnable.run();
+    phaseTimings.put(phase, System.currentTimeMillis() - start);
+  }
+
+  @Override
+  public Map<String, Long> getPhaseTimings() {
+    return Collections.unmodifiableMap(phaseTimings);
+  }
+
+  /**
+   * @return Validators that keep no state between injectables, so they can be run in parallel.
+   */
+  private Collection<Validator> createStatelessValidators() {
     final Collection<Validator> validators = new ArrayList<>();
-    validators.add(new CycleValidator());
     if (async) {
       validators.add(new AsyncValidator());
     }
@@ -311,49 +348,76 @@ public final class DependencyGraphBuilderImpl implements DependencyGraphBuilder
 
   private void validateInjectables() {
     logger.debug("Validating dependency graph...");
+    final List<Injectable> injectables = new ArrayList<>(injectablesByName.values());
+    final Collection<Validator> validators = createStatelessValidators();
+    final List<Collection<String>> statelessProblems = injectables
+      .parallelStream()
+      .map(injectable -> validate(injectable, validators))
+      .collect(Collectors.toList());
+
+    // The cycle validator remembers the injectables it has visited, so it runs sequentially.
+    final Validator cycleValidator = new CycleValidator();
     final Collection<String> problems = new ArrayList<>();
-    final Collection<Validator> validators = createValidators();
-    for (final Injectable injectable : injectablesByName.values()) {
-      for (final Validator validator : validators) {
-        if (validator.canValidate(injectable)) {
-          validator.validate(injectable, problems);
-        }
+    for (int i = 0; i < injectables.size(); i++) {
+      final Injectable injectable = injectables.get(i);
+      if (cycleValidator.canValidate(injectable)) {
+        cycleValidator.validate(injectable, problems);
       }
+      problems.addAll(statelessProblems.get(i));
     }
     if (!problems.isEmpty()) {
       throw new RuntimeException(GraphUtil.combineProblemMessages(problems));
     }
   }
 
+  private static Collection<String> validate(final Injectable injectable, final Collection<Validator> validators) {
+    if (validators.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Collection<String> problems = new ArrayList<>();
+    for (final Validator validator : validators) {
+      if (validator.canValidate(injectable)) {
+        validator.validate(injectable, problems);
+      }
+    }
+
+    return problems;
+  }
+
   private void removeUnreachableInjectables(final ReachabilityStrategy strategy) {
     logger.debug("Removing unreachable injectables from dependency graph using {} strategy.", strategy);
-    final Set<String> reachableNames = new HashSet<>();
-    final Queue<Injectable> processingQueue = new LinkedList<>();
+    final Set<String> reachableNames = ConcurrentHashMap.newKeySet();
     final Predicate<Injectable> reachabilityRoot = reachabilityRootPredicate(strategy);
-    for (final Injectable injectable : injectablesByName.values()) {
-      if (reachabilityRoot.test(injectable)
-              && !reachableNames.contains(injectable.getFactoryName())
-              && !InjectableType.Disabled.equals(injectable.getInjectableType())) {
-        processingQueue.add(injectable);
-        do {
-          final Injectable processedInjectable = processingQueue.poll();
-          reachableNames.add(processedInjectable.getFactoryName());
-          logger.trace("Marked as reachable: {}", processedInjectable);
-          for (final Dependency dep : processedInjectable.getDependencies()) {
-            final Injectable resolvedDep = GraphUtil.getResolvedDependency(dep, processedInjectable);
-            if (!reachableNames.contains(resolvedDep.getFactoryName())) {
-              processingQueue.add(resolvedDep);
-            }
-          }
-        } while (processingQueue.size() > 0);
-      }
-    }
+    injectablesByName
+      .values()
+      .parallelStream()
+      .filter(injectable -> reachabilityRoot.test(injectable)
+              && !InjectableType.Disabled.equals(injectable.getInjectableType()))
+      .forEach(root -> markReachable(root, reachableNames));
 
     final int initialSize = injectablesByName.size();
     injectablesByName.keySet().retainAll(reachableNames);
     logger.debug("Removed {} unreachable injectables.", initialSize - injectablesByName.size());
   }
 
+  private static void markReachable(final Injectable root, final Set<String> reachableNames) {
+    final Queue<Injectable> processingQueue = new LinkedList<>();
+    processingQueue.add(root);
+    do {
+      final Injectable processedInjectable = processingQueue.poll();
+      if (reachableNames.add(processedInjectable.getFactoryName())) {
+        logger.trace("Marked as reachable: {}", processedInjectable);
+        for (final Dependency dep : processedInjectable.getDependencies()) {
+          final Injectable resolvedDep = GraphUtil.getResolvedDependency(dep, processedInjectable);
+          if (!reachableNames.contains(resolvedDep.getFactoryName())) {
+            processingQueue.add(resolvedDep);
+          }
+        }
+      }
+    } while (processingQueue.size() > 0);
+  }
+
   private Predicate<Injectable> reachabilityRootPredicate(final ReachabilityStrategy strategy) {
     switch (strategy) {
     case All:
@@ -402,7 +466,7 @@ public final class DependencyGraphBuilderImpl implements DependencyGraphBuilder
     }
 
     logger.trace("Resolving dependency: {}", dep);
-    final Multimap<ResolutionPriority, InjectableImpl> resolvedByPriority = traverseLinks(dep.injectable);
+    final Multimap<ResolutionPriority, InjectableImpl> resolvedByPriority = resolvedByReference.computeIfAbsent(dep.injectable, this::traverseLinks);
 
     final Iterable<ResolutionPriority> priorities;
     final boolean reportProblems;
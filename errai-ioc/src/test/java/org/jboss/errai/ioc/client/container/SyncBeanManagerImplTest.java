@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.ioc.client.container;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.jboss.errai.ioc.client.WindowInjectionContext;
+import org.jboss.errai.ioc.client.WindowInjectionContextImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SyncBeanManagerImplTest {
+
+  public interface Service {
+  }
+
+  public @interface First {
+  }
+
+  public @interface Second {
+  }
+
+  private static final Annotation FIRST = qualifier(First.class);
+  private static final Annotation SECOND = qualifier(Second.class);
+
+  @Mock
+  private ContextManager contextManager;
+
+  private final WindowInjectionContextImpl windowInjectionContext = new WindowInjectionContextImpl();
+
+  private SyncBeanManagerImpl beanManager;
+
+  @Before
+  public void setup() {
+    final FactoryHandle first = handle("first", FIRST);
+    final FactoryHandle second = handle("second", SECOND);
+    when(contextManager.getAllFactoryHandles()).thenReturn(Arrays.asList(first, second));
+
+    beanManager = new SyncBeanManagerImpl() {
+      @Override
+      WindowInjectionContext getWindowInjectionContext() {
+        return windowInjectionContext;
+      }
+    };
+    beanManager.setContextManager(contextManager);
+  }
+
+  @Test
+  public void testRepeatedLookupHitsCache() {
+    assertEquals(2, beanManager.lookupBeans(Service.class).size());
+    assertEquals(2, beanManager.lookupBeans(Service.class).size());
+
+    assertEquals(1, beanManager.getResolutionHits());
+    assertEquals(1, beanManager.getResolutionMisses());
+  }
+
+  @Test
+  public void testQualifiedLookupCountedOnce() {
+    assertEquals(1, beanManager.lookupBeans(Service.class, FIRST).size());
+    assertEquals(0, beanManager.getResolutionHits());
+    assertEquals(1, beanManager.getResolutionMisses());
+
+    assertEquals(1, beanManager.lookupBeans(Service.class, FIRST).size());
+    assertEquals(1, beanManager.getResolutionHits());
+    assertEquals(1, beanManager.getResolutionMisses());
+
+    // The unqualified beans were resolved by the qualified lookup.
+    assertEquals(2, beanManager.lookupBeans(Service.class).size());
+    assertEquals(2, beanManager.getResolutionHits());
+    assertEquals(1, beanManager.getResolutionMisses());
+  }
+
+  @Test
+  public void testQualifiedLookupsCachedSeparately() {
+    final Collection<SyncBeanDef<Service>> first = beanManager.lookupBeans(Service.class, FIRST);
+    final Collection<SyncBeanDef<Service>> second = beanManager.lookupBeans(Service.class, SECOND);
+
+    assertEquals("first", first.iterator().next().getName());
+    assertEquals("second", second.iterator().next().getName());
+    assertEquals(0, beanManager.lookupBeans(Service.class, FIRST, SECOND).size());
+    assertEquals(3, beanManager.getResolutionMisses());
+  }
+
+  @Test
+  public void testQualifiersArrayCopied() {
+    final Annotation[] qualifiers = { FIRST };
+    beanManager.lookupBeans(Service.class, qualifiers);
+
+    qualifiers[0] = SECOND;
+
+    assertEquals("first", beanManager.lookupBeans(Service.class, FIRST).iterator().next().getName());
+    assertEquals("second", beanManager.lookupBeans(Service.class, qualifiers).iterator().next().getName());
+    assertEquals(1, beanManager.getResolutionHits());
+    assertEquals(2, beanManager.getResolutionMisses());
+  }
+
+  @Test
+  public void testNewJsProviderResolvedAgain() {
+    beanManager.lookupBeans(Service.class.getName());
+
+    final JsTypeProvider<?> provider = mock(JsTypeProvider.class);
+    windowInjectionContext.addBeanProvider(Service.class.getName(), provider);
+
+    assertEquals(3, beanManager.lookupBeans(Service.class.getName()).size());
+    assertEquals(0, beanManager.getResolutionHits());
+    assertEquals(2, beanManager.getResolutionMisses());
+
+    assertEquals(3, beanManager.lookupBeans(Service.class.getName()).size());
+    assertEquals(1, beanManager.getResolutionHits());
+  }
+
+  @Test
+  public void testRegisterBeanResolvesAgain() {
+    beanManager.lookupBeans(Service.class);
+
+    final SyncBeanDef<Service> beanDef = mock(SyncBeanDef.class);
+    doReturn(Service.class).when(beanDef).getType();
+    doReturn(Service.class).when(beanDef).getBeanClass();
+    beanManager.registerBean(beanDef);
+
+    assertEquals(3, beanManager.lookupBeans(Service.class).size());
+    assertEquals(0, beanManager.getResolutionHits());
+    assertEquals(2, beanManager.getResolutionMisses());
+  }
+
+  private static FactoryHandle handle(final String name, final Annotation qualifier) {
+    final FactoryHandle handle = mock(FactoryHandle.class);
+    doReturn(Collections.singletonList(Service.class)).when(handle).getAssignableTypes();
+    doReturn(Service.class).when(handle).getActualType();
+    when(handle.getQualifiers()).thenReturn(Collections.singletonList(qualifier));
+    when(handle.getFactoryName()).thenReturn(name);
+    when(handle.getBeanName()).thenReturn(name);
+    when(handle.isAvailableByLookup()).thenReturn(true);
+    return handle;
+  }
+
+  private static Annotation qualifier(final Class<? extends Annotation> type) {
+    return new Annotation() {
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return type;
+      }
+    };
+  }
+}
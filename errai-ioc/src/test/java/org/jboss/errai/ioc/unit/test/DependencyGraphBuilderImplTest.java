@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.errai.ioc.unit.test;
+
+import static org.jboss.errai.ioc.rebind.ioc.bootstrapper.IOCProcessor.ANY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.context.Dependent;
+
+import org.jboss.errai.codegen.meta.MetaClass;
+import org.jboss.errai.codegen.meta.MetaClassFactory;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.DependencyGraph;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.DependencyGraphBuilder;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.DependencyGraphBuilder.InjectableType;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.DependencyGraphBuilder.ReachabilityStrategy;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.Injectable;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.InjectionSite;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.Qualifier;
+import org.jboss.errai.ioc.rebind.ioc.graph.api.QualifierFactory;
+import org.jboss.errai.ioc.rebind.ioc.graph.impl.DefaultCustomFactoryInjectable;
+import org.jboss.errai.ioc.rebind.ioc.graph.impl.DefaultQualifierFactory;
+import org.jboss.errai.ioc.rebind.ioc.graph.impl.DependencyGraphBuilderImpl;
+import org.jboss.errai.ioc.rebind.ioc.injector.api.WiringElementType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for resolving injection points that share the same reference, whose links are only traversed once.
+ */
+public class DependencyGraphBuilderImplTest {
+
+  public interface Iface {
+  }
+
+  public static class ImplA implements Iface {
+  }
+
+  public static class ImplB implements Iface {
+  }
+
+  public static class OwnerA {
+    Iface iface;
+  }
+
+  public static class OwnerB {
+    Iface iface;
+  }
+
+  public static class OwnerC {
+    Iface iface;
+  }
+
+  public static class OwnerD {
+    Iface iface;
+  }
+
+  private final QualifierFactory qualFactory = new DefaultQualifierFactory();
+
+  private DependencyGraphBuilder builder;
+
+  private Qualifier qualifier;
+
+  @Before
+  public void setup() {
+    MetaClassFactory.getMetaClassCache().clear();
+    builder = new DependencyGraphBuilderImpl(qualFactory, false);
+    qualifier = qualFactory.forDefault();
+  }
+
+  @Test
+  public void injectionPointsSharingReferenceResolveToSameInjectable() {
+    final Injectable impl = addType(ImplA.class);
+    final Injectable ownerA = addOwner(OwnerA.class);
+    final Injectable ownerB = addOwner(OwnerB.class);
+
+    final DependencyGraph graph = builder.createGraph(ReachabilityStrategy.All);
+
+    assertSame(impl, getResolvedDependency(graph, ownerA));
+    assertSame(impl, getResolvedDependency(graph, ownerB));
+  }
+
+  @Test
+  public void extensionProvidedInjectableCreatedForEachInjectionPoint() {
+    final List<InjectionSite> sites = new ArrayList<>();
+    builder.addExtensionInjectable(metaClass(Iface.class), qualifier, ANY, (site, nameGenerator) -> {
+      sites.add(site);
+      return new DefaultCustomFactoryInjectable(metaClass(Iface.class), qualifier,
+              "ExtensionProvided_" + site.getEnclosingType().getName(), Dependent.class,
+              new ArrayList<>(), null);
+    });
+    final Injectable ownerA = addOwner(OwnerA.class);
+    final Injectable ownerB = addOwner(OwnerB.class);
+
+    final DependencyGraph graph = builder.createGraph(ReachabilityStrategy.All);
+
+    assertEquals(2, sites.size());
+    final Injectable providedA = getResolvedDependency(graph, ownerA);
+    final Injectable providedB = getResolvedDependency(graph, ownerB);
+    assertEquals(InjectableType.ExtensionProvided, providedA.getInjectableType());
+    assertEquals(InjectableType.ExtensionProvided, providedB.getInjectableType());
+    assertNotEquals(providedA.getFactoryName(), providedB.getFactoryName());
+    assertSame(providedA, graph.getConcreteInjectable(providedA.getFactoryName()));
+    assertSame(providedB, graph.getConcreteInjectable(providedB.getFactoryName()));
+  }
+
+  @Test
+  public void ambiguousDependencyReportedForEachInjectionPoint() {
+    addType(ImplA.class);
+    addType(ImplB.class);
+    addOwner(OwnerA.class);
+    addOwner(OwnerB.class);
+
+    try {
+      builder.createGraph(ReachabilityStrategy.All);
+      fail("Expected ambiguous dependencies.");
+    } catch (final RuntimeException e) {
+      assertProblemReported(e, "Ambiguous", OwnerA.class);
+      assertProblemReported(e, "Ambiguous", OwnerB.class);
+    }
+  }
+
+  @Test
+  public void unsatisfiedDependencyReportedForEachInjectionPoint() {
+    addOwner(OwnerA.class);
+    addOwner(OwnerB.class);
+
+    try {
+      builder.createGraph(ReachabilityStrategy.All);
+      fail("Expected unsatisfied dependencies.");
+    } catch (final RuntimeException e) {
+      assertProblemReported(e, "Unsatisfied", OwnerA.class);
+      assertProblemReported(e, "Unsatisfied", OwnerB.class);
+    }
+  }
+
+  @Test
+  public void parallelValidationReportsProblemsInInjectableOrder() {
+    final Class<?>[] ownerTypes = { OwnerA.class, OwnerB.class, OwnerC.class, OwnerD.class };
+    builder = new DependencyGraphBuilderImpl(qualFactory, true);
+    final Injectable asyncImpl = builder.addInjectable(metaClass(ImplA.class), qualifier, ANY, Dependent.class,
+            InjectableType.Type, WiringElementType.DependentBean, WiringElementType.LoadAsync);
+    final Map<String, Injectable> ownersByName = new HashMap<>();
+    for (final Class<?> ownerType : ownerTypes) {
+      final Injectable owner = addOwner(ownerType);
+      ownersByName.put(owner.getFactoryName(), owner);
+    }
+
+    final List<String> expectedLines = new ArrayList<>();
+    for (final String name : getInjectableOrder(ownerTypes)) {
+      final Injectable owner = ownersByName.get(name);
+      if (owner != null) {
+        expectedLines.add("The bean " + owner + " is not @LoadAsync but depends on the @LoadAsync bean " + asyncImpl);
+      }
+    }
+    assertEquals(ownerTypes.length, expectedLines.size());
+
+    try {
+      builder.createGraph(ReachabilityStrategy.All);
+      fail("Expected @LoadAsync problems.");
+    } catch (final RuntimeException e) {
+      final String[] messageLines = e.getMessage().split("\n");
+      assertEquals("The following problems were found:", messageLines[0]);
+      assertEquals("", messageLines[1]);
+      final List<String> actualLines = Arrays.asList(messageLines).subList(2, messageLines.length);
+      assertEquals(new HashSet<>(expectedLines), new HashSet<>(actualLines));
+      assertEquals(expectedLines, actualLines);
+    }
+  }
+
+  /**
+   * @return The factory names in the order the builder iterates its injectables, taken from the graph of an identical
+   *         builder whose bean is not {@code @LoadAsync}, so that it builds without problems.
+   */
+  private List<String> getInjectableOrder(final Class<?>[] ownerTypes) {
+    final DependencyGraphBuilder problemsBuilder = builder;
+    builder = new DependencyGraphBuilderImpl(qualFactory, true);
+    try {
+      builder.addInjectable(metaClass(ImplA.class), qualifier, ANY, Dependent.class, InjectableType.Type,
+              WiringElementType.DependentBean);
+      for (final Class<?> ownerType : ownerTypes) {
+        addOwner(ownerType);
+      }
+      final List<String> names = new ArrayList<>();
+      for (final Injectable injectable : builder.createGraph(ReachabilityStrategy.All)) {
+        names.add(injectable.getFactoryName());
+      }
+
+      return names;
+    } finally {
+      builder = problemsBuilder;
+    }
+  }
+
+  private Injectable addType(final Class<?> type) {
+    return builder.addInjectable(metaClass(type), qualifier, ANY, Dependent.class, InjectableType.Type,
+            WiringElementType.DependentBean);
+  }
+
+  private Injectable addOwner(final Class<?> type) {
+    final Injectable owner = addType(type);
+    builder.addFieldDependency(owner, metaClass(Iface.class), qualifier, metaClass(type).getDeclaredField("iface"));
+
+    return owner;
+  }
+
+  private static Injectable getResolvedDependency(final DependencyGraph graph, final Injectable owner) {
+    final Injectable resolvedOwner = graph.getConcreteInjectable(owner.getFactoryName());
+    assertEquals(1, resolvedOwner.getDependencies().size());
+
+    return resolvedOwner.getDependencies().iterator().next().getInjectable();
+  }
+
+  private static void assertProblemReported(final RuntimeException e, final String problem, final Class<?> owner) {
+    final String message = e.getMessage();
+    for (final String line : message.split("\n")) {
+      if (line.contains(problem) && line.contains(owner.getSimpleName())) {
+        return;
+      }
+    }
+    assertTrue("No " + problem + " dependency reported for " + owner.getName() + " in:\n" + message, false);
+  }
+
+  private static MetaClass metaClass(final Class<?> type) {
+    return MetaClassFactory.get(type);
+  }
+}
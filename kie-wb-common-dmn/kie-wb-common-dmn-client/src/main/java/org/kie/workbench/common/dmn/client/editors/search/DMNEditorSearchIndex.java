@@ -24,10 +24,16 @@ import java.util.function.Supplier;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramSelected;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.session.DMNSession;
+import org.kie.workbench.common.dmn.client.widgets.grid.model.ExpressionEditorChanged;
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandUndoneEvent;
 import org.kie.workbench.common.stunner.core.client.session.ClientSession;
 import org.kie.workbench.common.widgets.client.search.common.BaseEditorSearchIndex;
 import org.kie.workbench.common.widgets.client.search.common.SearchPerformedEvent;
@@ -52,6 +58,8 @@ public class DMNEditorSearchIndex extends BaseEditorSearchIndex<DMNSearchableEle
 
     private final Event<SearchPerformedEvent> searchPerformedEvent;
 
+    private SearchContext lastSearchContext;
+
     @Inject
     public DMNEditorSearchIndex(final DMNGraphSubIndex graphSubIndex,
                                 final DMNGridSubIndex gridSubIndex,
@@ -93,6 +101,47 @@ public class DMNEditorSearchIndex extends BaseEditorSearchIndex<DMNSearchableEle
         return getSubIndex().getSearchableElements();
     }
 
+    @Override
+    protected List<DMNSearchableElement> findSearchResults(final String term) {
+        lastSearchContext = currentSearchContext();
+        return getSubIndex().search(term);
+    }
+
+    /**
+     * The results are loaded again when the search context has changed since the last search, besides the changes
+     * notified through {@link #markDirty()}.
+     */
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || (lastSearchContext != null && lastSearchContext != currentSearchContext());
+    }
+
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        gridSubIndex.invalidate();
+    }
+
+    void onCanvasCommandExecuted(final @Observes CanvasCommandExecutedEvent event) {
+        markDirty();
+    }
+
+    void onCanvasCommandUndone(final @Observes CanvasCommandUndoneEvent event) {
+        markDirty();
+    }
+
+    void onDataTypeChanged(final @Observes DataTypeChangedEvent event) {
+        markDirty();
+    }
+
+    void onDMNDiagramSelected(final @Observes DMNDiagramSelected event) {
+        markDirty();
+    }
+
+    void onExpressionEditorChanged(final @Observes ExpressionEditorChanged event) {
+        markDirty();
+    }
+
     Command getNoResultsFoundCallback() {
         return () -> getSubIndex().onNoResultsFound();
     }
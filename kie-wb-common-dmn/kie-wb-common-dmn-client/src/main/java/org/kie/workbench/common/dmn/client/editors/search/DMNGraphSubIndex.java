@@ -16,13 +16,15 @@
 
 package org.kie.workbench.common.dmn.client.editors.search;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.dmn.api.definition.NOPDomainObject;
@@ -30,12 +32,20 @@ import org.kie.workbench.common.dmn.api.definition.model.DRGElement;
 import org.kie.workbench.common.dmn.api.definition.model.TextAnnotation;
 import org.kie.workbench.common.dmn.client.graph.DMNGraphUtils;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.AbstractCanvasHandlerElementEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasClearSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasFocusedShapeEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.DomainObjectSelectionEvent;
+import org.kie.workbench.common.stunner.core.diagram.Diagram;
+import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.widgets.client.search.common.TextSearchIndex;
 import org.uberfire.mvp.Command;
 
 @ApplicationScoped
@@ -51,6 +61,16 @@ public class DMNGraphSubIndex implements DMNSubIndex {
 
     private final Event<DomainObjectSelectionEvent> domainObjectSelectionEvent;
 
+    private final TextSearchIndex<DMNSearchableElement> textSearchIndex = new TextSearchIndex<>();
+
+    private final Map<String, DMNSearchableElement> elementsByUUID = new HashMap<>();
+
+    private boolean isIndexed = false;
+
+    private CanvasHandler indexedCanvasHandler;
+
+    private Diagram indexedDiagram;
+
     @Inject
     public DMNGraphSubIndex(final DMNGraphUtils graphUtils,
                             final Event<CanvasSelectionEvent> canvasSelectionEvent,
@@ -66,28 +86,101 @@ public class DMNGraphSubIndex implements DMNSubIndex {
 
     @Override
     public List<DMNSearchableElement> getSearchableElements() {
-        return graphUtils
-                .getNodeStream()
-                .map(this::makeElement)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return getTextSearchIndex().find("");
+    }
+
+    @Override
+    public List<DMNSearchableElement> search(final String term) {
+        return getTextSearchIndex().find(term);
+    }
+
+    void onCanvasElementAdded(final @Observes CanvasElementAddedEvent event) {
+        if (isIndexedCanvasEvent(event)) {
+            indexElement(event.getElement());
+        }
+    }
+
+    void onCanvasElementUpdated(final @Observes CanvasElementUpdatedEvent event) {
+        if (isIndexedCanvasEvent(event)) {
+            indexElement(event.getElement());
+        }
+    }
+
+    void onCanvasElementRemoved(final @Observes CanvasElementRemovedEvent event) {
+        if (isIndexedCanvasEvent(event)) {
+            removeElement(event.getElement().getUUID());
+        }
+    }
+
+    void onCanvasElementsClear(final @Observes CanvasElementsClearEvent event) {
+        if (Objects.equals(event.getCanvasHandler(), indexedCanvasHandler)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * The index is built from the graph the first time it is needed, and then it is kept up to date through the
+     * canvas element events, as long as the canvas keeps showing the same diagram.
+     */
+    private TextSearchIndex<DMNSearchableElement> getTextSearchIndex() {
+
+        final CanvasHandler canvasHandler = graphUtils.getCanvasHandler();
+        final Diagram diagram = canvasHandler != null ? canvasHandler.getDiagram() : null;
+
+        if (!isIndexed || !Objects.equals(canvasHandler, indexedCanvasHandler) || !Objects.equals(diagram, indexedDiagram)) {
+            invalidate();
+            graphUtils.getNodeStream().forEach(this::indexElement);
+            indexedCanvasHandler = canvasHandler;
+            indexedDiagram = diagram;
+            isIndexed = true;
+        }
+
+        return textSearchIndex;
+    }
+
+    private void invalidate() {
+        textSearchIndex.clear();
+        elementsByUUID.clear();
+        isIndexed = false;
+    }
+
+    private boolean isIndexedCanvasEvent(final AbstractCanvasHandlerElementEvent event) {
+        return isIndexed && Objects.equals(event.getCanvasHandler(), indexedCanvasHandler) && event.getElement() instanceof Node;
     }
 
-    private DMNSearchableElement makeElement(final Node node) {
+    private void indexElement(final Element<?> element) {
+
+        final String uuid = element.getUUID();
+        final Optional<String> text = getText(element);
+
+        if (!text.isPresent()) {
+            removeElement(uuid);
+            return;
+        }
+
+        final DMNSearchableElement searchableElement = elementsByUUID.computeIfAbsent(uuid, this::makeElement);
+        searchableElement.setText(text.get());
+        textSearchIndex.add(searchableElement, text.get());
+    }
+
+    private void removeElement(final String uuid) {
+        final DMNSearchableElement searchableElement = elementsByUUID.remove(uuid);
+        if (searchableElement != null) {
+            textSearchIndex.remove(searchableElement);
+        }
+    }
 
-        return getText(node).map(text -> {
+    private DMNSearchableElement makeElement(final String uuid) {
 
-            final DMNSearchableElement element = new DMNSearchableElement();
+        final DMNSearchableElement element = new DMNSearchableElement();
 
-            element.setText(text);
-            element.setOnFound(makeOnFound(node.getUUID()));
+        element.setOnFound(makeOnFound(uuid));
 
-            return element;
-        }).orElse(null);
+        return element;
     }
 
-    private Optional<String> getText(final Node node) {
-        final Object content = node.getContent();
+    private Optional<String> getText(final Element<?> element) {
+        final Object content = element.getContent();
         if (content instanceof Definition) {
             final Object definition = ((Definition) content).getDefinition();
             if (definition instanceof DRGElement) {
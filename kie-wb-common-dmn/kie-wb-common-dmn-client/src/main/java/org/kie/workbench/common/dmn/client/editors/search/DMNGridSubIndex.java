@@ -25,6 +25,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.dmn.client.editors.expressions.types.context.InformationItemCell.HasNameAndDataTypeCell;
+import org.kie.workbench.common.widgets.client.search.common.TextSearchIndex;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
@@ -35,18 +36,41 @@ public class DMNGridSubIndex implements DMNSubIndex {
 
     private final DMNGridHelper dmnGridHelper;
 
+    private final TextSearchIndex<DMNSearchableElement> textSearchIndex = new TextSearchIndex<>();
+
+    private List<DMNSearchableElement> searchableElements;
+
     @Inject
     public DMNGridSubIndex(final DMNGridHelper dmnGridHelper) {
         this.dmnGridHelper = dmnGridHelper;
     }
 
+    /**
+     * The cells are loaded once and kept until the {@link DMNEditorSearchIndex} notifies a change through
+     * {@link #invalidate()}.
+     */
     @Override
     public List<DMNSearchableElement> getSearchableElements() {
-        return dmnGridHelper
-                .getGridWidgets()
-                .stream()
-                .flatMap(gridWidget -> getSearchableElements(gridWidget).stream())
-                .collect(Collectors.toList());
+        if (searchableElements == null) {
+            searchableElements = dmnGridHelper
+                    .getGridWidgets()
+                    .stream()
+                    .flatMap(gridWidget -> getSearchableElements(gridWidget).stream())
+                    .collect(Collectors.toList());
+            searchableElements.forEach(element -> textSearchIndex.add(element, element.getText()));
+        }
+        return searchableElements;
+    }
+
+    @Override
+    public List<DMNSearchableElement> search(final String term) {
+        getSearchableElements();
+        return textSearchIndex.find(term);
+    }
+
+    void invalidate() {
+        searchableElements = null;
+        textSearchIndex.clear();
     }
 
     @Override
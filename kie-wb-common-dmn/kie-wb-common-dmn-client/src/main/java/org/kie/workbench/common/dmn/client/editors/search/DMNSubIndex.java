@@ -16,7 +16,11 @@
 
 package org.kie.workbench.common.dmn.client.editors.search;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.kie.workbench.common.widgets.client.search.common.HasSearchableElements;
+import org.kie.workbench.common.widgets.client.search.common.TextSearchIndex;
 
 /**
  * {@link DMNSubIndex} is a repository of DMN searchable elements.
@@ -32,4 +36,15 @@ public interface DMNSubIndex extends HasSearchableElements<DMNSearchableElement>
     default void onSearchClosed() {
 
     }
+
+    /**
+     * Returns the searchable elements that match the term.
+     * Sub-indexes backed by a {@link TextSearchIndex} override this method, so not every element is matched.
+     */
+    default List<DMNSearchableElement> search(final String term) {
+        return getSearchableElements()
+                .stream()
+                .filter(element -> element.matches(term))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.workbench.common.dmn.client.marshaller;
+
+/**
+ * Receives the time spent on each phase while loading a DMN model.
+ * See {@link DMNMarshallerService#setLoadMetricsListener(DMNLoadMetricsListener)}.
+ */
+@FunctionalInterface
+public interface DMNLoadMetricsListener {
+
+    DMNLoadMetricsListener NONE = (phase, durationMillis) -> {
+        // empty.
+    };
+
+    enum Phase {
+
+        /**
+         * Parsing the XML into the JS model.
+         */
+        PARSE,
+
+        /**
+         * Creating the Stunner nodes for the DRG elements and text annotations.
+         */
+        NODE_CREATION,
+
+        /**
+         * Connecting the nodes through the requirements, associations and decision services.
+         */
+        CONNECTION,
+
+        /**
+         * Positioning the nodes from the DMNDI bounds and adding them to the graph of each DRD.
+         */
+        LAYOUT
+    }
+
+    void onPhaseCompleted(final Phase phase,
+                          final long durationMillis);
+}
@@ -82,6 +82,8 @@ public class DMNMarshallerService {
 
     private Metadata metadata;
 
+    private DMNLoadMetricsListener loadMetricsListener = DMNLoadMetricsListener.NONE;
+
     @Inject
     public DMNMarshallerService(final DMNUnmarshaller dmnUnmarshaller,
                                 final DMNMarshaller dmnMarshaller,
@@ -111,7 +113,10 @@ public class DMNMarshallerService {
         setMetadata(metadata);
 
         try {
+            final long parseStart = System.currentTimeMillis();
             final DMN12UnmarshallCallback jsCallback = dmn12 -> {
+                loadMetricsListener.onPhaseCompleted(DMNLoadMetricsListener.Phase.PARSE,
+                                                     System.currentTimeMillis() - parseStart);
                 final JSITDefinitions definitions = Js.uncheckedCast(JsUtils.getUnwrappedElement(dmn12));
                 dmnUnmarshaller.unmarshall(getMetadata(), definitions).then(graph -> {
                     final String fileName = getMetadata().getPath().getFileName();
@@ -257,6 +262,14 @@ public class DMNMarshallerService {
         return metadata;
     }
 
+    /**
+     * Sets the listener that receives the time spent on each phase when loading a model.
+     */
+    public void setLoadMetricsListener(final DMNLoadMetricsListener loadMetricsListener) {
+        this.loadMetricsListener = loadMetricsListener;
+        dmnUnmarshaller.setLoadMetricsListener(loadMetricsListener);
+    }
+
     public void setOnDiagramLoad(final ServiceCallback<Diagram> onDiagramLoad) {
         this.onDiagramLoad = onDiagramLoad;
     }
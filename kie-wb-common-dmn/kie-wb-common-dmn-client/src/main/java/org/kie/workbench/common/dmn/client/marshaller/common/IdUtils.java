@@ -16,7 +16,7 @@
 
 package org.kie.workbench.common.dmn.client.marshaller.common;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,7 +64,7 @@ public class IdUtils {
     }
 
     public static String getShapeId(final JSIDMNDiagram diagram,
-                                    final List<String> dmnElementIds,
+                                    final Collection<String> dmnElementIds,
                                     final String dmnElementId) {
 
         final String diagramName = lower(diagram.getName());
@@ -72,7 +72,7 @@ public class IdUtils {
     }
 
     public static String getEdgeId(final JSIDMNDiagram diagram,
-                                   final List<String> dmnElementIds,
+                                   final Collection<String> dmnElementIds,
                                    final String dmnElementId,
                                    final boolean autoSourceConnection,
                                    final boolean autoTargetConnection) {
@@ -95,7 +95,7 @@ public class IdUtils {
                                       final String diagramName,
                                       final String dmnElementId,
                                       final int seed,
-                                      final List<String> dmnElementIds) {
+                                      final Collection<String> dmnElementIds) {
 
         final String count = seed == 1 ? "" : Integer.toString(seed);
         final String id = getComposedId(prefix, diagramName, count, dmnElementId);
@@ -15,7 +15,7 @@
  */
 package org.kie.workbench.common.dmn.client.marshaller.common;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -174,7 +174,7 @@ public class WrapperUtils {
     }
 
     public static JSIDMNShape getWrappedJSIDMNShape(final JSIDMNDiagram diagram,
-                                                    final List<String> dmnDiagramElementIds,
+                                                    final Collection<String> dmnDiagramElementIds,
                                                     final Definitions definitionsStunnerPojo,
                                                     final View<? extends DMNElement> v,
                                                     final String namespaceURI) {
@@ -225,7 +225,7 @@ public class WrapperUtils {
     }
 
     private static JSIDMNShape stunnerToDDExt(final JSIDMNDiagram diagram,
-                                              final List<String> dmnDiagramElementIds,
+                                              final Collection<String> dmnDiagramElementIds,
                                               final Definitions definitionsStunnerPojo,
                                               final View<? extends DMNElement> v,
                                               final String namespaceURI) {
@@ -16,11 +16,14 @@
 package org.kie.workbench.common.dmn.client.marshaller.marshall;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -89,7 +92,6 @@ import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
 
 import static org.kie.workbench.common.dmn.client.marshaller.common.IdUtils.getEdgeId;
 import static org.kie.workbench.common.dmn.client.marshaller.common.IdUtils.getRawId;
-import static org.kie.workbench.common.dmn.client.marshaller.common.JsInteropUtils.anyMatch;
 import static org.kie.workbench.common.dmn.client.marshaller.common.JsInteropUtils.forEach;
 import static org.kie.workbench.common.dmn.client.marshaller.converters.dd.PointUtils.upperLeftBound;
 import static org.kie.workbench.common.dmn.client.marshaller.converters.dd.PointUtils.xOfBound;
@@ -150,7 +152,7 @@ public class DMNMarshaller {
         final Map<String, JSITTextAnnotation> textAnnotations = new HashMap<>();
         final Node<View<DMNDiagram>, ?> dmnDiagramRoot = (Node<View<DMNDiagram>, ?>) DMNGraphUtils.findDMNDiagramRoot(dmnDiagramsSession.getDRGDiagram().getGraph());
         final Definitions definitionsStunnerPojo = ((DMNDiagram) getElementDefinition(dmnDiagramRoot)).getDefinitions();
-        final List<String> dmnDiagramElementIds = new ArrayList<>();
+        final Set<String> dmnDiagramElementIds = new HashSet<>();
 
         final JSITDefinitions definitions = DefinitionsConverter.dmnFromWB(definitionsStunnerPojo, true);
         if (Objects.isNull(definitions.getExtensionElements())) {
@@ -158,6 +160,10 @@ public class DMNMarshaller {
             definitions.setExtensionElements(jsiExtensionElements);
         }
 
+        //Index the existing elements by id, so merging each DRD does not require scanning them for every element
+        final Set<String> drgElementIds = getIds(definitions.getDrgElement());
+        final Set<String> artifactIds = getIds(definitions.getArtifact());
+
         final JsArrayLike<JSIDMNDiagram> dmnDiagrams = definitions.getDMNDI().getNativeDMNDiagram();
 
         for (int i = 0; i < dmnDiagrams.getLength(); i++) {
@@ -244,33 +250,25 @@ public class DMNMarshaller {
                     forEach(associations, association -> {
                         final JSITAssociation wrappedJSITAssociation = WrapperUtils.getWrappedJSITAssociation(Js.uncheckedCast(association));
                         definitions.addArtifact(wrappedJSITAssociation);
+                        artifactIds.add(association.getId());
                     });
                 }
                 connect(diagram, dmnDiagramElementIds, definitionsStunnerPojo, dmnEdges, node, view);
             }
 
             nodes.values().forEach(node -> {
-                addNodeToDefinitionsIfNotPresent(node, definitions);
+                addNodeToDefinitionsIfNotPresent(node, definitions, drgElementIds);
             });
 
             textAnnotations.values().forEach(text -> {
-                final boolean exists = anyMatch(definitions.getArtifact(),
-                                                artifact -> Objects.equals(artifact.getId(), text.getId()));
-                if (!exists) {
+                if (artifactIds.add(text.getId())) {
                     definitions.addArtifact(WrapperUtils.getWrappedJSITTextAnnotation(text));
                 }
             });
 
+            final Set<QName> dmnEdgeElementRefs = getDMNEdgeElementRefs(diagram);
             forEach(dmnEdges, dmnEdge -> {
-                final boolean exists = anyMatch(diagram.getDMNDiagramElement(),
-                                                diagramElement -> {
-                                                    if (JSIDMNEdge.instanceOf(diagramElement)) {
-                                                        final JSIDMNEdge jsidmnEdge = Js.uncheckedCast(diagramElement);
-                                                        return Objects.equals(jsidmnEdge.getDmnElementRef(), dmnEdge.getDmnElementRef());
-                                                    }
-                                                    return false;
-                                                });
-                if (!exists) {
+                if (dmnEdgeElementRefs.add(dmnEdge.getDmnElementRef())) {
                     diagram.addDMNDiagramElement(WrapperUtils.getWrappedJSIDMNEdge(Js.uncheckedCast(dmnEdge)));
                 }
             });
@@ -334,11 +332,10 @@ public class DMNMarshaller {
     }
 
     void addNodeToDefinitionsIfNotPresent(final JSITDRGElement node,
-                                          final JSITDefinitions definitions) {
-
-        final Optional<JSITDRGElement> existingNode = getExistingNode(definitions, node);
+                                          final JSITDefinitions definitions,
+                                          final Set<String> drgElementIds) {
 
-        if (!existingNode.isPresent()) {
+        if (drgElementIds.add(node.getId())) {
             addNodeToDefinitions(node, definitions);
         }
     }
@@ -424,6 +421,25 @@ public class DMNMarshaller {
         return Optional.ofNullable(value);
     }
 
+    <T extends JSITDMNElement> Set<String> getIds(final List<T> elements) {
+        final Set<String> ids = new HashSet<>();
+        forEach(elements,
+                element -> ids.add(element.getId()));
+        return ids;
+    }
+
+    Set<QName> getDMNEdgeElementRefs(final JSIDMNDiagram diagram) {
+        final Set<QName> dmnElementRefs = new HashSet<>();
+        forEach(diagram.getDMNDiagramElement(),
+                diagramElement -> {
+                    if (JSIDMNEdge.instanceOf(diagramElement)) {
+                        final JSIDMNEdge jsidmnEdge = Js.uncheckedCast(diagramElement);
+                        dmnElementRefs.add(jsidmnEdge.getDmnElementRef());
+                    }
+                });
+        return dmnElementRefs;
+    }
+
     private JSINodeLocalPartName getLocalPart(final JSITDRGElement node) {
         if (JSITBusinessKnowledgeModel.instanceOf(node)) {
             return JSINodeLocalPartName.BUSINESS_KNOWLEDGE_MODEL;
@@ -446,7 +462,7 @@ public class DMNMarshaller {
     }
 
     protected void connect(final JSIDMNDiagram diagram,
-                           final List<String> dmnDiagramElementIds,
+                           final Collection<String> dmnDiagramElementIds,
                            final Definitions definitionsStunnerPojo,
                            final List<JSIDMNEdge> dmnEdges,
                            final Node<?, ?> node,
@@ -39,6 +39,7 @@ import org.kie.workbench.common.dmn.api.definition.model.ItemDefinition;
 import org.kie.workbench.common.dmn.api.editors.included.PMMLDocumentMetadata;
 import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSession;
 import org.kie.workbench.common.dmn.client.docks.navigator.drds.DMNDiagramsSessionState;
+import org.kie.workbench.common.dmn.client.marshaller.DMNLoadMetricsListener;
 import org.kie.workbench.common.dmn.client.marshaller.common.DMNDiagramElementsUtils;
 import org.kie.workbench.common.dmn.client.marshaller.common.DMNGraphUtils;
 import org.kie.workbench.common.dmn.client.marshaller.converters.DefinitionsConverter;
@@ -85,6 +86,8 @@ public class DMNUnmarshaller {
 
     private final DMNDiagramsSession dmnDiagramsSession;
 
+    private DMNLoadMetricsListener loadMetricsListener = DMNLoadMetricsListener.NONE;
+
     public DMNUnmarshaller() {
         this(null, null, null, null, null, null);
     }
@@ -104,6 +107,10 @@ public class DMNUnmarshaller {
         this.dmnDiagramsSession = dmnDiagramsSession;
     }
 
+    public void setLoadMetricsListener(final DMNLoadMetricsListener loadMetricsListener) {
+        this.loadMetricsListener = loadMetricsListener;
+    }
+
     public Promise<Graph> unmarshall(final Metadata metadata,
                                      final JSITDefinitions jsiDefinitions) {
 
@@ -142,8 +149,9 @@ public class DMNUnmarshaller {
         ensureDRGElementExists(dmnDefinitions);
 
         final Definitions wbDefinitions = DefinitionsConverter.wbFromDMN(dmnDefinitions, importDefinitions, pmmlDocuments);
-        final List<NodeEntry> nodeEntries = modelToStunnerConverter.makeNodes(dmnDefinitions, importDefinitions, isDMNDIPresent, hasComponentWidthsConsumer);
+        final List<NodeEntry> nodeEntries = modelToStunnerConverter.makeNodes(dmnDefinitions, importDefinitions, isDMNDIPresent, hasComponentWidthsConsumer, loadMetricsListener);
         final List<JSITDecisionService> dmnDecisionServices = getDecisionServices(nodeEntries);
+        final long layoutStart = System.currentTimeMillis();
 
         //Ensure all locations are updated to relative for Stunner
         nodeEntries.forEach(e -> PointUtils.convertToRelativeBounds(e.getNode()));
@@ -182,6 +190,9 @@ public class DMNUnmarshaller {
             });
         }
 
+        loadMetricsListener.onPhaseCompleted(DMNLoadMetricsListener.Phase.LAYOUT,
+                                             System.currentTimeMillis() - layoutStart);
+
         //Only connect Nodes to the Diagram that are not referenced by DecisionServices
         final List<String> references = new ArrayList<>();
         final List<JSITDecisionService> lstDecisionServices = new ArrayList<>(dmnDecisionServices);
@@ -210,22 +221,21 @@ public class DMNUnmarshaller {
             //This condition is required because a node with ComponentsWidthsExtension
             //can be imported from another diagram but the extension is not imported or present in this diagram.
             if (Objects.nonNull(componentsWidthsExtension.getComponentWidths())) {
-                hasComponentWidthsMap.entrySet().forEach(es -> {
-                    final List<JSITComponentWidths> jsiComponentWidths = componentsWidthsExtension.getComponentWidths();
-                    for (int i = 0; i < jsiComponentWidths.size(); i++) {
-                        final JSITComponentWidths jsiWidths = Js.uncheckedCast(jsiComponentWidths.get(i));
-                        if (Objects.equals(jsiWidths.getDmnElementRef(), es.getKey())) {
-                            final List<Double> widths = es.getValue().getComponentWidths();
-                            if (Objects.nonNull(jsiWidths.getWidth())) {
-                                widths.clear();
-                                for (int w = 0; w < jsiWidths.getWidth().size(); w++) {
-                                    final double width = jsiWidths.getWidth().get(w).doubleValue();
-                                    widths.add(width);
-                                }
+                final List<JSITComponentWidths> jsiComponentWidths = componentsWidthsExtension.getComponentWidths();
+                for (int i = 0; i < jsiComponentWidths.size(); i++) {
+                    final JSITComponentWidths jsiWidths = Js.uncheckedCast(jsiComponentWidths.get(i));
+                    final HasComponentWidths hasComponentWidths = hasComponentWidthsMap.get(jsiWidths.getDmnElementRef());
+                    if (Objects.nonNull(hasComponentWidths)) {
+                        final List<Double> widths = hasComponentWidths.getComponentWidths();
+                        if (Objects.nonNull(jsiWidths.getWidth())) {
+                            widths.clear();
+                            for (int w = 0; w < jsiWidths.getWidth().size(); w++) {
+                                final double width = jsiWidths.getWidth().get(w).doubleValue();
+                                widths.add(width);
                             }
                         }
                     }
-                });
+                }
             }
         });
 
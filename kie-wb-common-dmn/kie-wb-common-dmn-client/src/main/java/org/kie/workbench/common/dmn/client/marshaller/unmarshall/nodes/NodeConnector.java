@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
+import javax.xml.namespace.QName;
 
 import com.ait.lienzo.client.core.types.Point2D;
 import jsinterop.base.Js;
@@ -99,6 +100,7 @@ public class NodeConnector {
                  final boolean isDMNDIPresent) {
 
         final Map<String, List<NodeEntry>> entriesById = makeNodeIndex(nodeEntries);
+        final Map<String, JSIDMNEdge> edgesByDMNElementRef = makeEdgeIndex(edges);
         final String diagramId = dmnDiagram.getId();
 
         for (final NodeEntry nodeEntry : nodeEntries) {
@@ -121,7 +123,7 @@ public class NodeConnector {
                                        ir.getRequiredInput(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                     connectEdgeToNodes(INFO_REQ_ID,
@@ -129,7 +131,7 @@ public class NodeConnector {
                                        ir.getRequiredDecision(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -141,7 +143,7 @@ public class NodeConnector {
                                        kr.getRequiredKnowledge(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -153,7 +155,7 @@ public class NodeConnector {
                                        ar.getRequiredAuthority(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -170,7 +172,7 @@ public class NodeConnector {
                                        kr.getRequiredKnowledge(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -182,7 +184,7 @@ public class NodeConnector {
                                        ar.getRequiredAuthority(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -199,7 +201,7 @@ public class NodeConnector {
                                        ar.getRequiredInput(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                     connectEdgeToNodes(AUTH_REQ_ID,
@@ -207,7 +209,7 @@ public class NodeConnector {
                                        ar.getRequiredDecision(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                     connectEdgeToNodes(AUTH_REQ_ID,
@@ -215,7 +217,7 @@ public class NodeConnector {
                                        ar.getRequiredAuthority(),
                                        entriesById,
                                        diagramId,
-                                       edges,
+                                       edgesByDMNElementRef,
                                        isDMNDIPresent,
                                        node);
                 }
@@ -286,27 +288,47 @@ public class NodeConnector {
 
         final JSIBounds decisionServiceBounds = decisionServiceEntry.getDmnShape().getBounds();
 
+        // Most of the references match the id of the element, so look it up before scanning all the entries
+        final Optional<Node> node = getInnerNode(decisionServiceBounds, entriesById.get(internalDMNElementId));
+        if (node.isPresent()) {
+            return node;
+        }
+
         for (final Map.Entry<String, List<NodeEntry>> entry : entriesById.entrySet()) {
 
             final String id = entry.getKey();
-            final List<NodeEntry> entries = entry.getValue();
 
-            if (id.contains(internalDMNElementId)) {
-                for (final NodeEntry nodeEntry : entries) {
-                    final JSIBounds nodeBounds = nodeEntry.getDmnShape().getBounds();
+            if (!Objects.equals(id, internalDMNElementId) && id.contains(internalDMNElementId)) {
+                final Optional<Node> innerNode = getInnerNode(decisionServiceBounds, entry.getValue());
+                if (innerNode.isPresent()) {
+                    return innerNode;
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Node> getInnerNode(final JSIBounds decisionServiceBounds,
+                                        final List<NodeEntry> entries) {
 
-                    final boolean b = (nodeBounds.getX() + nodeBounds.getWidth()) < (decisionServiceBounds.getX() + decisionServiceBounds.getWidth());
-                    final boolean b1 = nodeBounds.getX() > decisionServiceBounds.getX();
-                    final boolean innerX = b1 && b;
+        if (entries == null) {
+            return Optional.empty();
+        }
 
-                    final boolean b2 = (nodeBounds.getY() + nodeBounds.getHeight()) < (decisionServiceBounds.getY() + decisionServiceBounds.getHeight());
-                    final boolean b3 = nodeBounds.getY() > decisionServiceBounds.getY();
-                    final boolean innerY = b2 && b3;
+        for (final NodeEntry nodeEntry : entries) {
+            final JSIBounds nodeBounds = nodeEntry.getDmnShape().getBounds();
 
-                    if (innerX && innerY) {
-                        return Optional.of(nodeEntry.getNode());
-                    }
-                }
+            final boolean b = (nodeBounds.getX() + nodeBounds.getWidth()) < (decisionServiceBounds.getX() + decisionServiceBounds.getWidth());
+            final boolean b1 = nodeBounds.getX() > decisionServiceBounds.getX();
+            final boolean innerX = b1 && b;
+
+            final boolean b2 = (nodeBounds.getY() + nodeBounds.getHeight()) < (decisionServiceBounds.getY() + decisionServiceBounds.getHeight());
+            final boolean b3 = nodeBounds.getY() > decisionServiceBounds.getY();
+            final boolean innerY = b2 && b3;
+
+            if (innerX && innerY) {
+                return Optional.of(nodeEntry.getNode());
             }
         }
 
@@ -326,6 +348,25 @@ public class NodeConnector {
         return map;
     }
 
+    /**
+     * Indexes the DMNDI edges by the id of the DMN element they represent. When several edges refer to the
+     * same element, the first one is kept.
+     */
+    Map<String, JSIDMNEdge> makeEdgeIndex(final List<JSIDMNEdge> edges) {
+
+        final Map<String, JSIDMNEdge> map = new HashMap<>();
+
+        for (int i = 0; i < edges.size(); i++) {
+            final JSIDMNEdge edge = Js.uncheckedCast(edges.get(i));
+            final QName dmnElementRef = edge.getDmnElementRef();
+            if (dmnElementRef != null) {
+                map.putIfAbsent(dmnElementRef.getLocalPart(), edge);
+            }
+        }
+
+        return map;
+    }
+
     /**
      * Stunner's factoryManager is only used to create Nodes that are considered part of a "Definition Set" (a collection of nodes visible to the User e.g. BPMN2 StartNode, EndNode and DMN's DecisionNode etc).
      * Relationships are not created with the factory.
@@ -356,7 +397,7 @@ public class NodeConnector {
                             final JSITDMNElementReference jsiDMNElementReference,
                             final Map<String, List<NodeEntry>> entriesById,
                             final String diagramId,
-                            final List<JSIDMNEdge> edges,
+                            final Map<String, JSIDMNEdge> edgesByDMNElementRef,
                             final boolean isDMNDIPresent,
                             final Node currentNode) {
 
@@ -367,7 +408,7 @@ public class NodeConnector {
             return;
         }
 
-        final Optional<JSIDMNEdge> existingEdge = findExistingEdge(jsiDMNElement, edges);
+        final Optional<JSIDMNEdge> existingEdge = findExistingEdge(jsiDMNElement, edgesByDMNElementRef);
 
         if (!isDMNDIPresent) {
             // Generate new a edge and connect it
@@ -413,10 +454,8 @@ public class NodeConnector {
     }
 
     private Optional<JSIDMNEdge> findExistingEdge(final JSITDMNElement dmnElement,
-                                                  final List<JSIDMNEdge> edges) {
-        return edges.stream()
-                .filter(e -> Objects.equals(e.getDmnElementRef().getLocalPart(), dmnElement.getId()))
-                .findFirst();
+                                                  final Map<String, JSIDMNEdge> edgesByDMNElementRef) {
+        return Optional.ofNullable(edgesByDMNElementRef.get(dmnElement.getId()));
     }
 
     void connectWbEdge(final String connectorTypeId,
@@ -20,15 +20,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
 import jsinterop.base.Js;
 import org.kie.workbench.common.dmn.api.definition.HasComponentWidths;
+import org.kie.workbench.common.dmn.client.marshaller.DMNLoadMetricsListener;
 import org.kie.workbench.common.dmn.client.marshaller.included.DMNMarshallerImportsClientHelper;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.di.JSIDiagramElement;
 import org.kie.workbench.common.dmn.webapp.kogito.marshaller.js.model.dmn12.JSITArtifact;
@@ -66,7 +65,20 @@ public class NodeEntriesFactory {
                                      final Map<JSITImport, JSITDefinitions> importDefinitions,
                                      final boolean isDMNDIPresent,
                                      final BiConsumer<String, HasComponentWidths> componentWidthsConsumer) {
+        return makeNodes(definitions,
+                         importDefinitions,
+                         isDMNDIPresent,
+                         componentWidthsConsumer,
+                         DMNLoadMetricsListener.NONE);
+    }
+
+    public List<NodeEntry> makeNodes(final JSITDefinitions definitions,
+                                     final Map<JSITImport, JSITDefinitions> importDefinitions,
+                                     final boolean isDMNDIPresent,
+                                     final BiConsumer<String, HasComponentWidths> componentWidthsConsumer,
+                                     final DMNLoadMetricsListener loadMetricsListener) {
 
+        final long nodeCreationStart = System.currentTimeMillis();
         final List<JSIDMNDiagram> dmnDiagrams = definitions.getDMNDI().getDMNDiagram();
         final List<NodeEntry> nodeEntries = entriesBuilder()
                 .withShapesByDiagramId(getShapesByDiagramId(definitions))
@@ -89,19 +101,27 @@ public class NodeEntriesFactory {
             return 0;
         });
 
+        final long connectionStart = System.currentTimeMillis();
+        loadMetricsListener.onPhaseCompleted(DMNLoadMetricsListener.Phase.NODE_CREATION,
+                                             connectionStart - nodeCreationStart);
+
+        final List<JSITAssociation> associations = getAssociations(definitions);
+        final Map<String, List<NodeEntry>> nodeEntriesByDiagramId = new HashMap<>();
+        nodeEntries.forEach(nodeEntry -> nodeEntriesByDiagramId.computeIfAbsent(nodeEntry.getDiagramId(),
+                                                                                id -> new ArrayList<>()).add(nodeEntry));
+
         forEach(dmnDiagrams, dmnDiagram -> {
 
             final String diagramId = dmnDiagram.getId();
             final List<JSIDMNEdge> edges = getEdges(dmnDiagram);
-            final List<JSITAssociation> associations = getAssociations(definitions);
-            final List<NodeEntry> nodes = nodeEntries
-                    .stream()
-                    .filter(n -> Objects.equals(n.getDiagramId(), diagramId))
-                    .collect(Collectors.toList());
+            final List<NodeEntry> nodes = nodeEntriesByDiagramId.getOrDefault(diagramId, new ArrayList<>());
 
             nodeConnector.connect(dmnDiagram, edges, associations, nodes, isDMNDIPresent);
         });
 
+        loadMetricsListener.onPhaseCompleted(DMNLoadMetricsListener.Phase.CONNECTION,
+                                             System.currentTimeMillis() - connectionStart);
+
         return nodeEntries;
     }
 
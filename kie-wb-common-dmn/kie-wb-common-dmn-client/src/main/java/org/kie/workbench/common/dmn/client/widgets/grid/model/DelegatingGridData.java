@@ -24,6 +24,7 @@ import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridRowOffsetIndex;
 
 /**
  * A convenience class to support intercepting GridData mutations and defer to Commands.
@@ -284,4 +285,9 @@ public class DelegatingGridData implements GridData {
     public int getVisibleHeight() {
         return delegate.getVisibleHeight();
     }
+
+    @Override
+    public GridRowOffsetIndex getRowOffsetIndex() {
+        return delegate.getRowOffsetIndex();
+    }
 }
@@ -62,4 +62,10 @@ public class ExpressionEditorGridRow extends BaseGridRow {
 
         return height;
     }
+
+    @Override
+    public boolean isHeightNotified() {
+        //The height is computed from the cells on demand
+        return false;
+    }
 }
@@ -36,4 +36,10 @@ public class LiteralExpressionGridRow extends BaseGridRow {
         }
         return height;
     }
+
+    @Override
+    public boolean isHeightNotified() {
+        //The height is computed from the cells on demand
+        return false;
+    }
 }
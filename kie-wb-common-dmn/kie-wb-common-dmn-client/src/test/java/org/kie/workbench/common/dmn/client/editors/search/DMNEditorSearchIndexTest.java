@@ -23,16 +23,22 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.dmn.client.editors.expressions.ExpressionEditor;
+import org.kie.workbench.common.dmn.client.editors.types.DataTypeChangedEvent;
 import org.kie.workbench.common.dmn.client.session.DMNSession;
 import org.kie.workbench.common.stunner.core.client.api.SessionManager;
+import org.kie.workbench.common.stunner.core.client.canvas.event.command.CanvasCommandExecutedEvent;
 import org.mockito.Mock;
 import org.uberfire.mvp.Command;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -144,6 +150,50 @@ public class DMNEditorSearchIndexTest {
         verify(graphSubIndex).onSearchClosed();
     }
 
+    @Test
+    public void testSearchWhenExpressionEditorIsActive() {
+
+        when(expressionEditor.isActive()).thenReturn(true);
+        when(gridSubIndex.search("value")).thenReturn(asList(makeElement(), makeElement()));
+
+        searchIndex.search("value");
+
+        assertEquals(2, searchIndex.getTotalOfResultsNumber());
+        verify(graphSubIndex, never()).search(anyString());
+    }
+
+    @Test
+    public void testIsDirtyWhenSearchContextChanges() {
+
+        when(expressionEditor.isActive()).thenReturn(false);
+        when(graphSubIndex.search("value")).thenReturn(asList(makeElement()));
+        searchIndex.search("value");
+
+        assertFalse(searchIndex.isDirty());
+
+        when(expressionEditor.isActive()).thenReturn(true);
+
+        assertTrue(searchIndex.isDirty());
+    }
+
+    @Test
+    public void testOnCanvasCommandExecuted() {
+
+        searchIndex.onCanvasCommandExecuted(new CanvasCommandExecutedEvent<>(null, null, null));
+
+        assertTrue(searchIndex.isDirty());
+        verify(gridSubIndex).invalidate();
+    }
+
+    @Test
+    public void testOnDataTypeChanged() {
+
+        searchIndex.onDataTypeChanged(new DataTypeChangedEvent());
+
+        assertTrue(searchIndex.isDirty());
+        verify(gridSubIndex).invalidate();
+    }
+
     @Test
     public void testGetSearchableElementsWhenDataTypesTabIsActive() {
 
@@ -193,4 +243,10 @@ public class DMNEditorSearchIndexTest {
 
         assertEquals(expectedElements, actualElements);
     }
+
+    private DMNSearchableElement makeElement() {
+        final DMNSearchableElement element = new DMNSearchableElement();
+        element.setOnFound(() -> {/* Nothing. */});
+        return element;
+    }
 }
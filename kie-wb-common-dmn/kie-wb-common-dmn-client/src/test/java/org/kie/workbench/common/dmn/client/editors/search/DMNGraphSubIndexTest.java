@@ -31,6 +31,10 @@ import org.kie.workbench.common.dmn.api.property.dmn.Name;
 import org.kie.workbench.common.dmn.api.property.dmn.Text;
 import org.kie.workbench.common.dmn.client.graph.DMNGraphUtils;
 import org.kie.workbench.common.stunner.core.client.canvas.CanvasHandler;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementAddedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementRemovedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementUpdatedEvent;
+import org.kie.workbench.common.stunner.core.client.canvas.event.registration.CanvasElementsClearEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasClearSelectionEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasFocusedShapeEvent;
 import org.kie.workbench.common.stunner.core.client.canvas.event.selection.CanvasSelectionEvent;
@@ -42,6 +46,7 @@ import org.uberfire.mocks.EventSourceMock;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -203,6 +208,80 @@ public class DMNGraphSubIndexTest {
         verify(canvasFocusedSelectionEvent, times(5)).fire(any(CanvasFocusedShapeEvent.class));
     }
 
+    @Test
+    public void testSearch() {
+
+        final List<DMNSearchableElement> elements = index.search("element");
+
+        assertEquals(3, elements.size());
+        assertEquals(drgElement1String, elements.get(0).getText());
+        assertEquals(drgElement2String, elements.get(1).getText());
+        assertEquals(drgElement3String, elements.get(2).getText());
+    }
+
+    @Test
+    public void testOnCanvasElementUpdated() {
+
+        index.search("element");
+        when(drgElement2.getName()).thenReturn(new Name("Renamed"));
+
+        index.onCanvasElementUpdated(new CanvasElementUpdatedEvent(canvasHandler, node2));
+
+        final List<DMNSearchableElement> elements = index.search("element");
+        assertEquals(2, elements.size());
+        assertEquals(drgElement1String, elements.get(0).getText());
+        assertEquals(drgElement3String, elements.get(1).getText());
+        assertEquals("Renamed", index.search("renamed").get(0).getText());
+        verify(graphUtils, times(1)).getNodeStream();
+    }
+
+    @Test
+    public void testOnCanvasElementAdded() {
+
+        index.search("element");
+        when(node6.getContent()).thenReturn(definition1);
+
+        index.onCanvasElementAdded(new CanvasElementAddedEvent(canvasHandler, node6));
+
+        assertEquals(4, index.search("element").size());
+        assertEquals(6, index.getSearchableElements().size());
+    }
+
+    @Test
+    public void testOnCanvasElementRemoved() {
+
+        index.search("element");
+
+        index.onCanvasElementRemoved(new CanvasElementRemovedEvent(canvasHandler, node1));
+
+        final List<DMNSearchableElement> elements = index.search("element");
+        assertEquals(2, elements.size());
+        assertEquals(drgElement2String, elements.get(0).getText());
+        assertEquals(drgElement3String, elements.get(1).getText());
+    }
+
+    @Test
+    public void testOnCanvasElementRemovedFromAnotherCanvas() {
+
+        index.search("element");
+
+        index.onCanvasElementRemoved(new CanvasElementRemovedEvent(mock(CanvasHandler.class), node1));
+
+        assertEquals(3, index.search("element").size());
+    }
+
+    @Test
+    public void testOnCanvasElementsClear() {
+
+        index.search("element");
+        when(graphUtils.getNodeStream()).thenReturn(Stream.of(node1));
+
+        index.onCanvasElementsClear(new CanvasElementsClearEvent(canvasHandler));
+
+        assertEquals(1, index.search("element").size());
+        verify(graphUtils, times(2)).getNodeStream();
+    }
+
     @Test
     public void testOnNoResultsFound() {
 
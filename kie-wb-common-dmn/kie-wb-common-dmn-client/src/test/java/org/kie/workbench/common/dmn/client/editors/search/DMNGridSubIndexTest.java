@@ -38,6 +38,7 @@ import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -226,6 +227,36 @@ public class DMNGridSubIndexTest {
         verify(dmnGridHelper).highlightCell(1, 0, gridWidget3);
     }
 
+    @Test
+    public void testSearch() {
+
+        final List<DMNSearchableElement> elements = index.search("VALUE 3");
+
+        assertEquals(1, elements.size());
+        assertEquals(cellStringValue3, elements.get(0).getText());
+    }
+
+    @Test
+    public void testGetSearchableElementsWhenItIsNotInvalidated() {
+
+        index.getSearchableElements();
+        index.search("value");
+
+        verify(dmnGridHelper, times(1)).getGridWidgets();
+    }
+
+    @Test
+    public void testGetSearchableElementsWhenItIsInvalidated() {
+
+        index.getSearchableElements();
+        when(cellValue1.getValue()).thenReturn("Updated value");
+
+        index.invalidate();
+
+        assertEquals(1, index.search("updated").size());
+        verify(dmnGridHelper, times(2)).getGridWidgets();
+    }
+
     @Test
     public void testGetValue() {
 
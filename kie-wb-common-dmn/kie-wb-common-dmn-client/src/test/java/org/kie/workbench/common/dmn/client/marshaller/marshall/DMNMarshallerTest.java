@@ -17,8 +17,10 @@
 package org.kie.workbench.common.dmn.client.marshaller.marshall;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.junit.Test;
@@ -51,6 +53,7 @@ import org.mockito.invocation.InvocationOnMock;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -338,32 +341,47 @@ public class DMNMarshallerTest {
     public void testAddNodeToDefinitionsIfNotPresentWhenNodeIsPresent() {
 
         final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
-        final Optional<JSITDRGElement> existingNode = Optional.of(mock(JSITDRGElement.class));
         final JSITDefinitions definitions = mock(JSITDefinitions.class);
-        final JSITDRGElement node = mock(JSITDRGElement.class);
+        final JSITDRGElement node = makeDecision("id1");
+        final Set<String> drgElementIds = new HashSet<>(asList("id1", "id2"));
 
-        doReturn(existingNode).when(dmnMarshaller).getExistingNode(definitions, node);
-        doNothing().when(dmnMarshaller).addNodeToDefinitions(node, definitions);
-
-        dmnMarshaller.addNodeToDefinitionsIfNotPresent(node, definitions);
+        dmnMarshaller.addNodeToDefinitionsIfNotPresent(node, definitions, drgElementIds);
 
         verify(dmnMarshaller, never()).addNodeToDefinitions(node, definitions);
+        verify(dmnMarshaller, never()).getExistingNode(definitions, node);
     }
 
     @Test
     public void testAddNodeToDefinitionsIfNotPresentWhenNodeIsNotPresent() {
 
         final DMNMarshaller dmnMarshaller = spy(new DMNMarshaller());
-        final Optional<JSITDRGElement> existingNode = Optional.empty();
         final JSITDefinitions definitions = mock(JSITDefinitions.class);
-        final JSITDRGElement node = mock(JSITDRGElement.class);
+        final JSITDRGElement node = makeDecision("id3");
+        final Set<String> drgElementIds = new HashSet<>(asList("id1", "id2"));
 
-        doReturn(existingNode).when(dmnMarshaller).getExistingNode(definitions, node);
         doNothing().when(dmnMarshaller).addNodeToDefinitions(node, definitions);
 
-        dmnMarshaller.addNodeToDefinitionsIfNotPresent(node, definitions);
+        dmnMarshaller.addNodeToDefinitionsIfNotPresent(node, definitions, drgElementIds);
+        dmnMarshaller.addNodeToDefinitionsIfNotPresent(node, definitions, drgElementIds);
 
         verify(dmnMarshaller).addNodeToDefinitions(node, definitions);
+        assertTrue(drgElementIds.contains("id3"));
+    }
+
+    @Test
+    public void testGetIds() {
+
+        final DMNMarshaller dmnMarshaller = new DMNMarshaller();
+        final List<JSITDRGElement> drgElements = new ArrayList<>(asList(makeDecision("id1"),
+                                                                        makeBusinessKnowledgeModel("id2"),
+                                                                        makeKnowledgeSource("id1")));
+
+        final Set<String> ids = dmnMarshaller.getIds(drgElements);
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains("id1"));
+        assertTrue(ids.contains("id2"));
+        assertFalse(ids.contains("id3"));
     }
 
     private JSITDecision makeDecision(final String id) {
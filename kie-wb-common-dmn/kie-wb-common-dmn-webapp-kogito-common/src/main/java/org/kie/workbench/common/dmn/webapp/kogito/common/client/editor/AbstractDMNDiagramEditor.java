@@ -190,7 +190,6 @@ public abstract class AbstractDMNDiagramEditor extends MultiPageEditorContainerP
     }
 
     private void setupEditorSearchIndex() {
-        editorSearchIndex.setCurrentAssetHashcodeSupplier(stunnerEditor::getCurrentContentHash);
         editorSearchIndex.setIsDataTypesTabActiveSupplier(getIsDataTypesTabActiveSupplier());
     }
 
@@ -36,12 +36,18 @@ import org.kie.workbench.common.stunner.core.diagram.DiagramParsingException;
 import org.kie.workbench.common.stunner.core.diagram.Metadata;
 import org.kie.workbench.common.stunner.core.diagram.MetadataImpl;
 import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
 import org.kie.workbench.common.widgets.client.errorpage.ErrorPage;
 import org.mockito.Mock;
 import org.uberfire.stubs.ManagedInstanceStub;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -158,6 +164,26 @@ public class StunnerEditorTest {
         assertNull(tested.getPresenter());
     }
 
+    @Test
+    @SuppressWarnings("all")
+    public void testContentHashWhenChangedOutsideCommands() {
+        openSuccess();
+        GraphImpl graph = GraphImpl.build("graph");
+        NodeImpl<View<String>> node = new NodeImpl<>("node");
+        node.setContent(new ViewImpl<>("definition",
+                                       Bounds.create(0, 0, 10, 10)));
+        graph.addNode(node);
+        diagram.setGraph(graph);
+        int hash = tested.getCurrentContentHash();
+        // The graph version is not incremented, as no graph command is being executed.
+        node.getContent().setBounds(Bounds.create(5, 5, 15, 15));
+        assertNotEquals(hash,
+                        tested.getCurrentContentHash());
+        node.getContent().setBounds(Bounds.create(0, 0, 10, 10));
+        assertEquals(hash,
+                     tested.getCurrentContentHash());
+    }
+
     @Test
     @SuppressWarnings("all")
     public void testHandleParsingError() {
@@ -21,4 +21,10 @@ public interface BindableAdapterFunctions {
     Object getValue(Object pojo, String fieldName);
 
     void setValue(Object pojo, String field, Object value);
+
+    /**
+     * Registers the direct accessors for the fields of the given type, if the implementation can make use of them.
+     */
+    default void addFieldAccessors(Class<?> type, BindableFieldAccessors accessors) {
+    }
 }
@@ -17,7 +17,9 @@
 package org.kie.workbench.common.stunner.core.definition.adapter.binding;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class DefinitionAdapterBindings {
@@ -30,8 +32,10 @@ public class DefinitionAdapterBindings {
     private String categoryField;
     private String descriptionField;
     private List<String> propertiesFieldNames;
+    private Map<String, Integer> propertiesFieldIndexes;
     private List<Boolean> typedPropertyFields;
     private PropertyMetaTypes metaTypes;
+    private BindableFieldAccessors fieldAccessors;
 
     public DefinitionAdapterBindings() {
         this.baseType = Object.class;
@@ -115,9 +119,24 @@ public class DefinitionAdapterBindings {
 
     public DefinitionAdapterBindings setPropertiesFieldNames(List<String> propertiesFieldNames) {
         this.propertiesFieldNames = propertiesFieldNames;
+        this.propertiesFieldIndexes = null;
         return this;
     }
 
+    public int getPropertyFieldIndex(String field) {
+        if (null == propertiesFieldNames) {
+            return -1;
+        }
+        if (null == propertiesFieldIndexes) {
+            propertiesFieldIndexes = new HashMap<>(propertiesFieldNames.size());
+            for (int i = propertiesFieldNames.size() - 1; i >= 0; i--) {
+                propertiesFieldIndexes.put(propertiesFieldNames.get(i), i);
+            }
+        }
+        final Integer index = propertiesFieldIndexes.get(field);
+        return null != index ? index : -1;
+    }
+
     public List<Boolean> getTypedPropertyFields() {
         return typedPropertyFields;
     }
@@ -127,6 +146,15 @@ public class DefinitionAdapterBindings {
         return this;
     }
 
+    public BindableFieldAccessors getFieldAccessors() {
+        return fieldAccessors;
+    }
+
+    public DefinitionAdapterBindings setFieldAccessors(BindableFieldAccessors fieldAccessors) {
+        this.fieldAccessors = fieldAccessors;
+        return this;
+    }
+
     public static class PropertyMetaTypes {
 
         private static final int NAME = 0;
@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
@@ -42,6 +45,28 @@ public interface GraphEvaluationState {
     interface CardinalityState {
 
         Iterable<Node> nodes();
+
+        /**
+         * Returns the number of nodes for each of the given roles.
+         * Roles not present in any node are not included in the resulting map.
+         */
+        @SuppressWarnings("unchecked")
+        default Map<String, Integer> countLabels(final Set<String> roleFilter) {
+            final Map<String, Integer> result = new HashMap<>();
+            for (final Node node : nodes()) {
+                final Set<String> labels = node.getLabels();
+                if (null != labels) {
+                    for (final String label : labels) {
+                        if (null == roleFilter || roleFilter.contains(label)) {
+                            final Integer count = result.get(label);
+                            result.put(label,
+                                       null != count ? count + 1 : 1);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
     }
 
     interface ConnectorCardinalityState {
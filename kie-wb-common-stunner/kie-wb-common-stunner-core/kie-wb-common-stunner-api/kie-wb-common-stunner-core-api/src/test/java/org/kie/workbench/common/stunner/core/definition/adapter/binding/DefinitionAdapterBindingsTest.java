@@ -23,6 +23,8 @@ import org.kie.workbench.common.stunner.core.definition.property.PropertyMetaTyp
 import org.kie.workbench.common.stunner.core.factory.graph.NodeFactory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class DefinitionAdapterBindingsTest {
 
@@ -52,6 +54,35 @@ public class DefinitionAdapterBindingsTest {
         assertEquals(metaTypes, bindings.getMetaTypes());
     }
 
+    @Test
+    public void testPropertyFieldIndex() {
+        DefinitionAdapterBindings bindings = new DefinitionAdapterBindings();
+        assertEquals(-1, bindings.getPropertyFieldIndex("p1"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p1", "p2", "p3"));
+        assertEquals(0, bindings.getPropertyFieldIndex("p1"));
+        assertEquals(2, bindings.getPropertyFieldIndex("p3"));
+        assertEquals(-1, bindings.getPropertyFieldIndex("p4"));
+        bindings.setPropertiesFieldNames(Arrays.asList("p3", "p1"));
+        assertEquals(0, bindings.getPropertyFieldIndex("p3"));
+        assertEquals(-1, bindings.getPropertyFieldIndex("p2"));
+    }
+
+    @Test
+    public void testFieldAccessors() {
+        StringBuilder pojo = new StringBuilder("value");
+        BindableFieldAccessors accessors = new BindableFieldAccessors()
+                .addField("text", Object::toString, (p, v) -> ((StringBuilder) p).append(v))
+                .addField("length", p -> ((StringBuilder) p).length(), null);
+        DefinitionAdapterBindings bindings = new DefinitionAdapterBindings().setFieldAccessors(accessors);
+        assertEquals(accessors, bindings.getFieldAccessors());
+        assertEquals("value", accessors.getGetter("text").apply(pojo));
+        accessors.getSetter("text").accept(pojo, "2");
+        assertEquals(6, accessors.getGetter("length").apply(pojo));
+        assertNull(accessors.getSetter("length"));
+        assertNull(accessors.getGetter("other"));
+        assertTrue(new BindableFieldAccessors().isEmpty());
+    }
+
     @Test
     public void testMetaTypes() {
         DefinitionAdapterBindings.PropertyMetaTypes metaTypes = new DefinitionAdapterBindings.PropertyMetaTypes();
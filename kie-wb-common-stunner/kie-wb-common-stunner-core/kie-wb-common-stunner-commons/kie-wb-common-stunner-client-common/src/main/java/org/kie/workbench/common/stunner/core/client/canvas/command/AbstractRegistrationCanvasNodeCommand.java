@@ -57,6 +57,8 @@ public abstract class AbstractRegistrationCanvasNodeCommand extends AbstractCanv
                                              location.getY(),
                                              location.getX() + boundingBox.getWidth(),
                                              location.getY() + boundingBox.getHeight()));
+            GraphUtils.updateBounds(context.getDiagram().getGraph(),
+                                    candidate);
         }
     }
 
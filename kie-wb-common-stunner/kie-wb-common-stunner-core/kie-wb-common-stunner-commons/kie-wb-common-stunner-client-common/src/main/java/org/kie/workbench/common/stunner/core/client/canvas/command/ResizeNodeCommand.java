@@ -149,6 +149,8 @@ public class ResizeNodeCommand extends AbstractCanvasCompositeCommand {
                                                    current.getY() + height);
 
             candidate.getContent().setBounds(newBounds);
+            GraphUtils.updateBounds(context.getDiagram().getGraph(),
+                                    candidate);
             final ShapeView shapeView = getShape(context, candidate.getUUID()).getShapeView();
             ShapeUtils.setSizeFromBoundingBox(shapeView, width, height);
             onResize.accept(getShape(context, candidate.getUUID()));
@@ -28,6 +28,7 @@ import org.kie.workbench.common.stunner.core.graph.content.HasBounds;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.Layout;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.LayoutExecutor;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.LayoutService;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
 @Default
 public class LayoutHelper {
@@ -58,6 +59,7 @@ public class LayoutHelper {
                     }
                 }
             }
+            GraphUtils.resetBounds(graph);
         }
     }
 
@@ -16,20 +16,57 @@
 
 package org.kie.workbench.common.stunner.core.client.definition.adapter.binding;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import javax.enterprise.context.ApplicationScoped;
 
 import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableAdapterFunctions;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableFieldAccessors;
 
+/**
+ * Reads and writes the bound fields using the generated accessors, when present for the given type and field.
+ * Otherwise it falls back to the data binding proxies, which are quite more expensive as a new proxy
+ * is looked up for each access.
+ */
 @ApplicationScoped
 public class ClientBindableAdapterFunctions implements BindableAdapterFunctions {
 
+    private final Map<Class<?>, BindableFieldAccessors> accessors = new HashMap<>();
+
     @Override
     public Object getValue(Object pojo, String fieldName) {
+        final Function<Object, Object> getter = null != pojo ? getGetter(pojo.getClass(), fieldName) : null;
+        if (null != getter) {
+            return getter.apply(pojo);
+        }
         return ClientBindingUtils.getProxiedValue(pojo, fieldName);
     }
 
     @Override
     public void setValue(Object pojo, String field, Object value) {
-        ClientBindingUtils.setProxiedValue(pojo, field, value);
+        final BiConsumer<Object, Object> setter = null != pojo ? getSetter(pojo.getClass(), field) : null;
+        if (null != setter) {
+            setter.accept(pojo, value);
+        } else {
+            ClientBindingUtils.setProxiedValue(pojo, field, value);
+        }
+    }
+
+    @Override
+    public void addFieldAccessors(Class<?> type, BindableFieldAccessors accessors) {
+        this.accessors.put(type, accessors);
+    }
+
+    private Function<Object, Object> getGetter(Class<?> type, String field) {
+        final BindableFieldAccessors typeAccessors = accessors.get(type);
+        return null != typeAccessors && null != field ? typeAccessors.getGetter(field) : null;
+    }
+
+    private BiConsumer<Object, Object> getSetter(Class<?> type, String field) {
+        final BindableFieldAccessors typeAccessors = accessors.get(type);
+        return null != typeAccessors && null != field ? typeAccessors.getSetter(field) : null;
     }
 }
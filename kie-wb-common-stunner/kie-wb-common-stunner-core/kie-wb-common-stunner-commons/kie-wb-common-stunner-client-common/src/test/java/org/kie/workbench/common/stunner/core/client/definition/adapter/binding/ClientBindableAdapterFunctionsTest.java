@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.client.definition.adapter.binding;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.definition.adapter.binding.BindableFieldAccessors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ClientBindableAdapterFunctionsTest {
+
+    private ClientBindableAdapterFunctions tested;
+
+    @Before
+    public void setUp() {
+        tested = new ClientBindableAdapterFunctions();
+        tested.addFieldAccessors(SomeBean.class,
+                                 new BindableFieldAccessors()
+                                         .addField("name",
+                                                   pojo -> ((SomeBean) pojo).getName(),
+                                                   (pojo, value) -> ((SomeBean) pojo).setName((String) value)));
+    }
+
+    @Test
+    public void testGetValue() {
+        SomeBean bean = new SomeBean();
+        bean.setName("name1");
+        assertEquals("name1", tested.getValue(bean, "name"));
+    }
+
+    @Test
+    public void testSetValue() {
+        SomeBean bean = new SomeBean();
+        tested.setValue(bean, "name", "name2");
+        assertEquals("name2", bean.getName());
+    }
+
+    @Test
+    public void testGetValueForNullPojo() {
+        assertNull(tested.getValue(null, "name"));
+    }
+
+    public static class SomeBean {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -56,6 +56,10 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
     @Override
     public void addBindings(Class<?> type, DefinitionAdapterBindings bindings) {
         this.bindings.put(type, bindings);
+        final BindableFieldAccessors accessors = bindings.getFieldAccessors();
+        if (null != accessors && !accessors.isEmpty()) {
+            functions.addFieldAccessors(type, accessors);
+        }
     }
 
     @Override
@@ -119,7 +123,7 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
     @Override
     public Optional<?> getProperty(T pojo, String field) {
         DefinitionAdapterBindings b = bindings.get(pojo.getClass());
-        final int index = b.getPropertiesFieldNames().indexOf(field);
+        final int index = b.getPropertyFieldIndex(field);
         if (index > -1) {
             final Boolean isTyped = b.getTypedPropertyFields().get(index);
             return isTyped ?
@@ -132,8 +136,9 @@ public class BindableDefinitionAdapterImpl<T> implements BindableDefinitionAdapt
 
     @Override
     public String getMetaPropertyField(T pojo, PropertyMetaTypes type) {
-        final int index = bindings.get(pojo.getClass()).getMetaTypes().getIndex(type);
-        return index > -1 ? getPropertyFields(pojo)[index] : null;
+        final DefinitionAdapterBindings b = bindings.get(pojo.getClass());
+        final int index = b.getMetaTypes().getIndex(type);
+        return index > -1 ? b.getPropertiesFieldNames().get(index) : null;
     }
 
     @Override
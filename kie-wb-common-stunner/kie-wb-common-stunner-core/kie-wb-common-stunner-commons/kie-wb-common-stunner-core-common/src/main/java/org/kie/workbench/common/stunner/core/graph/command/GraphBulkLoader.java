@@ -0,0 +1,294 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.command;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.kie.workbench.common.stunner.core.command.CommandResult;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Element;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.impl.UpdateElementPositionCommand;
+import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
+import org.kie.workbench.common.stunner.core.graph.content.relationship.Dock;
+import org.kie.workbench.common.stunner.core.graph.content.view.Connection;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.MutableIndex;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.rule.RuleSet;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.rule.context.EdgeCardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.GraphEvaluationContext;
+import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder;
+import org.kie.workbench.common.stunner.core.rule.violations.DockingRuleViolation;
+import org.kie.workbench.common.stunner.core.util.UUID;
+
+import static org.kie.workbench.common.stunner.core.graph.util.ControlPointValidations.isControlPointInvalid;
+
+/**
+ * Loads nodes and edges into a graph without going through the graph commands.
+ * <p>
+ * Each operation applies the same changes as the matching command (e.g. {@code AddNodeCommand},
+ * {@code AddChildNodeCommand}, {@code AddDockedNodeCommand}, {@code UpdateElementPositionCommand},
+ * {@code AddConnectorCommand}, {@code AddControlPointCommand} or {@code SetConnectionTargetNodeCommand}),
+ * directly on the graph's node store, on the context's index and on the nodes' adjacency lists.
+ * <p>
+ * The rules the commands would check on each step are recorded instead, and evaluated at once
+ * on {@link #complete()}, against the loaded graph. The cardinality rules are evaluated on the element
+ * and edge counts of the loaded graph, as they already include the loaded elements. As opposed to the
+ * commands, an operation is not reverted when it breaks a rule, so it's meant for graphs that are expected
+ * to be valid, like the ones being unmarshalled.
+ */
+public class GraphBulkLoader {
+
+    private final GraphCommandExecutionContext context;
+    private final Graph<?, Node> graph;
+    private final MutableIndex<Node, Edge> index;
+    private final List<Function<RuleEvaluationContextBuilder.GraphContextBuilder, GraphEvaluationContext>> evaluations;
+    private final List<Edge<? extends View<?>, Node>> connectors;
+    private final List<RuleViolation> violations;
+
+    @SuppressWarnings("unchecked")
+    public GraphBulkLoader(final GraphCommandExecutionContext context) {
+        this.context = context;
+        this.graph = (Graph<?, Node>) context.getGraphIndex().getGraph();
+        this.index = (MutableIndex<Node, Edge>) context.getGraphIndex();
+        this.evaluations = new ArrayList<>();
+        this.connectors = new ArrayList<>();
+        this.violations = new ArrayList<>();
+    }
+
+    /**
+     * Removes all the nodes from the graph, and all the elements from the index.
+     */
+    public GraphBulkLoader clear() {
+        graph.clear();
+        index.clear();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public GraphBulkLoader addNode(final Node node) {
+        registerNode(node);
+        evaluations.add(builder -> builder.containment((Element) graph,
+                                                       node));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public GraphBulkLoader addChildNode(final Node<?, Edge> parent,
+                                        final Node<?, Edge> candidate) {
+        registerNode(candidate);
+        addRelationship(parent,
+                        candidate,
+                        new Child());
+        evaluations.add(builder -> builder.containment((Element) parent,
+                                                       (Node) candidate));
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public GraphBulkLoader addDockedNode(final Node<?, Edge> parent,
+                                         final Node<?, Edge> candidate) {
+        // Same structural check as for the docking command, the candidate cannot have connections yet.
+        if (GraphUtils.hasTargetConnections((Node) candidate)) {
+            violations.add(new DockingRuleViolation(parent.getUUID(),
+                                                    candidate.getUUID()));
+            return this;
+        }
+        registerNode(candidate);
+        addRelationship(parent,
+                        candidate,
+                        new Dock());
+        evaluations.add(builder -> builder.docking((Element) parent,
+                                                   (Node) candidate));
+        return this;
+    }
+
+    /**
+     * Moves the node to the given location, keeping its size.
+     */
+    public GraphBulkLoader setPosition(final Node<? extends View<?>, ?> node,
+                                       final Point2D location) {
+        node.getContent().setBounds(UpdateElementPositionCommand.computeCandidateBounds(node,
+                                                                                         location));
+        GraphUtils.updateBounds(graph,
+                                node);
+        return this;
+    }
+
+    /**
+     * Connects the edge from the source to the target node, and adds the given control points
+     * in front of the ones the edge may already have.
+     */
+    @SuppressWarnings("unchecked")
+    public GraphBulkLoader addConnector(final Node<? extends View<?>, Edge> source,
+                                        final Edge<? extends View<?>, Node> edge,
+                                        final Connection sourceConnection,
+                                        final ControlPoint[] controlPoints,
+                                        final Node<? extends View<?>, Edge> target,
+                                        final Connection targetConnection) {
+        index.addEdge(edge);
+        final ViewConnector content = (ViewConnector) edge.getContent();
+
+        final Node<? extends View<?>, Edge> lastSource = edge.getSourceNode();
+        if (null != lastSource) {
+            lastSource.getOutEdges().remove(edge);
+        }
+        if (null != source) {
+            source.getOutEdges().add(edge);
+        }
+        edge.setSourceNode(source);
+        content.setSourceConnection(sourceConnection);
+
+        addControlPoints(content,
+                         controlPoints);
+
+        final Node<? extends View<?>, Edge> lastTarget = edge.getTargetNode();
+        if (null != lastTarget) {
+            lastTarget.getInEdges().remove(edge);
+        }
+        if (null != target) {
+            target.getInEdges().add(edge);
+        }
+        edge.setTargetNode(target);
+        content.setTargetConnection(targetConnection);
+
+        evaluations.add(builder -> builder.connection(edge,
+                                                      Optional.ofNullable(source),
+                                                      Optional.ofNullable(target)));
+        connectors.add(edge);
+        return this;
+    }
+
+    /**
+     * Evaluates all the rules that the loaded elements are subject to, and returns the resulting violations,
+     * together with the ones found while loading. The rules are not evaluated if the context has none.
+     */
+    public CommandResult<RuleViolation> complete() {
+        final GraphCommandResultBuilder builder = new GraphCommandResultBuilder(violations);
+        if (hasRules()) {
+            final RuleEvaluationContextBuilder.GraphContextBuilder contextBuilder =
+                    new RuleEvaluationContextBuilder.StatelessGraphContextBuilder(graph);
+            evaluate(builder,
+                     contextBuilder.graphCardinality());
+            for (Function<RuleEvaluationContextBuilder.GraphContextBuilder, GraphEvaluationContext> evaluation : evaluations) {
+                evaluate(builder,
+                         evaluation.apply(contextBuilder));
+            }
+            evaluateEdgeCardinalities(builder,
+                                      contextBuilder);
+        }
+        return builder.build();
+    }
+
+    private boolean hasRules() {
+        final RuleSet ruleSet = context.getRuleSet();
+        return null != ruleSet && !ruleSet.getRules().isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evaluate(final GraphCommandResultBuilder builder,
+                          final GraphEvaluationContext evaluationContext) {
+        builder.addViolations((Collection<RuleViolation>) context.evaluate(evaluationContext).violations());
+    }
+
+    /**
+     * The edge cardinality rules only depend on the number of edges of the same type that a node has in
+     * each direction, so they are evaluated once for each of them.
+     */
+    @SuppressWarnings("unchecked")
+    private void evaluateEdgeCardinalities(final GraphCommandResultBuilder builder,
+                                           final RuleEvaluationContextBuilder.GraphContextBuilder contextBuilder) {
+        final Set<String> evaluated = new HashSet<>();
+        for (Edge<? extends View<?>, Node> edge : connectors) {
+            final String edgeId = getDefinitionId(edge);
+            final Node source = edge.getSourceNode();
+            if (null != source && evaluated.add(source.getUUID() + "|out|" + edgeId)) {
+                evaluate(builder,
+                         contextBuilder.edgeCardinality((Element) source,
+                                                        (Edge) edge,
+                                                        EdgeCardinalityContext.Direction.OUTGOING,
+                                                        Optional.empty()));
+            }
+            final Node target = edge.getTargetNode();
+            if (null != target && evaluated.add(target.getUUID() + "|in|" + edgeId)) {
+                evaluate(builder,
+                         contextBuilder.edgeCardinality((Element) target,
+                                                        (Edge) edge,
+                                                        EdgeCardinalityContext.Direction.INCOMING,
+                                                        Optional.empty()));
+            }
+        }
+    }
+
+    private String getDefinitionId(final Edge<? extends View<?>, Node> edge) {
+        final Object definition = ((Definition<?>) edge.getContent()).getDefinition();
+        return context.getDefinitionManager().adapters().forDefinition().getId(definition).value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerNode(final Node node) {
+        graph.addNode(node);
+        index.addNode(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addRelationship(final Node<?, Edge> parent,
+                                 final Node<?, Edge> candidate,
+                                 final Object relationship) {
+        final Edge<Object, Node> edge = new EdgeImpl<>(UUID.uuid());
+        edge.setContent(relationship);
+        edge.setSourceNode(parent);
+        edge.setTargetNode(candidate);
+        parent.getOutEdges().add(edge);
+        candidate.getInEdges().add(edge);
+        index.addEdge(edge);
+    }
+
+    private static void addControlPoints(final ViewConnector content,
+                                         final ControlPoint[] controlPoints) {
+        if (null == controlPoints || controlPoints.length == 0) {
+            return;
+        }
+        for (ControlPoint controlPoint : controlPoints) {
+            if (isControlPointInvalid.test(controlPoint)) {
+                throw new IllegalArgumentException("The given CP is not valid");
+            }
+        }
+        final ControlPoint[] existing = content.getControlPoints();
+        final int size = null != existing ? existing.length : 0;
+        final ControlPoint[] cps = new ControlPoint[controlPoints.length + size];
+        System.arraycopy(controlPoints, 0, cps, 0, controlPoints.length);
+        if (size > 0) {
+            System.arraycopy(existing, 0, cps, controlPoints.length, size);
+        }
+        content.setControlPoints(cps);
+    }
+}
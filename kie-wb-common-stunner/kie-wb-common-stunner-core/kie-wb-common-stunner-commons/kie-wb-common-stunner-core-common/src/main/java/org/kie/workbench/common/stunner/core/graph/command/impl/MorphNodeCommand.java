@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBuilder;
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 
 /**
@@ -100,6 +101,8 @@ public final class MorphNodeCommand extends AbstractGraphCommand {
         for (String label : labels) {
             candidate.getLabels().add(label);
         }
+        GraphUtils.updateLabels(context,
+                                candidate);
         return results;
     }
 
@@ -32,6 +32,7 @@ import org.kie.workbench.common.stunner.core.graph.command.GraphCommandResultBui
 import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.kie.workbench.common.stunner.core.util.UUID;
 
@@ -94,6 +95,8 @@ public class SetChildrenCommand extends AbstractGraphCommand {
         parent.getOutEdges().add(edge);
         candidate.getInEdges().add(edge);
         getMutableIndex(context).addEdge(edge);
+        GraphUtils.updateBounds(context,
+                                candidate);
     }
 
     @SuppressWarnings("unchecked")
@@ -92,7 +92,11 @@ public final class UpdateElementPositionCommand extends AbstractGraphCommand {
     @SuppressWarnings("unchecked")
     public CommandResult<RuleViolation> execute(final GraphCommandExecutionContext context) {
         return execute(context,
-                       bounds -> node.getContent().setBounds(bounds));
+                       bounds -> {
+                           node.getContent().setBounds(bounds);
+                           GraphUtils.updateBounds(context,
+                                                   node);
+                       });
     }
 
     @SuppressWarnings("unchecked")
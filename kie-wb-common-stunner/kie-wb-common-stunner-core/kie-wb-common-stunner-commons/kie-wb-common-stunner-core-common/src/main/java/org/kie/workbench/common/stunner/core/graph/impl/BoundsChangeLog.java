@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the uuids of the nodes which bounds, or parent, have changed in a graph, so the spatial indexes built
+ * for it can be updated incrementally.
+ * <p>
+ * Each change gets a sequence number. Readers keep the sequence they are up to date with, and ask for the
+ * changes since then. Only the latest {@link #MAX_SIZE} changes are kept, and a reset means any node may have
+ * changed, so readers that fall behind or that find a reset must rebuild their index from the whole graph.
+ */
+public class BoundsChangeLog {
+
+    static final int MAX_SIZE = 1024;
+
+    // A null uuid stands for a reset.
+    private final List<String> changes = new ArrayList<>();
+    private int start = 0;
+
+    /**
+     * Records that the bounds, or the parent, of the node with the given uuid have changed.
+     */
+    public void add(final String uuid) {
+        if (changes.size() >= MAX_SIZE) {
+            final int trimmed = MAX_SIZE / 2;
+            changes.subList(0, trimmed).clear();
+            start += trimmed;
+        }
+        changes.add(uuid);
+    }
+
+    /**
+     * Records that the bounds of any node may have changed.
+     */
+    public void reset() {
+        add(null);
+    }
+
+    /**
+     * The sequence number of the next change.
+     */
+    public int getSequence() {
+        return start + changes.size();
+    }
+
+    /**
+     * Returns the uuids of the nodes changed since the given sequence number, in the order they first changed,
+     * or null if it cannot be told which nodes have changed.
+     */
+    public Set<String> getChangesSince(final int sequence) {
+        if (sequence < start || sequence > getSequence()) {
+            return null;
+        }
+        final Set<String> result = new LinkedHashSet<>();
+        for (int i = sequence - start; i < changes.size(); i++) {
+            final String uuid = changes.get(i);
+            if (null == uuid) {
+                return null;
+            }
+            result.add(uuid);
+        }
+        return result;
+    }
+}
@@ -30,6 +30,8 @@ import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
     private final GraphNodeStore<Node> nodeStore;
+    private transient LabelsCountIndex labelsCount;
+    private transient BoundsChangeLog boundsChanges;
 
     public static <C> GraphImpl<C> build(final String uuid) {
         return new GraphImpl<>(uuid, new GraphNodeStoreImpl());
@@ -44,12 +46,22 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
     @Override
     public Node addNode(final Node node) {
-        return nodeStore.add(node);
+        getBoundsChanges().add(node.getUUID());
+        final Node previous = nodeStore.add(node);
+        if (null != labelsCount) {
+            labelsCount.add(node);
+        }
+        return previous;
     }
 
     @Override
     public Node removeNode(final String uuid) {
-        return nodeStore.remove(uuid);
+        getBoundsChanges().add(uuid);
+        final Node removed = nodeStore.remove(uuid);
+        if (null != labelsCount && null != removed) {
+            labelsCount.remove(uuid);
+        }
+        return removed;
     }
 
     @Override
@@ -64,7 +76,40 @@ public class GraphImpl<C> extends AbstractElement<C> implements Graph<C, Node> {
 
     @Override
     public void clear() {
+        getBoundsChanges().reset();
         nodeStore.clear();
+        labelsCount = null;
+    }
+
+    /**
+     * The number of nodes for each label in this graph. The index is built on first use and then kept
+     * updated as nodes are added or removed.
+     */
+    public LabelsCountIndex getLabelsCount() {
+        if (null == labelsCount) {
+            labelsCount = LabelsCountIndex.build(nodeStore);
+        }
+        return labelsCount;
+    }
+
+    /**
+     * Must be called once the labels of a node in this graph have been changed.
+     */
+    public void updateLabels(final Node node) {
+        if (null != labelsCount && null != nodeStore.get(node.getUUID())) {
+            labelsCount.add(node);
+        }
+    }
+
+    /**
+     * The nodes which bounds or parent have changed. Nodes added to or removed from the graph are recorded
+     * here as well, but any other change must be recorded by the caller.
+     */
+    public BoundsChangeLog getBoundsChanges() {
+        if (null == boundsChanges) {
+            boundsChanges = new BoundsChangeLog();
+        }
+        return boundsChanges;
     }
 
     @Override
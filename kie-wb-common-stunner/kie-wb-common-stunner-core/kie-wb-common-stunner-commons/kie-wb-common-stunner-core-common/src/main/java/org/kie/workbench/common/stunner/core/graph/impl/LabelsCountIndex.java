@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.graph.Node;
+
+/**
+ * Keeps the number of nodes for each label (role) in a graph.
+ * <p>
+ * The labels of each node are copied when the node gets indexed, so removing it always decrements the same
+ * roles that were previously incremented, even if the node's labels have been modified in the meantime.
+ * Any change on the labels of an already indexed node (eg: morphing) must be notified by indexing the node again.
+ */
+public class LabelsCountIndex {
+
+    private static final String[] NO_LABELS = new String[0];
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<String, String[]> nodeLabels = new HashMap<>();
+
+    public static LabelsCountIndex build(final Iterable<? extends Node> nodes) {
+        final LabelsCountIndex index = new LabelsCountIndex();
+        for (final Node node : nodes) {
+            index.add(node);
+        }
+        return index;
+    }
+
+    /**
+     * Indexes the given node, or updates its labels if it was already indexed.
+     */
+    public void add(final Node node) {
+        final String uuid = node.getUUID();
+        remove(uuid);
+        final String[] labels = copyLabels(node);
+        nodeLabels.put(uuid,
+                       labels);
+        for (final String label : labels) {
+            final Integer count = counts.get(label);
+            counts.put(label,
+                       null != count ? count + 1 : 1);
+        }
+    }
+
+    public void remove(final String uuid) {
+        final String[] labels = nodeLabels.remove(uuid);
+        if (null != labels) {
+            for (final String label : labels) {
+                final Integer count = counts.get(label);
+                if (null != count && count > 1) {
+                    counts.put(label,
+                               count - 1);
+                } else {
+                    counts.remove(label);
+                }
+            }
+        }
+    }
+
+    public int count(final String label) {
+        final Integer count = counts.get(label);
+        return null != count ? count : 0;
+    }
+
+    /**
+     * Returns the count for the given labels, or for all labels if the filter is null.
+     * Labels not present in the graph are not included in the resulting map.
+     */
+    public Map<String, Integer> count(final Set<String> labelFilter) {
+        if (null == labelFilter) {
+            return new HashMap<>(counts);
+        }
+        final Map<String, Integer> result = new HashMap<>(labelFilter.size());
+        for (final String label : labelFilter) {
+            final Integer count = counts.get(label);
+            if (null != count) {
+                result.put(label,
+                           count);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return nodeLabels.size();
+    }
+
+    public void clear() {
+        counts.clear();
+        nodeLabels.clear();
+    }
+
+    /**
+     * Checks the indexed counts against a full recount of the given nodes. Mostly intended for testing purposes.
+     */
+    public boolean isConsistent(final Iterable<? extends Node> nodes) {
+        return counts.equals(build(nodes).counts);
+    }
+
+    private static String[] copyLabels(final Node node) {
+        final Set<String> labels = node.getLabels();
+        return null != labels ? labels.toArray(new String[labels.size()]) : NO_LABELS;
+    }
+}
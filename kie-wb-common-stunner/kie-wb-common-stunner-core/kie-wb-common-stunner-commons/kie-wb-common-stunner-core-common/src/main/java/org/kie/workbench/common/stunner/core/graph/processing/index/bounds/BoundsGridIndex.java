@@ -0,0 +1,268 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>A uniform grid based spatial index for axis aligned bounds.</p>
+ * <p>Each entry is registered into every grid cell its bounds overlap, so point queries only have to check
+ * the entries of a single cell. Entries covering a huge number of cells (eg: lanes or big containers) are kept
+ * apart and checked on every query, which bounds the cost of indexing them.</p>
+ * <p>Entries are given an order, so when several entries overlap the query, the one with the highest order wins.
+ * For graph nodes the order is the traversal order, so the deepest (latest traversed) node is the one returned.</p>
+ * @param <T> The indexed item type.
+ */
+public class BoundsGridIndex<T> {
+
+    public static final double DEFAULT_CELL_SIZE = 256d;
+    static final int MAX_CELLS_PER_ENTRY = 256;
+
+    private final double cellSize;
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private final List<Entry<T>> oversized = new ArrayList<>();
+
+    public BoundsGridIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    public BoundsGridIndex(final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size must be greater than zero.");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public BoundsGridIndex<T> put(final String id,
+                                  final T item,
+                                  final int order,
+                                  final double ulX,
+                                  final double ulY,
+                                  final double lrX,
+                                  final double lrY) {
+        remove(id);
+        final Entry<T> entry = new Entry<>(item,
+                                           order,
+                                           ulX,
+                                           ulY,
+                                           lrX,
+                                           lrY);
+        entries.put(id,
+                    entry);
+        final int minCX = cell(ulX);
+        final int minCY = cell(ulY);
+        final int maxCX = cell(lrX);
+        final int maxCY = cell(lrY);
+        final long cellCount = ((long) maxCX - minCX + 1) * ((long) maxCY - minCY + 1);
+        if (cellCount > MAX_CELLS_PER_ENTRY) {
+            oversized.add(entry);
+        } else {
+            for (int cx = minCX; cx <= maxCX; cx++) {
+                for (int cy = minCY; cy <= maxCY; cy++) {
+                    cells.computeIfAbsent(key(cx, cy),
+                                          k -> new ArrayList<>(4)).add(entry);
+                }
+            }
+        }
+        return this;
+    }
+
+    public T remove(final String id) {
+        final Entry<T> entry = entries.remove(id);
+        if (null == entry) {
+            return null;
+        }
+        if (!oversized.remove(entry)) {
+            final int minCX = cell(entry.ulX);
+            final int minCY = cell(entry.ulY);
+            final int maxCX = cell(entry.lrX);
+            final int maxCY = cell(entry.lrY);
+            for (int cx = minCX; cx <= maxCX; cx++) {
+                for (int cy = minCY; cy <= maxCY; cy++) {
+                    final Long key = key(cx, cy);
+                    final List<Entry<T>> cell = cells.get(key);
+                    if (null != cell) {
+                        cell.remove(entry);
+                        if (cell.isEmpty()) {
+                            cells.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+        return entry.item;
+    }
+
+    public T get(final String id) {
+        final Entry<T> entry = entries.get(id);
+        return null != entry ? entry.item : null;
+    }
+
+    public double[] getBounds(final String id) {
+        final Entry<T> entry = entries.get(id);
+        return null != entry ? new double[]{entry.ulX, entry.ulY, entry.lrX, entry.lrY} : null;
+    }
+
+    public int getOrder(final String id) {
+        final Entry<T> entry = entries.get(id);
+        return null != entry ? entry.order : -1;
+    }
+
+    /**
+     * Returns the entry with the highest order which bounds contain the given point, or null if none.
+     */
+    public T findAt(final double x,
+                    final double y) {
+        Entry<T> result = null;
+        final List<Entry<T>> cell = cells.get(key(cell(x), cell(y)));
+        if (null != cell) {
+            for (int i = 0; i < cell.size(); i++) {
+                result = top(result, cell.get(i), x, y);
+            }
+        }
+        for (int i = 0; i < oversized.size(); i++) {
+            result = top(result, oversized.get(i), x, y);
+        }
+        return null != result ? result.item : null;
+    }
+
+    /**
+     * Returns the entries which bounds intersect the given area, sorted by their order.
+     */
+    public List<T> findIntersecting(final double x,
+                                    final double y,
+                                    final double width,
+                                    final double height) {
+        final double lrX = x + width;
+        final double lrY = y + height;
+        final Set<Entry<T>> found = new LinkedHashSet<>();
+        final int minCX = cell(x);
+        final int minCY = cell(y);
+        final int maxCX = cell(lrX);
+        final int maxCY = cell(lrY);
+        final long cellCount = ((long) maxCX - minCX + 1) * ((long) maxCY - minCY + 1);
+        if (cellCount > cells.size()) {
+            // Cheaper to look at every populated cell than to probe the empty ones.
+            cells.values().forEach(cell -> collectIntersecting(cell, found, x, y, lrX, lrY));
+        } else {
+            for (int cx = minCX; cx <= maxCX; cx++) {
+                for (int cy = minCY; cy <= maxCY; cy++) {
+                    final List<Entry<T>> cell = cells.get(key(cx, cy));
+                    if (null != cell) {
+                        collectIntersecting(cell, found, x, y, lrX, lrY);
+                    }
+                }
+            }
+        }
+        collectIntersecting(oversized, found, x, y, lrX, lrY);
+        final List<Entry<T>> sorted = new ArrayList<>(found);
+        Collections.sort(sorted, (e1, e2) -> Integer.compare(e1.order, e2.order));
+        final List<T> result = new ArrayList<>(sorted.size());
+        sorted.forEach(e -> result.add(e.item));
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        oversized.clear();
+    }
+
+    private static <T> void collectIntersecting(final List<Entry<T>> candidates,
+                                                final Set<Entry<T>> found,
+                                                final double ulX,
+                                                final double ulY,
+                                                final double lrX,
+                                                final double lrY) {
+        for (int i = 0; i < candidates.size(); i++) {
+            final Entry<T> entry = candidates.get(i);
+            if (entry.intersects(ulX, ulY, lrX, lrY)) {
+                found.add(entry);
+            }
+        }
+    }
+
+    private static <T> Entry<T> top(final Entry<T> current,
+                                    final Entry<T> candidate,
+                                    final double x,
+                                    final double y) {
+        if (candidate.contains(x, y) && (null == current || candidate.order > current.order)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private int cell(final double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static Long key(final int cx,
+                            final int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final int order;
+        private final double ulX;
+        private final double ulY;
+        private final double lrX;
+        private final double lrY;
+
+        private Entry(final T item,
+                      final int order,
+                      final double ulX,
+                      final double ulY,
+                      final double lrX,
+                      final double lrY) {
+            this.item = item;
+            this.order = order;
+            this.ulX = ulX;
+            this.ulY = ulY;
+            this.lrX = lrX;
+            this.lrY = lrY;
+        }
+
+        private boolean contains(final double x,
+                                 final double y) {
+            return x >= ulX && x <= lrX && y >= ulY && y <= lrY;
+        }
+
+        private boolean intersects(final double x1,
+                                   final double y1,
+                                   final double x2,
+                                   final double y2) {
+            return ulX <= x2 && lrX >= x1 && ulY <= y2 && lrY >= y1;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.index.bounds;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -31,28 +33,72 @@ import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.relationship.Child;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.AbstractChildrenTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessor;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 
 @Dependent
 public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     ChildrenTraverseProcessor childrenTraverseProcessor;
+    private final BoundsGridIndex<Node<View<?>, Edge>> index;
     private Graph<View, Node<View, Edge>> graph;
     private String rootUUID = null;
+    private boolean indexed = false;
+    private int indexedSequence = 0;
+    private int nextOrder = 0;
 
     @Inject
     public GraphBoundsIndexerImpl(final ChildrenTraverseProcessor childrenTraverseProcessor) {
         this.childrenTraverseProcessor = childrenTraverseProcessor;
+        this.index = new BoundsGridIndex<>();
     }
 
     @Override
     public GraphBoundsIndexerImpl build(final Graph<View, Node<View, Edge>> graph) {
+        // The index for the same graph is kept, and updated on next query from the graph's bounds changes.
+        // Other graph implementations do not record their changes, so their index is built again.
+        if (graph != this.graph || !(graph instanceof GraphImpl)) {
+            invalidate();
+        }
         this.graph = graph;
         return this;
     }
 
+    /**
+     * Discards the current spatial index, it will be built again, in a single traversal, on next query.
+     */
+    public GraphBoundsIndexerImpl invalidate() {
+        index.clear();
+        indexed = false;
+        return this;
+    }
+
+    /**
+     * Updates the indexed bounds for the given node and its children, if already indexed.
+     * Graph commands already record the nodes they move, resize or re-parent, so this is only
+     * needed for changes done outside graph commands.
+     */
+    public GraphBoundsIndexerImpl update(final Node<View, Edge> node) {
+        if (indexed) {
+            place(node);
+        }
+        return this;
+    }
+
+    /**
+     * Removes the given node from the spatial index, if already indexed.
+     */
+    public GraphBoundsIndexerImpl remove(final Node<View, Edge> node) {
+        if (indexed) {
+            index.remove(node.getUUID());
+        }
+        return this;
+    }
+
     @Override
     public Node<View<?>, Edge> getAt(final double x,
                                      final double y) {
@@ -140,27 +186,156 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
     public Node<View<?>, Edge> findElementAt(final double x,
                                              final double y) {
-        final Node[] result = new Node[1];
-        childrenTraverseProcessor.traverse(graph,
-                                           new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
-
-                                               @Override
-                                               public void onNodeTraverse(final Node<View, Edge> node,
-                                                                          final double parentX,
-                                                                          final double parentY) {
-                                                   if (isNodeAt(node,
-                                                                parentX,
-                                                                parentY,
-                                                                x,
-                                                                y)) {
-                                                       result[0] = node;
-                                                   }
-                                               }
-                                           }));
-        return result[0];
+        ensureIndexed();
+        final Node<View<?>, Edge> node = index.findAt(x,
+                                                      y);
+        // The root node, if any, is present at any coordinate.
+        final Node<View<?>, Edge> root = null != rootUUID ? index.get(rootUUID) : null;
+        if (null != root && (null == node || index.getOrder(rootUUID) > index.getOrder(node.getUUID()))) {
+            return root;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the nodes which absolute bounds intersect the given area, in traversal order.
+     */
+    public List<Node<View<?>, Edge>> findElementsAt(final double x,
+                                                    final double y,
+                                                    final double width,
+                                                    final double height) {
+        ensureIndexed();
+        return index.findIntersecting(x,
+                                      y,
+                                      width,
+                                      height);
+    }
+
+    private void ensureIndexed() {
+        if (null == graph) {
+            return;
+        }
+        if (indexed) {
+            final Set<String> changes = getBoundsChangesSinceIndexed();
+            if (null != changes) {
+                changes.forEach(this::applyChange);
+            } else {
+                invalidate();
+            }
+        }
+        if (!indexed) {
+            final int[] order = {0};
+            // Not using the injected processor, as its root uuid may be set for other purposes.
+            new ChildrenTraverseProcessorImpl(new TreeWalkTraverseProcessorImpl())
+                    .traverse(graph,
+                              new GraphBoundIndexerTraverseCallback(new NodeBoundsTraverseCallback() {
+
+                                  @Override
+                                  public void onNodeTraverse(final Node<View, Edge> node,
+                                                             final double parentX,
+                                                             final double parentY) {
+                                      index(node,
+                                            order[0]++,
+                                            parentX,
+                                            parentY);
+                                  }
+                              }));
+            nextOrder = order[0];
+            indexed = true;
+        }
+        indexedSequence = getBoundsSequence();
+    }
+
+    private Set<String> getBoundsChangesSinceIndexed() {
+        return graph instanceof GraphImpl ?
+                ((GraphImpl) graph).getBoundsChanges().getChangesSince(indexedSequence) :
+                Collections.emptySet();
+    }
+
+    private int getBoundsSequence() {
+        return graph instanceof GraphImpl ? ((GraphImpl) graph).getBoundsChanges().getSequence() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyChange(final String uuid) {
+        final Node node = graph.getNode(uuid);
+        if (null != node && node.getContent() instanceof View) {
+            place(node);
+        } else {
+            index.remove(uuid);
+        }
+    }
+
+    /**
+     * Indexes the node and its children again, at their current location. A node is always kept above
+     * its parent, so a node that is new, or that has been moved into a parent indexed later, gets an order
+     * above any other node, same as new shapes are drawn on top of the existing ones.
+     */
+    @SuppressWarnings("unchecked")
+    private void place(final Node<View, Edge> node) {
+        final Element<?> parent = GraphUtils.getParent(node);
+        if (null != parent && null != parent.asNode() && parent.getContent() instanceof View) {
+            if (null == index.get(parent.getUUID())) {
+                // Placing the parent places all its children as well.
+                place((Node<View, Edge>) parent.asNode());
+                return;
+            }
+            final Point2D parentPosition = GraphUtils.getComputedPosition(parent.asNode());
+            reindex(node,
+                    index.getOrder(parent.getUUID()),
+                    parentPosition.getX(),
+                    parentPosition.getY());
+        } else {
+            reindex(node,
+                    -1,
+                    0,
+                    0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void index(final Node<View, Edge> node,
+                       final int order,
+                       final double parentX,
+                       final double parentY) {
+        final double[] absCoords = getNodeAbsoluteCoordinates(node,
+                                                              parentX,
+                                                              parentY);
+        index.put(node.getUUID(),
+                  (Node) node,
+                  order,
+                  absCoords[0],
+                  absCoords[1],
+                  absCoords[2],
+                  absCoords[3]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reindex(final Node<View, Edge> node,
+                         final int parentOrder,
+                         final double parentX,
+                         final double parentY) {
+        int order = index.getOrder(node.getUUID());
+        if (order <= parentOrder) {
+            order = nextOrder++;
+        }
+        index(node,
+              order,
+              parentX,
+              parentY);
+        final Point2D position = getNodeCoordinates(node);
+        final double x = parentX + (null != position ? position.getX() : 0);
+        final double y = parentY + (null != position ? position.getY() : 0);
+        for (final Node child : GraphUtils.getChildNodes(node)) {
+            if (child.getContent() instanceof View) {
+                reindex(child,
+                        order,
+                        x,
+                        y);
+            }
+        }
     }
 
     private Point2D getNodeCoordinates(final Node node) {
@@ -188,28 +363,6 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
         return new double[]{ulX, ulY, lrX, lrY};
     }
 
-    private boolean isNodeAt(final Node node,
-                             final double parentX,
-                             final double parentY,
-                             final double mouseX,
-                             final double mouseY) {
-        if (null != rootUUID && node.getUUID().equals(rootUUID)) {
-            return true;
-        }
-        final double[] absoluteCoords = getNodeAbsoluteCoordinates(node,
-                                                                   parentX,
-                                                                   parentY);
-        final double ulX = absoluteCoords[0];
-        final double ulY = absoluteCoords[1];
-        final double lrX = absoluteCoords[2];
-        final double lrY = absoluteCoords[3];
-        if (mouseX >= ulX && mouseX <= lrX &&
-                mouseY >= ulY && mouseY <= lrY) {
-            return true;
-        }
-        return false;
-    }
-
     @Override
     public GraphBoundsIndexer setRootUUID(final String uuid) {
         this.rootUUID = uuid;
@@ -218,6 +371,7 @@ public class GraphBoundsIndexerImpl implements GraphBoundsIndexer {
 
     @Override
     public void destroy() {
+        invalidate();
         this.graph = null;
         this.rootUUID = null;
         this.childrenTraverseProcessor = null;
@@ -17,9 +17,11 @@
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Objects;
 
 import javax.enterprise.inject.Default;
 import javax.inject.Inject;
@@ -31,8 +33,6 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Gr
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.LayeredGraph;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * Order vertices inside layers trying to reduce crossing between edges.
  */
@@ -73,30 +73,39 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         final LayeredGraph layered = (LayeredGraph) graph;
         final List<OrientedEdge> edges = graph.getEdges();
         final List<GraphLayer> virtualized = createVirtual(edges, layered);
-        List<GraphLayer> best = clone(virtualized);
-
-        final Object[][] nestedBestRanks = new Object[virtualized.size()][];
-        // Starts with the current order
-        for (int i = 0; i < nestedBestRanks.length; i++) {
-            final GraphLayer layer = best.get(i);
-            nestedBestRanks[i] = new Object[layer.getVertices().size()];
-            for (int j = 0; j < layer.getVertices().size(); j++) {
-                nestedBestRanks[i][j] = layer.getVertices().get(j);
-            }
-        }
+
+        // Starts with the current order. Only the order of the vertices changes, so it's enough to keep it.
+        List<List<Vertex>> best = getOrder(virtualized);
+        int bestCrossing = this.crossingCount.crossing(virtualized, edges);
 
         for (int i = 0; i < MAX_ITERATIONS; i++) {
             this.vertexPositioning.positionVertices(virtualized, edges, i);
             this.verticesTransposer.transpose(virtualized, edges, i);
-            if (this.crossingCount.crossing(best, edges) > this.crossingCount.crossing(virtualized, edges)) {
-                best = clone(virtualized);
+            final int crossing = this.crossingCount.crossing(virtualized, edges);
+            if (bestCrossing > crossing) {
+                best = getOrder(virtualized);
+                bestCrossing = crossing;
             } else {
                 break;
             }
         }
 
+        for (int i = 0; i < virtualized.size(); i++) {
+            final List<Vertex> vertices = virtualized.get(i).getVertices();
+            vertices.clear();
+            vertices.addAll(best.get(i));
+        }
+
         layered.getLayers().clear();
-        layered.getLayers().addAll(best);
+        layered.getLayers().addAll(virtualized);
+    }
+
+    private static List<List<Vertex>> getOrder(final List<GraphLayer> layers) {
+        final List<List<Vertex>> order = new ArrayList<>(layers.size());
+        for (final GraphLayer layer : layers) {
+            order.add(new ArrayList<>(layer.getVertices()));
+        }
+        return order;
     }
 
     private List<GraphLayer> clone(final List<GraphLayer> input) {
@@ -118,39 +127,61 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         int virtualIndex = 0;
         final List<GraphLayer> virtualized = clone(graph.getLayers());
 
+        final Map<String, Integer> layerNumbers = new HashMap<>();
+        for (final GraphLayer layer : virtualized) {
+            for (final Vertex vertex : layer.getVertices()) {
+                layerNumbers.putIfAbsent(vertex.getId(), layer.getLevel());
+            }
+        }
+        final Map<String, List<OrientedEdge>> outgoingEdges = new HashMap<>();
+        final Map<String, List<OrientedEdge>> incomingEdges = new HashMap<>();
+        for (final OrientedEdge edge : edges) {
+            addEdge(edge, outgoingEdges, incomingEdges);
+        }
+
         for (int i = 0; i < virtualized.size() - 1; i++) {
             final GraphLayer currentLayer = virtualized.get(i);
             final GraphLayer nextLayer = virtualized.get(i + 1);
             for (final Vertex vertex : currentLayer.getVertices()) {
 
-                final List<OrientedEdge> outgoing = edges.stream()
-                        .filter(e -> Objects.equals(e.getFromVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getToVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> outgoing = new ArrayList<>();
+                for (final OrientedEdge e : outgoingEdges.getOrDefault(vertex.getId(), Collections.emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getToVertexId(), layerNumbers) - getLayerNumber(vertex.getId(), layerNumbers)) > 1) {
+                        outgoing.add(e);
+                    }
+                }
 
-                final List<OrientedEdge> incoming = edges.stream()
-                        .filter(e -> Objects.equals(e.getToVertexId(), vertex.getId()))
-                        .filter(e -> Math.abs(getLayerNumber(e.getFromVertexId(), virtualized) - getLayerNumber(vertex.getId(), virtualized)) > 1)
-                        .collect(toList());
+                final List<OrientedEdge> incoming = new ArrayList<>();
+                for (final OrientedEdge e : incomingEdges.getOrDefault(vertex.getId(), Collections.emptyList())) {
+                    if (Math.abs(getLayerNumber(e.getFromVertexId(), layerNumbers) - getLayerNumber(vertex.getId(), layerNumbers)) > 1) {
+                        incoming.add(e);
+                    }
+                }
 
                 for (final OrientedEdge edge : outgoing) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    removeEdge(edge, edges, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
                     edges.add(v1);
                     edges.add(v2);
+                    addEdge(v1, outgoingEdges, incomingEdges);
+                    addEdge(v2, outgoingEdges, incomingEdges);
                 }
 
                 for (final OrientedEdge edge : incoming) {
                     final Vertex virtualVertex = new Vertex("V" + virtualIndex++, true);
                     nextLayer.getVertices().add(virtualVertex);
-                    edges.remove(edge);
+                    layerNumbers.putIfAbsent(virtualVertex.getId(), nextLayer.getLevel());
+                    removeEdge(edge, edges, outgoingEdges, incomingEdges);
                     final OrientedEdge v1 = new OrientedEdgeImpl(virtualVertex.getId(), edge.getToVertexId());
                     final OrientedEdge v2 = new OrientedEdgeImpl(edge.getFromVertexId(), virtualVertex.getId());
                     edges.add(v1);
                     edges.add(v2);
+                    addEdge(v1, outgoingEdges, incomingEdges);
+                    addEdge(v2, outgoingEdges, incomingEdges);
                 }
             }
         }
@@ -158,14 +189,28 @@ public final class DefaultVertexOrdering implements VertexOrdering {
         return virtualized;
     }
 
+    private static void addEdge(final OrientedEdge edge,
+                                final Map<String, List<OrientedEdge>> outgoingEdges,
+                                final Map<String, List<OrientedEdge>> incomingEdges) {
+        outgoingEdges.computeIfAbsent(edge.getFromVertexId(), id -> new ArrayList<>()).add(edge);
+        incomingEdges.computeIfAbsent(edge.getToVertexId(), id -> new ArrayList<>()).add(edge);
+    }
+
+    private static void removeEdge(final OrientedEdge edge,
+                                   final List<OrientedEdge> edges,
+                                   final Map<String, List<OrientedEdge>> outgoingEdges,
+                                   final Map<String, List<OrientedEdge>> incomingEdges) {
+        edges.remove(edge);
+        outgoingEdges.get(edge.getFromVertexId()).remove(edge);
+        incomingEdges.get(edge.getToVertexId()).remove(edge);
+    }
+
     private int getLayerNumber(final String vertex,
-                               final List<GraphLayer> layers) {
-        final GraphLayer layer = layers
-                .stream()
-                .filter(l -> l.getVertices().stream().anyMatch(v -> Objects.equals(v.getId(), vertex)))
-                .findFirst()
-                .orElseThrow(() -> new NoSuchElementException("Can not found the layer of the vertex."));
-
-        return layer.getLevel();
+                               final Map<String, Integer> layerNumbers) {
+        final Integer layerNumber = layerNumbers.get(vertex);
+        if (null == layerNumber) {
+            throw new NoSuchElementException("Can not found the layer of the vertex.");
+        }
+        return layerNumber;
     }
-}
\ No newline at end of file
+}
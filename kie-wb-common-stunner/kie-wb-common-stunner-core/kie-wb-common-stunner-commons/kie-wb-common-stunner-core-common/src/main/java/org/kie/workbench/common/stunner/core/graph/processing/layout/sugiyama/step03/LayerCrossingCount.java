@@ -16,9 +16,8 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
@@ -43,11 +42,48 @@ public class LayerCrossingCount {
     public int crossing(final List<OrientedEdge> edges,
                         final GraphLayer north,
                         final GraphLayer south) {
+        return crossing(new LayeredGraphIndex(Arrays.asList(north, south), edges), 0, 1);
+    }
+
+    /**
+     * Counts the total of edges crossing in all layers.
+     * @param layers Existing layers.
+     * @param edges Existing edges.
+     * @return The sum of edges crossing between all layers.
+     */
+    int crossing(final List<GraphLayer> layers,
+                 final List<OrientedEdge> edges) {
+        return crossing(new LayeredGraphIndex(layers, edges));
+    }
 
-        final Object[] entries = flat(edges, north, south);
+    /**
+     * Counts the total of edges crossing in all the indexed layers.
+     * @param index The indexed layers and edges.
+     * @return The sum of edges crossing between all layers.
+     */
+    int crossing(final LayeredGraphIndex index) {
+        int crossingCount = 0;
+        for (int i = 1; i < index.getLayerCount(); i++) {
+            crossingCount += crossing(index, i - 1, i);
+        }
+        return crossingCount;
+    }
+
+    /**
+     * Counts the edges crossing considering two of the indexed layers, in O(E log V) using an accumulator tree.
+     * @param index The indexed layers and edges.
+     * @param north The north layer.
+     * @param south The south layer.
+     * @return The total of edges crossing.
+     */
+    int crossing(final LayeredGraphIndex index,
+                 final int north,
+                 final int south) {
+
+        final int[] entries = flat(index, north, south);
 
         int firstIndex = 1;
-        while (firstIndex < south.getVertices().size()) {
+        while (firstIndex < index.getOrder(south).length) {
             firstIndex <<= 1;
         }
         final int treeSize = 2 * firstIndex - 1;
@@ -56,19 +92,19 @@ public class LayerCrossingCount {
 
         int crossings = 0;
 
-        for (final Object entry : entries) {
-            int index = ((Integer) entry) + firstIndex;
-            if (index < 0) {
+        for (final int entry : entries) {
+            int node = entry + firstIndex;
+            if (node < 0) {
                 continue;
             }
-            tree[index] += DEFAULT_VERTEX_WEIGHT;
+            tree[node] += DEFAULT_VERTEX_WEIGHT;
             int weightSum = 0;
-            while (index > 0) {
-                if (index % 2 != 0) {
-                    weightSum += tree[index + 1];
+            while (node > 0) {
+                if (node % 2 != 0) {
+                    weightSum += tree[node + 1];
                 }
-                index = (index - 1) >> 1;
-                tree[index] += DEFAULT_VERTEX_WEIGHT;
+                node = (node - 1) >> 1;
+                tree[node] += DEFAULT_VERTEX_WEIGHT;
             }
             crossings += DEFAULT_VERTEX_WEIGHT * weightSum;
         }
@@ -77,40 +113,27 @@ public class LayerCrossingCount {
     }
 
     /**
-     * Counts the total of edges crossing in all layers.
-     * @param layers Existing layers.
-     * @param edges Existing edges.
-     * @return The sum of edges crossing between all layers.
+     * For each vertex in the north layer, and each edge connected to it, the position in the south layer of the
+     * vertex on the other side of the edge, or -1 if not in the south layer. Sorted by vertex.
      */
-    int crossing(final List<GraphLayer> layers,
-                 final List<OrientedEdge> edges) {
-        int crossingCount = 0;
-        for (int i = 1; i < layers.size(); i++) {
-            crossingCount += crossing(edges, layers.get(i - 1), layers.get(i));
+    private static int[] flat(final LayeredGraphIndex index,
+                              final int north,
+                              final int south) {
+        final int[] northOrder = index.getOrder(north);
+        int size = 0;
+        for (final int vertex : northOrder) {
+            size += index.getConnected(vertex).length;
         }
-        return crossingCount;
-    }
-
-    private Object[] flat(final List<OrientedEdge> edges,
-                          final GraphLayer north,
-                          final GraphLayer south) {
 
-        final ArrayList<String> southPos = new ArrayList<>(south.getVertices().size());
-        for (int i = 0; i < south.getVertices().size(); i++) {
-            southPos.add(south.getVertices().get(i).getId());
+        final int[] entries = new int[size];
+        int count = 0;
+        for (final int vertex : northOrder) {
+            final int first = count;
+            for (final int connected : index.getConnected(vertex)) {
+                entries[count++] = index.getLayer(connected) == south ? index.getPosition(connected) : -1;
+            }
+            Arrays.sort(entries, first, count);
         }
-
-        return north.getVertices().stream().flatMap(v -> {
-            List<OrientedEdge> connectedEdges = edges.stream()
-                    .filter(e -> (e.getToVertexId().equals(v.getId()) || e.getFromVertexId().equals(v.getId())))
-                    .collect(Collectors.toList());
-
-            return connectedEdges.stream().map(e -> {
-                if (southPos.contains(e.getToVertexId())) {
-                    return southPos.indexOf(e.getToVertexId());
-                }
-                return southPos.indexOf(e.getFromVertexId());
-            }).sorted();
-        }).toArray();
+        return entries;
     }
-}
\ No newline at end of file
+}
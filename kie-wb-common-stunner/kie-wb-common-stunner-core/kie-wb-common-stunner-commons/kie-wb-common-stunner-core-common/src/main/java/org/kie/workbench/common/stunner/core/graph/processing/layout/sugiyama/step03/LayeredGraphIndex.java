@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
+import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
+
+/**
+ * An int indexed view of some layers and the edges connecting their vertices.
+ * <p>
+ * Vertex ids are interned into consecutive ints, and the vertices connected to each vertex, the order of the
+ * vertices inside each layer and the position of each vertex inside its layer are kept in arrays. So the vertices
+ * can be reordered in place, and the crossings and medians computed, without filtering the edges or looking
+ * up the layers for each vertex.
+ * <p>
+ * Vertices only present in the edges are interned as well, but they do not belong to any layer.
+ * Once done, the order of the vertices must be copied back to the layers (see {@link #apply()}).
+ */
+final class LayeredGraphIndex {
+
+    static final int NONE = -1;
+
+    private final List<GraphLayer> layers;
+    private final Map<String, Integer> ids;
+    private final List<Vertex> vertices;
+    private final int[][] orders;
+    private final int[] layerOf;
+    private final int[] positions;
+    private final int[][] adjacency;
+
+    LayeredGraphIndex(final List<GraphLayer> layers,
+                      final List<OrientedEdge> edges) {
+        this.layers = layers;
+        this.ids = new HashMap<>();
+        this.vertices = new ArrayList<>();
+        this.orders = new int[layers.size()][];
+        for (int l = 0; l < layers.size(); l++) {
+            final List<Vertex> layerVertices = layers.get(l).getVertices();
+            final int[] order = new int[layerVertices.size()];
+            for (int i = 0; i < order.length; i++) {
+                final Vertex vertex = layerVertices.get(i);
+                order[i] = intern(vertex.getId());
+                vertices.set(order[i], vertex);
+            }
+            orders[l] = order;
+        }
+
+        final int edgeCount = edges.size();
+        final int[] from = new int[edgeCount];
+        final int[] to = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            final OrientedEdge edge = edges.get(e);
+            from[e] = intern(edge.getFromVertexId());
+            to[e] = intern(edge.getToVertexId());
+        }
+
+        final int size = vertices.size();
+        this.layerOf = new int[size];
+        this.positions = new int[size];
+        Arrays.fill(layerOf, NONE);
+        Arrays.fill(positions, NONE);
+        for (int l = 0; l < orders.length; l++) {
+            for (int i = 0; i < orders[l].length; i++) {
+                layerOf[orders[l][i]] = l;
+                positions[orders[l][i]] = i;
+            }
+        }
+
+        // The vertices connected to each vertex, in the same order as the edges, so once per each connecting edge.
+        final int[] degrees = new int[size];
+        for (int e = 0; e < edgeCount; e++) {
+            degrees[from[e]]++;
+            if (to[e] != from[e]) {
+                degrees[to[e]]++;
+            }
+        }
+        this.adjacency = new int[size][];
+        for (int v = 0; v < size; v++) {
+            adjacency[v] = new int[degrees[v]];
+            degrees[v] = 0;
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            adjacency[from[e]][degrees[from[e]]++] = to[e];
+            if (to[e] != from[e]) {
+                adjacency[to[e]][degrees[to[e]]++] = from[e];
+            }
+        }
+    }
+
+    private int intern(final String vertexId) {
+        Integer id = ids.get(vertexId);
+        if (null == id) {
+            id = vertices.size();
+            ids.put(vertexId, id);
+            vertices.add(null);
+        }
+        return id;
+    }
+
+    /**
+     * @return The int index for the given vertex id, or {@link #NONE} if not present in the layers nor the edges.
+     */
+    int getIndex(final String vertexId) {
+        final Integer id = ids.get(vertexId);
+        return null != id ? id : NONE;
+    }
+
+    int getLayerCount() {
+        return orders.length;
+    }
+
+    /**
+     * @return The indexes of the vertices in the given layer, in their current order. Must not be modified.
+     */
+    int[] getOrder(final int layer) {
+        return orders[layer];
+    }
+
+    /**
+     * @return The layer of the given vertex, or {@link #NONE} if the vertex is only present in the edges.
+     */
+    int getLayer(final int vertex) {
+        return layerOf[vertex];
+    }
+
+    /**
+     * @return The position of the given vertex inside its layer, or {@link #NONE} if the vertex is only present
+     * in the edges.
+     */
+    int getPosition(final int vertex) {
+        return positions[vertex];
+    }
+
+    /**
+     * @return The vertices connected to the given one, once per each connecting edge. Must not be modified.
+     */
+    int[] getConnected(final int vertex) {
+        return adjacency[vertex];
+    }
+
+    Vertex getVertex(final int vertex) {
+        return vertices.get(vertex);
+    }
+
+    void swap(final int layer,
+              final int i,
+              final int j) {
+        final int[] order = orders[layer];
+        final int vertex = order[i];
+        order[i] = order[j];
+        order[j] = vertex;
+        positions[order[i]] = i;
+        positions[order[j]] = j;
+    }
+
+    /**
+     * Stable sorts the vertices in a layer.
+     * @param layer The layer.
+     * @param keys The key for each vertex, by its current position in the layer.
+     */
+    void sort(final int layer,
+              final double[] keys) {
+        final int[] order = orders[layer];
+        final Integer[] sorted = new Integer[order.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (i1, i2) -> {
+            if (keys[i1] < keys[i2]) {
+                return -1;
+            } else if (keys[i1] > keys[i2]) {
+                return 1;
+            }
+            return 0;
+        });
+        final int[] previous = order.clone();
+        for (int i = 0; i < order.length; i++) {
+            order[i] = previous[sorted[i]];
+            positions[order[i]] = i;
+        }
+    }
+
+    /**
+     * Copies the current order of the vertices back to the layers.
+     */
+    void apply() {
+        for (int l = 0; l < orders.length; l++) {
+            final List<Vertex> layerVertices = layers.get(l).getVertices();
+            layerVertices.clear();
+            for (final int vertex : orders[l]) {
+                layerVertices.add(vertices.get(vertex));
+            }
+        }
+    }
+}
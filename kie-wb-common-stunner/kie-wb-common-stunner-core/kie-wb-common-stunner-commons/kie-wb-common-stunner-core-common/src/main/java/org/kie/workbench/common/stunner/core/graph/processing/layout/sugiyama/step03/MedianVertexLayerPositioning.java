@@ -16,14 +16,12 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 
 import javax.enterprise.inject.Default;
 
-import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
@@ -45,30 +43,33 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
                                  final List<OrientedEdge> edges,
                                  final int currentIteration) {
 
+        final LayeredGraphIndex index = new LayeredGraphIndex(layers, edges);
         if ((currentIteration % 2 == 0)) {
-            for (int j = layers.size() - 1; j >= 1; j--) {
-                final GraphLayer currentLayer = layers.get(j);
-                for (final Vertex vertex : currentLayer.getVertices()) {
-                    //positionVertices value of vertices in rank r-1 connected to v
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j - 1), edges);
-                    vertex.setMedian(median);
-                }
-
-                // sort the vertices inside layer based on the new order
-                currentLayer.getVertices().sort(Vertex::compareTo);
+            for (int j = index.getLayerCount() - 1; j >= 1; j--) {
+                //positionVertices value of vertices in rank r-1 connected to v
+                positionVertices(index, j, j - 1);
             }
         } else {
-            for (int j = 0; j < layers.size() - 1; j++) {
-                final GraphLayer currentLayer = layers.get(j);
+            for (int j = 0; j < index.getLayerCount() - 1; j++) {
+                positionVertices(index, j, j + 1);
+            }
+        }
 
-                for (final Vertex vertex : layers.get(j).getVertices()) {
-                    final double median = calculateMedianOfVerticesConnectedTo(vertex.getId(), layers.get(j + 1), edges);
-                    vertex.setMedian(median);
-                }
+        index.apply();
+    }
 
-                currentLayer.getVertices().sort(Vertex::compareTo);
-            }
+    private void positionVertices(final LayeredGraphIndex index,
+                                  final int layer,
+                                  final int neighbourLayer) {
+        final int[] order = index.getOrder(layer);
+        final double[] medians = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            medians[i] = calculateMedianOfVerticesConnectedTo(index, order[i], neighbourLayer);
+            index.getVertex(order[i]).setMedian(medians[i]);
         }
+
+        // sort the vertices inside layer based on the new order
+        index.sort(layer, medians);
     }
 
     /**
@@ -81,41 +82,55 @@ public class MedianVertexLayerPositioning implements VertexLayerPositioning {
     public double calculateMedianOfVerticesConnectedTo(final String vertex,
                                                        final GraphLayer layer,
                                                        final List<OrientedEdge> edges) {
-        final List<Integer> connectedVerticesIndex = new ArrayList<>();
-        final List<Vertex> vertices = layer.getVertices();
-        for (int i = 0; i < vertices.size(); i++) {
-            final Vertex vertexInLayer = vertices.get(i);
-
-            final boolean hasConnection = edges.stream()
-                    .anyMatch(e -> e.isLinkedWithVertexId(vertexInLayer.getId()) && e.isLinkedWithVertexId(vertex));
+        final LayeredGraphIndex index = new LayeredGraphIndex(Collections.singletonList(layer), edges);
+        final int vertexIndex = index.getIndex(vertex);
+        if (vertexIndex == LayeredGraphIndex.NONE) {
+            return -1;
+        }
+        return calculateMedianOfVerticesConnectedTo(index, vertexIndex, 0);
+    }
 
-            if (hasConnection) {
-                connectedVerticesIndex.add(i);
+    private static double calculateMedianOfVerticesConnectedTo(final LayeredGraphIndex index,
+                                                               final int vertex,
+                                                               final int layer) {
+        final int[] connected = index.getConnected(vertex);
+        final int[] connectedVerticesIndex = new int[connected.length + 1];
+        int count = 0;
+        for (final int connectedVertex : connected) {
+            if (index.getLayer(connectedVertex) == layer) {
+                connectedVerticesIndex[count++] = index.getPosition(connectedVertex);
             }
         }
+        // If the vertex is in the neighborhood layer, any edge connected to it is linking it with itself.
+        if (connected.length > 0 && index.getLayer(vertex) == layer) {
+            connectedVerticesIndex[count++] = index.getPosition(vertex);
+        }
+        Arrays.sort(connectedVerticesIndex, 0, count);
 
-        final int size = connectedVerticesIndex.size();
+        // Each vertex counts once, no matter how many edges are connecting them.
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (size == 0 || connectedVerticesIndex[size - 1] != connectedVerticesIndex[i]) {
+                connectedVerticesIndex[size++] = connectedVerticesIndex[i];
+            }
+        }
 
         if (size == 0) {
-            final Optional<Vertex> first = layer.getVertices()
-                    .stream()
-                    .filter(v -> Objects.equals(v.getId(), vertex))
-                    .findFirst();
-            return first.map(vertex1 -> layer.getVertices().indexOf(vertex1)).orElse(-1);
+            return index.getLayer(vertex) == layer ? index.getPosition(vertex) : -1;
         }
 
         if (size == 1) {
-            return connectedVerticesIndex.get(0);
+            return connectedVerticesIndex[0];
         }
 
         final double median;
 
         if (size % 2 == 0) {
-            median = ((double) connectedVerticesIndex.get(size / 2) + (double) connectedVerticesIndex.get(size / 2 - 1)) / 2;
+            median = ((double) connectedVerticesIndex[size / 2] + (double) connectedVerticesIndex[size / 2 - 1]) / 2;
         } else {
-            median = (double) connectedVerticesIndex.get(size / 2);
+            median = (double) connectedVerticesIndex[size / 2];
         }
 
         return median;
     }
-}
\ No newline at end of file
+}
@@ -16,12 +16,10 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.step03;
 
-import java.util.Collections;
 import java.util.List;
 
 import javax.inject.Inject;
 
-import org.kie.workbench.common.stunner.core.graph.processing.layout.Vertex;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.GraphLayer;
 import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.OrientedEdge;
 
@@ -46,6 +44,7 @@ public class VerticesTransposer {
                    final List<OrientedEdge> edges,
                    final int currentIteration) {
 
+        final LayeredGraphIndex index = new LayeredGraphIndex(layers, edges);
         boolean improved = true;
         final boolean bottomUp = (currentIteration % 2) == 0;
 
@@ -53,44 +52,41 @@ public class VerticesTransposer {
             improved = false;
 
             if (bottomUp) {
-                for (int index = layers.size() - 1; index > 0; index--) {
-                    final GraphLayer current;
-                    final GraphLayer previous;
-                    current = layers.get(index - 1);
-                    previous = layers.get(index);
-                    improved = doTranspose(current, previous, edges);
+                for (int layer = index.getLayerCount() - 1; layer > 0; layer--) {
+                    improved = doTranspose(index, layer - 1, layer);
                 }
             } else {
-                for (int index = 1; index < layers.size(); index++) {
-                    final GraphLayer current;
-                    final GraphLayer previous;
-                    current = layers.get(index);
-                    previous = layers.get(index - 1);
-                    improved = doTranspose(current, previous, edges);
+                for (int layer = 1; layer < index.getLayerCount(); layer++) {
+                    improved = doTranspose(index, layer, layer - 1);
                 }
             }
         }
+
+        index.apply();
     }
 
-    private boolean doTranspose(final GraphLayer current,
-                                final GraphLayer previous,
-                                final List<OrientedEdge> edges) {
+    /**
+     * Swaps each pair of neighbouring vertices in place, and keeps the swap only if it reduces the crossing.
+     */
+    private boolean doTranspose(final LayeredGraphIndex index,
+                                final int current,
+                                final int previous) {
 
-        final List<Vertex> vertices = current.getVertices();
+        final int size = index.getOrder(current).length;
         boolean improved = false;
-        for (int i = 1; i < vertices.size(); i++) {
-
-            final int currentCrossing = this.crossingCount.crossing(edges, previous, current);
+        int currentCrossing = this.crossingCount.crossing(index, previous, current);
+        for (int i = 1; i < size; i++) {
 
-            Collections.swap(vertices, i, i - 1);
+            index.swap(current, i, i - 1);
 
-            final int newCrossing = this.crossingCount.crossing(edges, previous, current);
+            final int newCrossing = this.crossingCount.crossing(index, previous, current);
             if (newCrossing >= currentCrossing) {
-                Collections.swap(vertices, i - 1, i);
+                index.swap(current, i - 1, i);
             } else {
+                currentCrossing = newCrossing;
                 improved = true;
             }
         }
         return improved;
     }
-}
\ No newline at end of file
+}
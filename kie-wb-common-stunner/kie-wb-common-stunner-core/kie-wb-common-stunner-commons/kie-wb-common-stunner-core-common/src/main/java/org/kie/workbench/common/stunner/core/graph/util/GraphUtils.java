@@ -39,6 +39,7 @@ import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Element;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.content.Bound;
 import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.HasBounds;
@@ -51,6 +52,7 @@ import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
 import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.AbstractTreeTraverseCallback;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
 
@@ -78,6 +80,9 @@ public class GraphUtils {
      */
     public static Map<String, Integer> getLabelsCount(final Graph<?, ? extends Node> target,
                                                       final Set<String> roleFilter) {
+        if (target instanceof GraphImpl) {
+            return ((GraphImpl) target).getLabelsCount().count(roleFilter);
+        }
         return getLabelsCount(target,
                               e -> true,
                               roleFilter);
@@ -404,6 +409,44 @@ public class GraphUtils {
                 OptionalInt.empty();
     }
 
+    public static void updateLabels(final GraphCommandExecutionContext context,
+                                    final Node node) {
+        final Index<?, ?> index = null != context ? context.getGraphIndex() : null;
+        final Graph<?, ?> graph = null != index ? index.getGraph() : null;
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).updateLabels(node);
+        }
+    }
+
+    /**
+     * Records that the bounds, or the parent, of the given node have changed, so the spatial indexes
+     * for the graph can be updated.
+     */
+    public static void updateBounds(final GraphCommandExecutionContext context,
+                                    final Node node) {
+        final Index<?, ?> index = null != context ? context.getGraphIndex() : null;
+        if (null != index) {
+            updateBounds(index.getGraph(),
+                         node);
+        }
+    }
+
+    public static void updateBounds(final Graph<?, ?> graph,
+                                    final Node node) {
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).getBoundsChanges().add(node.getUUID());
+        }
+    }
+
+    /**
+     * Records that the bounds of any node in the graph may have changed, eg: after applying a layout.
+     */
+    public static void resetBounds(final Graph<?, ?> graph) {
+        if (graph instanceof GraphImpl) {
+            ((GraphImpl<?>) graph).getBoundsChanges().reset();
+        }
+    }
+
     @SuppressWarnings("all")
     public static int computeGraphHashCode(GraphImpl graph) {
         final int[] result = {0};
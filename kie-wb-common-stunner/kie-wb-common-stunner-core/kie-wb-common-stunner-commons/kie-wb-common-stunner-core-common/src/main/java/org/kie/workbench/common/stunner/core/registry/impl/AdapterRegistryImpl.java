@@ -18,8 +18,10 @@ package org.kie.workbench.common.stunner.core.registry.impl;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.kie.workbench.common.stunner.core.api.AbstractDefinitionManager;
@@ -34,6 +36,10 @@ import org.kie.workbench.common.stunner.core.definition.adapter.exception.Adapte
 import org.kie.workbench.common.stunner.core.registry.DynamicRegistry;
 import org.kie.workbench.common.stunner.core.registry.definition.AdapterRegistry;
 
+/**
+ * The adapters resolved for each type are cached, as adapter lookups happen for each element, property
+ * and field on most diagram operations. The caches are cleared when adapters are registered or removed.
+ */
 public class AdapterRegistryImpl implements AdapterRegistry,
                                             DynamicRegistry<Adapter> {
 
@@ -44,14 +50,22 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     private final List<DefinitionAdapter> definitionAdapters = new LinkedList<>();
     private final List<PropertyAdapter> propertyAdapters = new LinkedList<>();
     private final List<MorphAdapter> morphAdapters = new LinkedList<>();
+    private final Map<Class<?>, DefinitionSetAdapter> definitionSetAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, DefinitionSetRuleAdapter> definitionSetRuleAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, DefinitionAdapter> definitionAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, PropertyAdapter> propertyAdaptersByType = new HashMap<>();
+    private final Map<Class<?>, MorphAdapter> morphAdaptersByType = new HashMap<>();
+    private int lookupCount = 0;
+    private int lookupMissCount = 0;
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionSetAdapter<T> getDefinitionSetAdapter(final Class<?> type) {
-        for (DefinitionSetAdapter adapter : definitionSetAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionSetAdapter adapter = lookup(definitionSetAdaptersByType,
+                                                    definitionSetAdapters,
+                                                    type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionSetAdapter.class,
                             type);
@@ -60,10 +74,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionSetRuleAdapter<T> getDefinitionSetRuleAdapter(final Class<?> type) {
-        for (DefinitionSetRuleAdapter adapter : definitionSetRuleAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionSetRuleAdapter adapter = lookup(definitionSetRuleAdaptersByType,
+                                                        definitionSetRuleAdapters,
+                                                        type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionSetRuleAdapter.class,
                             type);
@@ -72,10 +87,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> DefinitionAdapter<T> getDefinitionAdapter(final Class<?> type) {
-        for (DefinitionAdapter adapter : definitionAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final DefinitionAdapter adapter = lookup(definitionAdaptersByType,
+                                                 definitionAdapters,
+                                                 type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(DefinitionAdapter.class,
                             type);
@@ -84,10 +100,11 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> PropertyAdapter<T, ?> getPropertyAdapter(final Class<?> type) {
-        for (PropertyAdapter adapter : propertyAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
+        final PropertyAdapter adapter = lookup(propertyAdaptersByType,
+                                               propertyAdapters,
+                                               type);
+        if (null != adapter) {
+            return adapter;
         }
         return nullHandling(PropertyAdapter.class,
                             type);
@@ -96,17 +113,34 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public <T> MorphAdapter<T> getMorphAdapter(final Class<?> type) {
-        for (MorphAdapter adapter : morphAdapters) {
-            if (adapter.accepts(type)) {
-                return adapter;
-            }
-        }
-        return null;
+        return lookup(morphAdaptersByType,
+                      morphAdapters,
+                      type);
+    }
+
+    /**
+     * Amount of adapter lookups since the last statistics reset.
+     */
+    public int getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Amount of adapter lookups not resolved from the cache since the last statistics reset.
+     */
+    public int getLookupMissCount() {
+        return lookupMissCount;
+    }
+
+    public void resetStatistics() {
+        lookupCount = 0;
+        lookupMissCount = 0;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void register(final Adapter item) {
+        clearCache();
         boolean registered = false;
         if (item instanceof DefinitionSetAdapter) {
             definitionSetAdapters.add((DefinitionSetAdapter) item);
@@ -164,6 +198,7 @@ public class AdapterRegistryImpl implements AdapterRegistry,
     @Override
     @SuppressWarnings("unchecked")
     public boolean remove(final Adapter item) {
+        clearCache();
         if (item instanceof DefinitionSetAdapter) {
             return definitionSetAdapters.remove(item);
         } else if (item instanceof DefinitionSetRuleAdapter) {
@@ -178,6 +213,39 @@ public class AdapterRegistryImpl implements AdapterRegistry,
         return false;
     }
 
+    private <A extends Adapter> A lookup(final Map<Class<?>, A> cache,
+                                         final List<A> adapters,
+                                         final Class<?> type) {
+        lookupCount++;
+        A adapter = cache.get(type);
+        if (null == adapter && !cache.containsKey(type)) {
+            lookupMissCount++;
+            adapter = findAdapter(adapters,
+                                  type);
+            cache.put(type,
+                      adapter);
+        }
+        return adapter;
+    }
+
+    private static <A extends Adapter> A findAdapter(final List<A> adapters,
+                                                     final Class<?> type) {
+        for (A adapter : adapters) {
+            if (adapter.accepts(type)) {
+                return adapter;
+            }
+        }
+        return null;
+    }
+
+    private void clearCache() {
+        definitionSetAdaptersByType.clear();
+        definitionSetRuleAdaptersByType.clear();
+        definitionAdaptersByType.clear();
+        propertyAdaptersByType.clear();
+        morphAdaptersByType.clear();
+    }
+
     private static <T extends PriorityAdapter> void sortAdapters(final List<T> adapters) {
         Collections.sort(adapters, Comparator.comparingInt(PriorityAdapter::getPriority));
     }
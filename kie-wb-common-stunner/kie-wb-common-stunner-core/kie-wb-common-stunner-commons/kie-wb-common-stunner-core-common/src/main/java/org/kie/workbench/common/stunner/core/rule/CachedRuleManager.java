@@ -29,7 +29,28 @@ import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 
 import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
-
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeDockingContext;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.DockingEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.NodeContainmentEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.handler.impl.NodeDockingEvaluationHandler;
+import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
+
+/**
+ * A rule manager that caches the rules that apply for each context type, for a given rule set.
+ * <p>
+ * Containment, docking and connection rules are also compiled into decision tables (see {@link RuleDecisionTable}),
+ * so allowed contexts (the most common ones, eg: during drag operations) are resolved without running the handlers.
+ * Only when the context is not allowed by the tables, the regular evaluation is performed, which provides the
+ * resulting violations.
+ * Tables are just used if the context type is handled exclusively by the default handler, and if no rule extensions
+ * are present for it, otherwise the regular evaluation is always performed.
+ */
 @Dependent
 @Typed(CachedRuleManager.class)
 public class CachedRuleManager implements RuleManager {
@@ -64,6 +85,11 @@ public class CachedRuleManager implements RuleManager {
     @Override
     public RuleViolations evaluate(final RuleSet ruleSet,
                                    final RuleEvaluationContext context) {
+        final RuleDecisionTable table = getCachedContextRules(ruleSet).getDecisionTable(ruleSet,
+                                                                                         context);
+        if (null != table && table.allows(context)) {
+            return new DefaultRuleViolations();
+        }
         return ruleManager.evaluate(ruleSet,
                                     context);
     }
@@ -76,22 +102,54 @@ public class CachedRuleManager implements RuleManager {
 
     private Collection<Rule> getRulesByContext(final RuleSet ruleSet,
                                                final RuleEvaluationContext context) {
+        return getCachedContextRules(ruleSet).getRulesByContext(ruleSet,
+                                                                context);
+    }
+
+    private CachedContextRules getCachedContextRules(final RuleSet ruleSet) {
         CachedContextRules crs = cachedContextRules.get(ruleSet.getName());
         if (null == crs) {
-            crs = new CachedContextRules();
+            crs = new CachedContextRules(ruleSet);
             cachedContextRules.put(ruleSet.getName(),
                                    crs);
+        } else if (crs.ruleSet != ruleSet) {
+            // The rule set instance has changed, so both cached rules and decision tables are no longer valid.
+            crs.clear();
+            crs.ruleSet = ruleSet;
         }
-        return crs.getRulesByContext(ruleSet,
-                                     context);
+        return crs;
+    }
+
+    private static boolean isDefaultHandler(final Class<? extends RuleEvaluationContext> contextType,
+                                            final RuleEvaluationHandler handler) {
+        if (ContainmentContext.class.equals(contextType)) {
+            return handler instanceof ContainmentEvaluationHandler;
+        }
+        if (DockingContext.class.equals(contextType)) {
+            return handler instanceof DockingEvaluationHandler;
+        }
+        if (ConnectionContext.class.equals(contextType)) {
+            return handler instanceof ConnectionEvaluationHandler;
+        }
+        if (NodeContainmentContext.class.equals(contextType)) {
+            return handler instanceof NodeContainmentEvaluationHandler;
+        }
+        if (NodeDockingContext.class.equals(contextType)) {
+            return handler instanceof NodeDockingEvaluationHandler;
+        }
+        return false;
     }
 
     private class CachedContextRules {
 
         private final Map<Class<? extends RuleEvaluationContext>, List<Rule>> rulesByContent;
+        private final Map<Class<? extends RuleEvaluationContext>, RuleDecisionTable> tablesByContext;
+        private RuleSet ruleSet;
 
-        public CachedContextRules() {
+        public CachedContextRules(final RuleSet ruleSet) {
             this.rulesByContent = new HashMap<>(15);
+            this.tablesByContext = new HashMap<>(15);
+            this.ruleSet = ruleSet;
         }
 
         public Collection<Rule> getRulesByContext(final RuleSet ruleSet,
@@ -115,8 +173,40 @@ public class CachedRuleManager implements RuleManager {
             return rules;
         }
 
+        public RuleDecisionTable getDecisionTable(final RuleSet ruleSet,
+                                                  final RuleEvaluationContext context) {
+            final Class<? extends RuleEvaluationContext> key = context.getClass();
+            if (tablesByContext.containsKey(key)) {
+                return tablesByContext.get(key);
+            }
+            final RuleDecisionTable table = isDecisionTableSupported(context) ?
+                    RuleDecisionTable.build(context.getType(),
+                                            getRulesByContext(ruleSet,
+                                                              context)) :
+                    null;
+            tablesByContext.put(key,
+                                table);
+            return table;
+        }
+
         public void clear() {
             rulesByContent.clear();
+            tablesByContext.clear();
+        }
+
+        private boolean isDecisionTableSupported(final RuleEvaluationContext context) {
+            final Collection<RuleEvaluationHandler> handlers = registry().getHandlersByContext(context.getType());
+            if (handlers.size() != 1 || !isDefaultHandler(context.getType(),
+                                                          handlers.iterator().next())) {
+                return false;
+            }
+            for (final Rule rule : getRulesByContext(ruleSet,
+                                                     context)) {
+                if (RuleManagerImpl.isRuleExtension().test(rule)) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         private boolean accepts(final Collection<RuleEvaluationHandler> handlers,
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.rule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.content.definition.Definition;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeDockingContext;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.CanDock;
+
+/**
+ * A precompiled form of the containment, docking and connection rules for a given context type.
+ * <p>
+ * Roles are interned into integer identifiers and the allowed roles for each rule are kept as bit sets, so
+ * checking whether a context is allowed does not require streams nor allocations.
+ * <p>
+ * A table only answers whether the context is allowed. Once the context is not allowed, the rule manager
+ * must run the regular evaluation, which provides the resulting violations.
+ */
+abstract class RuleDecisionTable {
+
+    /**
+     * Returns true only if the context is known to be allowed by the rules in this table.
+     */
+    abstract boolean allows(RuleEvaluationContext context);
+
+    /**
+     * Builds the table for the given context type, or returns null if the type is not supported.
+     */
+    static RuleDecisionTable build(final Class<? extends RuleEvaluationContext> contextType,
+                                   final Collection<Rule> rules) {
+        if (ContainmentContext.class.equals(contextType)) {
+            final RoleAllowanceTable table = RoleAllowanceTable.forContainment(rules);
+            return new RuleDecisionTable() {
+                @Override
+                boolean allows(final RuleEvaluationContext context) {
+                    final ContainmentContext containment = (ContainmentContext) context;
+                    return table.allows(containment.getParentRoles(),
+                                        containment.getCandidateRoles());
+                }
+            };
+        }
+        if (DockingContext.class.equals(contextType)) {
+            final RoleAllowanceTable table = RoleAllowanceTable.forDocking(rules);
+            return new RuleDecisionTable() {
+                @Override
+                boolean allows(final RuleEvaluationContext context) {
+                    final DockingContext docking = (DockingContext) context;
+                    return table.allows(docking.getParentRoles(),
+                                        docking.getCandidateRoles());
+                }
+            };
+        }
+        if (NodeContainmentContext.class.equals(contextType)) {
+            final RoleAllowanceTable table = RoleAllowanceTable.forContainment(rules);
+            return new RuleDecisionTable() {
+                @Override
+                boolean allows(final RuleEvaluationContext context) {
+                    final NodeContainmentContext containment = (NodeContainmentContext) context;
+                    final Set<String> parentRoles = GraphUtils.getLabels(containment.getParent());
+                    if (!table.hasRules(parentRoles)) {
+                        return false;
+                    }
+                    for (final Node<? extends Definition<?>, ? extends Edge> candidate : containment.getCandidates()) {
+                        if (!table.allows(parentRoles,
+                                          GraphUtils.getLabels(candidate))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            };
+        }
+        if (NodeDockingContext.class.equals(contextType)) {
+            final RoleAllowanceTable table = RoleAllowanceTable.forDocking(rules);
+            return new RuleDecisionTable() {
+                @Override
+                boolean allows(final RuleEvaluationContext context) {
+                    final NodeDockingContext docking = (NodeDockingContext) context;
+                    return table.allows(GraphUtils.getLabels(docking.getParent()),
+                                        GraphUtils.getLabels(docking.getCandidate()));
+                }
+            };
+        }
+        if (ConnectionContext.class.equals(contextType)) {
+            final ConnectionTable table = new ConnectionTable(rules);
+            return new RuleDecisionTable() {
+                @Override
+                boolean allows(final RuleEvaluationContext context) {
+                    final ConnectionContext connection = (ConnectionContext) context;
+                    return table.allows(connection.getConnectorRole(),
+                                        connection.getSourceRoles().orElse(Collections.emptySet()),
+                                        connection.getTargetRoles().orElse(Collections.emptySet()));
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Interns role names into consecutive integer identifiers.
+     */
+    static class RoleIds {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int intern(final String role) {
+            Integer id = ids.get(role);
+            if (null == id) {
+                id = ids.size();
+                ids.put(role,
+                        id);
+            }
+            return id;
+        }
+
+        int get(final String role) {
+            final Integer id = ids.get(role);
+            return null != id ? id : -1;
+        }
+    }
+
+    /**
+     * A fixed size bit set, indexed by role identifier.
+     */
+    static class RoleBits {
+
+        private final int[] words;
+
+        RoleBits(final RoleIds roleIds,
+                 final int size,
+                 final Collection<String> roles) {
+            this.words = new int[(size >> 5) + 1];
+            for (final String role : roles) {
+                final int id = roleIds.get(role);
+                words[id >> 5] |= 1 << (id & 31);
+            }
+        }
+
+        boolean get(final int id) {
+            return id >= 0 && (id >> 5) < words.length && (words[id >> 5] & (1 << (id & 31))) != 0;
+        }
+
+        boolean intersects(final RoleIds roleIds,
+                           final Set<String> roles) {
+            for (final String role : roles) {
+                if (get(roleIds.get(role))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Compiled form for the rules that, given a parent role, restrict the allowed candidate roles
+     * (eg: containment and docking rules).
+     */
+    static class RoleAllowanceTable {
+
+        private final RoleIds roleIds = new RoleIds();
+        private final Map<String, List<RoleBits>> allowedByRole = new HashMap<>();
+
+        static RoleAllowanceTable forContainment(final Collection<Rule> rules) {
+            final RoleAllowanceTable table = new RoleAllowanceTable();
+            final List<CanContain> containmentRules = new ArrayList<>();
+            for (final Rule rule : rules) {
+                if (rule instanceof CanContain) {
+                    containmentRules.add((CanContain) rule);
+                    ((CanContain) rule).getAllowedRoles().forEach(table.roleIds::intern);
+                }
+            }
+            final int size = table.roleIds.ids.size();
+            for (final CanContain rule : containmentRules) {
+                table.add(rule.getRole(),
+                          new RoleBits(table.roleIds,
+                                       size,
+                                       rule.getAllowedRoles()));
+            }
+            return table;
+        }
+
+        static RoleAllowanceTable forDocking(final Collection<Rule> rules) {
+            final RoleAllowanceTable table = new RoleAllowanceTable();
+            final List<CanDock> dockingRules = new ArrayList<>();
+            for (final Rule rule : rules) {
+                if (rule instanceof CanDock) {
+                    dockingRules.add((CanDock) rule);
+                    ((CanDock) rule).getAllowedRoles().forEach(table.roleIds::intern);
+                }
+            }
+            final int size = table.roleIds.ids.size();
+            for (final CanDock rule : dockingRules) {
+                table.add(rule.getRole(),
+                          new RoleBits(table.roleIds,
+                                       size,
+                                       rule.getAllowedRoles()));
+            }
+            return table;
+        }
+
+        private void add(final String role,
+                         final RoleBits allowed) {
+            List<RoleBits> allowedRoles = allowedByRole.get(role);
+            if (null == allowedRoles) {
+                allowedRoles = new ArrayList<>(1);
+                allowedByRole.put(role,
+                                  allowedRoles);
+            }
+            allowedRoles.add(allowed);
+        }
+
+        boolean hasRules(final Set<String> parentRoles) {
+            for (final String parentRole : parentRoles) {
+                if (allowedByRole.containsKey(parentRole)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Allowed if at least one rule applies to the parent roles, and all the applying rules allow
+         * some of the candidate roles.
+         */
+        boolean allows(final Set<String> parentRoles,
+                       final Set<String> candidateRoles) {
+            boolean matched = false;
+            for (final String parentRole : parentRoles) {
+                final List<RoleBits> allowedRoles = allowedByRole.get(parentRole);
+                if (null != allowedRoles) {
+                    for (int i = 0; i < allowedRoles.size(); i++) {
+                        if (!allowedRoles.get(i).intersects(roleIds,
+                                                            candidateRoles)) {
+                            return false;
+                        }
+                    }
+                    matched = true;
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * Compiled form for the connection rules. For each connector role and rule, it keeps the allowed target
+     * roles for every source role.
+     */
+    static class ConnectionTable {
+
+        private final RoleIds roleIds = new RoleIds();
+        private final Map<String, List<Map<String, RoleBits>>> connectionsByRole = new HashMap<>();
+
+        ConnectionTable(final Collection<Rule> rules) {
+            final List<CanConnect> connectionRules = new ArrayList<>();
+            for (final Rule rule : rules) {
+                if (rule instanceof CanConnect) {
+                    final CanConnect canConnect = (CanConnect) rule;
+                    connectionRules.add(canConnect);
+                    canConnect.getPermittedConnections().forEach(pc -> roleIds.intern(pc.getEndRole()));
+                }
+            }
+            final int size = roleIds.ids.size();
+            for (final CanConnect rule : connectionRules) {
+                final Map<String, List<String>> endRolesByStartRole = new HashMap<>();
+                for (final CanConnect.PermittedConnection pc : rule.getPermittedConnections()) {
+                    endRolesByStartRole.computeIfAbsent(pc.getStartRole(),
+                                                        r -> new ArrayList<>()).add(pc.getEndRole());
+                }
+                final Map<String, RoleBits> compiled = new HashMap<>(endRolesByStartRole.size());
+                endRolesByStartRole.forEach((startRole, endRoles) -> compiled.put(startRole,
+                                                                                  new RoleBits(roleIds,
+                                                                                               size,
+                                                                                               endRoles)));
+                connectionsByRole.computeIfAbsent(rule.getRole(),
+                                                  r -> new ArrayList<>(1)).add(compiled);
+            }
+        }
+
+        /**
+         * Allowed if at least one rule applies to the connector role, and all the applying rules permit
+         * a connection from some source role to some target role.
+         */
+        boolean allows(final String connectorRole,
+                       final Set<String> sourceRoles,
+                       final Set<String> targetRoles) {
+            final List<Map<String, RoleBits>> rules = connectionsByRole.get(connectorRole);
+            if (null == rules) {
+                return false;
+            }
+            for (int i = 0; i < rules.size(); i++) {
+                if (!allows(rules.get(i),
+                            sourceRoles,
+                            targetRoles)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean allows(final Map<String, RoleBits> rule,
+                               final Set<String> sourceRoles,
+                               final Set<String> targetRoles) {
+            for (final String sourceRole : sourceRoles) {
+                final RoleBits endRoles = rule.get(sourceRole);
+                if (null != endRoles && endRoles.intersects(roleIds,
+                                                            targetRoles)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -133,6 +135,40 @@ public class StatefulGraphEvaluationState extends AbstractGraphEvaluationState {
                                                           this::appendAddedNodes));
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map<String, Integer> countLabels(final Set<String> roleFilter) {
+            // Start from the graph's counts and apply the pending changes, instead of recounting all nodes.
+            final Graph<?, ? extends Node> graph = getGraph();
+            final Map<String, Integer> result = new HashMap<>(GraphUtils.getLabelsCount(graph,
+                                                                                        roleFilter));
+            getDeletedElements().stream()
+                    .filter(e -> Objects.equals(graph.getNode(e.getUUID()), e))
+                    .forEach(e -> incrementLabelsCount(result, e, roleFilter, -1));
+            getAddedElements().stream()
+                    .filter(e -> Objects.nonNull(e.asNode()))
+                    .forEach(e -> incrementLabelsCount(result, e, roleFilter, 1));
+            return result;
+        }
+
+        private void incrementLabelsCount(final Map<String, Integer> labelsCount,
+                                          final Element<? extends View<?>> element,
+                                          final Set<String> roleFilter,
+                                          final int increment) {
+            GraphUtils.getLabels(element)
+                    .stream()
+                    .filter(role -> null == roleFilter || roleFilter.contains(role))
+                    .forEach(role -> {
+                        final int count = Optional.ofNullable(labelsCount.get(role)).orElse(0) + increment;
+                        if (count > 0) {
+                            labelsCount.put(role,
+                                            count);
+                        } else {
+                            labelsCount.remove(role);
+                        }
+                    });
+        }
+
         private Collection<Node> appendAddedNodes(final Collection<Node> nodes) {
             getAddedElements().stream()
                     .filter(e -> Objects.nonNull(e.asNode()))
@@ -35,7 +35,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -162,6 +165,19 @@ public class BindableDefinitionAdapterImplTest {
         assertEquals(property, propertyField.get());
     }
 
+    @Test
+    public void testAddBindingsWithFieldAccessors() {
+        BindableFieldAccessors accessors = new BindableFieldAccessors()
+                .addField("nameField", pojo -> "nameValue", null);
+        tested.addBindings(BindableTestBean.class, new DefinitionAdapterBindings().setFieldAccessors(accessors));
+        verify(functions).addFieldAccessors(eq(BindableTestBean.class), eq(accessors));
+    }
+
+    @Test
+    public void testAddBindingsWithoutFieldAccessors() {
+        verify(functions, never()).addFieldAccessors(any(), any());
+    }
+
     @Test
     public void testGetMetaTypes() {
         String nameField = tested.getMetaPropertyField(BEAN1, PropertyMetaTypes.NAME);
@@ -18,6 +18,9 @@ package org.kie.workbench.common.stunner.core.graph;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
 import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
 import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
 import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
@@ -68,4 +71,50 @@ public class HashCodeAndEqualityTest {
         assertEquals(a.hashCode(),
                      a.hashCode());
     }
+
+    @Test
+    public void testGraphHashCodeWhenNodesChange() {
+        GraphImpl<String> a = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        final int emptyHash = a.hashCode();
+        NodeImpl<String> node = new NodeImpl<>("Node");
+        a.addNode(node);
+        final int hash = a.hashCode();
+        assertNotEquals(emptyHash,
+                        hash);
+        assertEquals(hash,
+                     a.hashCode());
+        a.removeNode(node.getUUID());
+        assertEquals(emptyHash,
+                     a.hashCode());
+    }
+
+    @Test
+    public void testGraphHashCodeWhenChangedOutsideCommands() {
+        GraphImpl<String> a = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        GraphImpl<String> b = new GraphImpl<String>("Graph",
+                                                    new GraphNodeStoreImpl());
+        NodeImpl<View<String>> nodeA = new NodeImpl<>("Node");
+        nodeA.setContent(new ViewImpl<>("definition",
+                                        Bounds.create(0, 0, 10, 10)));
+        NodeImpl<View<String>> nodeB = new NodeImpl<>("Node");
+        nodeB.setContent(new ViewImpl<>("definition",
+                                        Bounds.create(0, 0, 10, 10)));
+        a.addNode(nodeA);
+        b.addNode(nodeB);
+        final int hash = a.hashCode();
+        assertEquals(hash,
+                     b.hashCode());
+        nodeA.getContent().setBounds(Bounds.create(5, 5, 15, 15));
+        assertNotEquals(hash,
+                        a.hashCode());
+        assertNotEquals(a,
+                        b);
+        nodeA.getContent().setBounds(Bounds.create(0, 0, 10, 10));
+        assertEquals(hash,
+                     a.hashCode());
+        assertEquals(a,
+                     b);
+    }
 }
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.command;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.core.api.DefinitionManager;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.command.CommandResult;
+import org.kie.workbench.common.stunner.core.command.impl.DeferredCompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnectorImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.processing.index.Index;
+import org.kie.workbench.common.stunner.core.graph.processing.index.map.MapIndexBuilder;
+import org.kie.workbench.common.stunner.core.rule.EmptyRuleSet;
+import org.kie.workbench.common.stunner.core.rule.RuleSet;
+import org.kie.workbench.common.stunner.core.rule.RuleSetImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
+import org.kie.workbench.common.stunner.core.rule.RuleViolations;
+import org.kie.workbench.common.stunner.core.rule.context.EdgeCardinalityContext;
+import org.kie.workbench.common.stunner.core.rule.context.GraphEvaluationContext;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.EdgeOccurrences;
+import org.kie.workbench.common.stunner.core.rule.impl.Occurrences;
+import org.kie.workbench.common.stunner.core.rule.violations.DefaultRuleViolations;
+import org.kie.workbench.common.stunner.core.rule.violations.DockingRuleViolation;
+import org.kie.workbench.common.stunner.core.rule.violations.EdgeCardinalityMaxRuleViolation;
+import org.kie.workbench.common.stunner.core.rule.violations.EmptyRuleViolations;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GraphBulkLoaderTest {
+
+    private static final String ROOT = "root";
+    private static final String NODE1 = "node1";
+    private static final String NODE2 = "node2";
+    private static final String NODE3 = "node3";
+    private static final String DOCKED = "docked";
+    private static final String CONNECTOR = "connector";
+
+    private final GraphCommandFactory commandFactory = new GraphCommandFactory();
+
+    @Test
+    public void testLoadIsEquivalentToCommands() {
+        final Model expected = new Model();
+        expected.buildWithCommands();
+        final Model tested = new Model();
+        final CommandResult<RuleViolation> result = tested.load();
+
+        assertFalse(CommandUtils.isError(result));
+        assertEquals(describe(expected.graph),
+                     describe(tested.graph));
+        for (Node node : tested.graph.nodes()) {
+            assertEquals(node,
+                         tested.index.getNode(node.getUUID()));
+            for (Object edge : node.getOutEdges()) {
+                assertEquals(edge,
+                             tested.index.getEdge(((Edge) edge).getUUID()));
+            }
+        }
+    }
+
+    @Test
+    public void testLoadKeepsExistingControlPoints() {
+        final Model expected = new Model();
+        expected.connectorContent().setControlPoints(new ControlPoint[]{ControlPoint.build(1, 1)});
+        expected.buildWithCommands();
+        final Model tested = new Model();
+        tested.connectorContent().setControlPoints(new ControlPoint[]{ControlPoint.build(1, 1)});
+        tested.load();
+
+        assertEquals(3,
+                     tested.connectorContent().getControlPoints().length);
+        assertEquals(describe(expected.graph),
+                     describe(tested.graph));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDockNodeWithConnections() {
+        final Model tested = new Model();
+        final GraphBulkLoader loader = new GraphBulkLoader(tested.context).clear();
+        loader.addNode(tested.root);
+        loader.addChildNode(tested.root, tested.node1);
+        loader.addChildNode(tested.root, tested.docked);
+        loader.addConnector(tested.node1, tested.connector, null, new ControlPoint[0], tested.docked, null);
+        loader.addDockedNode(tested.node1, tested.docked);
+        final CommandResult<RuleViolation> result = loader.complete();
+
+        assertTrue(CommandUtils.isError(result));
+        assertTrue(result.getViolations().iterator().next() instanceof DockingRuleViolation);
+        assertEquals(1,
+                     tested.node1.getOutEdges().size());
+        assertEquals(2,
+                     tested.docked.getInEdges().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRulesAreEvaluatedOnComplete() {
+        final Model model = new Model();
+        final GraphCommandExecutionContext context = mock(GraphCommandExecutionContext.class);
+        final Index index = model.index;
+        when(context.getGraphIndex()).thenReturn(index);
+        final RuleSetImpl ruleSet = new RuleSetImpl("ruleSet", new ArrayList<>());
+        ruleSet.getRules().add(new CanContain("rootContainment", ROOT, Collections.singleton(NODE1)));
+        when(context.getRuleSet()).thenReturn(ruleSet);
+        final DefaultRuleViolations violations = new DefaultRuleViolations();
+        violations.addViolation(new DockingRuleViolation(ROOT, NODE1));
+        when(context.evaluate(any(GraphEvaluationContext.class))).thenReturn(EmptyRuleViolations.INSTANCE);
+
+        final GraphBulkLoader loader = new GraphBulkLoader(context).clear();
+        loader.addNode(model.root);
+        loader.addChildNode(model.root, model.node1);
+        assertFalse(CommandUtils.isError(loader.complete()));
+
+        when(context.evaluate(any(GraphEvaluationContext.class))).thenReturn((RuleViolations) violations);
+        assertTrue(CommandUtils.isError(loader.complete()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRulesAreNotEvaluatedWithoutRules() {
+        final Model model = new Model();
+        final GraphCommandExecutionContext context = mock(GraphCommandExecutionContext.class);
+        final Index index = model.index;
+        when(context.getGraphIndex()).thenReturn(index);
+        when(context.getRuleSet()).thenReturn(new EmptyRuleSet());
+
+        final GraphBulkLoader loader = new GraphBulkLoader(context).clear();
+        loader.addNode(model.root);
+        loader.addChildNode(model.root, model.node1);
+        assertFalse(CommandUtils.isError(loader.complete()));
+        verify(context, never()).evaluate(any(GraphEvaluationContext.class));
+    }
+
+    @Test
+    public void testCardinalityRulesAreEvaluatedOnLoadedGraph() {
+        final RulesModel tested = new RulesModel();
+        final GraphBulkLoader loader = tested.load();
+        final CommandResult<RuleViolation> result = loader.complete();
+
+        assertFalse(CommandUtils.isError(result));
+        assertFalse(result.getViolations().iterator().hasNext());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEdgeCardinalityRuleViolatedOnLoadedGraph() {
+        final RulesModel tested = new RulesModel();
+        final GraphBulkLoader loader = tested.load();
+        final Edge edge = tested.handler.buildEdge("edge2", tested.edgeDef);
+        loader.addConnector(tested.task1, edge, null, new ControlPoint[0], tested.task2, null);
+        final CommandResult<RuleViolation> result = loader.complete();
+
+        // Cardinality rules are evaluated on the loaded graph as it is, so they report warnings.
+        assertTrue(CommandUtils.isWarn(result));
+        final List<RuleViolation> violations = new ArrayList<>();
+        result.getViolations().forEach(violations::add);
+        assertEquals(1,
+                     violations.size());
+        assertTrue(violations.get(0) instanceof EdgeCardinalityMaxRuleViolation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String describe(final Graph<?, Node> graph) {
+        final List<String> nodes = new ArrayList<>();
+        for (Node node : graph.nodes()) {
+            final List<String> edges = new ArrayList<>();
+            for (Object e : node.getOutEdges()) {
+                edges.add("out:" + describe((Edge) e));
+            }
+            for (Object e : node.getInEdges()) {
+                edges.add("in:" + describe((Edge) e));
+            }
+            Collections.sort(edges);
+            nodes.add(node.getUUID() + ((View) node.getContent()).getBounds() + edges);
+        }
+        Collections.sort(nodes);
+        return nodes.toString();
+    }
+
+    private static String describe(final Edge edge) {
+        final Object content = edge.getContent();
+        final StringBuilder description = new StringBuilder(content.getClass().getSimpleName())
+                .append("[").append(edge.getSourceNode().getUUID())
+                .append("->").append(edge.getTargetNode().getUUID());
+        if (content instanceof ViewConnector) {
+            final ViewConnector connector = (ViewConnector) content;
+            description.append(", ").append(edge.getUUID())
+                    .append(", ").append(connector.getSourceConnection())
+                    .append(", ").append(connector.getTargetConnection());
+            for (ControlPoint cp : connector.getControlPoints()) {
+                description.append(", ").append(cp.getLocation());
+            }
+        }
+        return description.append("]").toString();
+    }
+
+    /**
+     * A root node with two tasks connected, that loads with no violations against a real rule manager.
+     * The root and the incoming connectors of a task are limited to one.
+     */
+    private static class RulesModel {
+
+        private final TestingGraphMockHandler handler = new TestingGraphMockHandler();
+        private final Object edgeDef = handler.newDef("edgeId", Optional.empty());
+        private final Node root = node(ROOT, "rootId", "rootLabel");
+        private final Node task1 = node(NODE1, "taskId", "taskLabel");
+        private final Node task2 = node(NODE2, "taskId", "taskLabel");
+        private final GraphCommandExecutionContext context;
+
+        private RulesModel() {
+            final RuleSet ruleSet = handler.ruleSet;
+            ruleSet.getRules().add(new CanContain("graphContainment",
+                                                  TestingGraphMockHandler.DEF_SET_ID,
+                                                  Collections.singleton("rootLabel")));
+            ruleSet.getRules().add(new CanContain("rootContainment",
+                                                  "rootId",
+                                                  Collections.singleton("taskLabel")));
+            ruleSet.getRules().add(new Occurrences("rootOccurrences",
+                                                   "rootLabel",
+                                                   1,
+                                                   1));
+            ruleSet.getRules().add(new EdgeOccurrences("taskIncomingEdges",
+                                                       "edgeId",
+                                                       "taskLabel",
+                                                       EdgeCardinalityContext.Direction.INCOMING,
+                                                       0,
+                                                       1));
+            final List<CanConnect.PermittedConnection> connections = new ArrayList<>();
+            connections.add(new CanConnect.PermittedConnection("taskLabel", "taskLabel"));
+            ruleSet.getRules().add(new CanConnect("taskConnections",
+                                                  "edgeId",
+                                                  connections));
+            context = new ContextualGraphCommandExecutionContext(handler.getDefinitionManager(),
+                                                                 handler.getFactoryManager(),
+                                                                 handler.createRuleManagerImplementation(),
+                                                                 handler.graphIndex,
+                                                                 ruleSet);
+        }
+
+        @SuppressWarnings("unchecked")
+        private GraphBulkLoader load() {
+            final GraphBulkLoader loader = new GraphBulkLoader(context);
+            loader.addNode(root);
+            loader.addChildNode(root, task1);
+            loader.addChildNode(root, task2);
+            loader.addConnector(task1, handler.buildEdge("edge1", edgeDef), null, new ControlPoint[0], task2, null);
+            return loader;
+        }
+
+        private Node node(final String uuid,
+                          final String id,
+                          final String label) {
+            return handler.graphAPI.nodeFactory.build(uuid,
+                                                      handler.newDef(id,
+                                                                     Optional.of(new String[]{label})));
+        }
+    }
+
+    private class Model {
+
+        private final GraphImpl<Object> graph = GraphImpl.build("graph");
+        private final Index<Node, Edge> index = new MapIndexBuilder().build(graph);
+        private final GraphCommandExecutionContext context = new DirectGraphCommandExecutionContext(mock(DefinitionManager.class),
+                                                                                                   mock(FactoryManager.class),
+                                                                                                   index);
+        private final Node<View<Object>, Edge> root = node(ROOT, 0, 0, 1000, 1000);
+        private final Node<View<Object>, Edge> node1 = node(NODE1, 10, 10, 50, 50);
+        private final Node<View<Object>, Edge> node2 = node(NODE2, 100, 100, 500, 500);
+        private final Node<View<Object>, Edge> node3 = node(NODE3, 150, 150, 200, 200);
+        private final Node<View<Object>, Edge> docked = node(DOCKED, 20, 20, 30, 30);
+        private final Edge<ViewConnector<Object>, Node> connector = new EdgeImpl<>(CONNECTOR);
+        private final List<Point2D> controlPoints = new ArrayList<>();
+
+        private Model() {
+            connector.setContent(new ViewConnectorImpl<>(new Object(),
+                                                         Bounds.create(0, 0, 10, 10)));
+            controlPoints.add(Point2D.create(60, 60));
+            controlPoints.add(Point2D.create(80, 90));
+        }
+
+        private ViewConnector<Object> connectorContent() {
+            return connector.getContent();
+        }
+
+        private void buildWithCommands() {
+            execute(commandFactory.clearGraph());
+            execute(commandFactory.addNode(root));
+            execute(commandFactory.addChildNode(root, node1));
+            execute(commandFactory.updatePosition(node1, Point2D.create(5, 5)));
+            execute(commandFactory.addChildNode(root, node2));
+            execute(commandFactory.addChildNode(node2, node3));
+            execute(commandFactory.updatePosition(node3, Point2D.create(50, 50)));
+            execute(commandFactory.addChildNode(root, docked));
+            execute(commandFactory.addDockedNode(node1, docked));
+            final DeferredCompositeCommand.Builder<GraphCommandExecutionContext, RuleViolation> builder =
+                    new DeferredCompositeCommand.Builder<>();
+            builder.deferCommand(() -> commandFactory.addConnector(node1, connector, MagnetConnection.Builder.at(1, 2)));
+            for (int i = 0; i < controlPoints.size(); i++) {
+                final ControlPoint cp = ControlPoint.build(controlPoints.get(i));
+                final int index = i;
+                builder.deferCommand(() -> commandFactory.addControlPoint(connector, cp, index));
+            }
+            builder.deferCommand(() -> commandFactory.setTargetNode(node3, connector, MagnetConnection.Builder.at(3, 4)));
+            execute(builder.build());
+        }
+
+        private CommandResult<RuleViolation> load() {
+            final GraphBulkLoader loader = new GraphBulkLoader(context).clear();
+            loader.addNode(root);
+            loader.addChildNode(root, node1);
+            loader.setPosition(node1, Point2D.create(5, 5));
+            loader.addChildNode(root, node2);
+            loader.addChildNode(node2, node3);
+            loader.setPosition(node3, Point2D.create(50, 50));
+            loader.addChildNode(root, docked);
+            loader.addDockedNode(node1, docked);
+            final ControlPoint[] cps = new ControlPoint[controlPoints.size()];
+            for (int i = 0; i < cps.length; i++) {
+                cps[i] = ControlPoint.build(controlPoints.get(i));
+            }
+            loader.addConnector(node1, connector, MagnetConnection.Builder.at(1, 2), cps, node3, MagnetConnection.Builder.at(3, 4));
+            return loader.complete();
+        }
+
+        private void execute(final org.kie.workbench.common.stunner.core.command.Command<GraphCommandExecutionContext, RuleViolation> command) {
+            assertFalse(CommandUtils.isError(command.execute(context)));
+        }
+
+        private Node<View<Object>, Edge> node(final String uuid,
+                                              final double x1,
+                                              final double y1,
+                                              final double x2,
+                                              final double y2) {
+            final Node<View<Object>, Edge> node = new NodeImpl<>(uuid);
+            node.setContent(new ViewImpl<>(new Object(),
+                                           Bounds.create(x1, y1, x2, y2)));
+            return node;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.impl;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LabelsCountIndexTest {
+
+    private GraphImpl<Object> graph;
+    private NodeImpl<Object> node1;
+    private NodeImpl<Object> node2;
+
+    @Before
+    public void setup() {
+        graph = new GraphImpl<>("graph",
+                                new GraphNodeStoreImpl());
+        node1 = new NodeImpl<>("node1");
+        node1.getLabels().add("task");
+        node1.getLabels().add("element");
+        node2 = new NodeImpl<>("node2");
+        node2.getLabels().add("element");
+        graph.addNode(node1);
+        graph.addNode(node2);
+    }
+
+    @Test
+    public void testCount() {
+        final LabelsCountIndex index = graph.getLabelsCount();
+        assertEquals(1, index.count("task"));
+        assertEquals(2, index.count("element"));
+        assertEquals(0, index.count("gateway"));
+        final Map<String, Integer> count = GraphUtils.getLabelsCount(graph,
+                                                                     Collections.singleton("element"));
+        assertEquals(1, count.size());
+        assertEquals(Integer.valueOf(2), count.get("element"));
+        assertTrue(GraphUtils.getLabelsCount(graph,
+                                             Collections.singleton("gateway")).isEmpty());
+    }
+
+    @Test
+    public void testAddAndRemoveNodes() {
+        final LabelsCountIndex index = graph.getLabelsCount();
+        final NodeImpl<Object> node3 = new NodeImpl<>("node3");
+        node3.getLabels().add("task");
+        graph.addNode(node3);
+        assertEquals(2, index.count("task"));
+        graph.removeNode(node1.getUUID());
+        assertEquals(1, index.count("task"));
+        assertEquals(1, index.count("element"));
+        assertTrue(index.isConsistent(graph.nodes()));
+        graph.clear();
+        assertEquals(0, graph.getLabelsCount().count("element"));
+    }
+
+    @Test
+    public void testUpdateLabels() {
+        final LabelsCountIndex index = graph.getLabelsCount();
+        node1.getLabels().clear();
+        node1.getLabels().add("gateway");
+        assertFalse(index.isConsistent(graph.nodes()));
+        graph.updateLabels(node1);
+        assertEquals(0, index.count("task"));
+        assertEquals(1, index.count("gateway"));
+        assertEquals(1, index.count("element"));
+        assertTrue(index.isConsistent(graph.nodes()));
+    }
+
+    @Test
+    public void testReplaceNode() {
+        final LabelsCountIndex index = graph.getLabelsCount();
+        final NodeImpl<Object> replacement = new NodeImpl<>("node1");
+        replacement.getLabels().add("gateway");
+        graph.addNode(replacement);
+        assertEquals(0, index.count("task"));
+        assertEquals(1, index.count("gateway"));
+        assertEquals(2, index.size());
+        assertTrue(index.isConsistent(graph.nodes()));
+    }
+}
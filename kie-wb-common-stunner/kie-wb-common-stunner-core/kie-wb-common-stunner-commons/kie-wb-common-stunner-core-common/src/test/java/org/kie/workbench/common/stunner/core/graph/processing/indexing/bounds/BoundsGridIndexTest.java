@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.graph.processing.indexing.bounds;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.BoundsGridIndex;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BoundsGridIndexTest {
+
+    private BoundsGridIndex<String> tested;
+
+    @Before
+    public void setup() {
+        tested = new BoundsGridIndex<>(100);
+        tested.put("container", "container", 0, 0, 0, 500, 500);
+        tested.put("child1", "child1", 1, 10, 10, 60, 60);
+        tested.put("child2", "child2", 2, 150, 150, 250, 250);
+    }
+
+    @Test
+    public void testFindAt() {
+        assertEquals("child1", tested.findAt(20, 20));
+        assertEquals("child2", tested.findAt(200, 200));
+        assertEquals("container", tested.findAt(400, 400));
+        assertNull(tested.findAt(600, 600));
+        assertNull(tested.findAt(-10, -10));
+    }
+
+    @Test
+    public void testFindAtHighestOrder() {
+        tested.put("child3", "child3", 3, 0, 0, 30, 30);
+        assertEquals("child3", tested.findAt(20, 20));
+        assertEquals("child1", tested.findAt(50, 50));
+    }
+
+    @Test
+    public void testFindAtOversized() {
+        tested.put("lane", "lane", 4, -10000, -10000, 10000, 10000);
+        assertEquals("lane", tested.findAt(20, 20));
+        assertEquals("lane", tested.findAt(9000, -9000));
+        tested.remove("lane");
+        assertEquals("child1", tested.findAt(20, 20));
+    }
+
+    @Test
+    public void testUpdate() {
+        tested.put("child1", "child1", 1, 300, 300, 350, 350);
+        assertEquals("container", tested.findAt(20, 20));
+        assertEquals("child1", tested.findAt(320, 320));
+        assertEquals(3, tested.size());
+        assertArrayEquals(new double[]{300, 300, 350, 350}, tested.getBounds("child1"), 0d);
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals("child2", tested.remove("child2"));
+        assertNull(tested.remove("child2"));
+        assertEquals("container", tested.findAt(200, 200));
+        assertNull(tested.get("child2"));
+        assertEquals(-1, tested.getOrder("child2"));
+    }
+
+    @Test
+    public void testFindIntersecting() {
+        assertEquals(Arrays.asList("container", "child1"), tested.findIntersecting(0, 0, 20, 20));
+        assertEquals(Arrays.asList("container", "child1", "child2"), tested.findIntersecting(-100, -100, 10000, 10000));
+        assertTrue(tested.findIntersecting(600, 600, 10, 10).isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        tested.clear();
+        assertTrue(tested.isEmpty());
+        assertNull(tested.findAt(20, 20));
+    }
+}
@@ -16,13 +16,19 @@
 
 package org.kie.workbench.common.stunner.core.graph.processing.indexing.bounds;
 
+import java.util.Optional;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.stunner.core.TestingGraphInstanceBuilder;
 import org.kie.workbench.common.stunner.core.TestingGraphMockHandler;
+import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
 import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.processing.index.bounds.GraphBoundsIndexerImpl;
@@ -30,11 +36,18 @@ import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.C
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.content.ChildrenTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.processing.traverse.tree.TreeWalkTraverseProcessorImpl;
 import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
+import org.kie.workbench.common.stunner.core.rule.RuleViolation;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class GraphBoundsIndexerImplTest {
@@ -127,4 +140,152 @@ public class GraphBoundsIndexerImplTest {
                      size[1],
                      0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetAtDeepestNode() {
+        Node<View<?>, Edge> node = graphBoundsIndexerImpl.getAt(50,
+                                                                50);
+        assertNotNull(node);
+        assertFalse(graphInstanceParent.parentNode.equals(node));
+    }
+
+    @Test
+    public void testGetAtRootNode() {
+        graphBoundsIndexerImpl.setRootUUID(graphInstanceParent.parentNode.getUUID());
+        Node<View<?>, Edge> node = graphBoundsIndexerImpl.getAt(1000,
+                                                                1000);
+        assertEquals(graphInstanceParent.parentNode,
+                     node);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdate() {
+        assertNull(graphBoundsIndexerImpl.getAt(350,
+                                                350));
+        ((View) graphInstanceParent.startNode.getContent()).setBounds(Bounds.create(300,
+                                                                                    300,
+                                                                                    400,
+                                                                                    400));
+        graphBoundsIndexerImpl.update(graphInstanceParent.startNode);
+        assertEquals(graphInstanceParent.startNode,
+                     graphBoundsIndexerImpl.getAt(350,
+                                                  350));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRemove() {
+        graphBoundsIndexerImpl.getAt(50,
+                                     50);
+        graphBoundsIndexerImpl.remove(graphInstanceParent.startNode);
+        graphBoundsIndexerImpl.remove(graphInstanceParent.intermNode);
+        graphBoundsIndexerImpl.remove(graphInstanceParent.endNode);
+        assertEquals(graphInstanceParent.parentNode,
+                     graphBoundsIndexerImpl.getAt(50,
+                                                  50));
+    }
+
+    @Test
+    public void testFindElementsAt() {
+        assertEquals(4,
+                     graphBoundsIndexerImpl.findElementsAt(10,
+                                                           10,
+                                                           20,
+                                                           20).size());
+        assertTrue(graphBoundsIndexerImpl.findElementsAt(500,
+                                                         500,
+                                                         20,
+                                                         20).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdatedByPositionCommand() {
+        assertNull(graphBoundsIndexerImpl.getAt(350,
+                                                350));
+        final Command<GraphCommandExecutionContext, RuleViolation> command =
+                graphTestHandlerParent.graphAPI.commandFactory.updatePosition(graphInstanceParent.startNode,
+                                                                              new Point2D(300,
+                                                                                          300));
+        command.execute(graphTestHandlerParent.graphCommandExecutionContext);
+        assertEquals(graphInstanceParent.startNode,
+                     graphBoundsIndexerImpl.build(graphInstanceParent.graph).getAt(350,
+                                                                                   350));
+        command.undo(graphTestHandlerParent.graphCommandExecutionContext);
+        assertNull(graphBoundsIndexerImpl.build(graphInstanceParent.graph).getAt(350,
+                                                                                 350));
+        assertEquals(4,
+                     graphBoundsIndexerImpl.findElementsAt(10,
+                                                           10,
+                                                           20,
+                                                           20).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdatedByChildCommands() {
+        final GraphCommandExecutionContext context = graphTestHandlerParent.graphCommandExecutionContext;
+        final GraphCommandFactory commandFactory = graphTestHandlerParent.graphAPI.commandFactory;
+        graphBoundsIndexerImpl.getAt(50,
+                                     50);
+        commandFactory.updatePosition(graphInstanceParent.intermNode,
+                                      new Point2D(300,
+                                                  300)).execute(context);
+        final Node newNode = graphTestHandlerParent.newNode("newNode",
+                                                            Optional.empty());
+        commandFactory.setChild(graphInstanceParent.intermNode,
+                                newNode).execute(context);
+        assertEquals(newNode,
+                     graphBoundsIndexerImpl.getAt(350,
+                                                  350));
+        commandFactory.removeChild(graphInstanceParent.intermNode,
+                                   newNode).execute(context);
+        assertEquals(graphInstanceParent.intermNode,
+                     graphBoundsIndexerImpl.getAt(350,
+                                                  350));
+        assertEquals(newNode,
+                     graphBoundsIndexerImpl.getAt(50,
+                                                  50));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUpdatedOnNodeRemoved() {
+        graphBoundsIndexerImpl.getAt(50,
+                                     50);
+        graphInstanceParent.graph.removeNode(graphInstanceParent.startNode.getUUID());
+        graphInstanceParent.graph.removeNode(graphInstanceParent.intermNode.getUUID());
+        graphInstanceParent.graph.removeNode(graphInstanceParent.endNode.getUUID());
+        assertEquals(graphInstanceParent.parentNode,
+                     graphBoundsIndexerImpl.getAt(50,
+                                                  50));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRebuiltOnBoundsReset() {
+        graphBoundsIndexerImpl.getAt(50,
+                                     50);
+        ((View) graphInstanceParent.startNode.getContent()).setBounds(Bounds.create(300,
+                                                                                    300,
+                                                                                    400,
+                                                                                    400));
+        GraphUtils.resetBounds(graphInstanceParent.graph);
+        assertEquals(graphInstanceParent.startNode,
+                     graphBoundsIndexerImpl.getAt(350,
+                                                  350));
+    }
+
+    @Test
+    public void testRootOfTheGivenProcessorIsKept() {
+        final ChildrenTraverseProcessor childrenTraverseProcessor = mock(ChildrenTraverseProcessor.class);
+        graphBoundsIndexerImpl = new GraphBoundsIndexerImpl(childrenTraverseProcessor);
+        graphBoundsIndexerImpl.build(graphInstanceParent.graph);
+        assertNotNull(graphBoundsIndexerImpl.getAt(50,
+                                                   50));
+        verify(childrenTraverseProcessor,
+               never()).setRootUUID(any());
+    }
+}
@@ -31,6 +31,7 @@ import org.kie.workbench.common.stunner.core.graph.processing.layout.sugiyama.Or
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
 public class VertexOrderingTest {
@@ -115,6 +116,43 @@ public class VertexOrderingTest {
                 .containsExactly("F", "E", "G", "H");
     }
 
+    @Test
+    public void testVirtualVerticesInLongEdges() {
+        final LayeredGraph graph = new LayeredGraph();
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "C");
+
+        final GraphLayerImpl layer01 = new GraphLayerImpl(1);
+        layer01.addNewVertex("A");
+        graph.getLayers().add(layer01);
+
+        final GraphLayerImpl layer02 = new GraphLayerImpl(2);
+        layer02.addNewVertex("B");
+        graph.getLayers().add(layer02);
+
+        final GraphLayerImpl layer03 = new GraphLayerImpl(3);
+        layer03.addNewVertex("C");
+        graph.getLayers().add(layer03);
+
+        final LayerCrossingCount layersCount = new LayerCrossingCount();
+        final DefaultVertexOrdering ordering = new DefaultVertexOrdering(new MedianVertexLayerPositioning(),
+                                                                         layersCount,
+                                                                         new VerticesTransposer(layersCount));
+        ordering.orderVertices(graph);
+
+        Assertions.assertThat(graph.getLayers().get(1).getVertices())
+                .extracting(Vertex::getId)
+                .containsExactly("B", "V0");
+        assertTrue(graph.getLayers().get(1).getVertices().get(1).isVirtual());
+        Assertions.assertThat(graph.getEdges())
+                .containsExactly(new OrientedEdgeImpl("A", "B"),
+                                 new OrientedEdgeImpl("B", "C"),
+                                 new OrientedEdgeImpl("A", "V0"),
+                                 new OrientedEdgeImpl("V0", "C"));
+        assertEquals(0, layersCount.crossing(graph.getLayers(), graph.getEdges()));
+    }
+
     @Test
     public void calculateMedianTest() {
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.registry.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.core.definition.adapter.DefinitionAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.MorphAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.PropertyAdapter;
+import org.kie.workbench.common.stunner.core.definition.adapter.exception.AdapterNotFoundException;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class AdapterRegistryImplTest {
+
+    @Mock
+    private DefinitionAdapter definitionAdapter;
+
+    @Mock
+    private DefinitionAdapter priorityDefinitionAdapter;
+
+    @Mock
+    private PropertyAdapter propertyAdapter;
+
+    @Mock
+    private MorphAdapter morphAdapter;
+
+    private AdapterRegistryImpl tested;
+
+    @Before
+    public void setup() {
+        when(definitionAdapter.accepts(String.class)).thenReturn(true);
+        when(definitionAdapter.getPriority()).thenReturn(1);
+        when(priorityDefinitionAdapter.getPriority()).thenReturn(0);
+        when(propertyAdapter.accepts(Integer.class)).thenReturn(true);
+        tested = new AdapterRegistryImpl();
+        tested.register(definitionAdapter);
+        tested.register(propertyAdapter);
+        tested.register(morphAdapter);
+    }
+
+    @Test
+    public void testLookupsAreCached() {
+        assertEquals(definitionAdapter, tested.getDefinitionAdapter(String.class));
+        assertEquals(definitionAdapter, tested.getDefinitionAdapter(String.class));
+        assertEquals(propertyAdapter, tested.getPropertyAdapter(Integer.class));
+        assertEquals(propertyAdapter, tested.getPropertyAdapter(Integer.class));
+        verify(definitionAdapter, times(1)).accepts(String.class);
+        verify(propertyAdapter, times(1)).accepts(Integer.class);
+        assertEquals(4, tested.getLookupCount());
+        assertEquals(2, tested.getLookupMissCount());
+        tested.resetStatistics();
+        assertEquals(0, tested.getLookupCount());
+        assertEquals(0, tested.getLookupMissCount());
+    }
+
+    @Test
+    public void testMissingMorphAdapterIsCached() {
+        assertNull(tested.getMorphAdapter(String.class));
+        assertNull(tested.getMorphAdapter(String.class));
+        verify(morphAdapter, times(1)).accepts(String.class);
+    }
+
+    @Test(expected = AdapterNotFoundException.class)
+    public void testMissingDefinitionAdapter() {
+        tested.getDefinitionAdapter(Integer.class);
+    }
+
+    @Test
+    public void testRegisterClearsCache() {
+        assertEquals(definitionAdapter, tested.getDefinitionAdapter(String.class));
+        when(priorityDefinitionAdapter.accepts(String.class)).thenReturn(true);
+        tested.register(priorityDefinitionAdapter);
+        assertEquals(priorityDefinitionAdapter, tested.getDefinitionAdapter(String.class));
+        tested.remove(priorityDefinitionAdapter);
+        assertEquals(definitionAdapter, tested.getDefinitionAdapter(String.class));
+    }
+}
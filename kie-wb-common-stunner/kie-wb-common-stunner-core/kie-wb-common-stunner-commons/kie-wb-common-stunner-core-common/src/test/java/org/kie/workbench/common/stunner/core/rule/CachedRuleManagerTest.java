@@ -29,6 +29,7 @@ import org.kie.workbench.common.stunner.core.registry.rule.RuleHandlerRegistry;
 import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
 import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
 import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder;
+import org.kie.workbench.common.stunner.core.rule.ext.RuleExtension;
 import org.kie.workbench.common.stunner.core.rule.handler.impl.ConnectionEvaluationHandler;
 import org.kie.workbench.common.stunner.core.rule.handler.impl.ContainmentEvaluationHandler;
 import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
@@ -36,10 +37,13 @@ import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,4 +128,76 @@ public class CachedRuleManagerTest {
         verify(containmentHandler, never()).evaluate(any(CanContain.class),
                                                      any(ContainmentContext.class));
     }
+
+    @Test
+    public void testEvaluateAllowedContainmentUsingDecisionTable() {
+        ContainmentEvaluationHandler handler = spy(new ContainmentEvaluationHandler());
+        when(ruleHandlerRegistry.getHandlersByContext(eq(ContainmentContext.class))).thenReturn(Arrays.asList(handler));
+        ContainmentContext allowed = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                             Collections.singleton("role2"));
+        ContainmentContext denied = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                            Collections.singleton("role3"));
+        assertFalse(tested.evaluate(ruleSet,
+                                    allowed).violations().iterator().hasNext());
+        verify(handler, never()).evaluate(any(CanContain.class),
+                                          any(ContainmentContext.class));
+        assertTrue(tested.evaluate(ruleSet,
+                                   denied).violations().iterator().hasNext());
+        verify(handler, times(1)).evaluate(eq(containmentRule),
+                                           eq(denied));
+        verify(ruleSet, times(1)).getRules();
+    }
+
+    @Test
+    public void testEvaluateAllowedConnectionUsingDecisionTable() {
+        ConnectionEvaluationHandler handler = spy(new ConnectionEvaluationHandler());
+        when(ruleHandlerRegistry.getHandlersByContext(eq(ConnectionContext.class))).thenReturn(Arrays.asList(handler));
+        ConnectionContext allowed = RuleEvaluationContextBuilder.DomainContexts.connection("role1",
+                                                                                           Optional.of(Collections.singleton("role1")),
+                                                                                           Optional.of(Collections.singleton("role2")));
+        ConnectionContext denied = RuleEvaluationContextBuilder.DomainContexts.connection("role1",
+                                                                                          Optional.of(Collections.singleton("role2")),
+                                                                                          Optional.of(Collections.singleton("role1")));
+        assertFalse(tested.evaluate(ruleSet,
+                                    allowed).violations().iterator().hasNext());
+        verify(handler, never()).evaluate(any(CanConnect.class),
+                                          any(ConnectionContext.class));
+        assertTrue(tested.evaluate(ruleSet,
+                                   denied).violations().iterator().hasNext());
+        verify(handler, times(1)).evaluate(eq(connectionRule),
+                                           eq(denied));
+    }
+
+    @Test
+    public void testNoDecisionTableWhenRuleExtensions() {
+        ContainmentEvaluationHandler handler = spy(new ContainmentEvaluationHandler());
+        when(ruleHandlerRegistry.getHandlersByContext(eq(ContainmentContext.class))).thenReturn(Arrays.asList(handler));
+        RuleExtension extension = new RuleExtension("ext1",
+                                                    "role1");
+        when(ruleSet.getRules()).thenReturn(Arrays.asList(containmentRule, extension));
+        ContainmentContext allowed = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                             Collections.singleton("role2"));
+        tested.evaluate(ruleSet,
+                        allowed);
+        verify(handler, times(1)).evaluate(eq(containmentRule),
+                                           eq(allowed));
+    }
+
+    @Test
+    public void testCacheInvalidatedOnRuleSetChange() {
+        ContainmentEvaluationHandler handler = spy(new ContainmentEvaluationHandler());
+        when(ruleHandlerRegistry.getHandlersByContext(eq(ContainmentContext.class))).thenReturn(Arrays.asList(handler));
+        ContainmentContext context = RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton("role1"),
+                                                                                             Collections.singleton("role2"));
+        assertFalse(tested.evaluate(ruleSet,
+                                    context).violations().iterator().hasNext());
+        RuleSet newRuleSet = mock(RuleSet.class);
+        when(newRuleSet.getName()).thenReturn("testRuleSet");
+        when(newRuleSet.getRules()).thenReturn(Collections.singletonList(new CanContain("cont2",
+                                                                                        "role1",
+                                                                                        Collections.singleton("role3"))));
+        assertTrue(tested.evaluate(newRuleSet,
+                                   context).violations().iterator().hasNext());
+        verify(newRuleSet, times(1)).getRules();
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.rule;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.rule.context.ConnectionContext;
+import org.kie.workbench.common.stunner.core.rule.context.ContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.DockingContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeContainmentContext;
+import org.kie.workbench.common.stunner.core.rule.context.NodeDockingContext;
+import org.kie.workbench.common.stunner.core.rule.context.impl.RuleEvaluationContextBuilder;
+import org.kie.workbench.common.stunner.core.rule.impl.CanConnect;
+import org.kie.workbench.common.stunner.core.rule.impl.CanContain;
+import org.kie.workbench.common.stunner.core.rule.impl.CanDock;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RuleDecisionTableTest {
+
+    private Collection<Rule> rules;
+    private RuleEvaluationContextBuilder.StatelessGraphContextBuilder graphContexts;
+
+    @Before
+    public void setup() {
+        rules = Arrays.asList(new CanContain("cont1",
+                                             "container",
+                                             new HashSet<>(Arrays.asList("task", "event"))),
+                              new CanContain("cont2",
+                                             "container",
+                                             Collections.singleton("task")),
+                              new CanDock("dock1",
+                                          "task",
+                                          Collections.singleton("event")),
+                              new CanConnect("conn1",
+                                             "flow",
+                                             Arrays.asList(new CanConnect.PermittedConnection("task",
+                                                                                              "event"),
+                                                           new CanConnect.PermittedConnection("event",
+                                                                                              "task"))));
+        final Graph graph = new GraphImpl<>("graph",
+                                            new GraphNodeStoreImpl());
+        graphContexts = new RuleEvaluationContextBuilder.StatelessGraphContextBuilder(graph);
+    }
+
+    @Test
+    public void testContainment() {
+        final RuleDecisionTable table = RuleDecisionTable.build(ContainmentContext.class,
+                                                                rules);
+        assertTrue(table.allows(containment("container", "task")));
+        // The event role is allowed by the first rule but not by the second one.
+        assertFalse(table.allows(containment("container", "event")));
+        assertFalse(table.allows(containment("container", "other")));
+        // No rules for the parent, so it must be denied.
+        assertFalse(table.allows(containment("task", "task")));
+    }
+
+    @Test
+    public void testDocking() {
+        final RuleDecisionTable table = RuleDecisionTable.build(DockingContext.class,
+                                                                rules);
+        assertTrue(table.allows(RuleEvaluationContextBuilder.DomainContexts.docking(Collections.singleton("task"),
+                                                                                    Collections.singleton("event"))));
+        assertFalse(table.allows(RuleEvaluationContextBuilder.DomainContexts.docking(Collections.singleton("task"),
+                                                                                     Collections.singleton("task"))));
+        assertFalse(table.allows(RuleEvaluationContextBuilder.DomainContexts.docking(Collections.singleton("container"),
+                                                                                     Collections.singleton("event"))));
+    }
+
+    @Test
+    public void testConnection() {
+        final RuleDecisionTable table = RuleDecisionTable.build(ConnectionContext.class,
+                                                                rules);
+        assertTrue(table.allows(connection("flow", "task", "event")));
+        assertTrue(table.allows(connection("flow", "event", "task")));
+        assertFalse(table.allows(connection("flow", "task", "task")));
+        assertFalse(table.allows(connection("other", "task", "event")));
+        assertFalse(table.allows(RuleEvaluationContextBuilder.DomainContexts.connection("flow",
+                                                                                        Optional.empty(),
+                                                                                        Optional.empty())));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNodeContainment() {
+        final RuleDecisionTable table = RuleDecisionTable.build(NodeContainmentContext.class,
+                                                                rules);
+        final NodeImpl container = node("container");
+        final NodeImpl task = node("task");
+        final NodeImpl event = node("event");
+        assertTrue(table.allows(graphContexts.containment(container,
+                                                          task)));
+        assertFalse(table.allows(graphContexts.containment(container,
+                                                           Arrays.asList(task, event))));
+        assertFalse(table.allows(graphContexts.containment(task,
+                                                           task)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNodeDocking() {
+        final RuleDecisionTable table = RuleDecisionTable.build(NodeDockingContext.class,
+                                                                rules);
+        final NodeDockingContext allowed = graphContexts.docking(node("task"),
+                                                                 node("event"));
+        final NodeDockingContext denied = graphContexts.docking(node("event"),
+                                                                node("task"));
+        assertTrue(table.allows(allowed));
+        assertFalse(table.allows(denied));
+    }
+
+    @Test
+    public void testUnsupportedContext() {
+        assertNull(RuleDecisionTable.build(RuleEvaluationContext.class,
+                                           rules));
+    }
+
+    private static ContainmentContext containment(final String parentRole,
+                                                  final String candidateRole) {
+        return RuleEvaluationContextBuilder.DomainContexts.containment(Collections.singleton(parentRole),
+                                                                       Collections.singleton(candidateRole));
+    }
+
+    private static ConnectionContext connection(final String connectorRole,
+                                                final String sourceRole,
+                                                final String targetRole) {
+        return RuleEvaluationContextBuilder.DomainContexts.connection(connectorRole,
+                                                                      Optional.of(Collections.singleton(sourceRole)),
+                                                                      Optional.of(Collections.singleton(targetRole)));
+    }
+
+    private static NodeImpl node(final String role) {
+        final NodeImpl node = new NodeImpl<>(role);
+        node.getLabels().add(role);
+        return node;
+    }
+}
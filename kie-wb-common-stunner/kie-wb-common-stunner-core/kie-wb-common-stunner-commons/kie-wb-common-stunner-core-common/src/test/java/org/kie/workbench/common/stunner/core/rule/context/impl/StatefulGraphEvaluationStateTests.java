@@ -17,6 +17,9 @@
 package org.kie.workbench.common.stunner.core.rule.context.impl;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -31,6 +34,7 @@ import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.content.view.View;
 import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
 import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.util.GraphUtils;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
@@ -76,6 +80,22 @@ public class StatefulGraphEvaluationStateTests {
         assertTrue(nodes.contains(someNewNode));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCardinalityStateCountLabels() {
+        StatefulGraphEvaluationState.StatefulCardinalityState cardinalityState = tested.getCardinalityState();
+        NodeImpl someNewNode = new NodeImpl<>("someNewNodeUUID");
+        someNewNode.getLabels().add("someNewRole");
+        cardinalityState.add(someNewNode);
+        cardinalityState.delete(graphInstance.nodeA);
+        Map<String, Integer> expected = new HashMap<>();
+        for (Node node : cardinalityState.nodes()) {
+            GraphUtils.computeLabelsCount(node, expected, null);
+        }
+        assertEquals(expected, cardinalityState.countLabels(null));
+        assertEquals(Integer.valueOf(1), cardinalityState.countLabels(Collections.singleton("someNewRole")).get("someNewRole"));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testConnectorCardinalityState() {
@@ -17,6 +17,7 @@
 package org.kie.workbench.common.stunner.core.processors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -36,16 +37,20 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +63,7 @@ import org.kie.workbench.common.stunner.core.definition.annotation.morph.MorphBa
 import org.kie.workbench.common.stunner.core.definition.annotation.morph.MorphProperty;
 import org.kie.workbench.common.stunner.core.definition.builder.VoidBuilder;
 import org.kie.workbench.common.stunner.core.processors.definition.BindableDefinitionAdapterGenerator;
+import org.kie.workbench.common.stunner.core.processors.definition.FieldAccessor;
 import org.kie.workbench.common.stunner.core.processors.definition.TypeConstructor;
 import org.kie.workbench.common.stunner.core.processors.definitionset.BindableDefinitionSetAdapterGenerator;
 import org.kie.workbench.common.stunner.core.processors.definitionset.DefinitionSetProxyGenerator;
@@ -471,6 +477,10 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
             processingContext.getDefinitionAnnotations().getPropertyFieldNames().put(defintionClassName, propertyFieldNames);
             processingContext.getDefinitionAnnotations().getTypedPropertyFields().put(defintionClassName, typedPropertyFields);
             processingContext.getMetaPropertyTypesFields().put(defintionClassName, defMetaTypes);
+            // Direct accessors for the bound fields.
+            processFieldAccessors(classElement,
+                                  defintionClassName,
+                                  propertyFieldNames);
 
             // -- Morphing annotations --
             MorphBase morphBaseAnn = e.getAnnotation(MorphBase.class);
@@ -627,6 +637,113 @@ public class MainProcessor extends AbstractErrorAbsorbingProcessor {
         return null;
     }
 
+    private void processFieldAccessors(final TypeElement classElement,
+                                       final String definitionClassName,
+                                       final List<String> propertyFieldNames) {
+        final ProcessingDefinitionAnnotations definitionAnnotations = processingContext.getDefinitionAnnotations();
+        final List<String> fields = new ArrayList<>();
+        for (Map<String, String> fieldNames : Arrays.asList(definitionAnnotations.getIdFieldNames(),
+                                                            definitionAnnotations.getCategoryFieldNames(),
+                                                            definitionAnnotations.getTitleFieldNames(),
+                                                            definitionAnnotations.getDescriptionFieldNames(),
+                                                            definitionAnnotations.getLabelsFieldNames())) {
+            final String field = fieldNames.get(definitionClassName);
+            if (null != field) {
+                fields.add(field);
+            }
+        }
+        fields.addAll(propertyFieldNames);
+        final Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (!accessors.containsKey(field)) {
+                final FieldAccessor accessor = buildFieldAccessor(classElement,
+                                                                  field);
+                if (null != accessor) {
+                    accessors.put(field,
+                                  accessor);
+                }
+            }
+        }
+        definitionAnnotations.getFieldAccessors().put(definitionClassName,
+                                                      accessors);
+    }
+
+    /**
+     * Looks for the public getters (and the setter for the last field) along the given field path.
+     * Returns null if some of them are not found or not accessible from the generated adapters, so the field
+     * is accessed through the data binding proxies, as usual.
+     */
+    private FieldAccessor buildFieldAccessor(final TypeElement classElement,
+                                             final String field) {
+        final Types typeUtils = processingEnv.getTypeUtils();
+        final String[] path = field.split("\\.");
+        final List<String> types = new ArrayList<>(path.length);
+        final List<String> getters = new ArrayList<>(path.length);
+        TypeElement type = classElement;
+        ExecutableElement setter = null;
+        for (int i = 0; i < path.length; i++) {
+            if (null == type || !isPublicType(type)) {
+                return null;
+            }
+            final String name = StringUtils.capitalize(path[i]);
+            ExecutableElement getter = findPublicMethod(type, "get" + name, 0);
+            if (null == getter) {
+                getter = findPublicMethod(type, "is" + name, 0);
+            }
+            if (null == getter || getter.getReturnType().getKind() == TypeKind.VOID) {
+                return null;
+            }
+            types.add(typeUtils.erasure(type.asType()).toString());
+            getters.add(getter.getSimpleName().toString());
+            if (i < path.length - 1) {
+                final TypeMirror returnType = getter.getReturnType();
+                type = returnType.getKind() == TypeKind.DECLARED ? (TypeElement) typeUtils.asElement(returnType) : null;
+            } else {
+                setter = findPublicMethod(type, "set" + name, 1);
+            }
+        }
+        String setterType = null;
+        if (null != setter) {
+            final TypeMirror argumentType = setter.getParameters().get(0).asType();
+            if (argumentType.getKind().isPrimitive()) {
+                setterType = typeUtils.boxedClass((PrimitiveType) argumentType).getQualifiedName().toString();
+            } else if (argumentType.getKind() == TypeKind.DECLARED && !isPublicType((TypeElement) typeUtils.asElement(argumentType))) {
+                setter = null;
+            } else {
+                setterType = typeUtils.erasure(argumentType).toString();
+            }
+        }
+        return new FieldAccessor(types,
+                                 getters,
+                                 null != setter ? setter.getSimpleName().toString() : null,
+                                 setterType);
+    }
+
+    private ExecutableElement findPublicMethod(final TypeElement type,
+                                               final String name,
+                                               final int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(name) &&
+                    method.getParameters().size() == parameterCount &&
+                    method.getModifiers().contains(Modifier.PUBLIC) &&
+                    !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPublicType(final TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
     private TypeElement getParent(final TypeElement classElement) {
         return (TypeElement) processingEnv.getTypeUtils().asElement(classElement.getSuperclass());
     }
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.kie.workbench.common.stunner.core.processors.definition.FieldAccessor;
 import org.kie.workbench.common.stunner.core.processors.definition.TypeConstructor;
 
 public class ProcessingDefinitionAnnotations {
@@ -35,6 +36,7 @@ public class ProcessingDefinitionAnnotations {
     private final Map<String, String> descriptionFieldNames = new HashMap<>();
     private final Map<String, TypeConstructor> builderFieldNames = new HashMap<>();
     private final Map<String, String[]> shapeDefs = new HashMap<>();
+    private final Map<String, Map<String, FieldAccessor>> fieldAccessors = new HashMap<>();
 
     public Map<String, String> getBaseTypes() {
         return baseTypes;
@@ -79,4 +81,8 @@ public class ProcessingDefinitionAnnotations {
     public Map<String, String[]> getShapeDefinitions() {
         return shapeDefs;
     }
+
+    public Map<String, Map<String, FieldAccessor>> getFieldAccessors() {
+        return fieldAccessors;
+    }
 }
@@ -68,6 +68,16 @@ public class BindableDefinitionAdapterGenerator extends AbstractBindableAdapterG
             List<Boolean> typedPropertyFields = processingDefinitionAnnotations.getTypedPropertyFields().get(type);
             String typedPropertyFieldsArray = typedPropertyFields.stream().map(Object::toString).collect(Collectors.joining(","));
             DefinitionAdapterBindings.PropertyMetaTypes metaTypes = processingContext.getMetaPropertyTypesFields().get(type);
+            Map<String, FieldAccessor> fieldAccessors = processingDefinitionAnnotations.getFieldAccessors().get(type);
+            String fieldAccessorsCode = null != fieldAccessors && !fieldAccessors.isEmpty() ?
+                    ".setFieldAccessors(new BindableFieldAccessors()" +
+                            fieldAccessors.entrySet().stream()
+                                    .map(e -> ".addField(\"" + e.getKey() + "\", " +
+                                            e.getValue().getterToCode() + ", " +
+                                            e.getValue().setterToCode() + ")")
+                                    .collect(Collectors.joining()) +
+                            ")" :
+                    "";
             defAdapterBindings.put(type,
                                    "new DefinitionAdapterBindings()" +
                                            ".setBaseType(" + baseType + ".class)" +
@@ -79,7 +89,8 @@ public class BindableDefinitionAdapterGenerator extends AbstractBindableAdapterG
                                            ".setDescriptionField(" + descriptionField + ")" +
                                            ".setPropertiesFieldNames(Arrays.asList(" + propertyFieldsArray + "))" +
                                            ".setTypedPropertyFields(Arrays.asList(" + typedPropertyFieldsArray + "))" +
-                                           ".setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse(\"" + metaTypes.format() + "\"))"
+                                           ".setMetaTypes(DefinitionAdapterBindings.PropertyMetaTypes.parse(\"" + metaTypes.format() + "\"))" +
+                                           fieldAccessorsCode
             );
         });
         addFields("bindings",
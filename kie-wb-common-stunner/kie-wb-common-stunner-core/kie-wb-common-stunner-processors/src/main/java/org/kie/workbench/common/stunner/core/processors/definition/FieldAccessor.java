@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.core.processors.definition;
+
+import java.util.List;
+
+/**
+ * The getter chain (and the setter for the last field, if any) that leads to a definition's bound field, so it
+ * can be generated as plain lambdas. Intermediate null values result in a null value or in a no-op write,
+ * same as when going through the data binding proxies.
+ */
+public class FieldAccessor {
+
+    private final List<String> types;
+    private final List<String> getters;
+    private final String setter;
+    private final String setterType;
+
+    /**
+     * @param types the (erased) type owning each getter, the first one being the definition type.
+     * @param getters the getter method names.
+     * @param setter the setter method name on the last type, or null if the field cannot be written.
+     * @param setterType the (erased, boxed) type of the setter argument.
+     */
+    public FieldAccessor(List<String> types,
+                         List<String> getters,
+                         String setter,
+                         String setterType) {
+        this.types = types;
+        this.getters = getters;
+        this.setter = setter;
+        this.setterType = setterType;
+    }
+
+    public String getterToCode() {
+        final int last = getters.size() - 1;
+        final StringBuilder code = new StringBuilder("pojo -> {");
+        code.append(navigateToCode(last, "return null;"));
+        code.append(" return v").append(last).append(".").append(getters.get(last)).append("(); }");
+        return code.toString();
+    }
+
+    public String setterToCode() {
+        if (null == setter) {
+            return "null";
+        }
+        final int last = getters.size() - 1;
+        final StringBuilder code = new StringBuilder("(pojo, value) -> {");
+        code.append(navigateToCode(last, "return;"));
+        code.append(" v").append(last).append(".").append(setter)
+                .append("((").append(setterType).append(") value); }");
+        return code.toString();
+    }
+
+    private String navigateToCode(int depth,
+                                  String onNull) {
+        final StringBuilder code = new StringBuilder();
+        code.append(" ").append(types.get(0)).append(" v0 = (").append(types.get(0)).append(") pojo;");
+        for (int i = 1; i <= depth; i++) {
+            code.append(" ").append(types.get(i)).append(" v").append(i)
+                    .append(" = v").append(i - 1).append(".").append(getters.get(i - 1)).append("();");
+            code.append(" if (null == v").append(i).append(") { ").append(onNull).append(" }");
+        }
+        return code.toString();
+    }
+}
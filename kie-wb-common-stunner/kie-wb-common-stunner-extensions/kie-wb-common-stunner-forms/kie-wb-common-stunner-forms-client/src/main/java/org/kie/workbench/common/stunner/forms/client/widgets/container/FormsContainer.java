@@ -16,9 +16,11 @@
 
 package org.kie.workbench.common.stunner.forms.client.widgets.container;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -38,17 +40,28 @@ import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
 import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
 import org.uberfire.backend.vfs.Path;
 
+/**
+ * Keeps a bounded pool of form displayers, one for each type of domain object, so a single form renderer
+ * is reused by all the elements of the same type instead of keeping a hidden form for each element
+ * that has ever been selected. When the pool is full, the least recently used displayer gets destroyed.
+ */
 @Dependent
 public class FormsContainer implements IsElement {
 
     private static Logger LOGGER = Logger.getLogger(FormsContainer.class.getName());
 
+    static final int DEFAULT_CAPACITY = 10;
+
     private final FormsContainerView view;
     protected final ManagedInstance<FormDisplayer> displayersInstance;
-    protected final Map<FormDisplayerKey, FormDisplayer> formDisplayers;
+    protected final Map<Class<?>, PooledDisplayer> formDisplayers;
     private final Event<FormFieldChanged> formFieldChangedEvent;
 
     private FormDisplayer currentDisplayer;
+    private int capacity = DEFAULT_CAPACITY;
+    private int hitCount = 0;
+    private int missCount = 0;
+    private int evictionCount = 0;
 
     @Inject
     public FormsContainer(final FormsContainerView view,
@@ -57,7 +70,8 @@ public class FormsContainer implements IsElement {
         this.view = view;
         this.displayersInstance = displayersInstance;
         this.formFieldChangedEvent = formFieldChangedEvent;
-        this.formDisplayers = new HashMap<>();
+        // Access ordered, so the first entry is always the least recently used one.
+        this.formDisplayers = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     public void render(final String graphUuid,
@@ -66,7 +80,7 @@ public class FormsContainer implements IsElement {
                        final Path diagramPath,
                        final FieldChangeHandler changeHandler,
                        final RenderMode renderMode) {
-        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID);
+        FormDisplayer displayer = getDisplayer(graphUuid, domainObjectUUID, domainObject.getClass());
 
         displayer.render(domainObjectUUID, domainObject, diagramPath, changeHandler, renderMode);
 
@@ -83,55 +97,131 @@ public class FormsContainer implements IsElement {
     }
 
     protected FormDisplayer getDisplayer(final String graphUuid,
-                                         final String elementUuid) {
+                                         final String elementUuid,
+                                         final Class<?> type) {
         FormDisplayerKey key = new FormDisplayerKey(graphUuid, elementUuid);
-        FormDisplayer displayer = formDisplayers.get(key);
+        PooledDisplayer pooled = formDisplayers.get(type);
 
         LOGGER.fine("Getting form displayer for : " + key);
 
-        if (displayer != null) {
-            return displayer;
+        if (pooled != null) {
+            hitCount++;
+            pooled.key = key;
+            pooled.graphUuid = graphUuid;
+            return pooled.displayer;
         }
 
-        LOGGER.fine("Creating new form displayer for : " + key);
+        missCount++;
+        evictIfFull();
 
-        displayer = displayersInstance.get();
+        LOGGER.fine("Creating new form displayer for : " + type.getName());
+
+        FormDisplayer displayer = displayersInstance.get();
         displayer.hide();
         view.addDisplayer(displayer);
 
-        formDisplayers.put(new FormDisplayerKey(graphUuid, elementUuid), displayer);
+        formDisplayers.put(type, new PooledDisplayer(displayer, graphUuid, key));
 
         return displayer;
     }
 
+    /**
+     * Destroys the displayers last used by the given graph, even if the form of their element has been cleared.
+     */
     public void clearDiagramDisplayers(final String graphUuid) {
         LOGGER.fine("Clearing properties forms for graph: " + graphUuid);
-        List<FormDisplayerKey> keys = formDisplayers.keySet()
+        List<Class<?>> types = formDisplayers.entrySet()
                 .stream()
-                .filter(entry -> entry.getGraphUuid().equals(graphUuid)).collect(Collectors.toList());
+                .filter(entry -> graphUuid.equals(entry.getValue().graphUuid))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
 
-        keys.forEach(this::clearDisplayer);
+        types.forEach(this::clearDisplayer);
         LOGGER.fine("Cleared properties forms for graph: " + graphUuid);
     }
 
+    /**
+     * Unbinds the form for the given element, if it is the last one rendered in its displayer.
+     * The displayer is kept in the pool, to be reused by the next element of the same type.
+     */
     public void clearFormDisplayer(final String graphUuid,
                                    final String elementUid) {
-        formDisplayers.keySet()
-                .stream()
-                .filter(key -> key.getGraphUuid().equals(graphUuid) && key.getElementUid().equals(elementUid))
-                .findAny()
-                .ifPresent(this::clearDisplayer);
+        findDisplayer(graphUuid, elementUid).ifPresent(pooled -> {
+            LOGGER.fine("Clearing form displayer for element: " + elementUid);
+            pooled.key = null;
+            pooled.displayer.hide();
+            pooled.displayer.dispose();
+            if (pooled.displayer.equals(currentDisplayer)) {
+                currentDisplayer = null;
+            }
+        });
     }
 
     public void flush(String graphUUID, String elementUUID) {
-        FormDisplayer displayer = getDisplayer(graphUUID, elementUUID);
-        DynamicFormRenderer renderer = displayer.getRenderer();
-        renderer.flush();
+        findDisplayer(graphUUID, elementUUID).ifPresent(pooled -> {
+            DynamicFormRenderer renderer = pooled.displayer.getRenderer();
+            renderer.flush();
+        });
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum amount of pooled displayers, destroying the least recently used ones if needed.
+     */
+    public void setCapacity(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1.");
+        }
+        this.capacity = capacity;
+        while (formDisplayers.size() > capacity) {
+            evict();
+        }
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    public int getEvictionCount() {
+        return evictionCount;
+    }
+
+    private Optional<PooledDisplayer> findDisplayer(final String graphUuid,
+                                                    final String elementUid) {
+        final FormDisplayerKey key = new FormDisplayerKey(graphUuid, elementUid);
+        return formDisplayers.values()
+                .stream()
+                .filter(pooled -> key.equals(pooled.key))
+                .findAny();
+    }
+
+    private void evictIfFull() {
+        if (formDisplayers.size() >= capacity) {
+            evict();
+        }
     }
 
-    private void clearDisplayer(final FormDisplayerKey key) {
-        FormDisplayer displayer = formDisplayers.remove(key);
-        LOGGER.fine("Clearing form displayer for element: " + key.getElementUid());
+    private void evict() {
+        final Iterator<Class<?>> types = formDisplayers.keySet().iterator();
+        if (types.hasNext()) {
+            final Class<?> eldest = types.next();
+            LOGGER.fine("Evicting form displayer for : " + eldest.getName());
+            evictionCount++;
+            clearDisplayer(eldest);
+        }
+    }
+
+    private void clearDisplayer(final Class<?> type) {
+        PooledDisplayer pooled = formDisplayers.remove(type);
+        FormDisplayer displayer = pooled.displayer;
+        LOGGER.fine("Clearing form displayer for type: " + type.getName());
         view.removeDisplayer(displayer);
         displayer.hide();
         if (displayer.equals(currentDisplayer)) {
@@ -153,4 +243,32 @@ public class FormsContainer implements IsElement {
         formDisplayers.clear();
         currentDisplayer = null;
     }
+
+    protected static class PooledDisplayer {
+
+        private final FormDisplayer displayer;
+        // The graph is kept when the form of the element is cleared, so the displayer is destroyed with the diagram.
+        private String graphUuid;
+        private FormDisplayerKey key;
+
+        PooledDisplayer(final FormDisplayer displayer,
+                        final String graphUuid,
+                        final FormDisplayerKey key) {
+            this.displayer = displayer;
+            this.graphUuid = graphUuid;
+            this.key = key;
+        }
+
+        public FormDisplayer getDisplayer() {
+            return displayer;
+        }
+
+        public String getGraphUuid() {
+            return graphUuid;
+        }
+
+        public FormDisplayerKey getKey() {
+            return key;
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.forms.client.widgets.container;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.errai.ioc.client.api.ManagedInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.forms.dynamic.client.DynamicFormRenderer;
+import org.kie.workbench.common.forms.dynamic.service.shared.RenderMode;
+import org.kie.workbench.common.forms.processing.engine.handling.FieldChangeHandler;
+import org.kie.workbench.common.stunner.forms.client.event.FormFieldChanged;
+import org.kie.workbench.common.stunner.forms.client.widgets.container.displayer.FormDisplayer;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class FormsContainerTest {
+
+    private static final String GRAPH_UUID = "graph1";
+
+    @Mock
+    private FormsContainerView view;
+
+    @Mock
+    private ManagedInstance<FormDisplayer> displayersInstance;
+
+    @Mock
+    private Event<FormFieldChanged> formFieldChangedEvent;
+
+    @Mock
+    private Path path;
+
+    @Mock
+    private FieldChangeHandler changeHandler;
+
+    private FormsContainer tested;
+
+    @Before
+    public void setUp() {
+        when(displayersInstance.get()).thenAnswer(invocation -> {
+            FormDisplayer displayer = mock(FormDisplayer.class);
+            when(displayer.getRenderer()).thenReturn(mock(DynamicFormRenderer.class));
+            return displayer;
+        });
+        tested = new FormsContainer(view, displayersInstance, formFieldChangedEvent);
+    }
+
+    @Test
+    public void testDisplayersArePooledByType() {
+        render("element1", "definition1");
+        render("element2", "definition2");
+        render("element3", 3);
+
+        verify(displayersInstance, times(2)).get();
+        assertEquals(2, tested.formDisplayers.size());
+        assertEquals(1, tested.getHitCount());
+        assertEquals(2, tested.getMissCount());
+
+        FormDisplayer displayer = tested.formDisplayers.get(String.class).getDisplayer();
+        verify(displayer).render("element1", "definition1", path, changeHandler, RenderMode.EDIT_MODE);
+        verify(displayer).render("element2", "definition2", path, changeHandler, RenderMode.EDIT_MODE);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDisplayerIsEvicted() {
+        tested.setCapacity(2);
+        render("element1", "definition1");
+        render("element2", 2);
+        FormDisplayer stringDisplayer = tested.formDisplayers.get(String.class).getDisplayer();
+        FormDisplayer integerDisplayer = tested.formDisplayers.get(Integer.class).getDisplayer();
+        render("element3", "definition3");
+        render("element4", 4L);
+
+        assertEquals(2, tested.formDisplayers.size());
+        assertEquals(1, tested.getEvictionCount());
+        verify(view).removeDisplayer(integerDisplayer);
+        verify(displayersInstance).destroy(integerDisplayer);
+        verify(displayersInstance, never()).destroy(stringDisplayer);
+    }
+
+    @Test
+    public void testFlush() {
+        render("element1", "definition1");
+        DynamicFormRenderer renderer = tested.formDisplayers.get(String.class).getDisplayer().getRenderer();
+
+        tested.flush(GRAPH_UUID, "element2");
+        verify(renderer, never()).flush();
+
+        tested.flush(GRAPH_UUID, "element1");
+        verify(renderer).flush();
+    }
+
+    @Test
+    public void testClearFormDisplayerKeepsItPooled() {
+        render("element1", "definition1");
+        FormDisplayer displayer = tested.formDisplayers.get(String.class).getDisplayer();
+
+        tested.clearFormDisplayer(GRAPH_UUID, "element1");
+
+        verify(displayer).dispose();
+        verify(displayersInstance, never()).destroy(any());
+        assertEquals(1, tested.formDisplayers.size());
+
+        render("element2", "definition2");
+        verify(displayersInstance, times(1)).get();
+    }
+
+    @Test
+    public void testClearDiagramDisplayers() {
+        render("element1", "definition1");
+        FormDisplayer displayer = tested.formDisplayers.get(String.class).getDisplayer();
+
+        tested.clearDiagramDisplayers("graph2");
+        verify(displayersInstance, never()).destroy(any());
+
+        tested.clearDiagramDisplayers(GRAPH_UUID);
+        verify(view).removeDisplayer(displayer);
+        verify(displayersInstance).destroy(displayer);
+        assertEquals(0, tested.formDisplayers.size());
+    }
+
+    @Test
+    public void testClearDiagramDisplayersAfterClearFormDisplayer() {
+        render("element1", "definition1");
+        FormDisplayer displayer = tested.formDisplayers.get(String.class).getDisplayer();
+
+        tested.clearFormDisplayer(GRAPH_UUID, "element1");
+        tested.clearDiagramDisplayers(GRAPH_UUID);
+
+        verify(view).removeDisplayer(displayer);
+        verify(displayersInstance).destroy(displayer);
+        assertEquals(0, tested.formDisplayers.size());
+    }
+
+    @Test
+    public void testClearDiagramDisplayersKeepsDisplayersReusedByOtherDiagram() {
+        render("element1", "definition1");
+        FormDisplayer displayer = tested.formDisplayers.get(String.class).getDisplayer();
+        tested.render("graph2", "element2", "definition2", path, changeHandler, RenderMode.EDIT_MODE);
+
+        tested.clearDiagramDisplayers(GRAPH_UUID);
+        verify(displayersInstance, never()).destroy(any());
+        assertEquals("graph2", tested.formDisplayers.get(String.class).getGraphUuid());
+
+        tested.clearDiagramDisplayers("graph2");
+        verify(displayersInstance).destroy(displayer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        tested.setCapacity(0);
+    }
+
+    private void render(String elementUuid, Object domainObject) {
+        tested.render(GRAPH_UUID, elementUuid, domainObject, path, changeHandler, RenderMode.EDIT_MODE);
+    }
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import bpsim.BpsimPackage;
@@ -51,6 +52,13 @@ public class Bpmn2Resource extends XMLResourceImpl {
     static final String URI_BPMN_DI = "http://www.omg.org/spec/BPMN/20100524/DI";
     static final String URI_DROOLS = "http://www.jboss.org/drools";
     static final String URI_BPSIM = "http://www.bpsim.org/schemas/1.0";
+
+    // Saves share the same extended metadata and element handler, so the feature tables built from them
+    // can be cached; JBPMXMLSave only reuses the cached tables when they were built for the save's own options
+    static final XmlExtendedMetadata SAVE_EXTENDED_METADATA = new XmlExtendedMetadata();
+    static final ElementHandler SAVE_ELEMENT_HANDLER = new ElementHandler(true);
+    static final List<Object> SAVE_LOOKUP_TABLE = new ArrayList<>();
+
     private final QNameURIHandler uriHandler;
 
     static {
@@ -112,8 +120,9 @@ public class Bpmn2Resource extends XMLResourceImpl {
     Map<Object, Object> createSaveOptions() {
         final Map<Object, Object> options = createDefaultOptions();
         options.put(XMLResource.OPTION_DECLARE_XML, true);
-        options.put(XMLResource.OPTION_ELEMENT_HANDLER, new ElementHandler(true));
-        options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, new ArrayList<>());
+        options.put(XMLResource.OPTION_EXTENDED_META_DATA, SAVE_EXTENDED_METADATA);
+        options.put(XMLResource.OPTION_ELEMENT_HANDLER, SAVE_ELEMENT_HANDLER);
+        options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, SAVE_LOOKUP_TABLE);
         return options;
     }
 
@@ -43,9 +43,28 @@ public class JBPMXMLSave extends XMLSave {
                         Map<?, ?> options) {
         super.init(resource,
                    options);
+        @SuppressWarnings("unchecked")
+        final List<Object> lookup = (List<Object>) options.get(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE);
+        if (lookup != null && !lookup.isEmpty() && lookup.get(INDEX_LOOKUP) instanceof JBPMLookup) {
+            final JBPMLookup cached = (JBPMLookup) lookup.get(INDEX_LOOKUP);
+            if (cached.isFor(map,
+                             extendedMetaData,
+                             elementHandler)) {
+                featureTable = cached;
+                return;
+            }
+        }
         featureTable = new JBPMLookup(map,
                                       extendedMetaData,
                                       elementHandler);
+        if (lookup != null) {
+            if (lookup.isEmpty()) {
+                lookup.add(featureTable);
+            } else {
+                lookup.set(INDEX_LOOKUP,
+                           featureTable);
+            }
+        }
     }
 
     @Override
@@ -78,6 +97,14 @@ public class JBPMXMLSave extends XMLSave {
                   elementHandler);
         }
 
+        boolean isFor(XMLMap map,
+                      ExtendedMetaData extendedMetaData,
+                      ElementHandler elementHandler) {
+            return this.map == map
+                    && this.extendedMetaData == extendedMetaData
+                    && this.elementHandler == elementHandler;
+        }
+
         @Override
         public EStructuralFeature[] getFeatures(EClass cls) {
             int index = getIndex(cls);
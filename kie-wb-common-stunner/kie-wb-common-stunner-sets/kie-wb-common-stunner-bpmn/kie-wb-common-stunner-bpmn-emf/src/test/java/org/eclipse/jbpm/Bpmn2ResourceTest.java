@@ -16,7 +16,9 @@
 
 package org.eclipse.jbpm;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import bpsim.BpsimPackage;
@@ -37,6 +39,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -110,6 +115,41 @@ public class Bpmn2ResourceTest {
         assertCreateSaveOptions(options);
     }
 
+    @Test
+    public void testCreateSaveOptionsSharesLookupTable() {
+        Map<Object, Object> options1 = tested.createSaveOptions();
+        Map<Object, Object> options2 = Bpmn2ResourceFactory.getInstance().create().createSaveOptions();
+        assertSame(Bpmn2Resource.SAVE_LOOKUP_TABLE, options1.get(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE));
+        assertSame(Bpmn2Resource.SAVE_LOOKUP_TABLE, options2.get(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE));
+        assertSame(options1.get(XMLResource.OPTION_EXTENDED_META_DATA), options2.get(XMLResource.OPTION_EXTENDED_META_DATA));
+        assertSame(options1.get(XMLResource.OPTION_ELEMENT_HANDLER), options2.get(XMLResource.OPTION_ELEMENT_HANDLER));
+    }
+
+    @Test
+    public void testSaveReusesLookupTableOnlyForSameOptions() throws Exception {
+        final List<Object> lookupTable = new ArrayList<>();
+        final Map<Object, Object> options = tested.createSaveOptions();
+        options.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, lookupTable);
+        tested.save(new ByteArrayOutputStream(), options);
+        final JBPMXMLSave.JBPMLookup lookup = (JBPMXMLSave.JBPMLookup) lookupTable.get(0);
+        tested.save(new ByteArrayOutputStream(), options);
+        assertSame(lookup, lookupTable.get(0));
+
+        final ElementHandler elementHandler = new ElementHandler(false);
+        final Map<Object, Object> otherOptions = tested.createSaveOptions();
+        otherOptions.put(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE, lookupTable);
+        otherOptions.put(XMLResource.OPTION_ELEMENT_HANDLER, elementHandler);
+        tested.save(new ByteArrayOutputStream(), otherOptions);
+        final JBPMXMLSave.JBPMLookup otherLookup = (JBPMXMLSave.JBPMLookup) lookupTable.get(0);
+        assertNotSame(lookup, otherLookup);
+        assertTrue(otherLookup.isFor(null,
+                                     Bpmn2Resource.SAVE_EXTENDED_METADATA,
+                                     elementHandler));
+        assertFalse(otherLookup.isFor(null,
+                                      Bpmn2Resource.SAVE_EXTENDED_METADATA,
+                                      Bpmn2Resource.SAVE_ELEMENT_HANDLER));
+    }
+
     private void assertCreateLoadOptions(Map<Object, Object> options) {
         assertEquals(9, options.size());
         assertTrue((Boolean) options.get(XMLResource.OPTION_DOM_USE_NAMESPACES_IN_SCOPE));
@@ -127,12 +167,12 @@ public class Bpmn2ResourceTest {
         assertEquals(10, options.size());
         assertTrue((Boolean) options.get(XMLResource.OPTION_DECLARE_XML));
         assertTrue((Boolean) options.get(XMLResource.OPTION_USE_ENCODED_ATTRIBUTE_STYLE));
-        assertTrue(options.get(XMLResource.OPTION_EXTENDED_META_DATA) instanceof XmlExtendedMetadata);
+        assertSame(Bpmn2Resource.SAVE_EXTENDED_METADATA, options.get(XMLResource.OPTION_EXTENDED_META_DATA));
         assertTrue((Boolean) options.get(XMLResource.OPTION_DEFER_IDREF_RESOLUTION));
         assertTrue((Boolean) options.get(XMLResource.OPTION_DISABLE_NOTIFY));
         assertEquals(XMLResource.OPTION_PROCESS_DANGLING_HREF_RECORD, options.get(XMLResource.OPTION_PROCESS_DANGLING_HREF));
         assertEquals("UTF-8", options.get(XMLResource.OPTION_ENCODING));
-        assertTrue(options.get(XMLResource.OPTION_ELEMENT_HANDLER) instanceof ElementHandler);
+        assertSame(Bpmn2Resource.SAVE_ELEMENT_HANDLER, options.get(XMLResource.OPTION_ELEMENT_HANDLER));
         assertTrue(options.get(XMLResource.OPTION_USE_CACHED_LOOKUP_TABLE) instanceof ArrayList);
         assertTrue(options.get(XMLResource.OPTION_URI_HANDLER) instanceof QNameURIHandler);
     }
@@ -21,13 +21,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import bpsim.BPSimDataType;
 import bpsim.BpsimPackage;
 import bpsim.ElementParameters;
 import bpsim.Scenario;
+import org.eclipse.bpmn2.BaseElement;
 import org.eclipse.bpmn2.Definitions;
 import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.Relationship;
@@ -35,8 +36,8 @@ import org.eclipse.bpmn2.RootElement;
 import org.eclipse.bpmn2.Signal;
 import org.eclipse.bpmn2.di.BPMNDiagram;
 import org.eclipse.bpmn2.di.BPMNEdge;
-import org.eclipse.bpmn2.di.BPMNPlane;
 import org.eclipse.bpmn2.di.BPMNShape;
+import org.eclipse.dd.di.DiagramElement;
 import org.eclipse.emf.ecore.util.FeatureMap;
 import org.kie.workbench.common.stunner.bpmn.client.marshall.MarshallingRequest.Mode;
 import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
@@ -53,6 +54,10 @@ import org.kie.workbench.common.stunner.bpmn.workitem.WorkItemDefinition;
  * <li>simulation parameters</li>
  * </ul>.
  * <p>
+ * Signals and simulation parameters are indexed by element ID when the resolver
+ * is created, and shapes and edges on the first lookup, as the converters look
+ * them up once per element.
+ * <p>
  * <em>signal</em> concern is due to a bug in current Eclipse BPMN2 implementation,
  * which is outdated w.r.t. upstream.
  */
@@ -62,6 +67,9 @@ public class DefinitionResolver {
 
     private final Map<String, Signal> signals;
     private final Map<String, ElementParameters> simulationParameters;
+    private final Map<String, BPMNShape> shapes;
+    private final Map<String, BPMNEdge> edges;
+    private boolean diagramElementsIndexed;
     private final Collection<WorkItemDefinition> workItemDefinitions;
     private final Definitions definitions;
     private final Process process;
@@ -76,10 +84,13 @@ public class DefinitionResolver {
             boolean jbpm,
             Mode mode) {
         this.definitions = definitions;
-        this.signals = initSignals(definitions);
+        this.signals = new HashMap<>();
+        this.process = initRootElements(definitions, signals);
         this.simulationParameters = initSimulationParameters(definitions);
+        this.shapes = new HashMap<>();
+        this.edges = new HashMap<>();
+        this.diagramElementsIndexed = false;
         this.workItemDefinitions = workItemDefinitions;
-        this.process = findProcess();
         this.diagram = findDiagram();
         this.resolutionFactor = calculateResolutionFactor(diagram);
         this.jbpm = jbpm;
@@ -156,14 +167,23 @@ public class DefinitionResolver {
         return Optional.ofNullable(simulationParameters.get(id));
     }
 
-    private Map<String, Signal> initSignals(Definitions definitions) {
-        Map<String, Signal> signals = new HashMap<>();
+    /**
+     * Indexes the signals and returns the (first) process, in a single pass over the root elements.
+     */
+    private static Process initRootElements(Definitions definitions,
+                                            Map<String, Signal> signals) {
+        Process process = null;
         for (RootElement el : definitions.getRootElements()) {
             if (el instanceof Signal) {
                 signals.put(el.getId(), (Signal) el);
+            } else if (null == process && el instanceof Process) {
+                process = (Process) el;
             }
         }
-        return signals;
+        if (null == process) {
+            throw new NoSuchElementException("No process found");
+        }
+        return process;
     }
 
     @SuppressWarnings("unchecked")
@@ -195,49 +215,66 @@ public class DefinitionResolver {
         return simulationParameters;
     }
 
-    private Process findProcess() {
-        return (Process) definitions.getRootElements().stream()
-                .filter(el -> el instanceof Process)
-                .findFirst().get();
-    }
-
     private BPMNDiagram findDiagram() {
         return definitions.getDiagrams().get(0);
     }
 
     public BPMNShape getShape(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getShape(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
+        ensureDiagramElementsIndexed();
+        return shapes.get(elementId);
     }
 
-    private static BPMNShape getShape(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNShape)
-                .map(shape -> (BPMNShape) shape)
-                .filter(shape -> shape.getBpmnElement().getId().equals(elementId))
-                .findFirst().orElse(null);
+    public BPMNEdge getEdge(String elementId) {
+        ensureDiagramElementsIndexed();
+        return edges.get(elementId);
     }
 
-    public BPMNEdge getEdge(String elementId) {
-        return definitions.getDiagrams().stream()
-                .map(BPMNDiagram::getPlane)
-                .map(plane -> getEdge(plane, elementId))
-                .filter(Objects::nonNull)
-                .findFirst().orElse(null);
-    }
-
-    private static BPMNEdge getEdge(BPMNPlane plane, String elementId) {
-        return plane.getPlaneElement().stream()
-                .filter(dia -> dia instanceof BPMNEdge)
-                .map(edge -> (BPMNEdge) edge)
-                .filter(edge -> edge.getBpmnElement() != null)
-                .filter(edge -> edge.getBpmnElement().getId() != null)
-                .filter(edge -> edge.getBpmnElement().getId().equals(elementId))
-
-                .findFirst().orElse(null);
+    /**
+     * Rebuilds the index of shapes and edges. Callers that add or remove diagram
+     * elements after the first lookup (e.g. when the definitions are built
+     * programmatically) must call it for the lookups to see their changes.
+     */
+    public void reindexDiagramElements() {
+        shapes.clear();
+        edges.clear();
+        initDiagramElements(definitions, shapes, edges);
+        diagramElementsIndexed = true;
+    }
+
+    private void ensureDiagramElementsIndexed() {
+        if (!diagramElementsIndexed) {
+            reindexDiagramElements();
+        }
+    }
+
+    /**
+     * Indexes the shapes and edges of all the diagrams by the ID of their BPMN element,
+     * in a single pass. As on lookups, the first element found for a given ID wins.
+     */
+    private static void initDiagramElements(Definitions definitions,
+                                           Map<String, BPMNShape> shapes,
+                                           Map<String, BPMNEdge> edges) {
+        for (BPMNDiagram diagram : definitions.getDiagrams()) {
+            for (DiagramElement element : diagram.getPlane().getPlaneElement()) {
+                if (element instanceof BPMNShape) {
+                    BPMNShape shape = (BPMNShape) element;
+                    String id = getBpmnElementId(shape.getBpmnElement());
+                    if (null != id) {
+                        shapes.putIfAbsent(id, shape);
+                    }
+                } else if (element instanceof BPMNEdge) {
+                    BPMNEdge edge = (BPMNEdge) element;
+                    String id = getBpmnElementId(edge.getBpmnElement());
+                    if (null != id) {
+                        edges.putIfAbsent(id, edge);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String getBpmnElementId(BaseElement bpmnElement) {
+        return null != bpmnElement ? bpmnElement.getId() : null;
     }
 
     static double calculateResolutionFactor(final BPMNDiagram diagram) {
@@ -22,16 +22,21 @@ import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.TypedFactoryManager;
 import org.kie.workbench.common.stunner.core.api.DefinitionManager;
 import org.kie.workbench.common.stunner.core.command.Command;
 import org.kie.workbench.common.stunner.core.command.CommandResult;
 import org.kie.workbench.common.stunner.core.command.impl.DeferredCompositeCommand;
+import org.kie.workbench.common.stunner.core.command.util.CommandUtils;
 import org.kie.workbench.common.stunner.core.graph.Edge;
 import org.kie.workbench.common.stunner.core.graph.Graph;
 import org.kie.workbench.common.stunner.core.graph.Node;
 import org.kie.workbench.common.stunner.core.graph.command.DirectGraphCommandExecutionContext;
+import org.kie.workbench.common.stunner.core.graph.command.GraphBulkLoader;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandExecutionContext;
 import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManager;
 import org.kie.workbench.common.stunner.core.graph.command.impl.AddChildNodeCommand;
@@ -69,9 +74,14 @@ import org.kie.workbench.common.stunner.core.rule.RuleViolation;
  * once all the conversions have took place: it traverses the entire directed graph described by the `BPMNNode`s
  * starting from the "root node", which represents the root of the diagram, and visiting
  * the parent/child relations in each BPMNNode and the `BPMNEdge` they may contain.
+ * <p>
+ * {@link GraphBuilder#render(BpmnNode)} does not issue any command: it loads the same graph in bulk
+ * through a {@link GraphBulkLoader}, which checks the rules only once the whole graph has been loaded.
  */
 public class GraphBuilder {
 
+    private static Logger LOGGER = Logger.getLogger(GraphBuilder.class.getName());
+
     private final GraphCommandExecutionContext executionContext;
     private final GraphCommandFactory commandFactory;
     private final GraphCommandManager commandManager;
@@ -98,8 +108,10 @@ public class GraphBuilder {
      * to draw it on the canvas
      */
     public void render(BpmnNode root) {
-        clearGraph();
-        buildGraph(root);
+        final CommandResult<RuleViolation> result = loadGraph(root);
+        if (CommandUtils.isError(result) || CommandUtils.isWarn(result)) {
+            LOGGER.log(Level.WARNING, "The graph has been loaded with rule violations: " + result.getViolations());
+        }
     }
 
     /**
@@ -108,8 +120,41 @@ public class GraphBuilder {
      * all the required commands to draw it on the canvas
      */
     public void buildGraph(BpmnNode rootNode) {
-        this.addNode(rootNode.value());
-        rootNode.getEdges().forEach(this::addEdge);
+        walk(rootNode,
+             root -> addNode(root.value()),
+             this::addChildNode,
+             this::addEdge);
+    }
+
+    /**
+     * Clears the context and then walks the graph root
+     * in the same way as {@link GraphBuilder#buildGraph(BpmnNode)},
+     * but adds the nodes and edges straight into the graph.
+     * The rules are only checked once the whole graph has been loaded.
+     */
+    @SuppressWarnings("unchecked")
+    public CommandResult<RuleViolation> loadGraph(BpmnNode rootNode) {
+        final GraphBulkLoader loader = new GraphBulkLoader(executionContext).clear();
+        walk(rootNode,
+             root -> loader.addNode(root.value()),
+             current -> {
+                 loader.addChildNode((Node) current.getParent().value(),
+                                     (Node) current.value());
+                 if (!current.isDocked()) {
+                     loader.setPosition(current.value(),
+                                        translatedPosition(current));
+                 }
+             },
+             edge -> loadEdge(loader, edge));
+        return loader.complete();
+    }
+
+    private void walk(BpmnNode rootNode,
+                      Consumer<BpmnNode> rootConsumer,
+                      Consumer<BpmnNode> childConsumer,
+                      Consumer<BpmnEdge> edgeConsumer) {
+        rootConsumer.accept(rootNode);
+        rootNode.getEdges().forEach(edgeConsumer);
         List<BpmnNode> nodes = rootNode.getChildren();
 
         Deque<BpmnNode> workingSet =
@@ -126,8 +171,8 @@ public class GraphBuilder {
             workingSet.addAll(
                     prioritized(current.getChildren()));
 
-            this.addChildNode(current);
-            current.getEdges().forEach(this::addEdge);
+            childConsumer.accept(current);
+            current.getEdges().forEach(edgeConsumer);
         }
     }
 
@@ -153,13 +198,17 @@ public class GraphBuilder {
     private void addChildNode(BpmnNode current) {
         addChildNode(current.getParent().value(), current.value());
         if (!current.isDocked()) {
-            Point2D translationFactors = calculateTranslationFactors(current);
-            translate(
-                    current.value(),
-                    translationFactors.getX(), translationFactors.getY());
+            updatePosition(current.value(), translatedPosition(current));
         }
     }
 
+    private Point2D translatedPosition(BpmnNode current) {
+        Point2D translationFactors = calculateTranslationFactors(current);
+        return translate(
+                current.value(),
+                translationFactors.getX(), translationFactors.getY());
+    }
+
     private Point2D calculateTranslationFactors(BpmnNode current) {
         double xFactor = 0;
         double yFactor = 0;
@@ -180,20 +229,19 @@ public class GraphBuilder {
     }
 
     /**
-     * Move node into a new coordinate system with origin in newOrigin.
+     * Returns the position of the node in a new coordinate system with origin in newOrigin.
      * <p>
      * E.g., assume origin is currently (0,0), and consider node at (10,11).
      * If we move node into a new coordinate system where the origin is in (3, 4)
      * then the new coordinates for node are: (10-3, 11-4) = (7,7)
      */
-    private void translate(Node<? extends View, ?> node, double deltaX, double deltaY) {
+    private Point2D translate(Node<? extends View, ?> node, double deltaX, double deltaY) {
 
         Bounds childBounds = node.getContent().getBounds();
         double constrainedX = childBounds.getUpperLeft().getX() - deltaX;
         double constrainedY = childBounds.getUpperLeft().getY() - deltaY;
 
-        Point2D coords = Point2D.create(constrainedX, constrainedY);
-        updatePosition(node, coords);
+        return Point2D.create(constrainedX, constrainedY);
     }
 
     private void updatePosition(Node node, Point2D position) {
@@ -252,10 +300,6 @@ public class GraphBuilder {
         return commandManager.execute(executionContext, command);
     }
 
-    private CommandResult<RuleViolation> clearGraph() {
-        return commandManager.execute(executionContext, commandFactory.clearGraph());
-    }
-
     private void addEdge(BpmnEdge edge) {
         if (edge.isDocked()) {
             addDockedNode(edge.getSource().value(),
@@ -270,4 +314,25 @@ public class GraphBuilder {
                     e.getTargetConnection());
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void loadEdge(GraphBulkLoader loader, BpmnEdge edge) {
+        if (edge.isDocked()) {
+            loader.addDockedNode((Node) edge.getSource().value(),
+                                 (Node) edge.getTarget().value());
+        } else {
+            final BpmnEdge.Simple e = (BpmnEdge.Simple) edge;
+            final List<Point2D> controlPoints = e.getControlPoints();
+            final ControlPoint[] cps = new ControlPoint[controlPoints.size()];
+            for (int i = 0; i < cps.length; i++) {
+                cps[i] = ControlPoint.build(controlPoints.get(i));
+            }
+            loader.addConnector((Node) e.getSource().value(),
+                                e.getEdge(),
+                                e.getSourceConnection(),
+                                cps,
+                                (Node) e.getTarget().value(),
+                                e.getTargetConnection());
+        }
+    }
 }
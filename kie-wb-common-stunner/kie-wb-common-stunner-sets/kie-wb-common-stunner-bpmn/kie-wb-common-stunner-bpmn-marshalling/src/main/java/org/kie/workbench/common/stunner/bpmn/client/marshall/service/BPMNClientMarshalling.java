@@ -69,6 +69,7 @@ public class BPMNClientMarshalling {
     private final GraphCommandManager commandManager;
     private final ManagedInstance<WorkItemDefinitionRegistry> widRegistries;
     private final DataTypeCache dataTypeCache;
+    private BPMNUnmarshallMetricsListener unmarshallMetricsListener = BPMNUnmarshallMetricsListener.NONE;
 
     @Inject
     public BPMNClientMarshalling(final DefinitionManager definitionManager,
@@ -92,6 +93,13 @@ public class BPMNClientMarshalling {
         Bpmn2Marshalling.setLogger(message -> LOGGER.log(Level.SEVERE, message));
     }
 
+    /**
+     * Sets the listener that receives the time spent on each phase when unmarshalling a process.
+     */
+    public void setUnmarshallMetricsListener(final BPMNUnmarshallMetricsListener unmarshallMetricsListener) {
+        this.unmarshallMetricsListener = unmarshallMetricsListener;
+    }
+
     @SuppressWarnings("unchecked")
     public String marshall(final Diagram<Graph, Metadata> diagram) {
         final PropertyWriterFactory propertyWriterFactory = new PropertyWriterFactory();
@@ -115,20 +123,30 @@ public class BPMNClientMarshalling {
     private Graph<DefinitionSet, Node> unmarshall(final Metadata metadata,
                                                   final MarshallingRequest.Mode mode,
                                                   final String raw) {
+        final long parseStart = System.currentTimeMillis();
         final DocumentRoot documentRoot = Bpmn2Marshalling.unmarshall(raw);
+        unmarshallMetricsListener.onPhaseCompleted(BPMNUnmarshallMetricsListener.Phase.PARSE,
+                                                   System.currentTimeMillis() - parseStart);
+
+        final long resolveStart = System.currentTimeMillis();
         final DefinitionsHandler definitionsHandler = new DefinitionsHandler(documentRoot);
         final DefinitionResolver definitionResolver = new DefinitionResolver(definitionsHandler.getDefinitions(),
                                                                              getWorkItemDefinitions(),
                                                                              definitionsHandler.isJbpm(),
                                                                              mode);
+        unmarshallMetricsListener.onPhaseCompleted(BPMNUnmarshallMetricsListener.Phase.RESOLVE,
+                                                   System.currentTimeMillis() - resolveStart);
 
         metadata.setCanvasRootUUID(definitionResolver.getDefinitions().getId());
         metadata.setTitle(definitionResolver.getProcess().getName());
 
         final BaseConverterFactory converterFactory = new org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner.ConverterFactory(definitionResolver, typedFactoryManager);
         // perform actual conversion. Process is the root of the diagram
+        final long convertStart = System.currentTimeMillis();
         final Result<BpmnNode> result = converterFactory.rootProcessConverter().convertProcess();
         final BpmnNode diagramRoot = result.value();
+        unmarshallMetricsListener.onPhaseCompleted(BPMNUnmarshallMetricsListener.Phase.CONVERT,
+                                                   System.currentTimeMillis() - convertStart);
         dataTypeCache.initCache(diagramRoot);
 
         // the root node contains all of the information
@@ -149,7 +167,10 @@ public class BPMNClientMarshalling {
                         ruleManager,
                         commandFactory,
                         commandManager);
+        final long buildGraphStart = System.currentTimeMillis();
         graphBuilder.render(diagramRoot);
+        unmarshallMetricsListener.onPhaseCompleted(BPMNUnmarshallMetricsListener.Phase.BUILD_GRAPH,
+                                                   System.currentTimeMillis() - buildGraphStart);
 
         return graph;
     }
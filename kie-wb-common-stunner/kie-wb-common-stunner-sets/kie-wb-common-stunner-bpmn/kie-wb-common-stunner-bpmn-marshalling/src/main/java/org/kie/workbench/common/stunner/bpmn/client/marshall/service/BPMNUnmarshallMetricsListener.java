@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.service;
+
+/**
+ * Receives the time spent on each phase while unmarshalling a BPMN process.
+ * See {@link BPMNClientMarshalling#setUnmarshallMetricsListener(BPMNUnmarshallMetricsListener)}.
+ */
+@FunctionalInterface
+public interface BPMNUnmarshallMetricsListener {
+
+    BPMNUnmarshallMetricsListener NONE = (phase, durationMillis) -> {
+        // empty.
+    };
+
+    enum Phase {
+
+        /**
+         * Parsing the XML into the Eclipse BPMN2 model.
+         */
+        PARSE,
+
+        /**
+         * Indexing the shapes, edges, signals and simulation parameters by element ID.
+         */
+        RESOLVE,
+
+        /**
+         * Converting the Eclipse BPMN2 elements into Stunner nodes and edges.
+         */
+        CONVERT,
+
+        /**
+         * Adding the converted nodes and edges to the graph.
+         */
+        BUILD_GRAPH
+    }
+
+    void onPhaseCompleted(final Phase phase,
+                          final long durationMillis);
+}
@@ -62,6 +62,7 @@ public class TestDefinitionsWriter {
         shape.setBounds(bounds);
         shape.setBpmnElement(node);
         bpmnPlane.getPlaneElement().add(shape);
+        definitionResolver.reindexDiagramElements();
 
         return node;
     }
@@ -76,6 +77,7 @@ public class TestDefinitionsWriter {
         edge.setBpmnElement(sequenceFlow);
         bpmnPlane.getPlaneElement().add(edge);
         edge.getWaypoint().addAll(waypoints);
+        definitionResolver.reindexDiagramElements();
 
         return sequenceFlow;
     }
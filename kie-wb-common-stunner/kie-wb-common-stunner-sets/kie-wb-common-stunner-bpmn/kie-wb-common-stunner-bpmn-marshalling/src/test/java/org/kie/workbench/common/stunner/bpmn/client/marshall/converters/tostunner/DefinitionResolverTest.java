@@ -29,6 +29,8 @@ import org.eclipse.bpmn2.Definitions;
 import org.eclipse.bpmn2.ExtensionAttributeValue;
 import org.eclipse.bpmn2.Process;
 import org.eclipse.bpmn2.Relationship;
+import org.eclipse.bpmn2.RootElement;
+import org.eclipse.bpmn2.Signal;
 import org.eclipse.bpmn2.di.BPMNDiagram;
 import org.eclipse.bpmn2.di.BPMNEdge;
 import org.eclipse.bpmn2.di.BPMNPlane;
@@ -44,6 +46,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -127,6 +131,88 @@ public class DefinitionResolverTest {
         assertEquals(edge, definitionResolver.getEdge(ID));
     }
 
+    @Test
+    public void testGetShapeFirstOneWins() {
+        BPMNShape shape1 = mockShape(ID);
+        BPMNShape shape2 = mockShape(ID);
+        planeElements.add(shape1);
+        planeElements.add(shape2);
+        assertEquals(shape1, definitionResolver.getShape(ID));
+    }
+
+    @Test
+    public void testGetShapeAndEdgeWithSameId() {
+        BPMNShape shape = mockShape(ID);
+        BPMNEdge edge = mock(BPMNEdge.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(edge.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(ID);
+        planeElements.add(edge);
+        planeElements.add(shape);
+        assertEquals(shape, definitionResolver.getShape(ID));
+        assertEquals(edge, definitionResolver.getEdge(ID));
+    }
+
+    @Test
+    public void testGetShapeWithoutBpmnElement() {
+        BPMNShape shape = mock(BPMNShape.class);
+        planeElements.add(shape);
+        assertNull(definitionResolver.getShape(ID));
+    }
+
+    @Test
+    public void testGetShapeIndexedAtConstruction() {
+        BPMNShape shape = mockShape(ID);
+        planeElements.add(shape);
+        definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
+        assertEquals(shape, definitionResolver.getShape(ID));
+        assertNull(definitionResolver.getShape("OTHER_ID"));
+    }
+
+    @Test
+    public void testGetShapeIndexedOnFirstLookup() {
+        planeElements.add(mockShape(ID));
+        assertNull(definitionResolver.getShape("OTHER_ID"));
+        planeElements.add(mockShape("OTHER_ID"));
+        assertNull(definitionResolver.getShape("OTHER_ID"));
+    }
+
+    @Test
+    public void testReindexDiagramElements() {
+        BPMNShape shape = mockShape(ID);
+        planeElements.add(shape);
+        assertEquals(shape, definitionResolver.getShape(ID));
+        planeElements.clear();
+        BPMNShape otherShape = mockShape("OTHER_ID");
+        BPMNEdge edge = mock(BPMNEdge.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(edge.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn("EDGE_ID");
+        planeElements.add(otherShape);
+        planeElements.add(edge);
+        definitionResolver.reindexDiagramElements();
+        assertNull(definitionResolver.getShape(ID));
+        assertEquals(otherShape, definitionResolver.getShape("OTHER_ID"));
+        assertEquals(edge, definitionResolver.getEdge("EDGE_ID"));
+    }
+
+    @Test
+    public void testResolveSignal() {
+        Signal signal = mock(Signal.class);
+        when(signal.getId()).thenReturn(ID);
+        when(signal.getName()).thenReturn("signalName");
+        EList<RootElement> rootElements = ECollections.newBasicEList();
+        rootElements.add(signal);
+        rootElements.add(process);
+        when(definitions.getRootElements()).thenReturn(rootElements);
+        definitionResolver = new DefinitionResolver(definitions, Collections.emptyList());
+        assertEquals(process, definitionResolver.getProcess());
+        assertEquals(signal, definitionResolver.resolveSignal(ID).get());
+        assertEquals("signalName", definitionResolver.resolveSignalName(ID));
+        assertFalse(definitionResolver.resolveSignal("OTHER_ID").isPresent());
+        assertEquals("", definitionResolver.resolveSignalName("OTHER_ID"));
+    }
+
     @Test
     public void testSimulation() {
         String elementRef = "some_element_ref";
@@ -150,4 +236,12 @@ public class DefinitionResolverTest {
 
         assertEquals(parameter, definitionResolver.resolveSimulationParameters(elementRef).get());
     }
+
+    private static BPMNShape mockShape(String id) {
+        BPMNShape shape = mock(BPMNShape.class);
+        BaseElement bpmnElement = mock(BaseElement.class);
+        when(shape.getBpmnElement()).thenReturn(bpmnElement);
+        when(bpmnElement.getId()).thenReturn(id);
+        return shape;
+    }
 }
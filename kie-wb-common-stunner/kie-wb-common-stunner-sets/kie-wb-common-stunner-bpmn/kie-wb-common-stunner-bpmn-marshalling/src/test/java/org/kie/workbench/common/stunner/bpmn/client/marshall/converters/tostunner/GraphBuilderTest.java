@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.enterprise.event.Event;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.TypedFactoryManager;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner.properties.BasePropertyReader;
+import org.kie.workbench.common.stunner.bpmn.client.marshall.converters.tostunner.properties.PropertyReader;
+import org.kie.workbench.common.stunner.bpmn.definition.BPMNViewDefinition;
+import org.kie.workbench.common.stunner.core.api.DefinitionManager;
+import org.kie.workbench.common.stunner.core.api.FactoryManager;
+import org.kie.workbench.common.stunner.core.graph.Edge;
+import org.kie.workbench.common.stunner.core.graph.Graph;
+import org.kie.workbench.common.stunner.core.graph.Node;
+import org.kie.workbench.common.stunner.core.graph.command.GraphCommandManagerImpl;
+import org.kie.workbench.common.stunner.core.graph.command.impl.GraphCommandFactory;
+import org.kie.workbench.common.stunner.core.graph.content.Bounds;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSet;
+import org.kie.workbench.common.stunner.core.graph.content.definition.DefinitionSetImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ControlPoint;
+import org.kie.workbench.common.stunner.core.graph.content.view.MagnetConnection;
+import org.kie.workbench.common.stunner.core.graph.content.view.Point2D;
+import org.kie.workbench.common.stunner.core.graph.content.view.View;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnector;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewConnectorImpl;
+import org.kie.workbench.common.stunner.core.graph.content.view.ViewImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.EdgeImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.GraphImpl;
+import org.kie.workbench.common.stunner.core.graph.impl.NodeImpl;
+import org.kie.workbench.common.stunner.core.graph.store.GraphNodeStoreImpl;
+import org.kie.workbench.common.stunner.core.rule.RuleManager;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GraphBuilderTest {
+
+    @Test
+    public void testRenderIsEquivalentToBuildGraph() {
+        final Diagram expected = new Diagram();
+        expected.newGraphBuilder().buildGraph(expected.root);
+        final Diagram tested = new Diagram();
+        tested.newGraphBuilder().render(tested.root);
+
+        assertEquals(6,
+                     countNodes(tested.graph));
+        assertEquals(describe(expected.graph),
+                     describe(tested.graph));
+    }
+
+    private static int countNodes(final Graph<?, Node> graph) {
+        int count = 0;
+        for (Node node : graph.nodes()) {
+            count++;
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String describe(final Graph<?, Node> graph) {
+        final List<String> nodes = new ArrayList<>();
+        for (Node node : graph.nodes()) {
+            final List<String> edges = new ArrayList<>();
+            for (Object e : node.getOutEdges()) {
+                edges.add("out:" + describe((Edge) e));
+            }
+            for (Object e : node.getInEdges()) {
+                edges.add("in:" + describe((Edge) e));
+            }
+            Collections.sort(edges);
+            nodes.add(node.getUUID() + ((View) node.getContent()).getBounds() + edges);
+        }
+        Collections.sort(nodes);
+        return nodes.toString();
+    }
+
+    private static String describe(final Edge edge) {
+        final Object content = edge.getContent();
+        final StringBuilder description = new StringBuilder(content.getClass().getSimpleName())
+                .append("[").append(edge.getSourceNode().getUUID())
+                .append("->").append(edge.getTargetNode().getUUID());
+        if (content instanceof ViewConnector) {
+            final ViewConnector connector = (ViewConnector) content;
+            description.append(", ").append(edge.getUUID())
+                    .append(", ").append(connector.getSourceConnection())
+                    .append(", ").append(connector.getTargetConnection());
+            for (ControlPoint cp : connector.getControlPoints()) {
+                description.append(", ").append(cp.getLocation());
+            }
+        }
+        return description.append("]").toString();
+    }
+
+    /**
+     * The node tree of a process with a task that has a boundary event docked, and a sub-process
+     * with another task. The boundary event is connected to the task in the sub-process, and the
+     * bounds of all the nodes are absolute, as read from the BPMN diagram.
+     */
+    private static class Diagram {
+
+        private final GraphImpl<DefinitionSet> graph = new GraphImpl<>("graph",
+                                                                       new GraphNodeStoreImpl());
+        private final BpmnNode root = node("root", 0, 0, 1000, 1000);
+        private final BpmnNode task1 = node("task1", 10, 10, 110, 60);
+        private final BpmnNode boundaryEvent = node("boundaryEvent", 90, 40, 120, 70).docked();
+        private final BpmnNode subProcess = node("subProcess", 200, 100, 700, 600);
+        private final BpmnNode task2 = node("task2", 300, 200, 400, 250);
+        private final BpmnNode task3 = node("task3", 800, 800, 900, 850);
+
+        private Diagram() {
+            graph.setContent(new DefinitionSetImpl("definitionSet"));
+            task1.setParent(root);
+            boundaryEvent.setParent(root);
+            subProcess.setParent(root);
+            task2.setParent(subProcess);
+            task3.setParent(root);
+            root.addEdge(BpmnEdge.docked(task1, boundaryEvent));
+            root.addEdge(sequenceFlow("flow1",
+                                      boundaryEvent,
+                                      task2,
+                                      Arrays.asList(Point2D.create(105, 150),
+                                                    Point2D.create(250, 150))));
+            subProcess.addEdge(sequenceFlow("flow2",
+                                            task2,
+                                            task3,
+                                            Collections.singletonList(Point2D.create(850, 225))));
+            root.addEdge(sequenceFlow("flow3",
+                                      task1,
+                                      task3,
+                                      Collections.emptyList()));
+        }
+
+        private GraphBuilder newGraphBuilder() {
+            final TypedFactoryManager typedFactoryManager = mock(TypedFactoryManager.class);
+            when(typedFactoryManager.untyped()).thenReturn(mock(FactoryManager.class));
+            return new GraphBuilder(graph,
+                                    mock(DefinitionManager.class),
+                                    typedFactoryManager,
+                                    mock(RuleManager.class),
+                                    new GraphCommandFactory(),
+                                    newCommandManager());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static GraphCommandManagerImpl newCommandManager() {
+            return new GraphCommandManagerImpl(mock(Event.class),
+                                               mock(Event.class),
+                                               mock(Event.class));
+        }
+
+        private static BpmnNode node(final String uuid,
+                                     final double x1,
+                                     final double y1,
+                                     final double x2,
+                                     final double y2) {
+            final Node<View<BPMNViewDefinition>, Edge> node = new NodeImpl<>(uuid);
+            node.setContent(new ViewImpl<>(mock(BPMNViewDefinition.class),
+                                           Bounds.create(x1, y1, x2, y2)));
+            return BpmnNode.of(node,
+                               mock(BasePropertyReader.class));
+        }
+
+        private static BpmnEdge sequenceFlow(final String uuid,
+                                             final BpmnNode source,
+                                             final BpmnNode target,
+                                             final List<Point2D> controlPoints) {
+            final Edge<View<BPMNViewDefinition>, Node> edge = new EdgeImpl<>(uuid);
+            edge.setContent(new ViewConnectorImpl<>(mock(BPMNViewDefinition.class),
+                                                    Bounds.create(0, 0, 0, 0)));
+            return BpmnEdge.of(edge,
+                               source,
+                               MagnetConnection.Builder.at(1, 2),
+                               controlPoints,
+                               target,
+                               MagnetConnection.Builder.at(3, 4),
+                               mock(PropertyReader.class));
+        }
+    }
+}
@@ -21,10 +21,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.Dependent;
@@ -37,6 +40,7 @@ import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.jboss.errai.validation.client.dynamic.DynamicValidator;
 import org.kie.soup.commons.validation.PortablePreconditions;
+import org.kie.soup.project.datamodel.imports.Import;
 import org.kie.soup.project.datamodel.imports.Imports;
 import org.kie.soup.project.datamodel.oracle.Annotation;
 import org.kie.soup.project.datamodel.oracle.DataType;
@@ -161,6 +165,29 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
     // Keep the link between fact name and the full qualified class name inside the package
     private FactNameToFQCNHandleRegistry factNameToFQCNHandleRegistry = new FactNameToFQCNHandleRegistry();
 
+    // ####################################
+    // Lookup indexes and caches
+    // ####################################
+
+    // Project Fact Types' fields by name, built on first use for each Fact Type. Not affected by imports.
+    private Map<String, FieldIndex> projectModelFieldsIndex = new HashMap<String, FieldIndex>();
+
+    // Project Fact Types' methods by name and by name with parameters, built on first use for each Fact Type. Not affected by imports.
+    private Map<String, MethodIndex> projectMethodInformationIndex = new HashMap<String, MethodIndex>();
+
+    // Filtered Fact Type names by the class name of their "this" field; rebuilt on first use after filtering.
+    private Map<String, String> filteredFactNamesByClassName = null;
+
+    // Field completions by {factType, accessorOrMutator} and method information by {factType, parameterCount}; cleared
+    // whenever the project model or the package change, and for the affected Fact Types when the imports change.
+    private Map<String, Map<FieldAccessorsAndMutators, ModelField[]>> fieldCompletionsCache = new HashMap<String, Map<FieldAccessorsAndMutators, ModelField[]>>();
+    private Map<String, Map<Integer, List<MethodInfo>>> methodInfosCache = new HashMap<String, Map<Integer, List<MethodInfo>>>();
+
+    // Imports the filtered views were built with, and the project types affected by each import. Both are reset when
+    // the project model or the package change, so that the next filter rebuilds the views from scratch.
+    private Imports filteredImports = null;
+    private ImportIndex importIndex = null;
+
     @Inject
     public AsyncPackageDataModelOracleImpl(final Caller<IncrementalDataModelService> service,
                                            final Instance<DynamicValidator> validatorInstance) {
@@ -278,12 +305,9 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         if (filteredModelFields.containsKey(type)) {
             return type;
         }
-        for (Map.Entry<String, ModelField[]> entry : filteredModelFields.entrySet()) {
-            for (ModelField mf : entry.getValue()) {
-                if (DataType.TYPE_THIS.equals(mf.getName()) && type.equals(mf.getClassName())) {
-                    return entry.getKey();
-                }
-            }
+        final String factName = getFilteredFactNamesByClassName().get(type);
+        if (factName != null) {
+            return factName;
         }
 
         final String fgcnByFactName = getFQCNByFactName(type);
@@ -590,6 +614,12 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
     public void getFieldCompletions(final String factType,
                                     final FieldAccessorsAndMutators accessorOrMutator,
                                     final Callback<ModelField[]> callback) {
+        final Map<FieldAccessorsAndMutators, ModelField[]> factTypeFieldCompletions = fieldCompletionsCache.get(factType);
+        final ModelField[] cachedFields = factTypeFieldCompletions == null ? null : factTypeFieldCompletions.get(accessorOrMutator);
+        if (cachedFields != null) {
+            callback.callback(cachedFields.clone());
+            return;
+        }
         getFieldCompletions(factType,
                             new Callback<ModelField[]>() {
 
@@ -603,7 +633,14 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
                                             result.add(field);
                                         }
                                     }
-                                    callback.callback(result.toArray(new ModelField[result.size()]));
+                                    final ModelField[] resultFields = result.toArray(new ModelField[result.size()]);
+                                    if (resultFields.length > 0) {
+                                        fieldCompletionsCache.computeIfAbsent(factType,
+                                                                              key -> new HashMap<FieldAccessorsAndMutators, ModelField[]>())
+                                                .put(accessorOrMutator,
+                                                     resultFields.clone());
+                                    }
+                                    callback.callback(resultFields);
                                 }
                             });
     }
@@ -629,14 +666,9 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         }
 
         //Check method information
-        final String fgcnModelClassName = getFQCNByFactName(modelClassName);
-        final List<MethodInfo> mis = projectMethodInformation.get(fgcnModelClassName);
-        if (mis != null) {
-            for (MethodInfo mi : mis) {
-                if (mi.getName().equals(fieldName)) {
-                    return mi.getGenericType();
-                }
-            }
+        final MethodInfo mi = getMethodIndex(getFQCNByFactName(modelClassName)).byName.get(fieldName);
+        if (mi != null) {
+            return mi.getGenericType();
         }
 
         return null;
@@ -653,14 +685,9 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         }
 
         //Check method information
-        final String fgcnModelClassName = getFQCNByFactName(modelClassName);
-        final List<MethodInfo> mis = projectMethodInformation.get(fgcnModelClassName);
-        if (mis != null) {
-            for (MethodInfo mi : mis) {
-                if (mi.getName().equals(fieldName)) {
-                    return mi.getReturnClassType();
-                }
-            }
+        final MethodInfo mi = getMethodIndex(getFQCNByFactName(modelClassName)).byName.get(fieldName);
+        if (mi != null) {
+            return mi.getReturnClassType();
         }
 
         return null;
@@ -668,22 +695,13 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
 
     private ModelField getField(final String modelClassName,
                                 final String fieldName) {
-        final String fgcnByFactName = getFQCNByFactName(modelClassName);
-        final ModelField[] fields = projectModelFields.get(fgcnByFactName);
-
-        if (fields == null) {
+        final ModelField modelField = getFieldIndex(getFQCNByFactName(modelClassName)).byName.get(fieldName);
+        if (modelField == null) {
             return null;
         }
-
-        for (ModelField modelField : fields) {
-            if (modelField.getName().equals(fieldName)) {
-                return AsyncPackageDataModelOracleUtilities.correctModelFields(packageName,
-                                                                               imports,
-                                                                               modelField);
-            }
-        }
-
-        return null;
+        return AsyncPackageDataModelOracleUtilities.correctModelFields(packageName,
+                                                                       imports,
+                                                                       modelField);
     }
 
     /**
@@ -860,8 +878,16 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
                           imports,
                           fqcnByFactName);
         } else {
-            callback.callback(getMethodInfos(parameterCount,
-                                             methodInformation));
+            final Map<Integer, List<MethodInfo>> factTypeMethodInfos = methodInfosCache.computeIfAbsent(fqcnByFactName,
+                                                                                                         key -> new HashMap<Integer, List<MethodInfo>>());
+            List<MethodInfo> methodInfos = factTypeMethodInfos.get(parameterCount);
+            if (methodInfos == null) {
+                methodInfos = getMethodInfos(parameterCount,
+                                             methodInformation);
+                factTypeMethodInfos.put(parameterCount,
+                                        methodInfos);
+            }
+            callback.callback(new ArrayList<MethodInfo>(methodInfos));
         }
     }
 
@@ -947,29 +973,27 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
                 public void callback(final PackageDataModelOracleIncrementalPayload dataModel) {
                     AsyncPackageDataModelOracleUtilities.populateDataModelOracle(AsyncPackageDataModelOracleImpl.this,
                                                                                  dataModel);
-                    final List<MethodInfo> methodInformation = projectMethodInformation.get(fqcnFactName);
-                    callback.callback(getMethodInfo(methodInformation,
+                    callback.callback(getMethodInfo(fqcnFactName,
                                                     methodNameWithParams));
                 }
             }).getUpdates(resourcePath,
                           imports,
                           factType);
         } else {
-            callback.callback(getMethodInfo(methodInformation,
+            callback.callback(getMethodInfo(fqcnFactName,
                                             methodNameWithParams));
         }
     }
 
-    private MethodInfo getMethodInfo(final List<MethodInfo> methodInfos,
+    private MethodInfo getMethodInfo(final String fqcnFactName,
                                      final String methodNameWithParams) {
-        for (MethodInfo methodInfo : methodInfos) {
-            if (methodInfo.getNameWithParameters().equals(methodNameWithParams)) {
-                return AsyncPackageDataModelOracleUtilities.correctMethodInformation(packageName,
-                                                                                     methodInfo,
-                                                                                     imports);
-            }
+        final MethodInfo methodInfo = getMethodIndex(fqcnFactName).byNameWithParameters.get(methodNameWithParams);
+        if (methodInfo == null) {
+            return null;
         }
-        return null;
+        return AsyncPackageDataModelOracleUtilities.correctMethodInformation(packageName,
+                                                                             methodInfo,
+                                                                             imports);
     }
 
     // ####################################
@@ -1134,12 +1158,18 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
 
     @Override
     public void filter(final Imports imports) {
+        final Imports previousImports = filteredImports;
         this.imports = imports;
-        filter();
+        if (previousImports == null || importIndex == null) {
+            filter();
+        } else {
+            filterChangedImports(previousImports);
+        }
     }
 
     @Override
     public void filter() {
+        clearCaches();
 
         //Filter and rename Model Fields based on package name and imports
         filteredModelFields = new TreeMap<String, ModelField[]>(SortHelper.ALPHABETICAL_ORDER_COMPARATOR);
@@ -1206,6 +1236,211 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         filteredFieldParametersType.putAll(AsyncPackageDataModelOracleUtilities.filterFieldParametersTypes(packageName,
                                                                                                            imports,
                                                                                                            projectFieldParametersType));
+
+        filteredImports = copyOf(imports);
+        importIndex = new ImportIndex();
+    }
+
+    /**
+     * Updates the filtered views for the imports added or removed since they were last filtered. Only the entries of
+     * the types that were imported or un-imported, and of the types whose fields, super types or field parameter types
+     * refer to them, are filtered again; using the same filters as a full rebuild.
+     * @param previousImports Imports the filtered views were built with
+     */
+    private void filterChangedImports(final Imports previousImports) {
+        final Set<String> changedImports = new HashSet<String>(previousImports.getImportStrings());
+        final Set<String> importStrings = imports.getImportStrings();
+        for (String importString : importStrings) {
+            if (!changedImports.remove(importString)) {
+                changedImports.add(importString);
+            }
+        }
+        if (changedImports.isEmpty()) {
+            return;
+        }
+
+        final Set<String> typeNames = importIndex.getTypeNames(changedImports);
+        if (!typeNames.isEmpty()) {
+            refilterModelFields(typeNames,
+                                previousImports);
+            refilter(filteredCollectionTypes,
+                     importIndex.getTypes(projectCollectionTypes,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterCollectionTypes(packageName,
+                                                                                                     scope,
+                                                                                                     entries));
+            refilter(filteredEventTypes,
+                     importIndex.getTypes(projectEventTypes,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterEventTypes(packageName,
+                                                                                                scope,
+                                                                                                entries));
+            refilter(filteredTypeSources,
+                     importIndex.getTypes(projectTypeSources,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterTypeSources(packageName,
+                                                                                                 scope,
+                                                                                                 entries));
+            refilter(filteredSuperTypes,
+                     importIndex.getTypes(projectSuperTypes,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterSuperTypes(packageName,
+                                                                                                scope,
+                                                                                                entries));
+            refilter(filteredTypeAnnotations,
+                     importIndex.getTypes(projectTypeAnnotations,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterTypeAnnotations(packageName,
+                                                                                                     scope,
+                                                                                                     entries));
+            refilter(filteredTypeFieldsAnnotations,
+                     importIndex.getTypes(projectTypeFieldsAnnotations,
+                                          typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterTypeFieldsAnnotations(packageName,
+                                                                                                           scope,
+                                                                                                           entries));
+            refilterEnumDefinitions(typeNames,
+                                    previousImports);
+            refilter(filteredFieldParametersType,
+                     importIndex.getFieldParametersTypes(typeNames),
+                     previousImports,
+                     (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterFieldParametersTypes(packageName,
+                                                                                                          scope,
+                                                                                                          entries));
+            clearFieldCompletionsCache(typeNames);
+        }
+
+        refilter(filteredGlobalTypes,
+                 importIndex.getGlobals(changedImports),
+                 previousImports,
+                 (scope, entries) -> AsyncPackageDataModelOracleUtilities.filterGlobalTypes(packageName,
+                                                                                             scope,
+                                                                                             entries));
+
+        methodInfosCache.keySet().removeAll(importIndex.getMethodOwners(changedImports));
+
+        filteredImports = copyOf(imports);
+    }
+
+    private <T> void refilter(final Map<String, T> filteredView,
+                              final Map<String, T> projectEntries,
+                              final Imports previousImports,
+                              final BiFunction<Imports, Map<String, T>, Map<String, T>> filter) {
+        if (projectEntries.isEmpty()) {
+            return;
+        }
+        filteredView.keySet().removeAll(filter.apply(previousImports,
+                                                     projectEntries).keySet());
+        filteredView.putAll(filter.apply(imports,
+                                         projectEntries));
+    }
+
+    private void refilterModelFields(final Set<String> typeNames,
+                                     final Imports previousImports) {
+        final Map<String, ModelField[]> projectEntries = importIndex.getTypes(projectModelFields,
+                                                                              typeNames);
+        //The previous entries are only needed for their names, so they must not touch the registry
+        final Map<String, ModelField[]> previousEntries = AsyncPackageDataModelOracleUtilities.filterModelFields(packageName,
+                                                                                                                 previousImports,
+                                                                                                                 projectEntries,
+                                                                                                                 new FactNameToFQCNHandleRegistry());
+        final Map<String, ModelField[]> entries = AsyncPackageDataModelOracleUtilities.filterModelFields(packageName,
+                                                                                                         imports,
+                                                                                                         projectEntries,
+                                                                                                         factNameToFQCNHandleRegistry);
+        filteredModelFields.keySet().removeAll(previousEntries.keySet());
+        filteredModelFields.putAll(entries);
+
+        // For filling the factNameToFQCNHandleRegistry
+        AsyncPackageDataModelOracleUtilities.visitMethodInformation(importIndex.getTypes(projectMethodInformation,
+                                                                                         typeNames),
+                                                                    factNameToFQCNHandleRegistry);
+
+        refilterFactNamesByClassName(previousEntries,
+                                     entries);
+    }
+
+    private void refilterFactNamesByClassName(final Map<String, ModelField[]> previousEntries,
+                                              final Map<String, ModelField[]> entries) {
+        if (filteredFactNamesByClassName == null) {
+            return;
+        }
+        final Map<String, String> removedFactNames = new HashMap<String, String>();
+        for (Map.Entry<String, ModelField[]> entry : previousEntries.entrySet()) {
+            for (ModelField mf : entry.getValue()) {
+                if (DataType.TYPE_THIS.equals(mf.getName()) && entry.getKey().equals(filteredFactNamesByClassName.get(mf.getClassName()))) {
+                    filteredFactNamesByClassName.remove(mf.getClassName());
+                    removedFactNames.put(mf.getClassName(),
+                                         entry.getKey());
+                }
+            }
+        }
+        for (Map.Entry<String, ModelField[]> entry : entries.entrySet()) {
+            for (ModelField mf : entry.getValue()) {
+                if (DataType.TYPE_THIS.equals(mf.getName())) {
+                    final String factName = filteredFactNamesByClassName.get(mf.getClassName());
+                    if (factName == null || SortHelper.ALPHABETICAL_ORDER_COMPARATOR.compare(factName,
+                                                                                             entry.getKey()) > 0) {
+                        filteredFactNamesByClassName.put(mf.getClassName(),
+                                                         entry.getKey());
+                    }
+                }
+            }
+        }
+        //A Fact Type's "this" field is named after the Fact Type, so no other Fact Type can claim a class name that was
+        //named after the Fact Type that no longer does. Anything else needs a rebuild on the next lookup.
+        for (Map.Entry<String, String> removed : removedFactNames.entrySet()) {
+            if (!filteredFactNamesByClassName.containsKey(removed.getKey()) && !removed.getKey().equals(removed.getValue())) {
+                filteredFactNamesByClassName = null;
+                return;
+            }
+        }
+    }
+
+    private void refilterEnumDefinitions(final Set<String> typeNames,
+                                         final Imports previousImports) {
+        final Map<String, String[]> projectEntries = importIndex.getEnumDefinitions(typeNames);
+        if (projectEntries.isEmpty()) {
+            return;
+        }
+        for (String key : AsyncPackageDataModelOracleUtilities.filterEnumDefinitions(packageName,
+                                                                                     previousImports,
+                                                                                     projectEntries).keySet()) {
+            //Java enumerations override the Workbench ones, so the latter are visible again when the former are not
+            if (packageWorkbenchEnumLists.containsKey(key)) {
+                filteredEnumLists.put(key,
+                                      packageWorkbenchEnumLists.get(key));
+            } else {
+                filteredEnumLists.remove(key);
+            }
+        }
+        filteredEnumLists.putAll(AsyncPackageDataModelOracleUtilities.filterEnumDefinitions(packageName,
+                                                                                            imports,
+                                                                                            projectEntries));
+        filteredEnumLists.clearEnumLookupFields();
+    }
+
+    private void clearFieldCompletionsCache(final Set<String> typeNames) {
+        for (String typeName : typeNames) {
+            fieldCompletionsCache.remove(typeName);
+            for (String type : importIndex.getTypes(typeName)) {
+                fieldCompletionsCache.remove(type);
+            }
+        }
+    }
+
+    private static Imports copyOf(final Imports imports) {
+        final Imports copy = new Imports();
+        for (String importString : imports.getImportStrings()) {
+            copy.addImport(new Import(importString));
+        }
+        return copy;
     }
 
     // ####################################
@@ -1220,6 +1455,8 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
     @Override
     public void setPackageName(final String packageName) {
         this.packageName = packageName;
+        clearCaches();
+        clearFilteredImports();
     }
 
     @Override
@@ -1232,21 +1469,26 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         }
 
         this.projectModelFields.putAll(modelFields);
+        clearCaches();
+        clearFilteredImports();
     }
 
     @Override
     public void addFieldParametersType(final Map<String, String> fieldParametersType) {
         this.projectFieldParametersType.putAll(fieldParametersType);
+        clearFilteredImports();
     }
 
     @Override
     public void addEventTypes(final Map<String, Boolean> eventTypes) {
         this.projectEventTypes.putAll(eventTypes);
+        clearFilteredImports();
     }
 
     @Override
     public void addTypeSources(final Map<String, TypeSource> typeSources) {
         this.projectTypeSources.putAll(typeSources);
+        clearFilteredImports();
     }
 
     @Override
@@ -1259,21 +1501,25 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         }
 
         this.projectSuperTypes.putAll(superTypes);
+        clearFilteredImports();
     }
 
     @Override
     public void addTypeAnnotations(final Map<String, Set<Annotation>> annotations) {
         this.projectTypeAnnotations.putAll(annotations);
+        clearFilteredImports();
     }
 
     @Override
     public void addTypeFieldsAnnotations(final Map<String, Map<String, Set<Annotation>>> typeFieldsAnnotations) {
         this.projectTypeFieldsAnnotations.putAll(typeFieldsAnnotations);
+        clearFilteredImports();
     }
 
     @Override
     public void addJavaEnumDefinitions(final Map<String, String[]> dataEnumLists) {
         this.projectJavaEnumLists.putAll(dataEnumLists);
+        clearFilteredImports();
     }
 
     @Override
@@ -1286,11 +1532,14 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
         }
 
         this.projectMethodInformation.putAll(methodInformation);
+        clearCaches();
+        clearFilteredImports();
     }
 
     @Override
     public void addCollectionTypes(final Map<String, Boolean> collectionTypes) {
         this.projectCollectionTypes.putAll(collectionTypes);
+        clearFilteredImports();
     }
 
     @Override
@@ -1303,6 +1552,7 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
     @Override
     public void addWorkbenchEnumDefinitions(final Map<String, String[]> dataEnumLists) {
         this.packageWorkbenchEnumLists.putAll(dataEnumLists);
+        clearFilteredImports();
     }
 
     @Override
@@ -1318,6 +1568,312 @@ public class AsyncPackageDataModelOracleImpl implements AsyncPackageDataModelOra
     @Override
     public void addGlobals(final Map<String, String> packageGlobalTypes) {
         this.packageGlobalTypes.putAll(packageGlobalTypes);
+        clearFilteredImports();
+    }
+
+    private void clearCaches() {
+        filteredFactNamesByClassName = null;
+        fieldCompletionsCache.clear();
+        methodInfosCache.clear();
+    }
+
+    private void clearFilteredImports() {
+        filteredImports = null;
+        importIndex = null;
+    }
+
+    private Map<String, String> getFilteredFactNamesByClassName() {
+        if (filteredFactNamesByClassName == null) {
+            filteredFactNamesByClassName = new HashMap<String, String>();
+            for (Map.Entry<String, ModelField[]> entry : filteredModelFields.entrySet()) {
+                for (ModelField mf : entry.getValue()) {
+                    if (DataType.TYPE_THIS.equals(mf.getName()) && !filteredFactNamesByClassName.containsKey(mf.getClassName())) {
+                        filteredFactNamesByClassName.put(mf.getClassName(),
+                                                         entry.getKey());
+                    }
+                }
+            }
+        }
+        return filteredFactNamesByClassName;
+    }
+
+    private FieldIndex getFieldIndex(final String fqcnFactName) {
+        final ModelField[] fields = projectModelFields.get(fqcnFactName);
+        if (fields == null) {
+            return FieldIndex.EMPTY;
+        }
+        FieldIndex index = projectModelFieldsIndex.get(fqcnFactName);
+        if (index == null || index.fields != fields) {
+            index = new FieldIndex(fields);
+            projectModelFieldsIndex.put(fqcnFactName,
+                                        index);
+        }
+        return index;
+    }
+
+    private MethodIndex getMethodIndex(final String fqcnFactName) {
+        final List<MethodInfo> methodInfos = projectMethodInformation.get(fqcnFactName);
+        if (methodInfos == null) {
+            return MethodIndex.EMPTY;
+        }
+        MethodIndex index = projectMethodInformationIndex.get(fqcnFactName);
+        if (index == null || index.methodInfos != methodInfos) {
+            index = new MethodIndex(methodInfos);
+            projectMethodInformationIndex.put(fqcnFactName,
+                                              index);
+        }
+        return index;
+    }
+
+    /**
+     * The fields of a Fact Type by name. The first field wins on duplicated names, as a scan of the fields would.
+     */
+    private static class FieldIndex {
+
+        private static final FieldIndex EMPTY = new FieldIndex(null);
+
+        private final ModelField[] fields;
+        private final Map<String, ModelField> byName = new HashMap<String, ModelField>();
+
+        private FieldIndex(final ModelField[] fields) {
+            this.fields = fields;
+            if (fields != null) {
+                for (ModelField field : fields) {
+                    if (!byName.containsKey(field.getName())) {
+                        byName.put(field.getName(),
+                                   field);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The methods of a Fact Type by name and by name with parameters. The first method wins on duplicated keys, as a
+     * scan of the methods would.
+     */
+    private static class MethodIndex {
+
+        private static final MethodIndex EMPTY = new MethodIndex(null);
+
+        private final List<MethodInfo> methodInfos;
+        private final Map<String, MethodInfo> byName = new HashMap<String, MethodInfo>();
+        private final Map<String, MethodInfo> byNameWithParameters = new HashMap<String, MethodInfo>();
+
+        private MethodIndex(final List<MethodInfo> methodInfos) {
+            this.methodInfos = methodInfos;
+            if (methodInfos != null) {
+                for (MethodInfo methodInfo : methodInfos) {
+                    if (!byName.containsKey(methodInfo.getName())) {
+                        byName.put(methodInfo.getName(),
+                                   methodInfo);
+                    }
+                    if (!byNameWithParameters.containsKey(methodInfo.getNameWithParameters())) {
+                        byNameWithParameters.put(methodInfo.getNameWithParameters(),
+                                                 methodInfo);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The project types, enumerations, field parameter types and globals affected by each import, built when the
+     * filtered views are. A type is affected by its own import, and by the imports of the types its fields, super
+     * types or field parameter types refer to, as these are renamed when imported.
+     */
+    private class ImportIndex {
+
+        // Short names of the affected types by import.
+        private final Map<String, Set<String>> typeNamesByImport = new HashMap<String, Set<String>>();
+
+        // Project types, and the keys of the enumerations and field parameter types, by short type name.
+        private final Map<String, Set<String>> typesByTypeName = new HashMap<String, Set<String>>();
+        private final Map<String, Set<String>> enumDefinitionsByTypeName = new HashMap<String, Set<String>>();
+        private final Map<String, Set<String>> fieldParametersTypesByTypeName = new HashMap<String, Set<String>>();
+
+        // Project types whose methods return a type, by the import of that type.
+        private final Map<String, Set<String>> methodOwnersByImport = new HashMap<String, Set<String>>();
+
+        // Aliases of the package globals by the import of their type.
+        private final Map<String, Set<String>> globalsByImport = new HashMap<String, Set<String>>();
+
+        private ImportIndex() {
+            for (Map.Entry<String, ModelField[]> entry : projectModelFields.entrySet()) {
+                final String typeName = addType(entry.getKey());
+                if (entry.getValue() != null) {
+                    for (ModelField mf : entry.getValue()) {
+                        addReference(mf.getClassName(),
+                                     typeName);
+                        addReference(mf.getType(),
+                                     typeName);
+                    }
+                }
+            }
+            for (Map.Entry<String, List<String>> entry : projectSuperTypes.entrySet()) {
+                final String typeName = addType(entry.getKey());
+                if (entry.getValue() != null) {
+                    for (String superType : entry.getValue()) {
+                        addReference(superType,
+                                     typeName);
+                    }
+                }
+            }
+            for (Map.Entry<String, List<MethodInfo>> entry : projectMethodInformation.entrySet()) {
+                addType(entry.getKey());
+                if (entry.getValue() != null) {
+                    for (MethodInfo mi : entry.getValue()) {
+                        addMethodOwner(mi.getReturnClassType(),
+                                       entry.getKey());
+                        addMethodOwner(mi.getGenericType(),
+                                       entry.getKey());
+                        addMethodOwner(mi.getParametricReturnType(),
+                                       entry.getKey());
+                    }
+                }
+            }
+            addTypes(projectCollectionTypes.keySet());
+            addTypes(projectEventTypes.keySet());
+            addTypes(projectTypeSources.keySet());
+            addTypes(projectTypeAnnotations.keySet());
+            addTypes(projectTypeFieldsAnnotations.keySet());
+            for (Map.Entry<String, String> entry : projectFieldParametersType.entrySet()) {
+                final String qualifiedType = AsyncPackageDataModelOracleUtilities.getQualifiedTypeFromEnumeration(entry.getKey());
+                final String typeName = AsyncPackageDataModelOracleUtilities.getTypeName(qualifiedType);
+                add(fieldParametersTypesByTypeName,
+                    typeName,
+                    entry.getKey());
+                addReference(qualifiedType,
+                             typeName);
+                addReference(AsyncPackageDataModelOracleUtilities.getQualifiedTypeFromEnumeration(entry.getValue()),
+                             typeName);
+            }
+            for (String key : projectJavaEnumLists.keySet()) {
+                final String qualifiedType = AsyncPackageDataModelOracleUtilities.getQualifiedTypeFromEnumeration(key);
+                final String typeName = AsyncPackageDataModelOracleUtilities.getTypeName(qualifiedType);
+                add(enumDefinitionsByTypeName,
+                    typeName,
+                    key);
+                addReference(qualifiedType,
+                             typeName);
+            }
+            for (Map.Entry<String, String> entry : packageGlobalTypes.entrySet()) {
+                add(globalsByImport,
+                    getImport(entry.getValue()),
+                    entry.getKey());
+            }
+        }
+
+        private Set<String> getTypeNames(final Set<String> imports) {
+            return get(typeNamesByImport,
+                       imports);
+        }
+
+        private Set<String> getMethodOwners(final Set<String> imports) {
+            return get(methodOwnersByImport,
+                       imports);
+        }
+
+        private Set<String> getTypes(final String typeName) {
+            final Set<String> types = typesByTypeName.get(typeName);
+            return types == null ? Collections.<String>emptySet() : types;
+        }
+
+        private <T> Map<String, T> getTypes(final Map<String, T> projectTypes,
+                                            final Set<String> typeNames) {
+            return getEntries(projectTypes,
+                              get(typesByTypeName,
+                                  typeNames));
+        }
+
+        private Map<String, String[]> getEnumDefinitions(final Set<String> typeNames) {
+            return getEntries(projectJavaEnumLists,
+                              get(enumDefinitionsByTypeName,
+                                  typeNames));
+        }
+
+        private Map<String, String> getFieldParametersTypes(final Set<String> typeNames) {
+            return getEntries(projectFieldParametersType,
+                              get(fieldParametersTypesByTypeName,
+                                  typeNames));
+        }
+
+        private Map<String, String> getGlobals(final Set<String> imports) {
+            return getEntries(packageGlobalTypes,
+                              get(globalsByImport,
+                                  imports));
+        }
+
+        private void addTypes(final Set<String> types) {
+            for (String type : types) {
+                addType(type);
+            }
+        }
+
+        private String addType(final String type) {
+            final String typeName = AsyncPackageDataModelOracleUtilities.getTypeName(type);
+            add(typesByTypeName,
+                typeName,
+                type);
+            addReference(type,
+                         typeName);
+            return typeName;
+        }
+
+        private void addReference(final String referencedType,
+                                  final String typeName) {
+            if (referencedType != null) {
+                add(typeNamesByImport,
+                    getImport(referencedType),
+                    typeName);
+            }
+        }
+
+        private void addMethodOwner(final String referencedType,
+                                    final String type) {
+            if (referencedType != null) {
+                add(methodOwnersByImport,
+                    getImport(referencedType),
+                    type);
+            }
+        }
+
+        //Mirrors how AsyncPackageDataModelOracleUtilities looks up a type in the imports
+        private String getImport(final String qualifiedType) {
+            return qualifiedType.replace('$',
+                                         '.');
+        }
+
+        private void add(final Map<String, Set<String>> index,
+                         final String key,
+                         final String value) {
+            index.computeIfAbsent(key,
+                                  k -> new LinkedHashSet<String>()).add(value);
+        }
+
+        private Set<String> get(final Map<String, Set<String>> index,
+                                final Set<String> keys) {
+            final Set<String> values = new LinkedHashSet<String>();
+            for (String key : keys) {
+                final Set<String> keyValues = index.get(key);
+                if (keyValues != null) {
+                    values.addAll(keyValues);
+                }
+            }
+            return values;
+        }
+
+        private <T> Map<String, T> getEntries(final Map<String, T> map,
+                                              final Set<String> keys) {
+            final Map<String, T> entries = new LinkedHashMap<String, T>();
+            for (String key : keys) {
+                if (map.containsKey(key)) {
+                    entries.put(key,
+                                map.get(key));
+                }
+            }
+            return entries;
+        }
     }
 
     private Comparator<ModelField> getModelFieldComparator() {
@@ -336,7 +336,7 @@ public class AsyncPackageDataModelOracleUtilities {
         return typeName;
     }
 
-    private static String getQualifiedTypeFromEnumeration(final String qualifiedType) {
+    static String getQualifiedTypeFromEnumeration(final String qualifiedType) {
         String typeName = qualifiedType;
         int hashIndex = typeName.lastIndexOf("#");
         if (hashIndex != -1) {
@@ -69,6 +69,13 @@ public class FilteredEnumLists
         return false;
     }
 
+    /**
+     * Drops the enum lookup fields, so they are calculated again after the lists change.
+     */
+    void clearEnumLookupFields() {
+        enumLookupFields = null;
+    }
+
     /**
      * This is only used by enums that are like Fact.field[something=X] and so on.
      */
@@ -33,10 +33,14 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
 
     private T currentResult;
 
+    private int currentResultIndex = 0;
+
     private String currentTerm;
 
     private Integer currentAssetHash = null;
 
+    private boolean dirty = false;
+
     private Command searchPerformedCallback = () -> {/* Nothing */};
 
     private Command noResultsFoundCallback = () -> {/* Nothing */};
@@ -76,7 +80,7 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
             result = findNextElement();
         }
 
-        currentResult = result.orElse(null);
+        setCurrentResult(result);
         currentTerm = term;
 
         triggerOnFoundCommand();
@@ -97,7 +101,7 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
     public void close() {
         results = new ArrayList<>();
         currentTerm = "";
-        currentResult = null;
+        setCurrentResult(Optional.empty());
         triggerOnSearchPerformedCommand();
         triggerSearchClosedCommand();
     }
@@ -117,15 +121,29 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
         this.searchClosedCallback = searchClosedCallback;
     }
 
+    /**
+     * The index is dirty when a change has been notified through {@link #markDirty()} since the last search. The asset
+     * hashcode is only compared when its supplier is set, for editors that do not notify their changes.
+     */
     @Override
     public boolean isDirty() {
-        return currentAssetHash != null && !Objects.equals(currentAssetHash, getCurrentAssetHashcode());
+        if (dirty) {
+            return true;
+        }
+        return currentAssetHash != null && getCurrentAssetHashcodeSupplier().isPresent() && !Objects.equals(currentAssetHash, getCurrentAssetHashcode());
+    }
+
+    /**
+     * Notifies the searchable elements have changed, so the next search loads the results again.
+     */
+    public void markDirty() {
+        dirty = true;
     }
 
     @Override
     public void nextResult() {
         final Optional<T> result = findNextElement();
-        currentResult = result.orElse(null);
+        setCurrentResult(result);
         triggerOnFoundCommand();
         triggerOnSearchPerformedCommand();
     }
@@ -133,7 +151,7 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
     @Override
     public void previousResult() {
         final Optional<T> result = findPreviousElement();
-        currentResult = result.orElse(null);
+        setCurrentResult(result);
         triggerOnFoundCommand();
         triggerOnSearchPerformedCommand();
     }
@@ -162,26 +180,17 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
     }
 
     private Optional<T> getFirstSearchResult() {
-        if (results.size() > 0) {
-            return Optional.of(results.get(0));
-        } else {
-            return Optional.empty();
-        }
+        return getSearchResult(0);
     }
 
     private Optional<T> getLastSearchResult() {
-        final int totalOfResults = results.size();
-        if (totalOfResults > 0) {
-            return Optional.of(results.get(totalOfResults - 1));
-        } else {
-            return Optional.empty();
-        }
+        return getSearchResult(results.size() - 1);
     }
 
     private Optional<T> findNextElement() {
         final int nextElementIndex = getCurrentResultIndex() + 1;
         if (nextElementIndex < results.size()) {
-            return Optional.of(results.get(nextElementIndex));
+            return getSearchResult(nextElementIndex);
         } else {
             return getFirstSearchResult();
         }
@@ -190,33 +199,54 @@ public abstract class BaseEditorSearchIndex<T extends Searchable> implements Edi
     private Optional<T> findPreviousElement() {
         final int previousElementIndex = getCurrentResultIndex() - 1;
         if (previousElementIndex >= 0) {
-            return Optional.of(results.get(previousElementIndex));
+            return getSearchResult(previousElementIndex);
         } else {
             return getLastSearchResult();
         }
     }
 
-    private Integer getCurrentResultIndex() {
-        return getCurrentResult().map(c -> results.indexOf(c)).orElse(0);
+    private Optional<T> getSearchResult(final int index) {
+        if (index >= 0 && index < results.size()) {
+            currentResultIndex = index;
+            return Optional.of(results.get(index));
+        } else {
+            currentResultIndex = 0;
+            return Optional.empty();
+        }
     }
 
-    private void loadSearchResults(final String term) {
+    private void setCurrentResult(final Optional<T> result) {
+        currentResult = result.orElse(null);
+        if (currentResult == null) {
+            currentResultIndex = 0;
+        }
+    }
 
-        final List<T> searchableElements = getSearchableElements();
+    private int getCurrentResultIndex() {
+        return currentResultIndex;
+    }
 
+    private void loadSearchResults(final String term) {
+        dirty = false;
         updateCurrentHashcode();
-        updateResultsState(term, searchableElements);
+        results = findSearchResults(term);
     }
 
-    private void updateResultsState(final String term, final List<T> searchableElements) {
-        results = searchableElements
+    /**
+     * Returns the searchable elements that match the term, in the order they must be visited.
+     * Implementations backed by a {@link TextSearchIndex} override this method to avoid matching every element.
+     * @param term the string that will trigger the search
+     * @return the list of results.
+     */
+    protected List<T> findSearchResults(final String term) {
+        return getSearchableElements()
                 .stream()
                 .filter(element -> element.matches(term))
                 .collect(Collectors.toList());
     }
 
     private void updateCurrentHashcode() {
-        currentAssetHash = getCurrentAssetHashcode();
+        currentAssetHash = getCurrentAssetHashcodeSupplier().map(Supplier::get).orElse(null);
     }
 
     private void triggerOnFoundCommand() {
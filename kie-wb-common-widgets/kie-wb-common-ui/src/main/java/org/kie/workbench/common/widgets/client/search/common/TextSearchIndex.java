@@ -0,0 +1,293 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.widgets.client.search.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case-insensitive trigram index over the text of some elements.
+ * ---
+ * Sub-indexes keep it up to date by adding, updating and removing elements as they change, so searching does not
+ * need to visit every element: substring queries only verify the elements sharing the rarest trigram of the term,
+ * and prefix queries do the same with the trigrams anchored to the beginning of the text.
+ * ---
+ * Results are returned in the order the elements were first added.
+ * @param <T> represents the type of the indexed element.
+ */
+public class TextSearchIndex<T> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final char START = '\u0002';
+
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+
+    private final Map<String, IntList> postings = new HashMap<>();
+
+    private final List<Entry<T>> entriesById = new ArrayList<>();
+
+    private int staleCount = 0;
+
+    /**
+     * Adds the element with the given text, or updates its text when the element is already indexed.
+     * @param element the element
+     * @param text the searchable text of the element
+     */
+    public void add(final T element,
+                    final String text) {
+
+        final Entry<T> entry = entries.get(element);
+        if (entry != null) {
+            update(entry, text);
+            return;
+        }
+
+        final Entry<T> newEntry = new Entry<>(entriesById.size(), element, normalize(text));
+        entries.put(element, newEntry);
+        entriesById.add(newEntry);
+        index(newEntry.id, newEntry.text, new HashSet<>());
+    }
+
+    /**
+     * Updates the text of an indexed element, keeping its position on the results.
+     * @param element the element
+     * @param text the new searchable text of the element
+     */
+    public void update(final T element,
+                       final String text) {
+        add(element, text);
+    }
+
+    public void remove(final T element) {
+
+        final Entry<T> entry = entries.remove(element);
+        if (entry == null) {
+            return;
+        }
+
+        entriesById.set(entry.id, null);
+        markStale();
+    }
+
+    public void clear() {
+        entries.clear();
+        entriesById.clear();
+        postings.clear();
+        staleCount = 0;
+    }
+
+    public boolean contains(final T element) {
+        return entries.containsKey(element);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the elements which text contains the term, ignoring the case.
+     * @param term the string to search for
+     * @return the matching elements, in insertion order.
+     */
+    public List<T> find(final String term) {
+        final String normalizedTerm = normalize(term);
+        return find(normalizedTerm, normalizedTerm, false);
+    }
+
+    /**
+     * Returns the elements which text starts with the prefix, ignoring the case.
+     * @param prefix the string to search for
+     * @return the matching elements, in insertion order.
+     */
+    public List<T> findByPrefix(final String prefix) {
+        final String normalizedPrefix = normalize(prefix);
+        return find(START + normalizedPrefix, normalizedPrefix, true);
+    }
+
+    private List<T> find(final String key,
+                         final String normalizedTerm,
+                         final boolean isPrefix) {
+
+        if (key.length() < GRAM_LENGTH) {
+            return scan(normalizedTerm, isPrefix);
+        }
+
+        final IntList candidates = getRarestPostings(key);
+        if (candidates == null) {
+            return new ArrayList<>();
+        }
+
+        final int[] ids = candidates.toSortedArray();
+        final List<T> results = new ArrayList<>();
+        int previousId = -1;
+
+        for (final int id : ids) {
+            if (id == previousId) {
+                continue;
+            }
+            previousId = id;
+            final Entry<T> entry = entriesById.get(id);
+            if (entry != null && entry.matches(normalizedTerm, isPrefix)) {
+                results.add(entry.element);
+            }
+        }
+
+        return results;
+    }
+
+    private List<T> scan(final String normalizedTerm,
+                         final boolean isPrefix) {
+
+        final List<T> results = new ArrayList<>();
+
+        for (final Entry<T> entry : entriesById) {
+            if (entry != null && entry.matches(normalizedTerm, isPrefix)) {
+                results.add(entry.element);
+            }
+        }
+
+        return results;
+    }
+
+    private IntList getRarestPostings(final String key) {
+
+        IntList rarest = null;
+
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            final IntList list = postings.get(key.substring(i, i + GRAM_LENGTH));
+            if (list == null) {
+                return null;
+            }
+            if (rarest == null || list.size < rarest.size) {
+                rarest = list;
+            }
+        }
+
+        return rarest;
+    }
+
+    private void update(final Entry<T> entry,
+                        final String text) {
+
+        final String normalizedText = normalize(text);
+        if (normalizedText.equals(entry.text)) {
+            return;
+        }
+
+        // Postings for the previous grams are left behind and filtered when verifying the candidates.
+        final Set<String> previousGrams = grams(START + entry.text);
+        entry.text = normalizedText;
+        index(entry.id, normalizedText, previousGrams);
+        markStale();
+    }
+
+    private void index(final int id,
+                       final String normalizedText,
+                       final Set<String> alreadyIndexed) {
+        for (final String gram : grams(START + normalizedText)) {
+            if (!alreadyIndexed.contains(gram)) {
+                postings.computeIfAbsent(gram, g -> new IntList()).add(id);
+            }
+        }
+    }
+
+    private void markStale() {
+        staleCount++;
+        if (staleCount > entries.size() + 16) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+
+        final List<Entry<T>> liveEntries = new ArrayList<>(entries.size());
+        for (final Entry<T> entry : entriesById) {
+            if (entry != null) {
+                liveEntries.add(entry);
+            }
+        }
+
+        clear();
+
+        for (final Entry<T> entry : liveEntries) {
+            final Entry<T> newEntry = new Entry<>(entriesById.size(), entry.element, entry.text);
+            entries.put(entry.element, newEntry);
+            entriesById.add(newEntry);
+            index(newEntry.id, newEntry.text, new HashSet<>());
+        }
+    }
+
+    private static Set<String> grams(final String text) {
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    static String normalize(final String text) {
+        return text == null ? "" : text.toUpperCase();
+    }
+
+    private static class Entry<T> {
+
+        private final int id;
+
+        private final T element;
+
+        private String text;
+
+        private Entry(final int id,
+                      final T element,
+                      final String text) {
+            this.id = id;
+            this.element = element;
+            this.text = text;
+        }
+
+        private boolean matches(final String normalizedTerm,
+                                final boolean isPrefix) {
+            return isPrefix ? text.startsWith(normalizedTerm) : text.contains(normalizedTerm);
+        }
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[4];
+
+        private int size = 0;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toSortedArray() {
+            final int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
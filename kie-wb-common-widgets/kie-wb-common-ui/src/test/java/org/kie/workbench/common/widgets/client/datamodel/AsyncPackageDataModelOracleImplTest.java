@@ -0,0 +1,414 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.widgets.client.datamodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.inject.Instance;
+
+import org.jboss.errai.common.client.api.Caller;
+import org.jboss.errai.validation.client.dynamic.DynamicValidator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.soup.project.datamodel.imports.Import;
+import org.kie.soup.project.datamodel.imports.Imports;
+import org.kie.soup.project.datamodel.oracle.DataType;
+import org.kie.soup.project.datamodel.oracle.FieldAccessorsAndMutators;
+import org.kie.soup.project.datamodel.oracle.MethodInfo;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.workbench.common.widgets.client.datamodel.copied.IncrementalDataModelService;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncPackageDataModelOracleImplTest {
+
+    private static final String PACKAGE_NAME = "org.test";
+    private static final String OTHER_PACKAGE_NAME = "org.other";
+    private static final int TYPES = 1000;
+    private static final int FIELDS = 50;
+    private static final int METHODS = 20;
+    private static final int LOOKUPS = 100000;
+
+    @Mock
+    private Caller<IncrementalDataModelService> service;
+
+    @Mock
+    private Instance<DynamicValidator> validatorInstance;
+
+    private AsyncPackageDataModelOracleImpl oracle;
+
+    @Before
+    public void setup() {
+        oracle = new AsyncPackageDataModelOracleImpl(service,
+                                                     validatorInstance);
+        oracle.setPackageName(PACKAGE_NAME);
+
+        final Map<String, ModelField[]> modelFields = new HashMap<>();
+        final Map<String, List<MethodInfo>> methodInformation = new HashMap<>();
+        for (int i = 0; i < TYPES; i++) {
+            final String packageName = i % 2 == 0 ? PACKAGE_NAME : OTHER_PACKAGE_NAME;
+            final String type = packageName + ".Type" + i;
+            modelFields.put(type,
+                            modelFields(type));
+            methodInformation.put(type,
+                                  methodInformation());
+        }
+        oracle.addModelFields(modelFields);
+        oracle.addMethodInformation(methodInformation);
+        oracle.filter();
+    }
+
+    @Test
+    public void testGetFieldType() {
+        assertEquals(DataType.TYPE_STRING,
+                     oracle.getFieldType("Type10",
+                                         "field7"));
+        assertEquals(DataType.TYPE_NUMERIC_INTEGER,
+                     oracle.getFieldType("Type10",
+                                         "field8"));
+        assertEquals("String",
+                     oracle.getFieldType("Type10",
+                                         "method3"));
+        assertNull(oracle.getFieldType("Type10",
+                                       "unknown"));
+        assertNull(oracle.getFieldType("Unknown",
+                                       "field7"));
+    }
+
+    @Test
+    public void testGetFieldTypeFromLargeModel() {
+        for (int i = 0; i < LOOKUPS; i++) {
+            final int type = (i * 7) % TYPES;
+            final int field = i % FIELDS;
+            final String expected = field % 2 == 0 ? DataType.TYPE_NUMERIC_INTEGER : DataType.TYPE_STRING;
+            assertEquals(expected,
+                         oracle.getFieldType(PACKAGE_NAME + ".Type" + (type - type % 2),
+                                             "field" + field));
+        }
+    }
+
+    @Test
+    public void testGetFactNameFromType() {
+        assertEquals("Type10",
+                     oracle.getFactNameFromType("Type10"));
+        assertEquals("Type10",
+                     oracle.getFactNameFromType(PACKAGE_NAME + ".Type10"));
+        assertNull(oracle.getFactNameFromType("Unknown"));
+    }
+
+    @Test
+    public void testGetFactNameFromTypeAfterImport() {
+        final Imports imports = new Imports();
+        imports.addImport(new Import(OTHER_PACKAGE_NAME + ".Type11"));
+        oracle.filter(imports);
+
+        assertEquals("Type11",
+                     oracle.getFactNameFromType(OTHER_PACKAGE_NAME + ".Type11"));
+
+        oracle.filter(new Imports());
+
+        assertEquals("Type11",
+                     oracle.getFactNameFromType(OTHER_PACKAGE_NAME + ".Type11"));
+        assertEquals(TYPES / 2,
+                     oracle.getFactTypes().length);
+    }
+
+    @Test
+    public void testGetMethodInfo() {
+        final MethodInfo expected = methodInformation().get(3);
+        final MethodInfo[] result = new MethodInfo[1];
+        oracle.getMethodInfo("Type10",
+                             expected.getNameWithParameters(),
+                             methodInfo -> result[0] = methodInfo);
+
+        assertEquals(expected.getName(),
+                     result[0].getName());
+        assertEquals(expected.getParams(),
+                     result[0].getParams());
+        verifyZeroInteractions(service);
+    }
+
+    @Test
+    public void testGetMethodInfosIsMemoized() {
+        final List<List<MethodInfo>> results = new ArrayList<>();
+        oracle.getMethodInfos("Type10",
+                              0,
+                              results::add);
+        oracle.getMethodInfos("Type10",
+                              0,
+                              results::add);
+
+        assertEquals(METHODS / 2,
+                     results.get(0).size());
+        assertEquals(results.get(0),
+                     results.get(1));
+        assertNotSame(results.get(0),
+                      results.get(1));
+
+        oracle.addMethodInformation(Collections.singletonMap(PACKAGE_NAME + ".Type10",
+                                                             new ArrayList<>(methodInformation().subList(0, 2))));
+        oracle.getMethodInfos("Type10",
+                              0,
+                              results::add);
+
+        assertEquals(1,
+                     results.get(2).size());
+    }
+
+    @Test
+    public void testGetFieldCompletionsIsMemoized() {
+        final List<ModelField[]> results = new ArrayList<>();
+        oracle.getFieldCompletions("Type10",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   results::add);
+        oracle.getFieldCompletions("Type10",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   results::add);
+
+        assertEquals(FIELDS + 1,
+                     results.get(0).length);
+        assertArrayEquals(results.get(0),
+                          results.get(1));
+        assertNotSame(results.get(0),
+                      results.get(1));
+
+        oracle.addModelFields(Collections.singletonMap(PACKAGE_NAME + ".Type10",
+                                                       new ModelField[]{modelField(DataType.TYPE_THIS,
+                                                                                   PACKAGE_NAME + ".Type10",
+                                                                                   PACKAGE_NAME + ".Type10")}));
+        oracle.filter();
+        oracle.getFieldCompletions("Type10",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   results::add);
+
+        assertEquals(1,
+                     results.get(2).length);
+        verifyZeroInteractions(service);
+    }
+
+    @Test
+    public void testFilterImportsIncrementally() {
+        final AsyncPackageDataModelOracleImpl incremental = importsModelOracle();
+        incremental.filter();
+
+        final Imports imports = new Imports();
+        imports.addImport(new Import(OTHER_PACKAGE_NAME + ".Address"));
+        incremental.filter(imports);
+        assertFilteredEquals(imports,
+                             incremental);
+
+        imports.addImport(new Import(OTHER_PACKAGE_NAME + ".Party"));
+        incremental.filter(imports);
+        assertFilteredEquals(imports,
+                             incremental);
+
+        imports.removeImport(new Import(OTHER_PACKAGE_NAME + ".Address"));
+        incremental.filter(imports);
+        assertFilteredEquals(imports,
+                             incremental);
+
+        incremental.filter(new Imports());
+        assertFilteredEquals(new Imports(),
+                             incremental);
+    }
+
+    @Test
+    public void testFilterImportsKeepsMemosOfUnaffectedTypes() {
+        final List<ModelField[]> fields = new ArrayList<>();
+        final List<List<MethodInfo>> methodInfos = new ArrayList<>();
+        oracle.getFieldCompletions("Type10",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   fields::add);
+        oracle.getMethodInfos("Type10",
+                              0,
+                              methodInfos::add);
+        oracle.getFieldCompletions("Type11",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   fields::add);
+
+        final Imports imports = new Imports();
+        imports.addImport(new Import(OTHER_PACKAGE_NAME + ".Type11"));
+        oracle.filter(imports);
+
+        oracle.getFieldCompletions("Type10",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   fields::add);
+        oracle.getMethodInfos("Type10",
+                              0,
+                              methodInfos::add);
+        oracle.getFieldCompletions("Type11",
+                                   FieldAccessorsAndMutators.ACCESSOR,
+                                   fields::add);
+
+        assertSame(fields.get(0)[1],
+                   fields.get(2)[1]);
+        assertSame(methodInfos.get(0).get(0),
+                   methodInfos.get(1).get(0));
+        assertEquals(FIELDS + 1,
+                     fields.get(3).length);
+        assertEquals("Type11",
+                     fields.get(3)[FIELDS].getClassName());
+        assertEquals(TYPES / 2 + 1,
+                     oracle.getFactTypes().length);
+    }
+
+    private void assertFilteredEquals(final Imports imports,
+                                      final AsyncPackageDataModelOracleImpl incremental) {
+        final AsyncPackageDataModelOracleImpl rebuilt = importsModelOracle();
+        rebuilt.filter(imports);
+
+        assertEquals(describeFiltered(rebuilt),
+                     describeFiltered(incremental));
+    }
+
+    private AsyncPackageDataModelOracleImpl importsModelOracle() {
+        final String person = PACKAGE_NAME + ".Person";
+        final String address = OTHER_PACKAGE_NAME + ".Address";
+        final String party = OTHER_PACKAGE_NAME + ".Party";
+
+        final AsyncPackageDataModelOracleImpl importsOracle = new AsyncPackageDataModelOracleImpl(service,
+                                                                                                  validatorInstance);
+        importsOracle.setPackageName(PACKAGE_NAME);
+
+        final Map<String, ModelField[]> modelFields = new HashMap<>();
+        modelFields.put(person,
+                        new ModelField[]{modelField(DataType.TYPE_THIS,
+                                                    person,
+                                                    person),
+                                modelField("address",
+                                           address,
+                                           address)});
+        modelFields.put(address,
+                        new ModelField[]{modelField(DataType.TYPE_THIS,
+                                                    address,
+                                                    address),
+                                modelField("street",
+                                           String.class.getName(),
+                                           DataType.TYPE_STRING)});
+        modelFields.put(party,
+                        new ModelField[]{modelField(DataType.TYPE_THIS,
+                                                    party,
+                                                    party)});
+        importsOracle.addModelFields(modelFields);
+
+        final Map<String, Boolean> eventTypes = new HashMap<>();
+        eventTypes.put(person,
+                       false);
+        eventTypes.put(address,
+                       true);
+        eventTypes.put(party,
+                       false);
+        importsOracle.addEventTypes(eventTypes);
+        importsOracle.addSuperTypes(Collections.singletonMap(person,
+                                                             new ArrayList<>(Collections.singletonList(party))));
+        importsOracle.addFieldParametersType(Collections.singletonMap(person + "#addresses",
+                                                                      address));
+        importsOracle.addJavaEnumDefinitions(Collections.singletonMap(address + "#street",
+                                                                      new String[]{"java"}));
+        importsOracle.addWorkbenchEnumDefinitions(Collections.singletonMap("Address#street",
+                                                                           new String[]{"workbench"}));
+        importsOracle.addGlobals(Collections.singletonMap("address",
+                                                          address));
+        importsOracle.addMethodInformation(Collections.singletonMap(person,
+                                                                    new ArrayList<>(Collections.singletonList(new MethodInfo("getAddress",
+                                                                                                                             Collections.emptyList(),
+                                                                                                                             address,
+                                                                                                                             null,
+                                                                                                                             address)))));
+        return importsOracle;
+    }
+
+    private static List<String> describeFiltered(final AsyncPackageDataModelOracleImpl dmo) {
+        final List<String> description = new ArrayList<>();
+        for (String factType : dmo.getFactTypes()) {
+            description.add(factType);
+            for (ModelField field : dmo.getFilteredFactTypes().get(factType)) {
+                description.add(field.getName() + ":" + field.getClassName() + ":" + field.getType());
+            }
+            description.add("super:" + dmo.filteredSuperTypes.get(factType));
+            dmo.isFactTypeAnEvent(factType,
+                                  isEvent -> description.add("event:" + isEvent));
+            description.add("fqcn:" + dmo.getFQCNByFactName(factType));
+        }
+        description.add("enum:" + Arrays.toString(dmo.getEnumValues("Address",
+                                                                  "street")));
+        description.add("parametric:" + dmo.getParametricFieldType("Person",
+                                                                   "addresses"));
+        description.add("globals:" + Arrays.toString(dmo.getGlobalVariables()) + dmo.getGlobalVariable("address"));
+        description.add("fact:" + dmo.getFactNameFromType(OTHER_PACKAGE_NAME + ".Address"));
+        dmo.getMethodInfos("Person",
+                           methodInfos -> description.add("method:" + methodInfos.get(0).getReturnClassType()));
+        return description;
+    }
+
+    private static ModelField[] modelFields(final String type) {
+        final ModelField[] fields = new ModelField[FIELDS + 1];
+        fields[0] = modelField(DataType.TYPE_THIS,
+                               type,
+                               type);
+        for (int i = 0; i < FIELDS; i++) {
+            fields[i + 1] = i % 2 == 0 ?
+                    modelField("field" + i,
+                               Integer.class.getName(),
+                               DataType.TYPE_NUMERIC_INTEGER) :
+                    modelField("field" + i,
+                               String.class.getName(),
+                               DataType.TYPE_STRING);
+        }
+        return fields;
+    }
+
+    private static ModelField modelField(final String name,
+                                         final String className,
+                                         final String type) {
+        return new ModelField(name,
+                              className,
+                              ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                              ModelField.FIELD_ORIGIN.DECLARED,
+                              FieldAccessorsAndMutators.BOTH,
+                              type);
+    }
+
+    private static List<MethodInfo> methodInformation() {
+        final List<MethodInfo> methodInformation = new ArrayList<>();
+        for (int i = 0; i < METHODS; i++) {
+            final List<String> params = i % 2 == 0 ?
+                    Collections.emptyList() :
+                    Collections.singletonList(DataType.TYPE_STRING);
+            methodInformation.add(new MethodInfo("method" + i,
+                                                 params,
+                                                 String.class.getName(),
+                                                 null,
+                                                 DataType.TYPE_STRING));
+        }
+        return methodInformation;
+    }
+}
@@ -176,6 +176,38 @@ public class BaseEditorSearchIndexTest {
         assertTrue(index.isDirty());
     }
 
+    @Test
+    public void testIsDirtyWhenChangesAreNotified() {
+        index.search("element");
+
+        index.markDirty();
+
+        assertTrue(index.isDirty());
+    }
+
+    @Test
+    public void testIsDirtyWhenChangesAreNotifiedAndSearchIsPerformedAgain() {
+        index.search("element");
+        index.markDirty();
+
+        index.search("element");
+
+        assertFalse(index.isDirty());
+    }
+
+    @Test
+    public void testSearchWhenSearchIsTriggeredTwiceButChangesAreNotified() {
+
+        index.setCurrentAssetHashcodeSupplier(null);
+        index.search("Element");
+        index.markDirty();
+        index.search("Element");
+
+        verify(searchable1, Mockito.times(2)).onFound();
+        verify(searchable2, never()).onFound();
+        assertFalse(index.isDirty());
+    }
+
     @Test
     public void testGetSubIndexes() {
 
@@ -251,6 +283,17 @@ public class BaseEditorSearchIndexTest {
         assertEquals(1, index.getCurrentResultNumber());
     }
 
+    @Test
+    public void testGetCurrentResultNumberWhenNavigatingResults() {
+        index.search("Element");
+        index.previousResult();
+        assertEquals(4, index.getCurrentResultNumber());
+
+        index.nextResult();
+        index.nextResult();
+        assertEquals(2, index.getCurrentResultNumber());
+    }
+
     @Test
     public void testGetTotalOfResultsNumber() {
         index.search("Element");
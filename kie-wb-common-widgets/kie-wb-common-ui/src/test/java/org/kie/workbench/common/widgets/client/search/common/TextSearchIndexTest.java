@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.workbench.common.widgets.client.search.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TextSearchIndexTest {
+
+    private TextSearchIndex<String> index;
+
+    @Before
+    public void setup() {
+        index = new TextSearchIndex<>();
+        index.add("a", "Decision Table");
+        index.add("b", "Decision Service");
+        index.add("c", "Input Data");
+        index.add("d", "Table of contents");
+    }
+
+    @Test
+    public void testFind() {
+        assertEquals(asList("a", "b"), index.find("decision"));
+        assertEquals(asList("a", "d"), index.find("TABLE"));
+        assertEquals(asList("b"), index.find("n Serv"));
+        assertEquals(emptyList(), index.find("Decision Data"));
+        assertEquals(emptyList(), index.find("xyz"));
+    }
+
+    @Test
+    public void testFindWithShortTerms() {
+        assertEquals(asList("a", "b", "c", "d"), index.find(""));
+        assertEquals(asList("a", "c", "d"), index.find("ta"));
+        assertEquals(asList("a", "b", "c"), index.find("i"));
+    }
+
+    @Test
+    public void testFindByPrefix() {
+        assertEquals(asList("a", "b"), index.findByPrefix("Decision"));
+        assertEquals(asList("d"), index.findByPrefix("tab"));
+        assertEquals(asList("c"), index.findByPrefix("i"));
+        assertEquals(emptyList(), index.findByPrefix("Data"));
+        assertEquals(asList("a", "b", "c", "d"), index.findByPrefix(""));
+    }
+
+    @Test
+    public void testFindWhenTermRepeatsTrigrams() {
+        index.add("e", "aaaa");
+        assertEquals(asList("e"), index.find("aaa"));
+        assertEquals(asList("e"), index.find("AAAA"));
+        assertEquals(emptyList(), index.find("aaaaa"));
+    }
+
+    @Test
+    public void testUpdateKeepsOrder() {
+        index.update("a", "Business Knowledge Model");
+
+        assertEquals(asList("b"), index.find("decision"));
+        assertEquals(asList("d"), index.find("table"));
+        assertEquals(asList("a"), index.find("knowledge"));
+
+        index.update("a", "Decision Table");
+
+        assertEquals(asList("a", "b"), index.find("decision"));
+        assertEquals(asList("a", "d"), index.find("table"));
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove("a");
+        index.remove("unknown");
+
+        assertFalse(index.contains("a"));
+        assertEquals(3, index.size());
+        assertEquals(asList("b"), index.find("decision"));
+        assertEquals(asList("b", "c", "d"), index.find(""));
+    }
+
+    @Test
+    public void testAddAfterRemove() {
+        index.remove("a");
+        index.add("a", "Decision Table");
+
+        assertEquals(asList("b", "a"), index.find("decision"));
+    }
+
+    @Test
+    public void testClear() {
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(emptyList(), index.find("decision"));
+        assertEquals(emptyList(), index.find(""));
+    }
+
+    @Test
+    public void testManyChanges() {
+
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            index.add("e" + i, "Element " + i);
+        }
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 == 0) {
+                index.remove("e" + i);
+            } else if (i % 3 == 1) {
+                index.update("e" + i, "Renamed " + i);
+            } else {
+                expected.add("e" + i);
+            }
+        }
+
+        assertEquals(expected, index.find("element"));
+        assertEquals(expected.size(), index.findByPrefix("ELEMENT ").size());
+        assertEquals(asList("e13", "e130", "e133", "e136", "e139"), index.find("Renamed 13"));
+        assertTrue(index.contains("e1"));
+        assertFalse(index.contains("e0"));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.image;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import elemental2.dom.ImageData;
+
+/**
+ * Filtered image data, so the proxies drawing the same image through the same filters don't filter it again.
+ * <p>
+ * Images are identified by an {@link ImageId}, resolved once from the image source when it's loaded, so the
+ * source, which may be a large data url, is not part of the key of every entry. The cache is bounded by the
+ * bytes of the image data it holds, evicting the least recently used entries first.
+ */
+final class FilteredImageDataCache {
+
+    private final int m_max_bytes;
+
+    private final Map<String, ImageId> m_ids = new HashMap<>();
+
+    private final LinkedHashMap<Key, ImageData> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int m_bytes = 0;
+
+    FilteredImageDataCache(final int maxBytes) {
+        m_max_bytes = maxBytes;
+    }
+
+    /**
+     * Returns the identity of the image with the given source, shared by all the images with the same source.
+     */
+    ImageId getImageId(final String src) {
+        ImageId id = m_ids.get(src);
+
+        if (null == id) {
+            id = new ImageId(src);
+
+            m_ids.put(src, id);
+        }
+        return id;
+    }
+
+    ImageData get(final Key key) {
+        return m_entries.get(key);
+    }
+
+    void put(final Key key, final ImageData data) {
+        final int bytes = getBytes(data);
+
+        if ((!key.m_image.m_valid) || (bytes > m_max_bytes)) {
+            return;
+        }
+        final ImageData previous = m_entries.put(key, data);
+
+        if (null != previous) {
+            m_bytes -= getBytes(previous);
+        } else {
+            // Registered again if all its entries were evicted, unless the source got a new identity meanwhile.
+            if ((key.m_image.m_entries++ == 0) && (!m_ids.containsKey(key.m_image.m_src))) {
+                m_ids.put(key.m_image.m_src, key.m_image);
+            }
+        }
+        m_bytes += bytes;
+
+        final Iterator<Map.Entry<Key, ImageData>> iterator = m_entries.entrySet().iterator();
+
+        while ((m_bytes > m_max_bytes) && (iterator.hasNext())) {
+            final Map.Entry<Key, ImageData> eldest = iterator.next();
+
+            iterator.remove();
+
+            onRemoved(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Removes the entries for the image with the given source, as its contents may have changed, so the next
+     * images loaded from it get a new identity.
+     */
+    void invalidate(final String src) {
+        final ImageId id = m_ids.remove(src);
+
+        if (null == id) {
+            return;
+        }
+        id.m_valid = false;
+
+        final Iterator<Map.Entry<Key, ImageData>> iterator = m_entries.entrySet().iterator();
+
+        while ((id.m_entries > 0) && (iterator.hasNext())) {
+            final Map.Entry<Key, ImageData> entry = iterator.next();
+
+            if (entry.getKey().m_image == id) {
+                iterator.remove();
+
+                onRemoved(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    int size() {
+        return m_entries.size();
+    }
+
+    int getBytes() {
+        return m_bytes;
+    }
+
+    private void onRemoved(final Key key, final ImageData data) {
+        m_bytes -= getBytes(data);
+
+        // The source is no longer retained once no entry refers to it.
+        if ((--key.m_image.m_entries == 0) && (m_ids.get(key.m_image.m_src) == key.m_image)) {
+            m_ids.remove(key.m_image.m_src);
+        }
+    }
+
+    private static int getBytes(final ImageData data) {
+        return data.width * data.height * 4;
+    }
+
+    /**
+     * The identity of an image source, compared by reference.
+     */
+    static final class ImageId {
+
+        private final String m_src;
+
+        private int m_entries = 0;
+
+        private boolean m_valid = true;
+
+        private ImageId(final String src) {
+            m_src = src;
+        }
+    }
+
+    static final class Key {
+
+        private final ImageId m_image;
+
+        private final int m_clip_xpos;
+
+        private final int m_clip_ypos;
+
+        private final int m_clip_wide;
+
+        private final int m_clip_high;
+
+        private final int m_dest_wide;
+
+        private final int m_dest_high;
+
+        private final String m_signature;
+
+        private final int m_hash;
+
+        Key(final ImageId image, final int clipXPos, final int clipYPos, final int clipWide, final int clipHigh, final int destWide, final int destHigh, final String signature) {
+            m_image = image;
+            m_clip_xpos = clipXPos;
+            m_clip_ypos = clipYPos;
+            m_clip_wide = clipWide;
+            m_clip_high = clipHigh;
+            m_dest_wide = destWide;
+            m_dest_high = destHigh;
+            m_signature = signature;
+
+            int hash = System.identityHashCode(image);
+            hash = 31 * hash + clipXPos;
+            hash = 31 * hash + clipYPos;
+            hash = 31 * hash + clipWide;
+            hash = 31 * hash + clipHigh;
+            hash = 31 * hash + destWide;
+            hash = 31 * hash + destHigh;
+            m_hash = 31 * hash + signature.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) other;
+
+            return (m_image == that.m_image) && (m_clip_xpos == that.m_clip_xpos) && (m_clip_ypos == that.m_clip_ypos) && (m_clip_wide == that.m_clip_wide) && (m_clip_high == that.m_clip_high) && (m_dest_wide == that.m_dest_wide) && (m_dest_high == that.m_dest_high) && m_signature.equals(that.m_signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hash;
+        }
+    }
+}
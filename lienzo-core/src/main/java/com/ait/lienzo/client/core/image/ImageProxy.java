@@ -40,12 +40,18 @@ import elemental2.dom.ImageData;
  */
 public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFilterable<ImageProxy<T>> {
 
+    private static final int FILTERED_CACHE_BYTES = 32 * 1024 * 1024;
+
+    private static final FilteredImageDataCache FILTERED_CACHE = new FilteredImageDataCache(FILTERED_CACHE_BYTES);
+
     private final T m_image;
 
     private Image m_img;
 
     private HTMLImageElement m_jsimg;
 
+    private FilteredImageDataCache.ImageId m_image_id;
+
     private final ScratchPad m_normalImage;
 
     private final ScratchPad m_filterImage;
@@ -167,8 +173,14 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
     }
 
     private final void doInitialize(final HTMLImageElement image) {
+        // The image is being loaded again, so what was filtered from the previous one is no longer valid.
+        if (null != m_jsimg) {
+            FILTERED_CACHE.invalidate(m_jsimg.src);
+        }
         m_jsimg = image;
 
+        m_image_id = FILTERED_CACHE.getImageId(m_jsimg.src);
+
         if (m_clip_wide == 0) {
             m_clip_wide = m_jsimg.width;
         }
@@ -473,11 +485,34 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
             target.clear();
 
             if (null != filter.getType()) {
-                target.getContext().putImageData(filter.filter(source.getContext().getImageData(0, 0, m_dest_wide, m_dest_high), false), 0, 0);
+                final FilteredImageDataCache.Key key = getFilteredCacheKey(filter);
+
+                ImageData data = (null == key) ? null : FILTERED_CACHE.get(key);
+
+                if (null == data) {
+                    data = filter.filter(source.getContext().getImageData(0, 0, m_dest_wide, m_dest_high), false);
+
+                    if ((null != key) && (null != data)) {
+                        FILTERED_CACHE.put(key, data);
+                    }
+                }
+                target.getContext().putImageData(data, 0, 0);
             }
         }
     }
 
+    final FilteredImageDataCache.Key getFilteredCacheKey(final ImageDataFilter<?> filter) {
+        if ((filter != m_filters) || (null == m_image_id)) {
+            return null;
+        }
+        final String signature = m_filters.getSignature();
+
+        if (null == signature) {
+            return null;
+        }
+        return new FilteredImageDataCache.Key(m_image_id, m_clip_xpos, m_clip_ypos, m_clip_wide, m_clip_high, m_dest_wide, m_dest_high, signature);
+    }
+
     /**
      * Draws the image in the {@link Context2D}.
      *
@@ -592,6 +627,7 @@ public class ImageProxy<T extends AbstractImageShape<T>> implements ImageDataFil
         m_handler = null;
         m_obounds = null;
         m_jsimg = null;
+        m_image_id = null;
     }
 
     private static final class ClearFilter implements ImageDataFilter<ClearFilter> {
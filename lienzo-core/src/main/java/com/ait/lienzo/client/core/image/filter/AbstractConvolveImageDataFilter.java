@@ -22,7 +22,7 @@ import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
 import jsinterop.annotations.JsProperty;
 
-public abstract class AbstractConvolveImageDataFilter<T extends AbstractConvolveImageDataFilter<T>> extends AbstractImageDataFilter<T> {
+public abstract class AbstractConvolveImageDataFilter<T extends AbstractConvolveImageDataFilter<T>> extends AbstractImageDataFilter<T> implements ImageDataFilter.FilterIntoBuffer {
 
     @JsProperty
     private FilterConvolveMatrix filterConvolveMatrix;
@@ -67,6 +67,16 @@ public abstract class AbstractConvolveImageDataFilter<T extends AbstractConvolve
         return true;
     }
 
+    @Override
+    public String getSignature() {
+        final FilterConvolveMatrix matrix = getMatrix();
+
+        if (null == matrix) {
+            return null;
+        }
+        return getType().getValue() + "(" + matrix.join(",") + ")";
+    }
+
     @Override
     public ImageData filter(ImageData source, final boolean copy) {
         if (null == source) {
@@ -78,6 +88,14 @@ public abstract class AbstractConvolveImageDataFilter<T extends AbstractConvolve
         if (false == isActive()) {
             return source;
         }
+        if ((null == source.data) || (getMatrix().getLength() < 1)) {
+            return source;
+        }
+        return filter(source, ImageDataUtil.create(source));
+    }
+
+    @Override
+    public ImageData filter(final ImageData source, final ImageData buffer) {
         final Uint8ClampedArray data = source.data;
 
         if (null == data) {
@@ -88,10 +106,8 @@ public abstract class AbstractConvolveImageDataFilter<T extends AbstractConvolve
         if (matrix.getLength() < 1) {
             return source;
         }
-        final ImageData result = ImageDataUtil.create(source);
-
-        FilterCommonOps.doFilterConvolve(data, result.data, matrix, source.width, source.height);
+        FilterCommonOps.doFilterConvolve(data, buffer.data, matrix, source.width, source.height);
 
-        return result;
+        return buffer;
     }
 }
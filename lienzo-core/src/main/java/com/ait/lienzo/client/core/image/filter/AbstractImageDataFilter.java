@@ -60,6 +60,14 @@ public abstract class AbstractImageDataFilter<T extends AbstractImageDataFilter<
         return m_type;
     }
 
+    /**
+     * Returns the filter type and the parameters it depends on, so the result of filtering an image can be reused
+     * for any filter with the same signature. Filters which result is not fully described by it return null.
+     */
+    public String getSignature() {
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     protected final T cast() {
         return (T) this;
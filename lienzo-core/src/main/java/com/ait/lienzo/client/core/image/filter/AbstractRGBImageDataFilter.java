@@ -107,6 +107,11 @@ public abstract class AbstractRGBImageDataFilter<T extends AbstractRGBImageDataF
         return cast();
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue() + "(" + getR() + "," + getG() + "," + getB() + ")";
+    }
+
     private final void doUpdateColorFromRGB() {
         this.color = new Color(getR(), getG(), getB()).getColorString();
     }
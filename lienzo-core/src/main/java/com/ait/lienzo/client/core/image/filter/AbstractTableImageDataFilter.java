@@ -20,8 +20,9 @@ import com.ait.lienzo.client.core.types.ImageDataUtil;
 import com.ait.lienzo.shared.core.types.ImageFilterType;
 import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
+import jsinterop.base.Js;
 
-public abstract class AbstractTableImageDataFilter<T extends AbstractTableImageDataFilter<T>> extends AbstractImageDataFilter<T> {
+public abstract class AbstractTableImageDataFilter<T extends AbstractTableImageDataFilter<T>> extends AbstractImageDataFilter<T> implements ImageDataFilter.FilterChannelTable {
 
     protected AbstractTableImageDataFilter(final ImageFilterType type) {
         super(type);
@@ -57,5 +58,15 @@ public abstract class AbstractTableImageDataFilter<T extends AbstractTableImageD
         return true;
     }
 
+    @Override
+    public int[] getChannelTable() {
+        final FilterTableArray table = getTable();
+
+        if (null == table) {
+            return null;
+        }
+        return Js.uncheckedCast(table);
+    }
+
     protected abstract FilterTableArray getTable();
 }
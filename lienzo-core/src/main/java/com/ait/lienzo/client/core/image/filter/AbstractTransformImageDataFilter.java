@@ -21,7 +21,7 @@ import com.ait.lienzo.shared.core.types.ImageFilterType;
 import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
 
-public abstract class AbstractTransformImageDataFilter<T extends AbstractTransformImageDataFilter<T>> extends AbstractImageDataFilter<T> {
+public abstract class AbstractTransformImageDataFilter<T extends AbstractTransformImageDataFilter<T>> extends AbstractImageDataFilter<T> implements ImageDataFilter.FilterIntoBuffer {
 
     protected AbstractTransformImageDataFilter(final ImageFilterType type) {
         super(type);
@@ -42,6 +42,14 @@ public abstract class AbstractTransformImageDataFilter<T extends AbstractTransfo
         if (false == isActive()) {
             return source;
         }
+        if (null == source.data) {
+            return source;
+        }
+        return filter(source, ImageDataUtil.create(source));
+    }
+
+    @Override
+    public ImageData filter(final ImageData source, final ImageData buffer) {
         final Uint8ClampedArray data = source.data;
 
         if (null == data) {
@@ -52,11 +60,9 @@ public abstract class AbstractTransformImageDataFilter<T extends AbstractTransfo
         if (null == transform) {
             return source;
         }
-        final ImageData result = ImageDataUtil.create(source);
-
-        FilterCommonOps.doFilterTransform(data, result.data, transform, source.width, source.height);
+        FilterCommonOps.doFilterTransform(data, buffer.data, transform, source.width, source.height);
 
-        return result;
+        return buffer;
     }
 
     @Override
@@ -44,6 +44,11 @@ public abstract class AbstractValueImageDataFilter<T extends AbstractValueImageD
         return cast();
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue() + "(" + getValue() + ")";
+    }
+
     public abstract double getMinValue();
 
     public abstract double getMaxValue();
@@ -20,8 +20,9 @@ import com.ait.lienzo.client.core.types.ImageDataUtil;
 import com.ait.lienzo.shared.core.types.ImageFilterType;
 import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
+import jsinterop.base.Js;
 
-public abstract class AbstractValueTableImageDataFilter<T extends AbstractValueTableImageDataFilter<T>> extends AbstractValueImageDataFilter<T> {
+public abstract class AbstractValueTableImageDataFilter<T extends AbstractValueTableImageDataFilter<T>> extends AbstractValueImageDataFilter<T> implements ImageDataFilter.FilterChannelTable {
 
     protected AbstractValueTableImageDataFilter(final ImageFilterType type, final double value) {
         super(type, value);
@@ -57,5 +58,15 @@ public abstract class AbstractValueTableImageDataFilter<T extends AbstractValueT
         return true;
     }
 
+    @Override
+    public int[] getChannelTable() {
+        final FilterTableArray table = getTable(getValue());
+
+        if (null == table) {
+            return null;
+        }
+        return Js.uncheckedCast(table);
+    }
+
     protected abstract FilterTableArray getTable(double value);
 }
@@ -21,7 +21,7 @@ import com.ait.lienzo.shared.core.types.ImageFilterType;
 import elemental2.core.Uint8ClampedArray;
 import elemental2.dom.ImageData;
 
-public abstract class AbstractValueTransformImageDataFilter<T extends AbstractValueTransformImageDataFilter<T>> extends AbstractValueImageDataFilter<T> {
+public abstract class AbstractValueTransformImageDataFilter<T extends AbstractValueTransformImageDataFilter<T>> extends AbstractValueImageDataFilter<T> implements ImageDataFilter.FilterIntoBuffer {
 
     protected AbstractValueTransformImageDataFilter(final ImageFilterType type, final double value) {
         super(type, value);
@@ -42,16 +42,22 @@ public abstract class AbstractValueTransformImageDataFilter<T extends AbstractVa
         if (false == isActive()) {
             return source;
         }
+        if (null == source.data) {
+            return source;
+        }
+        return filter(source, ImageDataUtil.create(source));
+    }
+
+    @Override
+    public ImageData filter(final ImageData source, final ImageData buffer) {
         final Uint8ClampedArray data = source.data;
 
         if (null == data) {
             return source;
         }
-        final ImageData result = ImageDataUtil.create(source);
-
-        FilterCommonOps.doFilterTransform(data, result.data, getTransform(getValue()), source.width, source.height);
+        FilterCommonOps.doFilterTransform(data, buffer.data, getTransform(getValue()), source.width, source.height);
 
-        return result;
+        return buffer;
     }
 
     @Override
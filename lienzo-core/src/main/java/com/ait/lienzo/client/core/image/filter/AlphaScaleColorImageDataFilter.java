@@ -73,6 +73,11 @@ public class AlphaScaleColorImageDataFilter extends AbstractRGBImageDataFilter<A
         return this.inverted;
     }
 
+    @Override
+    public String getSignature() {
+        return super.getSignature() + "(" + isInverted() + ")";
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
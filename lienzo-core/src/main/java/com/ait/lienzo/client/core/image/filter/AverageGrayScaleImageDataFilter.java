@@ -35,6 +35,11 @@ public class AverageGrayScaleImageDataFilter extends AbstractImageDataFilter<Ave
         super(ImageFilterType.AverageGrayScaleImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -25,7 +25,11 @@ import jsinterop.base.Js;
 /**
  * A class that allows for easy creation of Brightness Filters.
  */
-public class BrightnessImageDataFilter extends AbstractValueImageDataFilter<BrightnessImageDataFilter> {
+public class BrightnessImageDataFilter extends AbstractValueImageDataFilter<BrightnessImageDataFilter> implements ImageDataFilter.FilterChannelTable {
+
+    private double m_value = Double.NaN;
+
+    private int[] m_table = null;
 
     public BrightnessImageDataFilter() {
         super(ImageFilterType.BrightnessImageDataFilterType, 0);
@@ -54,6 +58,25 @@ public class BrightnessImageDataFilter extends AbstractValueImageDataFilter<Brig
         return 0;
     }
 
+    @Override
+    public int[] getChannelTable() {
+        final double value = getValue();
+
+        if (value != m_value) {
+            m_table = getChannelTable_(m_value = value);
+        }
+        return m_table;
+    }
+
+    private final int[] getChannelTable_(double value) {
+        int[] table = new int[256];
+        double v = (value * 255) + 0.5;
+        for (int i = 0; i < 256; i++) {
+            table[i] = Js.coerceToInt(Math.max(Math.min(i + v, 255), 0));
+        }
+        return table;
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -62,6 +62,11 @@ public class ColorDeltaAlphaImageDataFilter extends AbstractRGBImageDataFilter<C
         return this.value;
     }
 
+    @Override
+    public String getSignature() {
+        return super.getSignature() + "(" + getValue() + ")";
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -48,6 +48,14 @@ public class DiffusionImageDataFilter extends AbstractValueTransformImageDataFil
         return 4;
     }
 
+    /**
+     * The diffusion is random, so its result can't be reused.
+     */
+    @Override
+    public String getSignature() {
+        return null;
+    }
+
     @Override
     protected final FilterTransformFunction getTransform(double value) {
         int[] stabl = new int[256];
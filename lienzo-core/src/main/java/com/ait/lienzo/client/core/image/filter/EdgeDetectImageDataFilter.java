@@ -25,7 +25,7 @@ import jsinterop.base.Js;
 /**
  * A class that allows for easy creation of a Light Gray Scale Image Filter.
  */
-public class EdgeDetectImageDataFilter extends AbstractImageDataFilter<EdgeDetectImageDataFilter> {
+public class EdgeDetectImageDataFilter extends AbstractImageDataFilter<EdgeDetectImageDataFilter> implements ImageDataFilter.FilterIntoBuffer {
 
     public EdgeDetectImageDataFilter() {
         super(ImageFilterType.EdgeDetectImageDataFilterType);
@@ -35,6 +35,11 @@ public class EdgeDetectImageDataFilter extends AbstractImageDataFilter<EdgeDetec
         super(ImageFilterType.EdgeDetectImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -46,16 +51,22 @@ public class EdgeDetectImageDataFilter extends AbstractImageDataFilter<EdgeDetec
         if (!isActive()) {
             return source;
         }
+        if (null == source.data) {
+            return source;
+        }
+        return filter(source, ImageDataUtil.create(source));
+    }
+
+    @Override
+    public ImageData filter(final ImageData source, final ImageData buffer) {
         final Uint8ClampedArray data = source.data;
 
         if (null == data) {
             return source;
         }
-        ImageData result = ImageDataUtil.create(source);
-
-        filter_(data, result.data, source.width, source.height);
+        filter_(data, buffer.data, source.width, source.height);
 
-        return result;
+        return buffer;
     }
 
     private final void filter_(Uint8ClampedArray dataArray, Uint8ClampedArray buffArray, int w, int h) {
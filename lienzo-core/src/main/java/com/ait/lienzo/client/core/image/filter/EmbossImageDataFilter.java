@@ -37,6 +37,11 @@ public class EmbossImageDataFilter extends AbstractImageDataFilter<EmbossImageDa
         return true;
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -86,6 +86,11 @@ public class GainImageDataFilter extends AbstractTableImageDataFilter<GainImageD
         return 1;
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue() + "(" + getGain() + "," + getBias() + ")";
+    }
+
     @Override
     protected final FilterTableArray getTable() {
         double gain = getGain();
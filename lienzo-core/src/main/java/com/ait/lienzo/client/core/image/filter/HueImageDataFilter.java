@@ -77,15 +77,17 @@ public class HueImageDataFilter extends AbstractValueImageDataFilter<HueImageDat
 
     private final void filter_(Uint8ClampedArray dataArray, int w, int h, double value, ImageDataFilterCommonOps fops) {
         int[] data = Js.uncheckedCast(dataArray);
+        int[] hsv = new int[3];
+        int[] rgb = new int[3];
         for (int y = 0; y < h; y++) {
             for (int x = 0; x < w; x++) {
                 int p = (y * w + x) * 4;
-                int[] hsv = fops.RGBtoHSV(data[p], data[p + 1], data[p + 2]);
+                fops.RGBtoHSV(data[p], data[p + 1], data[p + 2], hsv);
                 hsv[0] += value;
                 while (hsv[0] < 0) {
                     hsv[0] += 360;
                 }
-                int[] rgb = fops.HSVtoRGB(hsv[0], hsv[1], hsv[2]);
+                fops.HSVtoRGB(hsv[0], hsv[1], hsv[2], rgb);
                 for (int i = 0; i < 3; i++) {
                     data[p + i] = rgb[i];
                 }
@@ -63,6 +63,32 @@ public interface ImageDataFilter<T extends ImageDataFilter<T>> {
         void transform(int x, int y, int[] out);
     }
 
+    /**
+     * Implemented by the filters that map the red, green and blue channels through the same table, leaving the alpha
+     * channel as it is, so an {@link ImageDataFilterChain} can compose consecutive ones and apply them in a single pass.
+     */
+    interface FilterChannelTable {
+
+        /**
+         * @return The 256 entries table, or null if the filter can't be applied as a table.
+         */
+        int[] getChannelTable();
+    }
+
+    /**
+     * Implemented by the filters that write their result into a new buffer, so an {@link ImageDataFilterChain} can
+     * provide one it no longer needs instead of allocating a new one for every stage.
+     */
+    interface FilterIntoBuffer {
+
+        /**
+         * @param source The image data to filter, not modified.
+         * @param buffer Image data with the same size as the source, where the result is written.
+         * @return The filtered image data, which is the buffer unless the filter didn't need it.
+         */
+        ImageData filter(ImageData source, ImageData buffer);
+    }
+
     @JsType(isNative = true, name = "Array", namespace = JsPackage.GLOBAL)
     final class FilterConvolveMatrix extends JsArray<Double> {
 
@@ -68,6 +68,13 @@ public class ImageDataFilterChain extends AbstractImageDataFilter<ImageDataFilte
         return false;
     }
 
+    /**
+     * Applies the active filters in order.
+     * <p>
+     * Consecutive filters that only map the channels through a table are composed into a single table, applied
+     * in one pass over the pixels, and the filters writing into a new buffer share a spare one, instead of
+     * allocating a new buffer for every stage. When copy is false, the source may be used as that spare buffer.
+     */
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -79,22 +86,123 @@ public class ImageDataFilterChain extends AbstractImageDataFilter<ImageDataFilte
         if (copy) {
             source = ImageDataUtil.copy(source);
         }
+        ImageData buffer = null;
+
+        int[] table = null;
+
         int size = size();
 
         for (int i = 0; i < size; i++) {
             ImageDataFilter<?> filter = m_filters.get(i);
 
             if ((null != filter) && (filter.isActive())) {
-                ImageData imdata = filter.filter(source, false);
+                int[] next = getChannelTable(filter);
+
+                if (null != next) {
+                    table = composeTables(table, next);
 
-                if (null != imdata) {
-                    source = imdata;
+                    continue;
+                }
+                if (null != table) {
+                    applyTable(source, table);
+
+                    table = null;
+                }
+                if (filter instanceof FilterIntoBuffer) {
+                    if (null == buffer) {
+                        buffer = ImageDataUtil.create(source);
+                    }
+                    ImageData imdata = ((FilterIntoBuffer) filter).filter(source, buffer);
+
+                    if (imdata == buffer) {
+                        buffer = source;
+
+                        source = imdata;
+                    }
+                } else {
+                    ImageData imdata = filter.filter(source, false);
+
+                    if ((null != imdata) && (imdata != source)) {
+                        source = imdata;
+                    }
                 }
             }
         }
+        if (null != table) {
+            applyTable(source, table);
+        }
         return source;
     }
 
+    /**
+     * @return The signature of the active filters, or null if any of them can't provide one.
+     */
+    @Override
+    public String getSignature() {
+        if (!isActive()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+
+        int size = size();
+
+        for (int i = 0; i < size; i++) {
+            ImageDataFilter<?> filter = m_filters.get(i);
+
+            if ((null != filter) && (filter.isActive())) {
+                if (!(filter instanceof AbstractImageDataFilter)) {
+                    return null;
+                }
+                String signature = ((AbstractImageDataFilter<?>) filter).getSignature();
+
+                if (null == signature) {
+                    return null;
+                }
+                if (builder.length() > 0) {
+                    builder.append('|');
+                }
+                builder.append(signature);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int[] getChannelTable(ImageDataFilter<?> filter) {
+        if (filter instanceof FilterChannelTable) {
+            return ((FilterChannelTable) filter).getChannelTable();
+        }
+        return null;
+    }
+
+    static int[] composeTables(int[] first, int[] second) {
+        if (null == first) {
+            return second;
+        }
+        // A new table, as the tables are owned by the filters.
+        int[] table = new int[256];
+
+        for (int i = 0; i < 256; i++) {
+            table[i] = second[clamp(first[i])];
+        }
+        return table;
+    }
+
+    private static int clamp(int value) {
+        if (value < 0) {
+            return 0;
+        }
+        if (value > 255) {
+            return 255;
+        }
+        return value;
+    }
+
+    private static void applyTable(ImageData source, int[] table) {
+        if (null != source.data) {
+            FilterCommonOps.doFilterTable(source.data, table, source.width, source.height);
+        }
+    }
+
     private final void add(ImageDataFilter<?> filter) {
         if (null != filter) {
             if (!m_filters.contains(filter)) {
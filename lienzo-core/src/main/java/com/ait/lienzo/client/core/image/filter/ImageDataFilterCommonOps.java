@@ -80,6 +80,14 @@ public class ImageDataFilterCommonOps {
     }
 
     public int[] HSVtoRGB(int h, int s, int v) {
+        return HSVtoRGB(h, s, v, new int[3]);
+    }
+
+    /**
+     * Same as {@link #HSVtoRGB(int, int, int)}, but writes the result into the given array, so no new array is
+     * allocated for every pixel.
+     */
+    public int[] HSVtoRGB(int h, int s, int v, int[] out) {
         double r = 0, g = 0, b = 0;
         int i = (int) Math.floor(h * 6);
         double f = h * 6 - i;
@@ -118,10 +126,21 @@ public class ImageDataFilterCommonOps {
                 b = q;
                 break;
         }
-        return new int[]{Js.coerceToInt(r * 255), Js.coerceToInt(g * 255), Js.coerceToInt(b * 255)};
+        out[0] = Js.coerceToInt(r * 255);
+        out[1] = Js.coerceToInt(g * 255);
+        out[2] = Js.coerceToInt(b * 255);
+        return out;
     }
 
     public int[] RGBtoHSV(int r, int g, int b) {
+        return RGBtoHSV(r, g, b, new int[3]);
+    }
+
+    /**
+     * Same as {@link #RGBtoHSV(int, int, int)}, but writes the result into the given array, so no new array is
+     * allocated for every pixel.
+     */
+    public int[] RGBtoHSV(int r, int g, int b, int[] out) {
         r = r / 255;
         g = g / 255;
         b = b / 255;
@@ -142,15 +161,23 @@ public class ImageDataFilterCommonOps {
             }
             h /= 6;
         }
-        return new int[]{Js.coerceToInt(h), Js.coerceToInt(s), Js.coerceToInt(v)};
+        out[0] = Js.coerceToInt(h);
+        out[1] = Js.coerceToInt(s);
+        out[2] = Js.coerceToInt(v);
+        return out;
     }
 
     // MDP set correct parameters....
     public void filterTable(Uint8ClampedArray dataArray, FilterTableArray tableArray, int w, int h) {
-        int[] data = Js.uncheckedCast(dataArray);
         // It's dirty, but should be no difference in JS from int[] and Integer[]
         int[] table = Js.uncheckedCast(tableArray);
 
+        filterTable(dataArray, table, w, h);
+    }
+
+    public void filterTable(Uint8ClampedArray dataArray, int[] table, int w, int h) {
+        int[] data = Js.uncheckedCast(dataArray);
+
         int length = w * h * 4;
         for (int i = 0; i < length; i += 4) {
             data[i] = table[data[i]];
@@ -184,7 +211,15 @@ public class ImageDataFilterCommonOps {
         return ret;
     }
 
-    ;
+    /**
+     * Returns the offset for the pixel at (x,y), or for the closest one on the image edges when it's outside.
+     */
+    public int getPixelOffset(double x, double y, double w, double h) {
+        if ((x < 0) || (x >= w) || (y < 0) || (y >= h)) {
+            return (int) (((clamp(y, 0, h - 1) * w) + clamp(x, 0, w - 1)) * 4);
+        }
+        return (int) ((y * w + x) * 4);
+    }
 
     public double clamp(double val, double min, double max) {
         return (val < min) ? min : (val > max) ? max : val;
@@ -203,26 +238,20 @@ public class ImageDataFilterCommonOps {
                 double srcy = Math.floor(xfrm[1]);
                 double xwht = xfrm[0] - srcx;
                 double ywht = xfrm[1] - srcy;
-                int[] nw, ne, sw, se;
+                // Offsets of the four pixels around the source location, instead of copying them.
+                int nw, ne, sw, se;
                 if (srcx >= 0 && srcx < w - 1 && srcy >= 0 && srcy < h - 1) {
-                    int i = (int) (w * srcy + srcx) * 4;
-                    int s = i + w * 4;
-                    int e = i + (w + 1) * 4;
-                    nw = new int[]{data[i], data[i + 1], data[i + 2], data[i + 3]};
-                    ne = new int[]{data[i + 4], data[i + 5], data[i + 6], data[i + 7]};
-                    sw = new int[]{data[s], data[s + 1], data[s + 2], data[s + 3]};
-                    se = new int[]{data[e], data[e + 1], data[e + 2], data[e + 3]};
+                    nw = (int) (w * srcy + srcx) * 4;
+                    ne = nw + 4;
+                    sw = nw + w * 4;
+                    se = nw + (w + 1) * 4;
                 } else {
-                    nw = getPixel(dataArray, srcx + 0, srcy + 0, w, h);
-                    ne = getPixel(dataArray, srcx + 1, srcy + 0, w, h);
-                    sw = getPixel(dataArray, srcx + 0, srcy + 1, w, h);
-                    se = getPixel(dataArray, srcx + 1, srcy + 1, w, h);
+                    nw = getPixelOffset(srcx + 0, srcy + 0, w, h);
+                    ne = getPixelOffset(srcx + 1, srcy + 0, w, h);
+                    sw = getPixelOffset(srcx + 0, srcy + 1, w, h);
+                    se = getPixelOffset(srcx + 1, srcy + 1, w, h);
                 }
-                int[] rgba = bilinearInterpolate(xwht, ywht, nw, ne, sw, se);
-                buff[p] = rgba[0];
-                buff[p + 1] = rgba[1];
-                buff[p + 2] = rgba[2];
-                buff[p + 3] = rgba[3];
+                bilinearInterpolate(xwht, ywht, data, nw, ne, sw, se, buff, p);
             }
         }
     }
@@ -334,6 +363,20 @@ public class ImageDataFilterCommonOps {
         return new int[]{r, g, b, a};
     }
 
+    /**
+     * Same as {@link #bilinearInterpolate(double, double, int[], int[], int[], int[])}, but reads the four pixels
+     * from the data at the given offsets, and writes the result into the buffer at the given offset.
+     */
+    public static void bilinearInterpolate(double x, double y, int[] data, int nw, int ne, int sw, int se, int[] buff, int p) {
+        double cx = 1.0 - x;
+        double cy = 1.0 - y;
+        for (int i = 0; i < 4; i++) {
+            double m0 = cx * data[nw + i] + x * data[ne + i];
+            double m1 = cx * data[sw + i] + x * data[se + i];
+            buff[p + i] = Js.coerceToInt(cy * m0 + y * m1);
+        }
+    }
+
     public static double linearInterpolate(double t, double a, double b) {
         return a + t * (b - a);
     }
@@ -354,6 +397,10 @@ public class ImageDataFilterCommonOps {
         filterTable(data, table, w, h);
     }
 
+    public final void doFilterTable(Uint8ClampedArray data, int[] table, int w, int h) {
+        filterTable(data, table, w, h);
+    }
+
     public final void doFilterConvolve(Uint8ClampedArray data, Uint8ClampedArray buff, FilterConvolveMatrix matrix, int w, int h) {
         filterConvolve(data, buff, matrix, w, h);
     }
@@ -25,7 +25,18 @@ import jsinterop.base.Js;
 /**
  * A class that allows for easy creation of a Invert Color Image Filter.
  */
-public class InvertColorImageDataFilter extends AbstractImageDataFilter<InvertColorImageDataFilter> {
+public class InvertColorImageDataFilter extends AbstractImageDataFilter<InvertColorImageDataFilter> implements ImageDataFilter.FilterChannelTable {
+
+    private static final int[] CHANNEL_TABLE = channelTable();
+
+    private static final int[] channelTable() {
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = 255 - i;
+        }
+        return table;
+    }
+
 
     public InvertColorImageDataFilter() {
         super(ImageFilterType.InvertColorImageDataFilterType);
@@ -35,6 +46,16 @@ public class InvertColorImageDataFilter extends AbstractImageDataFilter<InvertCo
         super(ImageFilterType.InvertColorImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
+    @Override
+    public int[] getChannelTable() {
+        return CHANNEL_TABLE;
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
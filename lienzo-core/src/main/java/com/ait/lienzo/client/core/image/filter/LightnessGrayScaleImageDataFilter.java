@@ -35,6 +35,11 @@ public class LightnessGrayScaleImageDataFilter extends AbstractImageDataFilter<L
         super(ImageFilterType.LightnessGrayScaleImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
@@ -34,6 +34,11 @@ public class LuminosityGrayScaleImageDataFilter extends AbstractImageDataFilter<
         super(ImageFilterType.LuminosityGrayScaleImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     public ImageData filter(ImageData source, boolean copy) {
         if (null == source) {
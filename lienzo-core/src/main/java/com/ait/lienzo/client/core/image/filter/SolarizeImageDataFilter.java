@@ -40,6 +40,11 @@ public class SolarizeImageDataFilter extends AbstractTableImageDataFilter<Solari
         super(ImageFilterType.SolarizeImageDataFilterType, node);
     }
 
+    @Override
+    public String getSignature() {
+        return getType().getValue();
+    }
+
     @Override
     protected final FilterTableArray getTable() {
         return CONSTANT_TABLE;
@@ -142,6 +142,8 @@ public abstract class AbstractMultiPathPartShape<T extends AbstractMultiPathPart
 
     public void resetBoundingBox() {
         m_box = null;
+
+        refreshStorage();
     }
 
     @Override
@@ -105,6 +105,8 @@ public class Arc extends Shape<Arc> {
     public Arc setRadius(final double radius) {
         this.radius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -135,6 +137,8 @@ public class Arc extends Shape<Arc> {
     public Arc setStartAngle(final double angle) {
         this.startAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -156,6 +160,8 @@ public class Arc extends Shape<Arc> {
     public Arc setEndAngle(final double angle) {
         this.endAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -177,6 +183,8 @@ public class Arc extends Shape<Arc> {
     public Arc setCounterClockwise(final boolean counterClockwise) {
         this.counterClockwise = counterClockwise;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -207,6 +207,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -230,6 +232,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -253,6 +257,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -278,6 +284,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -303,6 +311,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -328,6 +338,8 @@ public class Arrow extends Shape<Arrow> {
 
         invalidatePolygon();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -133,6 +133,8 @@ public class Bow extends Shape<Bow> {
     public Bow setInnerRadius(final double radius) {
         this.innerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -154,6 +156,8 @@ public class Bow extends Shape<Bow> {
     public Bow setOuterRadius(final double radius) {
         this.outerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -175,6 +179,8 @@ public class Bow extends Shape<Bow> {
     public Bow setStartAngle(final double angle) {
         this.startAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -196,6 +202,8 @@ public class Bow extends Shape<Bow> {
     public Bow setEndAngle(final double angle) {
         this.endAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -217,6 +225,8 @@ public class Bow extends Shape<Bow> {
     public Bow setCounterClockwise(final boolean counterClockwise) {
         this.counterClockwise = counterClockwise;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -113,6 +113,8 @@ public class Chord extends Shape<Chord> {
     public Chord setRadius(final double radius) {
         this.radius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -143,6 +145,8 @@ public class Chord extends Shape<Chord> {
     public Chord setStartAngle(final double angle) {
         this.startAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -164,6 +168,8 @@ public class Chord extends Shape<Chord> {
     public Chord setEndAngle(final double angle) {
         this.endAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -185,6 +191,8 @@ public class Chord extends Shape<Chord> {
     public Chord setCounterClockwise(final boolean counterClockwise) {
         this.counterClockwise = counterClockwise;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -87,6 +87,8 @@ public class Circle extends Shape<Circle> {
     public Circle setRadius(final double radius) {
         this.radius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
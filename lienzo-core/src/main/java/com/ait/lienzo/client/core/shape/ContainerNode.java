@@ -26,6 +26,8 @@ import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.client.core.util.GeometryException;
 import com.ait.lienzo.shared.core.types.NodeType;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 import jsinterop.annotations.JsIgnore;
@@ -95,6 +97,8 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         }
         m_stor = storage;
 
+        refreshStorage();
+
         return cast();
     }
 
@@ -110,6 +114,31 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         return m_bbox;
     }
 
+    /**
+     * Used internally. Refreshes the given child in the storage engine, if it is spatially indexed,
+     * and then notifies the parent containers, as the bounds for this container have changed as well.
+     * <p>
+     * The notification stops at the first container which storage is not spatially indexed. Spatially indexed
+     * storages always return such containers, so they do not have to know when the bounds for their children change.
+     * The layer is told its whole selection layer must be redrawn then, as it cannot know which region has changed.
+     */
+    @SuppressWarnings("unchecked")
+    protected void refreshChildStorage(final Node<?> child) {
+        final IStorageEngine<M> storage = m_stor;
+
+        if ((null != storage) && (storage.isSpatiallyIndexed())) {
+            storage.refresh((M) child);
+
+            refreshStorage();
+        } else {
+            final Layer layer = getLayer();
+
+            if (null != layer) {
+                layer.invalidateSelection();
+            }
+        }
+    }
+
     /**
      * Adds a primitive to the collection.
      * <p>
@@ -179,8 +208,9 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         }
         BoundingBox bbox = getStorageBounds();
 
-        if (null == bbox) {
-            bbox = bounds;
+        if ((null == bbox) && (null != bounds)) {
+            // Even if this storage is not spatially indexed, the nested containers storages may be.
+            bbox = toLocalBounds(bounds);
         }
         final NFastArrayList<M> list = getChildNodes(bbox);
 
@@ -204,6 +234,23 @@ public abstract class ContainerNode<M extends IDrawable<?>, T extends ContainerN
         }
     }
 
+    /**
+     * Transforms the given bounds, in the parent's coordinates, into this container's coordinates,
+     * as the spatially indexed children bounds are expressed in this container's coordinates.
+     */
+    private BoundingBox toLocalBounds(final BoundingBox bounds) {
+        final Transform transform = getPossibleNodeTransform();
+
+        if (null == transform) {
+            return bounds;
+        }
+        try {
+            return new BoundingPoints(bounds).transform(transform.getInverse()).getBoundingBox();
+        } catch (GeometryException e) {
+            return null;
+        }
+    }
+
     @Override
     public BoundingBox getBoundingBox() {
         final BoundingBox bbox = new BoundingBox();
@@ -108,6 +108,8 @@ public class Ellipse extends Shape<Ellipse> {
     public Ellipse setWidth(final double width) {
         this.width = width;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -129,6 +131,8 @@ public class Ellipse extends Shape<Ellipse> {
     public Ellipse setHeight(final double height) {
         this.height = height;
 
+        refreshStorage();
+
         return this;
     }
 
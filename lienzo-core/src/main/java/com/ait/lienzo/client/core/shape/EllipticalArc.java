@@ -111,6 +111,8 @@ public class EllipticalArc extends Shape<EllipticalArc> {
     public EllipticalArc setRadiusX(final double radiusX) {
         this.radiusX = radiusX;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -132,6 +134,8 @@ public class EllipticalArc extends Shape<EllipticalArc> {
     public EllipticalArc setRadiusY(final double radiusY) {
         this.radiusY = radiusY;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -162,6 +166,8 @@ public class EllipticalArc extends Shape<EllipticalArc> {
     public EllipticalArc setStartAngle(final double angle) {
         this.startAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -183,6 +189,8 @@ public class EllipticalArc extends Shape<EllipticalArc> {
     public EllipticalArc setEndAngle(final double angle) {
         this.endAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -204,6 +212,8 @@ public class EllipticalArc extends Shape<EllipticalArc> {
     public EllipticalArc setCounterClockwise(final boolean counterClockwise) {
         this.counterClockwise = counterClockwise;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -16,8 +16,11 @@
 
 package com.ait.lienzo.client.core.shape;
 
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import com.ait.lienzo.client.core.Attribute;
@@ -28,11 +31,13 @@ import com.ait.lienzo.client.core.shape.storage.IStorageEngine;
 import com.ait.lienzo.client.core.shape.storage.PrimitiveFastArrayStorageEngine;
 import com.ait.lienzo.client.core.style.Style;
 import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.OnLayerAfterDraw;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
 import com.ait.lienzo.client.core.types.Transform;
+import com.ait.lienzo.client.core.util.GeometryException;
 import com.ait.lienzo.shared.core.types.DataURLType;
 import com.ait.lienzo.shared.core.types.LayerClearMode;
 import com.ait.lienzo.shared.core.types.NodeType;
@@ -53,6 +58,8 @@ import elemental2.dom.HTMLDivElement;
  */
 public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
+    private static final double SELECTION_PADDING = 8;
+
     private int m_wide = 0;
 
     private int m_high = 0;
@@ -81,6 +88,24 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
     private final NFastStringMap<Shape<?>> m_shape_color_map = new NFastStringMap<>();
 
+    // The selection layer is drawn lazily, on the first pick after some change.
+    private boolean m_select_dirty = true;
+
+    // Whether some change has been tracked (see refreshChildStorage) since the last layer draw.
+    private boolean m_select_tracked = false;
+
+    private BoundingBox m_select_region = null;
+
+    private Transform m_select_transform = null;
+
+    private final Map<Node<?>, BoundingBox> m_select_bounds = new HashMap<>();
+
+    private final Set<Node<?>> m_select_changed = new LinkedHashSet<>();
+
+    private int m_select_full_draws = 0;
+
+    private int m_select_partial_draws = 0;
+
     private static long idCounter;
 
     /**
@@ -147,6 +172,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                 m_select = new SelectionLayer();
 
                 m_select.setPixelSize(getWidth(), getHeight());
+
+                m_select_dirty = true;
             }
             return m_select;
         }
@@ -166,6 +193,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
             final SelectionLayer selection = getSelectionLayer();
 
             if (null != selection) {
+                drawSelectionLayerIfDirty(selection);
+
                 final ImageDataPixelColor rgba = selection.getContext().getImageDataPixelColor(x, y);// x,y is adjusted to canvas coordinates in event dispatch
 
                 if (null != rgba) {
@@ -201,6 +230,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
         child.attachToLayerColorMap();
 
+        invalidateSelection();
+
         return this;
     }
 
@@ -227,9 +258,279 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
         super.remove(child);
 
+        invalidateSelection();
+
+        return this;
+    }
+
+    @Override
+    public Layer removeAll() {
+        super.removeAll();
+
+        invalidateSelection();
+
+        return this;
+    }
+
+    @Override
+    public Layer moveUp(final IPrimitive<?> child) {
+        super.moveUp(child);
+
+        invalidateSelection();
+
+        return this;
+    }
+
+    @Override
+    public Layer moveDown(final IPrimitive<?> child) {
+        super.moveDown(child);
+
+        invalidateSelection();
+
         return this;
     }
 
+    @Override
+    public Layer moveToTop(final IPrimitive<?> child) {
+        super.moveToTop(child);
+
+        invalidateSelection();
+
+        return this;
+    }
+
+    @Override
+    public Layer moveToBottom(final IPrimitive<?> child) {
+        super.moveToBottom(child);
+
+        invalidateSelection();
+
+        return this;
+    }
+
+    @Override
+    public Layer setStorageEngine(final IStorageEngine<IPrimitive<?>> storage) {
+        super.setStorageEngine(storage);
+
+        return invalidateSelection();
+    }
+
+    /**
+     * Used internally. Refreshes the given child in the storage engine, if it is spatially indexed,
+     * and tracks the region of the {@link SelectionLayer} it covers as dirty.
+     */
+    @Override
+    protected void refreshChildStorage(final Node<?> child) {
+        final IStorageEngine<IPrimitive<?>> storage = getStorageEngine();
+
+        if (storage.isSpatiallyIndexed()) {
+            storage.refresh(child.asPrimitive());
+        }
+        invalidateSelection(child);
+    }
+
+    /**
+     * Marks the whole {@link SelectionLayer} as dirty, so it gets fully redrawn on the next pick.
+     *
+     * @return Layer
+     */
+    public Layer invalidateSelection() {
+        m_select_dirty = true;
+
+        return this;
+    }
+
+    /**
+     * Marks the given region of the {@link SelectionLayer}, in this layer's coordinates, as dirty,
+     * so it gets redrawn on the next pick.
+     *
+     * @param region
+     * @return Layer
+     */
+    public Layer invalidateSelection(final BoundingBox region) {
+        if (null != region) {
+            if (null == m_select_region) {
+                m_select_region = BoundingBox.fromBoundingBox(region);
+            } else {
+                m_select_region.addBoundingBox(region);
+            }
+            m_select_tracked = true;
+        }
+        return this;
+    }
+
+    /**
+     * Returns how many times the {@link SelectionLayer} has been fully redrawn.
+     */
+    public int getSelectionFullDrawCount() {
+        return m_select_full_draws;
+    }
+
+    /**
+     * Returns how many times only some dirty region of the {@link SelectionLayer} has been redrawn.
+     */
+    public int getSelectionPartialDrawCount() {
+        return m_select_partial_draws;
+    }
+
+    public Layer resetSelectionDrawCounts() {
+        m_select_full_draws = 0;
+
+        m_select_partial_draws = 0;
+
+        return this;
+    }
+
+    private void invalidateSelection(final Node<?> child) {
+        if (m_select_dirty) {
+            return;
+        }
+        final BoundingBox drawn = m_select_bounds.get(child);
+
+        if (null == drawn) {
+            // Not present on the last selection draw, so no way to know which region has changed.
+            m_select_dirty = true;
+
+            return;
+        }
+        // Both the previous bounds and the new ones (computed once drawing) must be redrawn.
+        invalidateSelection(drawn);
+
+        m_select_changed.add(child);
+    }
+
+    private void drawSelectionLayerIfDirty(final SelectionLayer selection) {
+        Transform transform = null;
+
+        final Viewport viewport = getViewport();
+
+        if ((isTransformable()) && (null != viewport)) {
+            transform = viewport.getTransform();
+        }
+        if (!sameTransform(transform, m_select_transform)) {
+            m_select_dirty = true;
+        }
+        if (m_select_dirty) {
+            drawSelectionLayer(selection, viewport, transform, null);
+
+            m_select_bounds.clear();
+
+            final NFastArrayList<IPrimitive<?>> list = getChildNodes();
+
+            final int size = list.size();
+
+            for (int i = 0; i < size; i++) {
+                final Node<?> node = list.get(i).asNode();
+
+                m_select_bounds.put(node, getSelectionBounds(node));
+            }
+            m_select_full_draws++;
+        } else if ((null != m_select_region) || (!m_select_changed.isEmpty())) {
+            for (final Node<?> node : m_select_changed) {
+                final BoundingBox bounds = getSelectionBounds(node);
+
+                m_select_bounds.put(node, bounds);
+
+                invalidateSelection(bounds);
+            }
+            drawSelectionLayer(selection, viewport, transform, m_select_region);
+
+            m_select_partial_draws++;
+        }
+        m_select_dirty = false;
+
+        m_select_region = null;
+
+        m_select_changed.clear();
+
+        m_select_transform = (null != transform) ? transform.copy() : null;
+    }
+
+    private void drawSelectionLayer(final SelectionLayer selection, final Viewport viewport, final Transform transform, final BoundingBox region) {
+        final Context2D context = selection.getContext();
+
+        BoundingBox bbox = getDrawBounds(viewport, transform);
+
+        if (null == region) {
+            selection.clear();
+
+            context.save();
+        } else {
+            // The region is in this layer's coordinates, so apply the layer's and the viewport's transforms.
+            final BoundingPoints points = new BoundingPoints(region);
+
+            final Transform node = getPossibleNodeTransform();
+
+            if (null != node) {
+                points.transform(node);
+            }
+            bbox = points.getBoundingBox();
+
+            if (null != transform) {
+                points.transform(transform);
+            }
+            final BoundingBox pixels = points.getBoundingBox();
+
+            final double x = Math.floor(pixels.getMinX()) - 1;
+
+            final double y = Math.floor(pixels.getMinY()) - 1;
+
+            final double w = Math.ceil(pixels.getMaxX()) + 1 - x;
+
+            final double h = Math.ceil(pixels.getMaxY()) + 1 - y;
+
+            context.save();
+
+            context.beginPath();
+
+            context.rect(x, y, w, h);
+
+            context.clip();
+
+            context.clearRect(x, y, w, h);
+        }
+        if (null != transform) {
+            context.transform(transform);
+        }
+        if (null != viewport) {
+            final IPathClipper vclp = viewport.getPathClipper();
+
+            if ((null != vclp) && (vclp.isActive())) {
+                vclp.clip(context);
+            }
+        }
+        final IPathClipper lclp = getPathClipper();
+
+        if ((null != lclp) && (lclp.isActive())) {
+            lclp.clip(context);
+        }
+        drawWithTransforms(context, 1, bbox);
+
+        context.restore();
+    }
+
+    private static BoundingBox getSelectionBounds(final Node<?> node) {
+        final BoundingPoints points = node.getBoundingPoints();
+
+        final BoundingBox bounds = (null != points) ? points.getBoundingBox() : null;
+
+        if ((null == bounds) || (!bounds.isValid())) {
+            return null;
+        }
+        // Some room for the strokes and the selection offsets.
+        return BoundingBox.fromDoubles(bounds.getMinX() - SELECTION_PADDING,
+                                       bounds.getMinY() - SELECTION_PADDING,
+                                       bounds.getMaxX() + SELECTION_PADDING,
+                                       bounds.getMaxY() + SELECTION_PADDING);
+    }
+
+    private static boolean sameTransform(final Transform transform, final Transform other) {
+        if (null == transform) {
+            return null == other;
+        }
+        return transform.equals(other);
+    }
+
     @Override
     public boolean removeFromParent() {
         final Node<?> parent = getParent();
@@ -331,6 +632,8 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
 
         m_high = high;
 
+        m_select_dirty = true;
+
         if (LienzoCore.IS_CANVAS_SUPPORTED) {
             if (!isSelection()) {
                 getElement().style.width = CSSProperties.WidthUnionType.of(wide + Style.Unit.PX.getType());
@@ -577,7 +880,7 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     if (null != transform) {
                         context.transform(transform);
                     }
-                    final BoundingBox bbox = getStorageBounds();
+                    final BoundingBox bbox = getDrawBounds(viewport, transform);
 
                     IPathClipper vclp = null;
 
@@ -600,27 +903,16 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
                     if (null != m_olad) {
                         m_olad.onLayerAfterDraw(this);
                     }
-                    final SelectionLayer selection = getSelectionLayer();
-
-                    if (null != selection) {
-                        selection.clear();
-
-                        context = selection.getContext();
-
-                        context.save();
+                    if (!m_select_tracked) {
+                        // Something has changed that has not been tracked, so no dirty region is known.
+                        m_select_dirty = true;
+                    }
+                    m_select_tracked = false;
 
-                        if (null != transform) {
-                            context.transform(transform);
-                        }
-                        if ((null != vclp) && (vclp.isActive())) {
-                            vclp.clip(context);
-                        }
-                        if ((null != lclp) && (lclp.isActive())) {
-                            lclp.clip(context);
-                        }
-                        drawWithTransforms(context, 1, bbox);
+                    final SelectionLayer selection = getSelectionLayer();
 
-                        context.restore();
+                    if ((null != selection) && (isShowSelectionLayer())) {
+                        drawSelectionLayerIfDirty(selection);
                     }
                 }
             }
@@ -628,6 +920,32 @@ public class Layer extends ContainerNode<IPrimitive<?>, Layer> {
         return this;
     }
 
+    private BoundingBox getDrawBounds(final Viewport viewport, final Transform transform) {
+        final BoundingBox bbox = getStorageBounds();
+
+        if ((null == bbox) && (null != viewport) && (getStorageEngine().isSpatiallyIndexed())) {
+            return getVisibleBounds(viewport, transform);
+        }
+        return bbox;
+    }
+
+    /**
+     * Returns the area of this layer that is visible in the viewport, so spatially indexed storage engines
+     * only have to provide the primitives inside it, or null if it cannot be computed.
+     */
+    private static BoundingBox getVisibleBounds(final Viewport viewport, final Transform transform) {
+        final BoundingBox visible = BoundingBox.fromDoubles(0, 0, viewport.getWidth(), viewport.getHeight());
+
+        if (null == transform) {
+            return visible;
+        }
+        try {
+            return new BoundingPoints(visible).transform(transform.getInverse()).getBoundingBox();
+        } catch (GeometryException e) {
+            return null;
+        }
+    }
+
     /**
      * Performs batch updates to the Layer, that is, drawing is deferred till the next AnimationFrame,
      * to cut down on redraws on rapid event dispatch.
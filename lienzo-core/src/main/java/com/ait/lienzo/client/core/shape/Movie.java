@@ -543,6 +543,8 @@ public class Movie extends Shape<Movie> implements ImageDataFilterable<Movie> {
 
         setSizes();
 
+        refreshStorage();
+
         return this;
     }
 
@@ -576,6 +578,8 @@ public class Movie extends Shape<Movie> implements ImageDataFilterable<Movie> {
 
         setSizes();
 
+        refreshStorage();
+
         return this;
     }
 
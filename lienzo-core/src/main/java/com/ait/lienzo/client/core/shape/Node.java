@@ -237,11 +237,13 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setX(final double x) {
         this.x = x;
+        refreshStorage();
         return cast();
     }
 
     public final T setY(final double y) {
         this.y = y;
+        refreshStorage();
         return cast();
     }
 
@@ -261,6 +263,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setRotation(final double radians) {
         this.rotation = radians;
+        refreshStorage();
         return cast();
     }
 
@@ -270,6 +273,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setRotationDegrees(final double degrees) {
         this.rotation = Geometry.toRadians(degrees);
+        refreshStorage();
         return cast();
     }
 
@@ -306,6 +310,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setScale(final Point2D scale) {
         this.scale = scale;
+        refreshStorage();
         return cast();
     }
 
@@ -330,6 +335,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setShear(final Point2D shear) {
         this.shear = shear;
+        refreshStorage();
         return cast();
     }
 
@@ -339,6 +345,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public final T setOffset(final Point2D offset) {
         this.offset = offset;
+        refreshStorage();
         return cast();
     }
 
@@ -495,9 +502,23 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     @Override
     public T refresh() {
+        refreshStorage();
+
         return cast();
     }
 
+    /**
+     * Notifies the parent containers that the bounds for this node may have changed,
+     * so spatially indexed storage engines can update it.
+     */
+    protected final void refreshStorage() {
+        final Node<?> parent = m_parent;
+
+        if (parent instanceof ContainerNode) {
+            ((ContainerNode<?, ?>) parent).refreshChildStorage(this);
+        }
+    }
+
     protected void setParent(final Node<?> parent) {
         m_parent = parent;
     }
@@ -847,6 +868,8 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     public T setVisible(final boolean visible) {
         this.visible = visible;
 
+        refreshStorage();
+
         return cast();
     }
 
@@ -879,6 +902,8 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
     public T setListening(final boolean listening) {
         this.listening = listening;
 
+        refreshStorage();
+
         return cast();
     }
 
@@ -916,6 +941,7 @@ public abstract class Node<T extends Node<T>> implements IDrawable<T> {
 
     public T setTransform(final Transform transform) {
         this.transform = transform;
+        refreshStorage();
         return cast();
     }
 
@@ -55,6 +55,8 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
 
     private double m_breakDistance;
 
+    private Point2DArray m_routedPoints;
+
     @JsProperty
     private double cornerRadius;
 
@@ -76,6 +78,9 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
 
     @Override
     public boolean parse() {
+        if (isRouted()) {
+            return parseRoutedPoints();
+        }
         Point2DArray points = correctBreakDistance(getControlPoints(), m_breakDistance);
 
         if (points.size() > 1) {
@@ -121,6 +126,37 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
         return false;
     }
 
+    // Routed points are only drawn while they still join the current head and tail points.
+    private boolean isRouted() {
+        if ((null == m_routedPoints) || (m_routedPoints.size() < 2)) {
+            return false;
+        }
+        final Point2DArray points = getControlPoints();
+
+        return (points.size() > 1) && points.get(0).equals(m_routedPoints.get(0)) && points.get(points.size() - 1).equals(m_routedPoints.get(m_routedPoints.size() - 1));
+    }
+
+    private boolean parseRoutedPoints() {
+        m_headOffsetPoint = m_routedPoints.get(0);
+        m_tailOffsetPoint = m_routedPoints.get(m_routedPoints.size() - 1);
+        m_computedPoint2DArray = m_routedPoints.copy();
+
+        final PathPartList list = getPathPartList();
+        list.M(m_headOffsetPoint.getX(), m_headOffsetPoint.getY());
+        final double radius = getCornerRadius();
+
+        if (radius > 0) {
+            Geometry.drawArcJoinedLines(list, m_computedPoint2DArray, radius);
+        } else {
+            final int size = m_computedPoint2DArray.size();
+            for (int i = 1; i < size; i++) {
+                final Point2D point = m_computedPoint2DArray.get(i);
+                list.L(point.getX(), point.getY());
+            }
+        }
+        return true;
+    }
+
     public final Point2DArray correctBreakDistance(Point2DArray points, double breakDistance) {
         Point2DArray cPoints = points.copy();
 
@@ -706,6 +742,25 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
         return m_computedPoint2DArray;
     }
 
+    public Point2DArray getRoutedPoints() {
+        return m_routedPoints;
+    }
+
+    /**
+     * Draws the line through the given points, instead of computing them from the control points and directions.
+     * The points must be orthogonal, and are only used while the first and last ones match the first and last
+     * control points, so the line falls back to its default drawing once some end moves, until routed again.
+     * The control points are not modified.
+     *
+     * @param points The points, or null to go back to the default drawing.
+     * @return this OrthogonalPolyLine
+     */
+    public OrthogonalPolyLine setRoutedPoints(final Point2DArray points) {
+        m_routedPoints = points;
+
+        return refresh();
+    }
+
     @Override
     public boolean isControlPointShape() {
         return true;
@@ -733,6 +788,7 @@ public class OrthogonalPolyLine extends AbstractDirectionalMultiPointShape<Ortho
         ((OrthogonalPolyLine) other).m_tailOffsetPoint = m_tailOffsetPoint.copy();
         ((OrthogonalPolyLine) other).m_computedPoint2DArray = m_computedPoint2DArray.copy();
         ((OrthogonalPolyLine) other).m_breakDistance = m_breakDistance;
+        ((OrthogonalPolyLine) other).m_routedPoints = (null != m_routedPoints) ? m_routedPoints.copy() : null;
         ((OrthogonalPolyLine) other).cornerRadius = cornerRadius;
 
         return other;
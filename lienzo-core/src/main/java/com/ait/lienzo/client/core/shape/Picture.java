@@ -1398,6 +1398,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageStartX(int sx) {
         this.clippedImageStartX = sx;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -1420,6 +1422,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageStartY(int clippedImageStartY) {
         this.clippedImageStartY = clippedImageStartY;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -1445,6 +1449,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageWidth(int clippedImageWidth) {
         this.clippedImageWidth = clippedImageWidth;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -1470,6 +1476,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageHeight(int clippedImageHeight) {
         this.clippedImageHeight = clippedImageHeight;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -1493,6 +1501,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageDestinationWidth(int clippedImageDestinationWidth) {
         this.clippedImageDestinationWidth = clippedImageDestinationWidth;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -1530,6 +1540,8 @@ public class Picture extends AbstractImageShape<Picture> implements ImageDataFil
     public Picture setClippedImageDestinationHeight(int clippedImageDestinationHeight) {
         this.clippedImageDestinationHeight = clippedImageDestinationHeight;
 
+        refreshStorage();
+
         return this;
     }
 
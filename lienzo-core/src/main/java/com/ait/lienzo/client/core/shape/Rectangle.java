@@ -135,6 +135,8 @@ public class Rectangle extends Shape<Rectangle> {
     public Rectangle setWidth(final double width) {
         this.width = width;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -156,6 +158,8 @@ public class Rectangle extends Shape<Rectangle> {
     public Rectangle setHeight(final double height) {
         this.height = height;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -177,6 +181,8 @@ public class Rectangle extends Shape<Rectangle> {
     public Rectangle setCornerRadius(final double radius) {
         this.cornerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
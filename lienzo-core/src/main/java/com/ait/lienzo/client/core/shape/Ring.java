@@ -127,6 +127,8 @@ public class Ring extends Shape<Ring> {
     public Ring setInnerRadius(final double radius) {
         this.innerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -148,6 +150,8 @@ public class Ring extends Shape<Ring> {
     public Ring setOuterRadius(final double radius) {
         this.outerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
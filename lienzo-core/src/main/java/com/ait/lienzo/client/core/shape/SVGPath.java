@@ -504,6 +504,7 @@ public class SVGPath extends Shape<SVGPath> {
         if (false == path.equals(m_path)) {
             parse(m_path = path);
         }
+        refreshStorage();
         return this;
     }
 
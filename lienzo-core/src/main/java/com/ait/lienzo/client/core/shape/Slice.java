@@ -124,6 +124,8 @@ public class Slice extends Shape<Slice> {
     public Slice setRadius(final double radius) {
         this.radius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -154,6 +156,8 @@ public class Slice extends Shape<Slice> {
     public Slice setStartAngle(final double angle) {
         this.startAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -175,6 +179,8 @@ public class Slice extends Shape<Slice> {
     public Slice setEndAngle(final double angle) {
         this.endAngle = angle;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -196,6 +202,8 @@ public class Slice extends Shape<Slice> {
     public Slice setCounterClockwise(final boolean counterClockwise) {
         this.counterClockwise = counterClockwise;
 
+        refreshStorage();
+
         return this;
     }
 
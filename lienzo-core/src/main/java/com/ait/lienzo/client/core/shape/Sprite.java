@@ -214,6 +214,7 @@ public class Sprite extends Shape<Sprite> {
 
             m_frames = bmap.getFramesForBehavior(behavior);
         }
+        refreshStorage();
         return this;
     }
 
@@ -233,6 +234,7 @@ public class Sprite extends Shape<Sprite> {
 
             m_frames = bmap.getFramesForBehavior(behavior);
         }
+        refreshStorage();
         return this;
     }
 
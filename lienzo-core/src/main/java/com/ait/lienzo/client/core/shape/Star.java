@@ -192,6 +192,8 @@ public class Star extends Shape<Star> {
     public Star setInnerRadius(final double radius) {
         this.innerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -213,6 +215,8 @@ public class Star extends Shape<Star> {
     public Star setOuterRadius(final double radius) {
         this.outerRadius = radius;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -396,6 +396,8 @@ public class Text extends Shape<Text> {
     public Text setText(String text) {
         this.text = text;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -419,6 +421,8 @@ public class Text extends Shape<Text> {
         }
         this.fontFamily = family;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -443,6 +447,8 @@ public class Text extends Shape<Text> {
         }
         this.fontStyle = style;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -467,6 +473,8 @@ public class Text extends Shape<Text> {
         }
         this.fontSize = size;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -476,6 +484,8 @@ public class Text extends Shape<Text> {
         }
         this.textUnit = unit;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -501,6 +511,8 @@ public class Text extends Shape<Text> {
     public Text setTextAlign(TextAlign align) {
         this.textAlign = align;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -522,6 +534,8 @@ public class Text extends Shape<Text> {
     public Text setTextBaseLine(TextBaseLine baseLine) {
         this.textBaseLine = baseLine;
 
+        refreshStorage();
+
         return this;
     }
 
@@ -541,6 +555,7 @@ public class Text extends Shape<Text> {
 
     public Text setWrapper(final ITextWrapper wrapper) {
         this.wrapper = wrapper;
+        refreshStorage();
         return this;
     }
 }
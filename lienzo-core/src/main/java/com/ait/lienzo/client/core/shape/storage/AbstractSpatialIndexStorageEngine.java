@@ -0,0 +1,443 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ait.lienzo.client.core.shape.IContainer;
+import com.ait.lienzo.client.core.shape.IDrawable;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.BoundingPoints;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * A storage engine that keeps its items in a uniform grid based spatial index, so
+ * {@link #getChildren(BoundingBox)} only returns the items which bounds intersect the given bounds,
+ * in the same (z) order they are stored.
+ * <p>
+ * The bounds for each item are expressed in the container's coordinate space, and are computed lazily,
+ * when querying the storage. Items must be refreshed (see {@link #refresh(Object)}) once their location or size
+ * changes. Nodes already do it when updating their location, transform or bounding box attributes, and on
+ * {@link IDrawable#refresh()}.
+ * <p>
+ * Items without valid bounds, or covering a huge area, are kept apart and are always returned. So are
+ * the containers which storage is not spatially indexed, as their children do not notify them.
+ */
+public abstract class AbstractSpatialIndexStorageEngine<M extends IDrawable<?>> extends AbstractFastArrayStorageEngine<M> {
+
+    public static final double DEFAULT_CELL_SIZE = 256;
+
+    // Expands the item bounds, so strokes, shadows, etc are not clipped on the viewport edges.
+    public static final double DEFAULT_PADDING = 16;
+
+    private static final int MAX_CELLS_PER_ENTRY = 256;
+
+    private final double m_cell;
+
+    private final double m_padding;
+
+    private final Map<M, Entry<M>> m_entries = new HashMap<>();
+
+    private final Map<Integer, List<Entry<M>>> m_cells = new HashMap<>();
+
+    private final List<Entry<M>> m_unindexed = new ArrayList<>();
+
+    private final List<Entry<M>> m_dirty = new ArrayList<>();
+
+    private boolean m_reorder;
+
+    private int m_order;
+
+    private int m_stamp;
+
+    protected AbstractSpatialIndexStorageEngine(final StorageEngineType type) {
+        this(type, DEFAULT_CELL_SIZE, DEFAULT_PADDING);
+    }
+
+    protected AbstractSpatialIndexStorageEngine(final StorageEngineType type, final double cell, final double padding) {
+        super(type);
+
+        m_cell = cell;
+
+        m_padding = padding;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+
+        m_entries.clear();
+
+        m_cells.clear();
+
+        m_unindexed.clear();
+
+        m_dirty.clear();
+
+        m_reorder = false;
+
+        m_order = 0;
+    }
+
+    @Override
+    public void add(final M item) {
+        super.add(item);
+
+        Entry<M> entry = m_entries.get(item);
+
+        if (null != entry) {
+            // Already present, so its position in the storage has changed.
+            m_reorder = true;
+        } else {
+            entry = new Entry<>(item, m_order++);
+
+            m_entries.put(item, entry);
+        }
+        markDirty(entry);
+    }
+
+    @Override
+    public void remove(final M item) {
+        super.remove(item);
+
+        final Entry<M> entry = m_entries.remove(item);
+
+        if (null != entry) {
+            unindex(entry);
+
+            entry.removed = true;
+        }
+    }
+
+    @Override
+    public void refresh(final M item) {
+        final Entry<M> entry = m_entries.get(item);
+
+        if (null != entry) {
+            markDirty(entry);
+        }
+    }
+
+    @Override
+    public void refresh() {
+        for (final Entry<M> entry : m_entries.values()) {
+            markDirty(entry);
+        }
+    }
+
+    @Override
+    public NFastArrayList<M> getChildren(final BoundingBox bounds) {
+        if ((null == bounds) || (m_entries.isEmpty())) {
+            return getChildren();
+        }
+        flush();
+
+        final double minx = bounds.getMinX();
+
+        final double miny = bounds.getMinY();
+
+        final double maxx = bounds.getMaxX();
+
+        final double maxy = bounds.getMaxY();
+
+        final int stamp = ++m_stamp;
+
+        final List<Entry<M>> found = new ArrayList<>();
+
+        final int mincx = cell(minx);
+
+        final int mincy = cell(miny);
+
+        final int maxcx = cell(maxx);
+
+        final int maxcy = cell(maxy);
+
+        if ((((double) maxcx - mincx + 1) * ((double) maxcy - mincy + 1)) > m_cells.size()) {
+            // Cheaper to look at every populated cell than to probe the empty ones.
+            for (final List<Entry<M>> cell : m_cells.values()) {
+                collect(cell, found, stamp, minx, miny, maxx, maxy);
+            }
+        } else {
+            for (int cx = mincx; cx <= maxcx; cx++) {
+                for (int cy = mincy; cy <= maxcy; cy++) {
+                    final List<Entry<M>> cell = m_cells.get(key(cx, cy));
+
+                    if (null != cell) {
+                        collect(cell, found, stamp, minx, miny, maxx, maxy);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < m_unindexed.size(); i++) {
+            final Entry<M> entry = m_unindexed.get(i);
+
+            if (entry.stamp != stamp && (!entry.bounded || entry.intersects(minx, miny, maxx, maxy))) {
+                entry.stamp = stamp;
+
+                found.add(entry);
+            }
+        }
+        if (m_reorder) {
+            reorder();
+        }
+        Collections.sort(found, (e1, e2) -> Integer.compare(e1.order, e2.order));
+
+        final NFastArrayList<M> result = new NFastArrayList<>();
+
+        for (int i = 0; i < found.size(); i++) {
+            result.add(found.get(i).item);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isSpatiallyIndexed() {
+        return true;
+    }
+
+    @Override
+    public void moveUp(final M item) {
+        super.moveUp(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveDown(final M item) {
+        super.moveDown(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveToTop(final M item) {
+        super.moveToTop(item);
+
+        m_reorder = true;
+    }
+
+    @Override
+    public void moveToBottom(final M item) {
+        super.moveToBottom(item);
+
+        m_reorder = true;
+    }
+
+    private void markDirty(final Entry<M> entry) {
+        if (!entry.dirty) {
+            entry.dirty = true;
+
+            m_dirty.add(entry);
+        }
+    }
+
+    private void flush() {
+        final int size = m_dirty.size();
+
+        for (int i = 0; i < size; i++) {
+            final Entry<M> entry = m_dirty.get(i);
+
+            entry.dirty = false;
+
+            if (!entry.removed) {
+                unindex(entry);
+
+                index(entry);
+            }
+        }
+        m_dirty.clear();
+    }
+
+    private void reorder() {
+        final NFastArrayList<M> list = getChildren();
+
+        final int size = list.size();
+
+        for (int i = 0; i < size; i++) {
+            final Entry<M> entry = m_entries.get(list.get(i));
+
+            if (null != entry) {
+                entry.order = i;
+            }
+        }
+        m_order = size;
+
+        m_reorder = false;
+    }
+
+    private void index(final Entry<M> entry) {
+        final IContainer<?, ?> container = entry.item.asContainer();
+
+        if ((null != container) && (!container.getStorageEngine().isSpatiallyIndexed())) {
+            // Its children do not notify about their bounds changes, so its bounds are not known.
+            entry.bounded = false;
+
+            entry.indexed = false;
+
+            m_unindexed.add(entry);
+
+            return;
+        }
+        final BoundingPoints points = entry.item.getBoundingPoints();
+
+        final BoundingBox bbox = (null != points) ? points.getBoundingBox() : null;
+
+        if ((null == bbox) || (!bbox.isValid())) {
+            entry.bounded = false;
+
+            entry.indexed = false;
+
+            m_unindexed.add(entry);
+
+            return;
+        }
+        entry.bounded = true;
+
+        entry.minx = bbox.getMinX() - m_padding;
+
+        entry.miny = bbox.getMinY() - m_padding;
+
+        entry.maxx = bbox.getMaxX() + m_padding;
+
+        entry.maxy = bbox.getMaxY() + m_padding;
+
+        entry.mincx = cell(entry.minx);
+
+        entry.mincy = cell(entry.miny);
+
+        entry.maxcx = cell(entry.maxx);
+
+        entry.maxcy = cell(entry.maxy);
+
+        if ((((double) entry.maxcx - entry.mincx + 1) * ((double) entry.maxcy - entry.mincy + 1)) > MAX_CELLS_PER_ENTRY) {
+            entry.indexed = false;
+
+            m_unindexed.add(entry);
+
+            return;
+        }
+        entry.indexed = true;
+
+        for (int cx = entry.mincx; cx <= entry.maxcx; cx++) {
+            for (int cy = entry.mincy; cy <= entry.maxcy; cy++) {
+                final Integer key = key(cx, cy);
+
+                List<Entry<M>> cell = m_cells.get(key);
+
+                if (null == cell) {
+                    cell = new ArrayList<>(4);
+
+                    m_cells.put(key, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void unindex(final Entry<M> entry) {
+        if (entry.indexed) {
+            for (int cx = entry.mincx; cx <= entry.maxcx; cx++) {
+                for (int cy = entry.mincy; cy <= entry.maxcy; cy++) {
+                    final Integer key = key(cx, cy);
+
+                    final List<Entry<M>> cell = m_cells.get(key);
+
+                    if (null != cell) {
+                        cell.remove(entry);
+
+                        if (cell.isEmpty()) {
+                            m_cells.remove(key);
+                        }
+                    }
+                }
+            }
+            entry.indexed = false;
+        } else {
+            m_unindexed.remove(entry);
+        }
+    }
+
+    private static <M> void collect(final List<Entry<M>> cell, final List<Entry<M>> found, final int stamp, final double minx, final double miny, final double maxx, final double maxy) {
+        final int size = cell.size();
+
+        for (int i = 0; i < size; i++) {
+            final Entry<M> entry = cell.get(i);
+
+            if ((entry.stamp != stamp) && (entry.intersects(minx, miny, maxx, maxy))) {
+                entry.stamp = stamp;
+
+                found.add(entry);
+            }
+        }
+    }
+
+    private int cell(final double value) {
+        return (int) Math.floor(value / m_cell);
+    }
+
+    // Distant cells may share the same key, which is fine as entries are always checked against the query bounds.
+    private static Integer key(final int cx, final int cy) {
+        return (cx << 16) ^ (cy & 0xffff);
+    }
+
+    private static final class Entry<M> {
+
+        private final M item;
+
+        private int order;
+
+        private boolean dirty;
+
+        private boolean removed;
+
+        private boolean bounded;
+
+        private boolean indexed;
+
+        private int stamp;
+
+        private double minx;
+
+        private double miny;
+
+        private double maxx;
+
+        private double maxy;
+
+        private int mincx;
+
+        private int mincy;
+
+        private int maxcx;
+
+        private int maxcy;
+
+        private Entry(final M item, final int order) {
+            this.item = item;
+
+            this.order = order;
+        }
+
+        private boolean intersects(final double x1, final double y1, final double x2, final double y2) {
+            return (minx <= x2) && (maxx >= x1) && (miny <= y2) && (maxy >= y1);
+        }
+    }
+}
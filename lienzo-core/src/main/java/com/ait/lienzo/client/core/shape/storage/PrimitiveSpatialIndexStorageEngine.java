@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import com.ait.lienzo.client.core.shape.IPrimitive;
+
+/**
+ * A spatially indexed storage engine for primitives. Containers (eg: layers) can opt into it by
+ * using {@link com.ait.lienzo.client.core.shape.ContainerNode#setStorageEngine(IStorageEngine)},
+ * so only the primitives which intersect the visible area are drawn.
+ */
+public class PrimitiveSpatialIndexStorageEngine extends AbstractSpatialIndexStorageEngine<IPrimitive<?>> {
+
+    public PrimitiveSpatialIndexStorageEngine() {
+        super(StorageEngineType.PRIMITIVE_SPATIAL_INDEX_STORAGE_ENGINE);
+    }
+
+    public PrimitiveSpatialIndexStorageEngine(final double cell, final double padding) {
+        super(StorageEngineType.PRIMITIVE_SPATIAL_INDEX_STORAGE_ENGINE, cell, padding);
+    }
+}
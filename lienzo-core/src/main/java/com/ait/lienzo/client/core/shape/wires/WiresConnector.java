@@ -51,6 +51,23 @@ public class WiresConnector {
 
     public static final int MINIMUM_STROKE_WITH = 15;
 
+    /**
+     * How the points for an orthogonal connector are computed.
+     */
+    public enum RoutingMode {
+
+        /**
+         * From the control points and the head and tail directions.
+         */
+        CONTROL_POINTS,
+
+        /**
+         * From the head and tail points and directions, avoiding the shapes in the layer.
+         * The intermediate control points are ignored, and are kept as they are.
+         */
+        AVOID_SHAPES
+    }
+
     private WiresConnection m_headConnection;
 
     private WiresConnection m_tailConnection;
@@ -71,6 +88,8 @@ public class WiresConnector {
 
     private WiresConnectorPointsChangedEvent wiresConnectorPointsChangedEvent;
 
+    private RoutingMode m_routingMode = RoutingMode.CONTROL_POINTS;
+
     public WiresConnector(IDirectionalMultiPointShape<?> line, MultiPathDecorator headDecorator, MultiPathDecorator tailDecorator) {
         m_line = line;
 
@@ -226,6 +245,35 @@ public class WiresConnector {
         return getGroup().uuid();
     }
 
+    public RoutingMode getRoutingMode() {
+        return m_routingMode;
+    }
+
+    /**
+     * Routes are computed by the {@link com.ait.lienzo.client.core.shape.wires.routing.WiresConnectorRouter} before
+     * the layer gets drawn, and only for orthogonal lines.
+     */
+    public WiresConnector setRoutingMode(final RoutingMode mode) {
+        if (m_routingMode == mode) {
+            return this;
+        }
+        m_routingMode = mode;
+
+        if ((RoutingMode.CONTROL_POINTS == mode) && (m_line instanceof OrthogonalPolyLine)) {
+            ((OrthogonalPolyLine) m_line).setRoutedPoints(null);
+        }
+        final Layer layer = m_group.getLayer();
+
+        if (null != layer) {
+            layer.batch();
+        }
+        return this;
+    }
+
+    public boolean isRouted() {
+        return (RoutingMode.AVOID_SHAPES == m_routingMode) && (m_line instanceof OrthogonalPolyLine);
+    }
+
     public void destroyPointHandles() {
         if (m_pointHandles != null) {
             m_pointHandles.destroy();
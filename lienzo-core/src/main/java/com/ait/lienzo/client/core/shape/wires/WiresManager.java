@@ -32,6 +32,8 @@ import com.ait.lienzo.client.core.shape.wires.handlers.WiresShapeControl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresControlFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresHandlerFactoryImpl;
 import com.ait.lienzo.client.core.shape.wires.handlers.impl.WiresShapeHandler;
+import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
+import com.ait.lienzo.client.core.shape.wires.routing.WiresConnectorRouter;
 import com.ait.lienzo.client.core.types.OnLayerBeforeDraw;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.widget.DragConstraintEnforcer;
@@ -84,6 +86,10 @@ public final class WiresManager {
 
     private WiresEventHandlers m_wiresEventHandlers;
 
+    private ColorMapBackedPicker m_colorMapBackedPicker;
+
+    private final WiresConnectorRouter m_connectorRouter;
+
     public static final WiresManager get(Layer layer) {
         final String uuid = layer.uuid();
 
@@ -112,6 +118,7 @@ public final class WiresManager {
     private WiresManager(final Layer layer) {
         m_layer = new WiresLayer(layer);
         m_layer.setWiresManager(this);
+        m_connectorRouter = new WiresConnectorRouter(this);
         layer.setOnLayerBeforeDraw(new LinePreparer(this));
 
         m_index = new AlignAndDistribute(layer);
@@ -156,6 +163,8 @@ public final class WiresManager {
             // this method is used to force a parse on any line that has been refreshed. Refreshed means it's points where
             // changed and thus will be reparsed.
             //for (WiresConnector c : )
+            // routes must be updated first, as setting the routed points refreshes the lines.
+            m_wiresManager.getConnectorRouter().update();
             NFastArrayList<WiresConnector> list = m_wiresManager.getConnectorList();
             for (int i = 0, size = list.size(); i < size; i++) {
                 WiresConnector c = list.get(i);
@@ -168,6 +177,10 @@ public final class WiresManager {
         }
     }
 
+    public WiresConnectorRouter getConnectorRouter() {
+        return m_connectorRouter;
+    }
+
     public MagnetManager getMagnetManager() {
         return m_magnetManager;
     }
@@ -214,6 +227,7 @@ public final class WiresManager {
         final String uuid = shape.uuid();
         m_shapesMap.put(uuid, shape);
         m_shapeHandlersMap.put(uuid, registrationManager);
+        m_connectorRouter.shapeMoved(shape);
 
         return control;
     }
@@ -255,6 +269,7 @@ public final class WiresManager {
         removeFromIndex(shape);
         getLayer().remove(shape);
         m_shapesMap.remove(uuid);
+        m_connectorRouter.shapeMoved(shape);
     }
 
     public WiresConnectorControl register(final WiresConnector connector) {
@@ -308,6 +323,7 @@ public final class WiresManager {
         removeHandlers(uuid);
         connector.destroy();
         getConnectorList().remove(connector);
+        m_connectorRouter.connectorRemoved(connector);
     }
 
     public void resetContext() {
@@ -341,6 +357,7 @@ public final class WiresManager {
             m_handler = null;
         }
         m_shapeHandlersMap.clear();
+        m_colorMapBackedPicker = null;
         m_controlFactory = null;
         m_wiresHandlerFactory = null;
         m_locationAcceptor = null;
@@ -379,6 +396,17 @@ public final class WiresManager {
         this.m_wiresHandlerFactory = wiresHandlerFactory;
     }
 
+    /**
+     * Returns the picker kept for this manager's layer, if any, so it can be reused across different indexes.
+     */
+    public ColorMapBackedPicker getColorMapBackedPicker() {
+        return m_colorMapBackedPicker;
+    }
+
+    public void setColorMapBackedPicker(final ColorMapBackedPicker picker) {
+        m_colorMapBackedPicker = picker;
+    }
+
     public WiresControlFactory getControlFactory() {
         return m_controlFactory;
     }
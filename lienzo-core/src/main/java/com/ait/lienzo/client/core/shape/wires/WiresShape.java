@@ -158,6 +158,10 @@ public class WiresShape extends WiresContainer {
         if (null != getControls()) {
             getControls().refresh();
         }
+
+        if (getWiresManager() != null) {
+            getWiresManager().getConnectorRouter().shapeMoved(this);
+        }
     }
 
     public void setControl(final WiresShapeControl control) {
@@ -249,6 +253,9 @@ public class WiresShape extends WiresContainer {
         if (getMagnets() != null) {
             getControl().getMagnetsControl().shapeMoved();
         }
+        if (getWiresManager() != null) {
+            getWiresManager().getConnectorRouter().shapeMoved(this);
+        }
     }
 
     @Override
@@ -25,9 +25,20 @@ import com.ait.lienzo.client.core.shape.wires.picker.ColorMapBackedPicker;
 public class WiresColorMapIndex implements WiresLayerIndex {
 
     private final ColorMapBackedPicker picker;
+    private final boolean retained;
 
     public WiresColorMapIndex(final ColorMapBackedPicker picker) {
+        this(picker, false);
+    }
+
+    /**
+     * @param retained Whether the picker is kept across different indexes, so it just gets updated on
+     *                 further builds. In that case the picker's backing canvas is not cleared along with the index.
+     */
+    public WiresColorMapIndex(final ColorMapBackedPicker picker,
+                              final boolean retained) {
         this.picker = picker;
+        this.retained = retained;
     }
 
     @Override
@@ -50,7 +61,9 @@ public class WiresColorMapIndex implements WiresLayerIndex {
 
     @Override
     public void clear() {
-        picker.clear();
+        if (!retained) {
+            picker.clear();
+        }
         picker.getPickerOptions().getShapesToSkip().clear();
     }
 }
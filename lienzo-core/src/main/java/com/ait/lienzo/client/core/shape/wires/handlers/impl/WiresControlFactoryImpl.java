@@ -51,12 +51,24 @@ public class WiresControlFactoryImpl implements WiresControlFactory {
 
     @Override
     public WiresLayerIndex newIndex(WiresManager manager) {
-        final ScratchPad scratchPad = manager.getLayer().getLayer().getScratchPad();
-        final ColorMapBackedPicker.PickerOptions pickerOptions =
-                new ColorMapBackedPicker.PickerOptions(true,
-                                                       manager.getDockingAcceptor().getHotspotSize());
-        return new WiresColorMapIndex(new ColorMapBackedPicker(scratchPad,
-                                                               pickerOptions));
+        // The picker is kept by the manager, so further indexes just update the shapes that have changed.
+        final ScratchPad layerScratchPad = manager.getLayer().getLayer().getScratchPad();
+        final double hotspotSize = manager.getDockingAcceptor().getHotspotSize();
+        ColorMapBackedPicker picker = manager.getColorMapBackedPicker();
+        if (null == picker || picker.getPickerOptions().getHotspotWidth() != hotspotSize) {
+            final ColorMapBackedPicker.PickerOptions pickerOptions =
+                    new ColorMapBackedPicker.PickerOptions(true,
+                                                           hotspotSize);
+            picker = new ColorMapBackedPicker(new ScratchPad(layerScratchPad.getWidth(),
+                                                             layerScratchPad.getHeight()),
+                                              pickerOptions);
+            manager.setColorMapBackedPicker(picker);
+        } else {
+            picker.setPixelSize(layerScratchPad.getWidth(),
+                                layerScratchPad.getHeight());
+        }
+        return new WiresColorMapIndex(picker,
+                                      true);
     }
 
     @Override
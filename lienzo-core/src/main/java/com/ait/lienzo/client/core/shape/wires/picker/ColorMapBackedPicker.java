@@ -16,8 +16,12 @@
 
 package com.ait.lienzo.client.core.shape.wires.picker;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.ait.lienzo.client.core.Context2D;
 import com.ait.lienzo.client.core.shape.MultiPath;
@@ -25,15 +29,38 @@ import com.ait.lienzo.client.core.shape.wires.BackingColorMapUtils;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresContainer;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ColorKeyRotor;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
+import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.tools.client.collection.NFastArrayList;
 
+/**
+ * Draws the shapes, and their parts, into a color keyed backing canvas, so the shape part at some location
+ * can be found by just reading a single pixel.
+ * <p>
+ * The picker keeps the color map and the backing canvas across builds. Once built again, only the regions
+ * covered by the shapes that have been added, removed (or skipped), moved or resized are cleared and drawn again.
+ * Shape changes are detected by looking at the identity, the location, the bounds and the stroke width of each
+ * path drawn for the shape, and at whether the shape's path is still the same one. The whole canvas is drawn again
+ * when the shapes order changes, when the canvas size changes, or when there are too many changes.
+ * <p>
+ * The bounds of the drawn shapes are kept in a uniform grid, so points outside all of them are resolved without
+ * reading the backing canvas.
+ */
 public class ColorMapBackedPicker {
 
     public static final ColorKeyRotor m_colorKeyRotor = new ColorKeyRotor();
 
+    // Above this amount of dirty regions, drawing the whole canvas again is usually cheaper.
+    private static final int MAX_DIRTY_REGIONS = 32;
+
+    private static final double CELL_SIZE = 256;
+
+    // Entries spanning more cells are kept apart, and checked one by one.
+    private static final int MAX_CELLS_PER_ENTRY = 64;
+
     private final Context2D m_ctx;
 
     private final ScratchPad m_scratchPad;
@@ -42,8 +69,28 @@ public class ColorMapBackedPicker {
 
     private final NFastArrayList<WiresShape> m_shapesMap = new NFastArrayList<>();
 
+    private final Map<WiresShape, Entry> m_entries = new HashMap<>();
+
+    private final Map<Integer, List<Entry>> m_cells = new HashMap<>();
+
+    // The entries without bounds, or too large to be kept in the cells.
+    private final List<Entry> m_unindexed = new ArrayList<>();
+
     private final PickerOptions m_options;
 
+    // The entry which parts are being drawn, if any.
+    private Entry m_entry;
+
+    // Whether the parts drawn are just recorded, and drawn later on.
+    private boolean m_recording;
+
+    // Whether some part has been drawn out of any entry, so its bounds are unknown.
+    private boolean m_untracked;
+
+    private int m_wide = -1;
+
+    private int m_high = -1;
+
     public ColorMapBackedPicker(final ScratchPad scratchPad,
                                 final PickerOptions options) {
         m_scratchPad = scratchPad;
@@ -52,8 +99,12 @@ public class ColorMapBackedPicker {
     }
 
     public void build(final NFastArrayList<WiresShape> shapes) {
-        clear();
-        processShapes(shapes);
+        final NFastArrayList<WiresShape> previous = m_shapesMap.copy();
+        m_shapesMap.clear();
+        computeShapes(shapes);
+        if (!update(previous)) {
+            redraw();
+        }
     }
 
     void processShapes(final NFastArrayList<WiresShape> shapes) {
@@ -77,19 +128,161 @@ public class ColorMapBackedPicker {
         }
     }
 
+    private void redraw() {
+        clearColorMap();
+        m_wide = m_scratchPad.getWidth();
+        m_high = m_scratchPad.getHeight();
+        drawShapes();
+    }
+
     private void drawShapes() {
         // Draw all shapes (and children) into the scratchPad instance.
         for (int j = 0; j < m_shapesMap.size(); j++) {
-            WiresShape prim = m_shapesMap.get(j);
-            MultiPath multiPath = prim.getPath();
-            drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
-            addSupplementaryPaths(prim);
+            drawEntry(m_shapesMap.get(j));
+        }
+    }
+
+    private void drawEntry(final WiresShape prim) {
+        final Entry entry = new Entry(prim);
+        m_entries.put(prim, entry);
+        m_entry = entry;
+        try {
+            drawShape(prim);
+        } finally {
+            m_entry = null;
+        }
+        index(entry);
+    }
+
+    private void drawShape(final WiresShape prim) {
+        MultiPath multiPath = prim.getPath();
+        drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BODY), true);
+        addSupplementaryPaths(prim);
+
+        if (m_options.hotspotsEnabled) {
+            drawShape(m_colorKeyRotor.next(), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+            // need to be able to detect the difference between the actual border selection and the border hotspot
+            drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+        }
+    }
 
-            if (m_options.hotspotsEnabled) {
-                drawShape(m_colorKeyRotor.next(), m_options.hotspotWidth, new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
-                // need to be able to detect the difference between the actual border selection and the border hotspot
-                drawShape(m_colorKeyRotor.next(), multiPath.getStrokeWidth(), new PickerPart(prim, PickerPart.ShapePart.BORDER), false);
+    /**
+     * Updates the backing canvas for the shapes that have changed since the last build.
+     * Returns false if the whole canvas must be drawn again instead.
+     */
+    private boolean update(final NFastArrayList<WiresShape> previous) {
+        if (m_untracked || m_entries.isEmpty() || m_wide != m_scratchPad.getWidth() || m_high != m_scratchPad.getHeight()) {
+            return false;
+        }
+        final Map<WiresShape, Entry> retained = new HashMap<>();
+        for (int i = 0; i < m_shapesMap.size(); i++) {
+            final WiresShape prim = m_shapesMap.get(i);
+            final Entry entry = m_entries.get(prim);
+            if (null != entry) {
+                retained.put(prim, entry);
+            }
+        }
+        if (!isSameOrder(previous, retained)) {
+            return false;
+        }
+        final List<WiresShape> changed = new ArrayList<>();
+        final Set<WiresShape> changedSet = new HashSet<>();
+        for (int i = 0; i < m_shapesMap.size(); i++) {
+            final WiresShape prim = m_shapesMap.get(i);
+            final Entry entry = retained.get(prim);
+            if (null == entry || !entry.isUnchanged()) {
+                changed.add(prim);
+                changedSet.add(prim);
+            }
+        }
+        final List<BoundingBox> dirty = new ArrayList<>();
+        for (int i = 0; i < previous.size(); i++) {
+            final WiresShape prim = previous.get(i);
+            if (!retained.containsKey(prim) || changedSet.contains(prim)) {
+                final Entry entry = m_entries.get(prim);
+                if (null == entry || null == entry.bounds) {
+                    return false;
+                }
+                dirty.add(entry.bounds);
+            }
+        }
+        if (dirty.size() + changed.size() > MAX_DIRTY_REGIONS) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            final WiresShape prim = previous.get(i);
+            if (!retained.containsKey(prim)) {
+                removeEntry(m_entries.get(prim));
+            }
+        }
+        // Record the parts for the new and the changed shapes, those get drawn along with the other shapes below.
+        m_recording = true;
+        try {
+            for (final WiresShape prim : changed) {
+                removeEntry(m_entries.get(prim));
+                drawEntry(prim);
+                final BoundingBox bounds = m_entries.get(prim).bounds;
+                if (null == bounds) {
+                    return false;
+                }
+                dirty.add(bounds);
             }
+        } finally {
+            m_recording = false;
+        }
+        for (final BoundingBox region : dirty) {
+            drawRegion(region);
+        }
+        return true;
+    }
+
+    private boolean isSameOrder(final NFastArrayList<WiresShape> previous,
+                                final Map<WiresShape, Entry> retained) {
+        int j = 0;
+        for (int i = 0; i < previous.size(); i++) {
+            final WiresShape prim = previous.get(i);
+            if (retained.containsKey(prim)) {
+                while (j < m_shapesMap.size() && !retained.containsKey(m_shapesMap.get(j))) {
+                    j++;
+                }
+                if (j == m_shapesMap.size() || !prim.equals(m_shapesMap.get(j))) {
+                    return false;
+                }
+                j++;
+            }
+        }
+        return true;
+    }
+
+    private void drawRegion(final BoundingBox region) {
+        final double x = Math.floor(region.getMinX());
+        final double y = Math.floor(region.getMinY());
+        final double w = Math.ceil(region.getMaxX()) - x;
+        final double h = Math.ceil(region.getMaxY()) - y;
+        m_ctx.save();
+        m_ctx.beginPath();
+        m_ctx.rect(x, y, w, h);
+        m_ctx.clip();
+        m_ctx.clearRect(x, y, w, h);
+        for (int i = 0; i < m_shapesMap.size(); i++) {
+            final Entry entry = m_entries.get(m_shapesMap.get(i));
+            if (null != entry && (null == entry.bounds || entry.bounds.intersects(region))) {
+                for (final Part part : entry.parts) {
+                    BackingColorMapUtils.drawShapeToBacking(m_ctx, part.multiPath, part.color, part.strokeWidth, part.fill);
+                }
+            }
+        }
+        m_ctx.restore();
+    }
+
+    private void removeEntry(final Entry entry) {
+        if (null == entry) {
+            return;
+        }
+        m_entries.remove(entry.shape);
+        unindex(entry);
+        for (final Part part : entry.parts) {
+            m_colorMap.remove(part.color);
         }
     }
 
@@ -100,16 +293,32 @@ public class ColorMapBackedPicker {
 
     protected void drawShape(String color, double strokeWidth, PickerPart pickerPart, boolean fill) {
         m_colorMap.put(color, pickerPart);
-        BackingColorMapUtils.drawShapeToBacking(m_ctx, pickerPart.getShape(), color, strokeWidth, fill);
+        record(color, strokeWidth, pickerPart.getShape().getPath(), fill);
+        if (!m_recording) {
+            BackingColorMapUtils.drawShapeToBacking(m_ctx, pickerPart.getShape(), color, strokeWidth, fill);
+        }
     }
 
     protected void drawShape(String color, double strokeWidth, MultiPath multiPath, PickerPart pickerPart, boolean fill) {
         m_colorMap.put(color, pickerPart);
+        record(color, strokeWidth, multiPath, fill);
+        if (!m_recording) {
+            BackingColorMapUtils.drawShapeToBacking(m_ctx, multiPath, color, strokeWidth, fill);
+        }
+    }
 
-        BackingColorMapUtils.drawShapeToBacking(m_ctx, multiPath, color, strokeWidth, fill);
+    private void record(final String color, final double strokeWidth, final MultiPath multiPath, final boolean fill) {
+        if (null == m_entry) {
+            m_untracked = true;
+        } else {
+            m_entry.add(new Part(color, strokeWidth, multiPath, fill));
+        }
     }
 
     public PickerPart findShapeAt(int x, int y) {
+        if (!m_untracked && !isInsideAnyEntry(x, y)) {
+            return null;
+        }
         ImageDataPixelColor color = m_ctx.getImageDataPixelColor(x, y);
         if (color != null) {
             PickerPart pickerPart = m_colorMap.get(color.toBrowserRGB());
@@ -120,16 +329,212 @@ public class ColorMapBackedPicker {
         return null;
     }
 
+    private boolean isInsideAnyEntry(final double x, final double y) {
+        for (final Entry entry : m_unindexed) {
+            if (null == entry.bounds || entry.contains(x, y)) {
+                return true;
+            }
+        }
+        final List<Entry> cell = m_cells.get(key(cell(x), cell(y)));
+        if (null != cell) {
+            for (final Entry entry : cell) {
+                if (entry.contains(x, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void index(final Entry entry) {
+        final BoundingBox bounds = entry.bounds;
+        if (null == bounds) {
+            m_unindexed.add(entry);
+            return;
+        }
+        entry.mincx = cell(bounds.getMinX());
+        entry.mincy = cell(bounds.getMinY());
+        entry.maxcx = cell(bounds.getMaxX());
+        entry.maxcy = cell(bounds.getMaxY());
+        if ((((double) entry.maxcx - entry.mincx + 1) * ((double) entry.maxcy - entry.mincy + 1)) > MAX_CELLS_PER_ENTRY) {
+            m_unindexed.add(entry);
+            return;
+        }
+        entry.indexed = true;
+        for (int cx = entry.mincx; cx <= entry.maxcx; cx++) {
+            for (int cy = entry.mincy; cy <= entry.maxcy; cy++) {
+                final Integer key = key(cx, cy);
+                List<Entry> cell = m_cells.get(key);
+                if (null == cell) {
+                    cell = new ArrayList<>(4);
+                    m_cells.put(key, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void unindex(final Entry entry) {
+        if (!entry.indexed) {
+            m_unindexed.remove(entry);
+            return;
+        }
+        for (int cx = entry.mincx; cx <= entry.maxcx; cx++) {
+            for (int cy = entry.mincy; cy <= entry.maxcy; cy++) {
+                final Integer key = key(cx, cy);
+                final List<Entry> cell = m_cells.get(key);
+                if (null != cell) {
+                    cell.remove(entry);
+                    if (cell.isEmpty()) {
+                        m_cells.remove(key);
+                    }
+                }
+            }
+        }
+        entry.indexed = false;
+    }
+
+    private static int cell(final double value) {
+        return (int) Math.floor(value / CELL_SIZE);
+    }
+
+    // Distant cells may share the same key, which is fine as entries are always checked against the point.
+    private static Integer key(final int cx, final int cy) {
+        return (cx << 16) ^ (cy & 0xffff);
+    }
+
     public void clear() {
+        clearColorMap();
+        m_shapesMap.clear();
+    }
+
+    private void clearColorMap() {
         m_scratchPad.clear();
         m_colorMap.clear();
-        m_shapesMap.clear();
+        m_entries.clear();
+        m_cells.clear();
+        m_unindexed.clear();
+        m_untracked = false;
+    }
+
+    /**
+     * Resizes the backing canvas, if necessary. Once resized, the next build draws the whole canvas again.
+     */
+    public void setPixelSize(final int wide, final int high) {
+        if (wide != m_scratchPad.getWidth() || high != m_scratchPad.getHeight()) {
+            m_scratchPad.setPixelSize(wide, high);
+        }
     }
 
     public PickerOptions getPickerOptions() {
         return m_options;
     }
 
+    private static final class Part {
+
+        private final String color;
+        private final double strokeWidth;
+        private final MultiPath multiPath;
+        private final boolean fill;
+        private final double[] state;
+
+        private Part(final String color,
+                     final double strokeWidth,
+                     final MultiPath multiPath,
+                     final boolean fill) {
+            this.color = color;
+            this.strokeWidth = strokeWidth;
+            this.multiPath = multiPath;
+            this.fill = fill;
+            this.state = getState(multiPath);
+        }
+
+        private boolean isUnchanged() {
+            final double[] current = getState(multiPath);
+            if (null == state || null == current) {
+                return false;
+            }
+            for (int i = 0; i < state.length; i++) {
+                if (state[i] != current[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static double[] getState(final MultiPath path) {
+            final Point2D location = null != path ? path.getComputedLocation() : null;
+            final BoundingBox box = null != path ? path.getBoundingBox() : null;
+            if (null == location || null == box) {
+                return null;
+            }
+            return new double[]{location.getX(), location.getY(),
+                    box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(),
+                    path.getStrokeWidth()};
+        }
+    }
+
+    private static final class Entry {
+
+        private final WiresShape shape;
+        private final MultiPath path;
+        private final List<Part> parts = new ArrayList<>(3);
+        private BoundingBox bounds;
+        private boolean bounded = true;
+        private boolean indexed;
+        private int mincx;
+        private int mincy;
+        private int maxcx;
+        private int maxcy;
+
+        private Entry(final WiresShape shape) {
+            this.shape = shape;
+            this.path = shape.getPath();
+        }
+
+        private void add(final Part part) {
+            parts.add(part);
+            if (!bounded) {
+                return;
+            }
+            final BoundingBox box = part.multiPath.getBoundingBox();
+            final Point2D location = part.multiPath.getComputedLocation();
+            if (null == box || null == location || !box.isValid()) {
+                bounded = false;
+                bounds = null;
+                return;
+            }
+            // Some room for the half of the stroke and the antialiasing.
+            final double pad = (part.strokeWidth / 2) + 2;
+            final BoundingBox partBounds = BoundingBox.fromDoubles(location.getX() + box.getMinX() - pad,
+                                                                   location.getY() + box.getMinY() - pad,
+                                                                   location.getX() + box.getMaxX() + pad,
+                                                                   location.getY() + box.getMaxY() + pad);
+            if (null == bounds) {
+                bounds = partBounds;
+            } else {
+                bounds.addBoundingBox(partBounds);
+            }
+        }
+
+        private boolean contains(final double x, final double y) {
+            return x >= bounds.getMinX() && x <= bounds.getMaxX() && y >= bounds.getMinY() && y <= bounds.getMaxY();
+        }
+
+        private boolean isUnchanged() {
+            // The shape's path may have been replaced, even if the new one looks the same.
+            if (null == path || path != shape.getPath()) {
+                return false;
+            }
+            for (final Part part : parts) {
+                if (!part.isUnchanged()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     public static final class PickerOptions {
 
         private final NFastArrayList<WiresContainer> shapesToSkip;
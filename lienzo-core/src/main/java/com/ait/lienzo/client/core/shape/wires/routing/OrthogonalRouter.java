@@ -0,0 +1,634 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires.routing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Point2DArray;
+import com.ait.lienzo.shared.core.types.Direction;
+
+/**
+ * Finds orthogonal routes between two points which do not cross a set of rectangular obstacles.
+ * <p>
+ * The obstacles are expanded by the padding, and a sparse grid is built from their edges and both route ends,
+ * so only the coordinates where a route may have to bend are considered. An A* search over that grid finds the
+ * route with the minimum number of bends, and the shortest one among those.
+ * <p>
+ * Routes leave the head, and enter the tail, along the given directions, with a straight segment of padding
+ * length. Corner directions resolve to WEST on the left and EAST on the right, as in
+ * {@link com.ait.lienzo.client.core.shape.OrthogonalPolyLine}, and NONE allows any direction.
+ */
+public class OrthogonalRouter {
+
+    public static final double DEFAULT_PADDING = 10;
+
+    // Bounds the work for a single route, so huge diagrams fall back to the default line drawing.
+    private static final int MAX_STATES = 1 << 20;
+
+    private static final int NONE = -1;
+
+    private static final int NORTH = 0;
+
+    private static final int EAST = 1;
+
+    private static final int SOUTH = 2;
+
+    private static final int WEST = 3;
+
+    private static final double[] NOT_FOUND = new double[0];
+
+    private static final int[] DX = {0, 1, 0, -1};
+
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    private static final int[] BENDS = bendsTable();
+
+    private final double m_padding;
+
+    public OrthogonalRouter() {
+        this(DEFAULT_PADDING);
+    }
+
+    public OrthogonalRouter(final double padding) {
+        m_padding = padding;
+    }
+
+    public double getPadding() {
+        return m_padding;
+    }
+
+    /**
+     * Finds a route from the head to the tail.
+     *
+     * @param obstacles The bounds to avoid, in the same coordinate space as the head and tail.
+     * @param head The head point.
+     * @param headDirection The direction the route leaves the head to.
+     * @param tail The tail point.
+     * @param tailDirection The direction, from the tail, the route enters the tail from.
+     * @return The points for the route, including the head and tail, or null if there is no route.
+     */
+    public Point2DArray route(final List<BoundingBox> obstacles, final Point2D head, final Direction headDirection, final Point2D tail, final Direction tailDirection) {
+        final int size = obstacles.size();
+
+        final double[] boxes = new double[size * 4];
+
+        for (int i = 0; i < size; i++) {
+            final BoundingBox box = obstacles.get(i);
+
+            boxes[i * 4] = box.getMinX();
+
+            boxes[i * 4 + 1] = box.getMinY();
+
+            boxes[i * 4 + 2] = box.getMaxX();
+
+            boxes[i * 4 + 3] = box.getMaxY();
+        }
+        final double[] route = route(boxes, head.getX(), head.getY(), toIndex(headDirection), tail.getX(), tail.getY(), toIndex(tailDirection));
+
+        if (null == route) {
+            return null;
+        }
+        final Point2DArray points = new Point2DArray();
+
+        for (int i = 0; i < route.length; i += 2) {
+            points.pushXY(route[i], route[i + 1]);
+        }
+        return points;
+    }
+
+    /**
+     * @param boxes The obstacle bounds, as minx, miny, maxx and maxy for each one.
+     * @return The route, as x and y for each point, or null if there is no route.
+     */
+    double[] route(final double[] boxes, final double hx, final double hy, final int hd, final double tx, final double ty, final int td) {
+        final double sx = (hd == NONE) ? hx : hx + (DX[hd] * m_padding);
+
+        final double sy = (hd == NONE) ? hy : hy + (DY[hd] * m_padding);
+
+        final double gx = (td == NONE) ? tx : tx + (DX[td] * m_padding);
+
+        final double gy = (td == NONE) ? ty : ty + (DY[td] * m_padding);
+
+        // The extent of all the padded obstacles and both route ends.
+        double ex0 = Math.min(sx, gx);
+
+        double ey0 = Math.min(sy, gy);
+
+        double ex1 = Math.max(sx, gx);
+
+        double ey1 = Math.max(sy, gy);
+
+        for (int i = 0; i < boxes.length; i += 4) {
+            ex0 = Math.min(ex0, boxes[i] - m_padding);
+
+            ey0 = Math.min(ey0, boxes[i + 1] - m_padding);
+
+            ex1 = Math.max(ex1, boxes[i + 2] + m_padding);
+
+            ey1 = Math.max(ey1, boxes[i + 3] + m_padding);
+        }
+        // Most routes stay close to their ends, so first look for one inside a window around them, only
+        // considering the obstacles in there, and keep growing the window while no route is found.
+        double margin = Math.max(m_padding * 8, (Math.abs(gx - sx) + Math.abs(gy - sy)) / 2);
+
+        while (true) {
+            final double wx0 = Math.min(sx, gx) - margin;
+
+            final double wy0 = Math.min(sy, gy) - margin;
+
+            final double wx1 = Math.max(sx, gx) + margin;
+
+            final double wy1 = Math.max(sy, gy) + margin;
+
+            final double[] route = search(boxes, hx, hy, hd, sx, sy, tx, ty, td, gx, gy, wx0, wy0, wx1, wy1);
+
+            if (route != NOT_FOUND) {
+                return route;
+            }
+            if ((wx0 <= ex0) && (wy0 <= ey0) && (wx1 >= ex1) && (wy1 >= ey1)) {
+                return null;
+            }
+            margin *= 2;
+        }
+    }
+
+    private double[] search(final double[] boxes, final double hx, final double hy, final int hd, final double sx, final double sy, final double tx, final double ty, final int td, final double gx, final double gy, final double wx0, final double wy0, final double wx1, final double wy1) {
+        // Padded obstacles in the window, skipping the ones the route must start or end inside of.
+        final int count = boxes.length / 4;
+
+        final double[] padded = new double[count * 4];
+
+        int kept = 0;
+
+        for (int i = 0; i < count; i++) {
+            final double minx = boxes[i * 4] - m_padding;
+
+            final double miny = boxes[i * 4 + 1] - m_padding;
+
+            final double maxx = boxes[i * 4 + 2] + m_padding;
+
+            final double maxy = boxes[i * 4 + 3] + m_padding;
+
+            if ((maxx <= minx) || (maxy <= miny) || (minx > wx1) || (maxx < wx0) || (miny > wy1) || (maxy < wy0) || inside(sx, sy, minx, miny, maxx, maxy) || inside(gx, gy, minx, miny, maxx, maxy)) {
+                continue;
+            }
+            padded[kept * 4] = minx;
+
+            padded[kept * 4 + 1] = miny;
+
+            padded[kept * 4 + 2] = maxx;
+
+            padded[kept * 4 + 3] = maxy;
+
+            kept++;
+        }
+        final double[] xs = coordinates(padded, kept, 0, sx, gx);
+
+        final double[] ys = coordinates(padded, kept, 1, sy, gy);
+
+        final int nx = xs.length;
+
+        final int ny = ys.length;
+
+        if ((((double) nx) * ny * 4) >= MAX_STATES) {
+            return null;
+        }
+        final int nodes = nx * ny;
+
+        // Edges running through the interior of some obstacle, as 2D difference arrays so each obstacle costs O(1).
+        // Horizontal edges go from (i, j) to (i + 1, j), and vertical ones from (i, j) to (i, j + 1).
+        final int[] hblocked = new int[(nx + 1) * (ny + 1)];
+
+        final int[] vblocked = new int[(nx + 1) * (ny + 1)];
+
+        for (int k = 0; k < kept; k++) {
+            final int i0 = Arrays.binarySearch(xs, padded[k * 4]);
+
+            final int j0 = Arrays.binarySearch(ys, padded[k * 4 + 1]);
+
+            final int i1 = Arrays.binarySearch(xs, padded[k * 4 + 2]);
+
+            final int j1 = Arrays.binarySearch(ys, padded[k * 4 + 3]);
+
+            mark(hblocked, nx + 1, i0, j0 + 1, i1 - 1, j1 - 1);
+
+            mark(vblocked, nx + 1, i0 + 1, j0, i1 - 1, j1 - 1);
+        }
+        accumulate(hblocked, nx + 1, ny + 1);
+
+        accumulate(vblocked, nx + 1, ny + 1);
+
+        final int start = Arrays.binarySearch(ys, sy) * nx + Arrays.binarySearch(xs, sx);
+
+        final int goal = Arrays.binarySearch(ys, gy) * nx + Arrays.binarySearch(xs, gx);
+
+        // The direction the route must be heading to once at the goal, or NONE if any.
+        final int arrival = (td == NONE) ? NONE : opposite(td);
+
+        // A bend costs more than any bend free route, so the number of bends is minimized first.
+        final double penalty = (xs[nx - 1] - xs[0]) + (ys[ny - 1] - ys[0]) + 1;
+
+        // States are a node and the direction the route was heading to when reaching it, plus a final one.
+        final int states = nodes * 4;
+
+        final int done = states;
+
+        final double[] cost = new double[states + 1];
+
+        final int[] previous = new int[states + 1];
+
+        final boolean[] closed = new boolean[states + 1];
+
+        Arrays.fill(cost, Double.MAX_VALUE);
+
+        final Heap heap = new Heap();
+
+        for (int d = 0; d < 4; d++) {
+            if ((hd == NONE) || (hd == d)) {
+                final int state = start * 4 + d;
+
+                cost[state] = 0;
+
+                previous[state] = NONE;
+
+                heap.push(state, estimate(xs[start % nx], ys[start / nx], d, gx, gy, arrival, penalty));
+            }
+        }
+        while (!heap.isEmpty()) {
+            final int state = heap.pop();
+
+            if (closed[state]) {
+                continue;
+            }
+            closed[state] = true;
+
+            if (state == done) {
+                return path(xs, ys, nx, previous, done, hx, hy, tx, ty);
+            }
+            final int node = state >> 2;
+
+            final int d = state & 3;
+
+            final int i = node % nx;
+
+            final int j = node / nx;
+
+            final double g = cost[state];
+
+            if (node == goal) {
+                relax(cost, previous, closed, heap, state, done, g + (bends(d, arrival) * penalty), 0);
+            }
+            for (int nd = 0; nd < 4; nd++) {
+                if (nd == opposite(d)) {
+                    continue;
+                }
+                final int ni = i + DX[nd];
+
+                final int nj = j + DY[nd];
+
+                if ((ni < 0) || (nj < 0) || (ni >= nx) || (nj >= ny) || (xs[ni] < wx0) || (xs[ni] > wx1) || (ys[nj] < wy0) || (ys[nj] > wy1)) {
+                    continue;
+                }
+                if (((nd == EAST) && (hblocked[j * (nx + 1) + i] > 0)) || ((nd == WEST) && (hblocked[j * (nx + 1) + ni] > 0)) || ((nd == SOUTH) && (vblocked[j * (nx + 1) + i] > 0)) || ((nd == NORTH) && (vblocked[nj * (nx + 1) + i] > 0))) {
+                    continue;
+                }
+                final double length = Math.abs(xs[ni] - xs[i]) + Math.abs(ys[nj] - ys[j]);
+
+                final int next = (nj * nx + ni) * 4 + nd;
+
+                final double ng = g + length + ((nd != d) ? penalty : 0);
+
+                relax(cost, previous, closed, heap, state, next, ng, estimate(xs[ni], ys[nj], nd, gx, gy, arrival, penalty));
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static void relax(final double[] cost, final int[] previous, final boolean[] closed, final Heap heap, final int from, final int to, final double g, final double h) {
+        if ((!closed[to]) && (g < cost[to])) {
+            cost[to] = g;
+
+            previous[to] = from;
+
+            heap.push(to, g + h);
+        }
+    }
+
+    private static double estimate(final double x, final double y, final int d, final double gx, final double gy, final int arrival, final double penalty) {
+        final double dx = gx - x;
+
+        final double dy = gy - y;
+
+        final int bends = BENDS[(((((int) Math.signum(dx) + 1) * 3) + ((int) Math.signum(dy) + 1)) * 4 + d) * 5 + ((arrival == NONE) ? 4 : arrival)];
+
+        return Math.abs(dx) + Math.abs(dy) + (bends * penalty);
+    }
+
+    /**
+     * The minimum number of bends to reach the goal without obstacles, by the side of the goal relative to the
+     * current point, the current direction and the arrival direction, or any if 4. It only depends on the side,
+     * so it is computed once over a tiny grid with room around both points, using the same rules as the search.
+     */
+    private static int[] bendsTable() {
+        final int size = 9;
+
+        final int[] table = new int[3 * 3 * 4 * 5];
+
+        final int[] bends = new int[size * size * 4];
+
+        for (int sx = -1; sx <= 1; sx++) {
+            for (int sy = -1; sy <= 1; sy++) {
+                final int goal = (4 + sy * 2) * size + (4 + sx * 2);
+
+                for (int d = 0; d < 4; d++) {
+                    Arrays.fill(bends, Integer.MAX_VALUE);
+
+                    bends[(4 * size + 4) * 4 + d] = 0;
+
+                    // Bellman-Ford like relaxation, which is fine for such a small grid.
+                    boolean changed = true;
+
+                    while (changed) {
+                        changed = false;
+
+                        for (int state = 0; state < bends.length; state++) {
+                            if (bends[state] == Integer.MAX_VALUE) {
+                                continue;
+                            }
+                            final int node = state >> 2;
+
+                            final int cd = state & 3;
+
+                            for (int nd = 0; nd < 4; nd++) {
+                                final int ni = (node % size) + DX[nd];
+
+                                final int nj = (node / size) + DY[nd];
+
+                                if ((nd == opposite(cd)) || (ni < 0) || (nj < 0) || (ni >= size) || (nj >= size)) {
+                                    continue;
+                                }
+                                final int next = (nj * size + ni) * 4 + nd;
+
+                                final int nb = bends[state] + ((nd != cd) ? 1 : 0);
+
+                                if (nb < bends[next]) {
+                                    bends[next] = nb;
+
+                                    changed = true;
+                                }
+                            }
+                        }
+                    }
+                    for (int a = 0; a < 5; a++) {
+                        int min = Integer.MAX_VALUE;
+
+                        for (int cd = 0; cd < 4; cd++) {
+                            if (bends[goal * 4 + cd] != Integer.MAX_VALUE) {
+                                min = Math.min(min, bends[goal * 4 + cd] + bends(cd, (a == 4) ? NONE : a));
+                            }
+                        }
+                        table[((((sx + 1) * 3) + (sy + 1)) * 4 + d) * 5 + a] = min;
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
+    private static int bends(final int d, final int arrival) {
+        if ((arrival == NONE) || (d == arrival)) {
+            return 0;
+        }
+        return (d == opposite(arrival)) ? 2 : 1;
+    }
+
+    private static double[] path(final double[] xs, final double[] ys, final int nx, final int[] previous, final int done, final double hx, final double hy, final double tx, final double ty) {
+        // Walks back from the goal, keeping the nodes where the direction changes.
+        final double[] reversed = new double[(previous.length + 2) * 2];
+
+        int size = 0;
+
+        reversed[size++] = tx;
+
+        reversed[size++] = ty;
+
+        int state = previous[done];
+
+        int last = NONE;
+
+        while (state != NONE) {
+            final int node = state >> 2;
+
+            final int d = state & 3;
+
+            if ((d != last) || (previous[state] == NONE)) {
+                reversed[size++] = xs[node % nx];
+
+                reversed[size++] = ys[node / nx];
+            }
+            last = d;
+
+            state = previous[state];
+        }
+        reversed[size++] = hx;
+
+        reversed[size++] = hy;
+
+        return simplify(reversed, size);
+    }
+
+    // Reverses the points, dropping the duplicated and collinear ones.
+    private static double[] simplify(final double[] reversed, final int size) {
+        final double[] points = new double[size];
+
+        int length = 0;
+
+        for (int k = size - 2; k >= 0; k -= 2) {
+            final double x = reversed[k];
+
+            final double y = reversed[k + 1];
+
+            if ((length >= 2) && (points[length - 2] == x) && (points[length - 1] == y)) {
+                continue;
+            }
+            if ((length >= 4) && (((points[length - 4] == points[length - 2]) && (points[length - 2] == x)) || ((points[length - 3] == points[length - 1]) && (points[length - 1] == y)))) {
+                length -= 2;
+            }
+            points[length++] = x;
+
+            points[length++] = y;
+        }
+        return Arrays.copyOf(points, length);
+    }
+
+    private static boolean inside(final double x, final double y, final double minx, final double miny, final double maxx, final double maxy) {
+        return (x > minx) && (x < maxx) && (y > miny) && (y < maxy);
+    }
+
+    // The sorted and unique coordinates, on the given axis, for the obstacle edges and the route ends.
+    private static double[] coordinates(final double[] padded, final int kept, final int axis, final double s, final double g) {
+        final double[] values = new double[kept * 2 + 2];
+
+        for (int k = 0; k < kept; k++) {
+            values[k * 2] = padded[k * 4 + axis];
+
+            values[k * 2 + 1] = padded[k * 4 + axis + 2];
+        }
+        values[kept * 2] = s;
+
+        values[kept * 2 + 1] = g;
+
+        Arrays.sort(values);
+
+        int length = 0;
+
+        for (int k = 0; k < values.length; k++) {
+            if ((length == 0) || (values[k] != values[length - 1])) {
+                values[length++] = values[k];
+            }
+        }
+        return Arrays.copyOf(values, length);
+    }
+
+    private static void mark(final int[] diff, final int width, final int i0, final int j0, final int i1, final int j1) {
+        if ((i0 > i1) || (j0 > j1)) {
+            return;
+        }
+        diff[j0 * width + i0]++;
+
+        diff[j0 * width + i1 + 1]--;
+
+        diff[(j1 + 1) * width + i0]--;
+
+        diff[(j1 + 1) * width + i1 + 1]++;
+    }
+
+    private static void accumulate(final int[] diff, final int width, final int height) {
+        for (int j = 0; j < height; j++) {
+            for (int i = 1; i < width; i++) {
+                diff[j * width + i] += diff[j * width + i - 1];
+            }
+        }
+        for (int j = 1; j < height; j++) {
+            for (int i = 0; i < width; i++) {
+                diff[j * width + i] += diff[(j - 1) * width + i];
+            }
+        }
+    }
+
+    private static int opposite(final int d) {
+        return (d + 2) & 3;
+    }
+
+    private static int toIndex(final Direction direction) {
+        if (null == direction) {
+            return NONE;
+        }
+        switch (direction) {
+            case NORTH:
+                return NORTH;
+            case EAST:
+            case NORTH_EAST:
+            case SOUTH_EAST:
+                return EAST;
+            case SOUTH:
+                return SOUTH;
+            case WEST:
+            case NORTH_WEST:
+            case SOUTH_WEST:
+                return WEST;
+            default:
+                return NONE;
+        }
+    }
+
+    // A binary min heap of states, keyed by their estimated cost.
+    private static final class Heap {
+
+        private int[] m_states = new int[64];
+
+        private double[] m_keys = new double[64];
+
+        private int m_size;
+
+        private boolean isEmpty() {
+            return m_size == 0;
+        }
+
+        private void push(final int state, final double key) {
+            if (m_size == m_states.length) {
+                m_states = Arrays.copyOf(m_states, m_size * 2);
+
+                m_keys = Arrays.copyOf(m_keys, m_size * 2);
+            }
+            int i = m_size++;
+
+            while (i > 0) {
+                final int parent = (i - 1) >> 1;
+
+                if (m_keys[parent] <= key) {
+                    break;
+                }
+                m_states[i] = m_states[parent];
+
+                m_keys[i] = m_keys[parent];
+
+                i = parent;
+            }
+            m_states[i] = state;
+
+            m_keys[i] = key;
+        }
+
+        private int pop() {
+            final int top = m_states[0];
+
+            final int state = m_states[--m_size];
+
+            final double key = m_keys[m_size];
+
+            int i = 0;
+
+            while (true) {
+                int child = (i << 1) + 1;
+
+                if (child >= m_size) {
+                    break;
+                }
+                if ((child + 1 < m_size) && (m_keys[child + 1] < m_keys[child])) {
+                    child++;
+                }
+                if (m_keys[child] >= key) {
+                    break;
+                }
+                m_states[i] = m_states[child];
+
+                m_keys[i] = m_keys[child];
+
+                i = child;
+            }
+            m_states[i] = state;
+
+            m_keys[i] = key;
+
+            return top;
+        }
+    }
+}
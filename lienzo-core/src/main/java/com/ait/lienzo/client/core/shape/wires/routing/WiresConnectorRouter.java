@@ -0,0 +1,320 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.wires.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ait.lienzo.client.core.shape.OrthogonalPolyLine;
+import com.ait.lienzo.client.core.shape.wires.WiresConnector;
+import com.ait.lienzo.client.core.shape.wires.WiresManager;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Point2DArray;
+import com.ait.lienzo.shared.core.types.Direction;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+
+/**
+ * Keeps the routes for the connectors using {@link WiresConnector.RoutingMode#AVOID_SHAPES} up to date.
+ * <p>
+ * Shapes notify their moves, and right before drawing the layer (see {@link #update()}) only the connectors
+ * affected by those moves are routed again: the ones which head or tail have changed, and the ones which route
+ * passes close to the previous or current bounds of some moved shape. The shape bounds are tracked here,
+ * so the rest of the routes are kept as they are, even while dragging.
+ */
+public class WiresConnectorRouter {
+
+    private final WiresManager m_manager;
+
+    private final OrthogonalRouter m_router;
+
+    private final Map<String, Route> m_routes = new HashMap<>();
+
+    private final Map<String, BoundingBox> m_bounds = new HashMap<>();
+
+    private final Set<String> m_moved = new HashSet<>();
+
+    private long m_lastDuration;
+
+    private int m_lastRouted;
+
+    private long m_totalDuration;
+
+    private int m_totalRouted;
+
+    private int m_updates;
+
+    public WiresConnectorRouter(final WiresManager manager) {
+        this(manager, new OrthogonalRouter());
+    }
+
+    public WiresConnectorRouter(final WiresManager manager, final OrthogonalRouter router) {
+        m_manager = manager;
+
+        m_router = router;
+    }
+
+    public OrthogonalRouter getRouter() {
+        return m_router;
+    }
+
+    /**
+     * Notifies the location or size for the given shape may have changed, or it has been added or removed.
+     */
+    public void shapeMoved(final WiresShape shape) {
+        if (!m_bounds.isEmpty()) {
+            m_moved.add(shape.uuid());
+        }
+    }
+
+    public void connectorRemoved(final WiresConnector connector) {
+        m_routes.remove(connector.uuid());
+    }
+
+    /**
+     * Routes again the connectors affected by the changes since the last update.
+     *
+     * @return The number of connectors routed.
+     */
+    public int update() {
+        final NFastArrayList<WiresConnector> connectors = m_manager.getConnectorList();
+
+        final List<WiresConnector> routed = new ArrayList<>();
+
+        for (int i = 0, size = connectors.size(); i < size; i++) {
+            final WiresConnector connector = connectors.get(i);
+
+            if (connector.isRouted()) {
+                routed.add(connector);
+            }
+        }
+        if (routed.isEmpty()) {
+            // Nothing to keep up to date, so stop tracking the shapes.
+            m_routes.clear();
+
+            m_bounds.clear();
+
+            m_moved.clear();
+
+            return 0;
+        }
+        final long begin = System.currentTimeMillis();
+
+        final List<BoundingBox> dirty = new ArrayList<>();
+
+        if (m_bounds.isEmpty()) {
+            final WiresShape[] shapes = m_manager.getShapes();
+
+            for (final WiresShape shape : shapes) {
+                m_bounds.put(shape.uuid(), getBounds(shape));
+            }
+            m_routes.clear();
+        } else {
+            for (final String uuid : m_moved) {
+                final BoundingBox previous = m_bounds.remove(uuid);
+
+                if (null != previous) {
+                    dirty.add(previous);
+                }
+                final WiresShape shape = m_manager.getShape(uuid);
+
+                if (null != shape) {
+                    final BoundingBox current = getBounds(shape);
+
+                    m_bounds.put(uuid, current);
+
+                    dirty.add(current);
+                }
+            }
+        }
+        m_moved.clear();
+
+        final List<BoundingBox> obstacles = new ArrayList<>(m_bounds.values());
+
+        int count = 0;
+
+        for (final WiresConnector connector : routed) {
+            final OrthogonalPolyLine line = (OrthogonalPolyLine) connector.getLine();
+
+            final Point2DArray points = line.getControlPoints();
+
+            if (points.size() < 2) {
+                continue;
+            }
+            final Point2D head = points.get(0);
+
+            final Point2D tail = points.get(points.size() - 1);
+
+            final Route route = m_routes.get(connector.uuid());
+
+            final Point2D offset = line.getComputedLocation();
+
+            if ((null != route) && route.isValid(line, head, tail) && !route.intersects(dirty, offset, m_router.getPadding())) {
+                continue;
+            }
+            final Point2DArray routePoints = m_router.route(obstacles,
+                                                            new Point2D(head.getX() + offset.getX(), head.getY() + offset.getY()),
+                                                            line.getHeadDirection(),
+                                                            new Point2D(tail.getX() + offset.getX(), tail.getY() + offset.getY()),
+                                                            line.getTailDirection());
+            if (null != routePoints) {
+                for (int i = 0; i < routePoints.size(); i++) {
+                    final Point2D point = routePoints.get(i);
+
+                    point.setX(point.getX() - offset.getX());
+
+                    point.setY(point.getY() - offset.getY());
+                }
+                // Same ends as the control points, regardless of any rounding on the offset.
+                routePoints.set(0, head.copy());
+
+                routePoints.set(routePoints.size() - 1, tail.copy());
+            }
+            m_routes.put(connector.uuid(), new Route(routePoints, head, tail, line.getHeadDirection(), line.getTailDirection()));
+
+            line.setRoutedPoints(routePoints);
+
+            count++;
+        }
+        m_lastDuration = System.currentTimeMillis() - begin;
+
+        m_lastRouted = count;
+
+        if (count > 0) {
+            m_totalDuration += m_lastDuration;
+
+            m_totalRouted += count;
+
+            m_updates++;
+        }
+        return count;
+    }
+
+    /**
+     * @return The time spent, in milliseconds, on the last update.
+     */
+    public long getLastUpdateDuration() {
+        return m_lastDuration;
+    }
+
+    /**
+     * @return The number of connectors routed on the last update.
+     */
+    public int getLastRoutedCount() {
+        return m_lastRouted;
+    }
+
+    /**
+     * @return The time spent, in milliseconds, on all the updates which routed some connector, since the last reset.
+     */
+    public long getTotalUpdateDuration() {
+        return m_totalDuration;
+    }
+
+    /**
+     * @return The number of connectors routed since the last reset.
+     */
+    public int getTotalRoutedCount() {
+        return m_totalRouted;
+    }
+
+    /**
+     * @return The number of updates which routed some connector since the last reset.
+     */
+    public int getUpdateCount() {
+        return m_updates;
+    }
+
+    public void resetStats() {
+        m_totalDuration = 0;
+
+        m_totalRouted = 0;
+
+        m_updates = 0;
+    }
+
+    private static BoundingBox getBounds(final WiresShape shape) {
+        return shape.getPath().getComputedBoundingPoints().getBoundingBox();
+    }
+
+    private static final class Route {
+
+        private final Point2DArray points;
+
+        private final Point2D head;
+
+        private final Point2D tail;
+
+        private final Direction headDirection;
+
+        private final Direction tailDirection;
+
+        private Route(final Point2DArray points, final Point2D head, final Point2D tail, final Direction headDirection, final Direction tailDirection) {
+            this.points = points;
+
+            this.head = head.copy();
+
+            this.tail = tail.copy();
+
+            this.headDirection = headDirection;
+
+            this.tailDirection = tailDirection;
+        }
+
+        private boolean isValid(final OrthogonalPolyLine line, final Point2D lineHead, final Point2D lineTail) {
+            return (line.getRoutedPoints() == points) && head.equals(lineHead) && tail.equals(lineTail) && (headDirection == line.getHeadDirection()) && (tailDirection == line.getTailDirection());
+        }
+
+        // Whether some segment passes close enough to the given bounds to be affected by them.
+        private boolean intersects(final List<BoundingBox> boxes, final Point2D offset, final double padding) {
+            if (boxes.isEmpty()) {
+                return false;
+            }
+            if (null == points) {
+                // No route was found, so any change may allow one now.
+                return true;
+            }
+            for (int i = 0; i < points.size() - 1; i++) {
+                final Point2D p0 = points.get(i);
+
+                final Point2D p1 = points.get(i + 1);
+
+                final double minx = Math.min(p0.getX(), p1.getX()) + offset.getX();
+
+                final double miny = Math.min(p0.getY(), p1.getY()) + offset.getY();
+
+                final double maxx = Math.max(p0.getX(), p1.getX()) + offset.getX();
+
+                final double maxy = Math.max(p0.getY(), p1.getY()) + offset.getY();
+
+                for (int j = 0; j < boxes.size(); j++) {
+                    final BoundingBox box = boxes.get(j);
+
+                    if ((minx <= box.getMaxX() + padding) && (maxx >= box.getMinX() - padding) && (miny <= box.getMaxY() + padding) && (maxy >= box.getMinY() - padding)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
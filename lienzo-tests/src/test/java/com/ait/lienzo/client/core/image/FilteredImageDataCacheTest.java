@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.image;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import elemental2.dom.ImageData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class FilteredImageDataCacheTest {
+
+    private static final String SRC = "image.png";
+
+    // Room for two 10x10 images.
+    private static final int MAX_BYTES = 2 * 10 * 10 * 4;
+
+    private FilteredImageDataCache tested;
+
+    @Before
+    public void setup() {
+        tested = new FilteredImageDataCache(MAX_BYTES);
+    }
+
+    @Test
+    public void testImageIdIsSharedBySource() {
+        assertSame(tested.getImageId(SRC), tested.getImageId(SRC));
+        assertNotSame(tested.getImageId(SRC), tested.getImageId("other.png"));
+    }
+
+    @Test
+    public void testKey() {
+        final FilteredImageDataCache.ImageId id = tested.getImageId(SRC);
+        final FilteredImageDataCache.Key key = key(id, 10, "invert");
+
+        assertEquals(key, key(id, 10, "invert"));
+        assertEquals(key.hashCode(), key(id, 10, "invert").hashCode());
+        assertNotEquals(key, key(id, 20, "invert"));
+        assertNotEquals(key, key(id, 10, "brightness(0.5)"));
+        assertNotEquals(key, key(tested.getImageId("other.png"), 10, "invert"));
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final FilteredImageDataCache.Key key = key(tested.getImageId(SRC), 10, "invert");
+        final ImageData data = imageData(10);
+
+        tested.put(key, data);
+
+        assertSame(data, tested.get(key(tested.getImageId(SRC), 10, "invert")));
+        assertEquals(400, tested.getBytes());
+    }
+
+    @Test
+    public void testBoundedByBytes() {
+        final FilteredImageDataCache.ImageId id = tested.getImageId(SRC);
+        final FilteredImageDataCache.Key first = key(id, 10, "first");
+        final FilteredImageDataCache.Key second = key(id, 10, "second");
+        final FilteredImageDataCache.Key third = key(id, 10, "third");
+
+        tested.put(first, imageData(10));
+        tested.put(second, imageData(10));
+        tested.get(first);
+        tested.put(third, imageData(10));
+
+        assertEquals(2, tested.size());
+        assertEquals(MAX_BYTES, tested.getBytes());
+        assertNull(tested.get(second));
+    }
+
+    @Test
+    public void testLargerThanCacheNotKept() {
+        tested.put(key(tested.getImageId(SRC), 20, "invert"), imageData(20));
+
+        assertEquals(0, tested.size());
+        assertEquals(0, tested.getBytes());
+    }
+
+    @Test
+    public void testReplaceEntry() {
+        final FilteredImageDataCache.Key key = key(tested.getImageId(SRC), 10, "invert");
+
+        tested.put(key, imageData(10));
+        tested.put(key, imageData(5));
+
+        assertEquals(1, tested.size());
+        assertEquals(100, tested.getBytes());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final FilteredImageDataCache.ImageId id = tested.getImageId(SRC);
+        final FilteredImageDataCache.ImageId other = tested.getImageId("other.png");
+        final FilteredImageDataCache.Key key = key(id, 10, "invert");
+
+        tested.put(key, imageData(10));
+        tested.put(key(other, 10, "invert"), imageData(10));
+        tested.invalidate(SRC);
+
+        assertNull(tested.get(key));
+        assertEquals(1, tested.size());
+        assertEquals(400, tested.getBytes());
+        assertNotSame(id, tested.getImageId(SRC));
+
+        // Images loaded before the source changed are no longer cached.
+        tested.put(key, imageData(10));
+        assertNull(tested.get(key));
+    }
+
+    @Test
+    public void testSourceReleasedWhenEvicted() {
+        final FilteredImageDataCache.ImageId id = tested.getImageId(SRC);
+
+        tested.put(key(id, 10, "first"), imageData(10));
+        tested.put(key(tested.getImageId("other.png"), 10, "first"), imageData(10));
+        tested.put(key(tested.getImageId("other.png"), 10, "second"), imageData(10));
+
+        assertNotSame(id, tested.getImageId(SRC));
+    }
+
+    private static FilteredImageDataCache.Key key(final FilteredImageDataCache.ImageId id, final int size, final String signature) {
+        return new FilteredImageDataCache.Key(id, 0, 0, size, size, size, size, signature);
+    }
+
+    private static ImageData imageData(final int size) {
+        final ImageData data = mock(ImageData.class);
+        data.width = size;
+        data.height = size;
+        return data;
+    }
+}
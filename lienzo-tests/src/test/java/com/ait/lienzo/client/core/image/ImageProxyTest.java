@@ -16,6 +16,7 @@
 
 package com.ait.lienzo.client.core.image;
 
+import com.ait.lienzo.client.core.image.filter.InvertColorImageDataFilter;
 import com.ait.lienzo.client.core.shape.AbstractImageShape;
 import com.ait.lienzo.client.core.util.ScratchPad;
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -71,4 +73,16 @@ public class ImageProxyTest {
         verify(selectImage, times(1)).clear();
         assertTrue(tested.getFilters().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNoFilteredCacheKeyUntilLoaded() {
+        tested.setFilters(new InvertColorImageDataFilter());
+
+        assertNull(tested.getFilteredCacheKey(tested.getFilterChain()));
+    }
+
+    @Test
+    public void testNoFilteredCacheKeyForOtherFilters() {
+        assertNull(tested.getFilteredCacheKey(new InvertColorImageDataFilter()));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.image.filter;
+
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.google.gwtmockito.WithClassesToStub;
+import elemental2.core.JsArray;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(LienzoMockitoTestRunner.class)
+@WithClassesToStub(JsArray.class)
+public class ImageDataFilterChainTest {
+
+    @Test
+    public void testComposeTablesWithoutFirst() {
+        final int[] table = identity();
+
+        assertSame(table, ImageDataFilterChain.composeTables(null, table));
+    }
+
+    @Test
+    public void testComposeTables() {
+        final int[] invert = new int[256];
+        final int[] half = new int[256];
+        for (int i = 0; i < 256; i++) {
+            invert[i] = 255 - i;
+            half[i] = i / 2;
+        }
+
+        final int[] table = ImageDataFilterChain.composeTables(invert, half);
+
+        for (int i = 0; i < 256; i++) {
+            assertEquals(half[invert[i]], table[i]);
+        }
+    }
+
+    @Test
+    public void testComposeTablesClampsFirst() {
+        final int[] first = new int[256];
+        for (int i = 0; i < 256; i++) {
+            first[i] = i - 128;
+        }
+        first[255] = 300;
+
+        final int[] table = ImageDataFilterChain.composeTables(first, identity());
+
+        assertEquals(0, table[0]);
+        assertEquals(0, table[128]);
+        assertEquals(126, table[254]);
+        assertEquals(255, table[255]);
+    }
+
+    @Test
+    public void testComposeTablesDoesNotChangeFilterTables() {
+        final int[] first = identity();
+        final int[] second = identity();
+        second[0] = 10;
+
+        final int[] table = ImageDataFilterChain.composeTables(first, second);
+
+        assertEquals(10, table[0]);
+        assertEquals(0, first[0]);
+    }
+
+    @Test
+    public void testSignature() {
+        final InvertColorImageDataFilter invert = new InvertColorImageDataFilter();
+        final BrightnessImageDataFilter brightness = new BrightnessImageDataFilter(0.5);
+        final ImageDataFilterChain chain = new ImageDataFilterChain(invert, brightness);
+
+        assertEquals(invert.getSignature() + "|" + brightness.getSignature(), chain.getSignature());
+
+        brightness.setValue(0.25);
+        assertEquals(invert.getSignature() + "|" + brightness.getSignature(), chain.getSignature());
+    }
+
+    @Test
+    public void testSignatureSkipsInactiveFilters() {
+        final InvertColorImageDataFilter invert = new InvertColorImageDataFilter();
+        final BrightnessImageDataFilter brightness = new BrightnessImageDataFilter(0.5);
+        final ImageDataFilterChain chain = new ImageDataFilterChain(invert, brightness);
+
+        brightness.setActive(false);
+
+        assertEquals(invert.getSignature(), chain.getSignature());
+    }
+
+    @Test
+    public void testNoSignatureForRandomFilters() {
+        final ImageDataFilterChain chain = new ImageDataFilterChain(new InvertColorImageDataFilter(), new DiffusionImageDataFilter(4));
+
+        assertNull(chain.getSignature());
+    }
+
+    @Test
+    public void testNoSignatureWhenInactive() {
+        final ImageDataFilterChain chain = new ImageDataFilterChain(new InvertColorImageDataFilter());
+
+        chain.setActive(false);
+
+        assertNull(chain.getSignature());
+    }
+
+    private static int[] identity() {
+        final int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = i;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class LayerSelectionTest {
+
+    @Mock
+    private Context2D context;
+
+    @Mock
+    private Context2D selectionContext;
+
+    @Mock
+    private Layer.SelectionLayer selection;
+
+    private Layer layer;
+    private Rectangle moved;
+    private Rectangle nested;
+
+    @Before
+    public void setUp() {
+        layer = spy(new Layer());
+        layer.setClearLayerBeforeDraw(false);
+        when(selection.getContext()).thenReturn(selectionContext);
+        doReturn(selection).when(layer).getSelectionLayer();
+        moved = mockDraw(spy(new Rectangle(10, 10)));
+        nested = mockDraw(spy(new Rectangle(10, 10)));
+        final Group group = new Group();
+        group.setX(100);
+        group.add(nested);
+        layer.add(moved);
+        layer.add(group);
+        frame();
+        assertEquals(1, layer.getSelectionFullDrawCount());
+        layer.resetSelectionDrawCounts();
+    }
+
+    @Test
+    public void testTrackedMove() {
+        moved.setX(50);
+        frame();
+        assertEquals(0, layer.getSelectionFullDrawCount());
+        assertEquals(1, layer.getSelectionPartialDrawCount());
+    }
+
+    @Test
+    public void testTrackedResize() {
+        moved.setWidth(50);
+        frame();
+        assertEquals(0, layer.getSelectionFullDrawCount());
+        assertEquals(1, layer.getSelectionPartialDrawCount());
+    }
+
+    @Test
+    public void testUntrackedChange() {
+        nested.setX(50);
+        frame();
+        assertEquals(1, layer.getSelectionFullDrawCount());
+        assertEquals(0, layer.getSelectionPartialDrawCount());
+    }
+
+    @Test
+    public void testTrackedAndUntrackedChangesInSameFrame() {
+        moved.setX(50);
+        nested.setX(50);
+        frame();
+        assertEquals(1, layer.getSelectionFullDrawCount());
+        assertEquals(0, layer.getSelectionPartialDrawCount());
+    }
+
+    @Test
+    public void testUntrackedDrawAfterTrackedDraw() {
+        moved.setX(50);
+        layer.draw(context);
+        // Some attribute changed, which is not tracked, and drawn before the next pick.
+        layer.draw(context);
+        layer.findShapeAtPoint(0, 0);
+        assertEquals(1, layer.getSelectionFullDrawCount());
+        assertEquals(0, layer.getSelectionPartialDrawCount());
+    }
+
+    @Test
+    public void testNoChanges() {
+        layer.findShapeAtPoint(0, 0);
+        assertEquals(0, layer.getSelectionFullDrawCount());
+        assertEquals(0, layer.getSelectionPartialDrawCount());
+    }
+
+    private void frame() {
+        layer.draw(context);
+        layer.findShapeAtPoint(0, 0);
+    }
+
+    private static Rectangle mockDraw(final Rectangle rectangle) {
+        doNothing().when(rectangle).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        return rectangle;
+    }
+}
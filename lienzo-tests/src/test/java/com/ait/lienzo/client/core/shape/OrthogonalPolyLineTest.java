@@ -48,6 +48,27 @@ public class OrthogonalPolyLineTest {
         assertTrue(polyLine.parse());
     }
 
+    @Test
+    public void testParseRoutedPoints() {
+        OrthogonalPolyLine polyLine = new OrthogonalPolyLine(new Point2D(0, 0), new Point2D(100, 50));
+        polyLine.setRoutedPoints(Point2DArray.fromArrayOfDouble(0, 0, 50, 0, 50, 50, 100, 50));
+
+        assertTrue(polyLine.parse());
+        assertEquals(4, polyLine.getComputedPoint2DArray().size());
+        assertEquals(new Point2D(50, 0), polyLine.getComputedPoint2DArray().get(1));
+        assertEquals(new Point2D(100, 50), polyLine.getTailOffsetPoint());
+    }
+
+    @Test
+    public void testParseIgnoresRoutedPointsOnceEndsChange() {
+        OrthogonalPolyLine polyLine = new OrthogonalPolyLine(new Point2D(0, 0), new Point2D(100, 50));
+        polyLine.setRoutedPoints(Point2DArray.fromArrayOfDouble(0, 0, 50, 0, 50, 50, 100, 50));
+        polyLine.setControlPoints(Point2DArray.fromArrayOfDouble(0, 0, 200, 50));
+
+        assertTrue(polyLine.parse());
+        assertEquals(new Point2D(200, 50), polyLine.getTailOffsetPoint());
+    }
+
     @Test
     public void testCorrectEndWithNorthOffset() {
         testCorrectEndWithOffset(NORTH, 3, 0);
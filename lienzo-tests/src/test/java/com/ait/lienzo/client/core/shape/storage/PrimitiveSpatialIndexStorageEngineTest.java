@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ait.lienzo.client.core.shape.storage;
+
+import com.ait.lienzo.client.core.Context2D;
+import com.ait.lienzo.client.core.shape.Circle;
+import com.ait.lienzo.client.core.shape.Group;
+import com.ait.lienzo.client.core.shape.IPrimitive;
+import com.ait.lienzo.client.core.shape.Rectangle;
+import com.ait.lienzo.client.core.shape.Text;
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.ait.lienzo.tools.client.collection.NFastArrayList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class PrimitiveSpatialIndexStorageEngineTest {
+
+    private static final BoundingBox VISIBLE = BoundingBox.fromDoubles(0, 0, 100, 100);
+
+    private PrimitiveSpatialIndexStorageEngine tested;
+    private Group group;
+    private Rectangle rect1;
+    private Rectangle rect2;
+    private Rectangle rect3;
+
+    @Before
+    public void setUp() {
+        tested = new PrimitiveSpatialIndexStorageEngine(100, 0);
+        group = new Group();
+        group.setStorageEngine(tested);
+        rect1 = new Rectangle(50, 50);
+        rect2 = new Rectangle(50, 50);
+        rect2.setX(1000).setY(1000);
+        rect3 = new Rectangle(50, 50);
+        rect3.setX(20).setY(20);
+        group.add(rect1);
+        group.add(rect2);
+        group.add(rect3);
+    }
+
+    @Test
+    public void testType() {
+        assertTrue(tested.isSpatiallyIndexed());
+        assertEquals(StorageEngineType.PRIMITIVE_SPATIAL_INDEX_STORAGE_ENGINE, tested.getStorageEngineType());
+    }
+
+    @Test
+    public void testGetChildrenInBounds() {
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertEquals(2, children.size());
+        assertSame(rect1, children.get(0));
+        assertSame(rect3, children.get(1));
+    }
+
+    @Test
+    public void testGetAllChildren() {
+        assertEquals(3, tested.getChildren(null).size());
+        assertEquals(3, tested.getChildren().size());
+    }
+
+    @Test
+    public void testRefreshOnMove() {
+        rect2.setX(10).setY(10);
+        rect1.setX(500);
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertEquals(2, children.size());
+        assertSame(rect2, children.get(0));
+        assertSame(rect3, children.get(1));
+    }
+
+    @Test
+    public void testRefreshOnResize() {
+        rect2.setX(-1000).setY(-1000);
+        assertEquals(2, tested.getChildren(VISIBLE).size());
+        rect2.setWidth(2000).setHeight(2000);
+        assertEquals(3, tested.getChildren(VISIBLE).size());
+    }
+
+    @Test
+    public void testRefreshOnRadiusChange() {
+        final Circle circle = new Circle(10);
+        circle.setX(-500).setY(-500);
+        group.add(circle);
+        assertEquals(2, tested.getChildren(VISIBLE).size());
+        circle.setRadius(600);
+        assertEquals(3, tested.getChildren(VISIBLE).size());
+    }
+
+    @Test
+    public void testRefreshOnTextChange() {
+        final PrimitiveSpatialIndexStorageEngine storage = spy(new PrimitiveSpatialIndexStorageEngine(100, 0));
+        final Group textGroup = new Group();
+        textGroup.setStorageEngine(storage);
+        final Text text = new Text("a");
+        textGroup.add(text);
+        text.setText("b");
+        text.setFontSize(20);
+        verify(storage, times(2)).refresh(text);
+    }
+
+    @Test
+    public void testRefreshNestedIndexedContainer() {
+        final Group inner = new Group();
+        inner.setStorageEngine(new PrimitiveSpatialIndexStorageEngine(100, 0));
+        final Rectangle rect = new Rectangle(50, 50);
+        rect.setX(500).setY(500);
+        inner.add(rect);
+        group.add(inner);
+        assertEquals(2, tested.getChildren(VISIBLE).size());
+        rect.setWidth(1000).setHeight(1000);
+        assertSame(inner, tested.getChildren(VISIBLE).get(2));
+        rect.setWidth(50).setHeight(50);
+        assertEquals(2, tested.getChildren(VISIBLE).size());
+    }
+
+    @Test
+    public void testNotIndexedContainerAlwaysReturned() {
+        final Group inner = new Group();
+        final Rectangle rect = new Rectangle(50, 50);
+        rect.setX(500).setY(500);
+        inner.add(rect);
+        group.add(inner);
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertEquals(3, children.size());
+        assertSame(inner, children.get(2));
+    }
+
+    @Test
+    public void testNestedTransforms() {
+        final Rectangle near = spy(new Rectangle(50, 50));
+        final Rectangle far = spy(new Rectangle(50, 50));
+        far.setX(500);
+        final Group inner = new Group();
+        inner.setStorageEngine(new PrimitiveSpatialIndexStorageEngine(100, 0));
+        inner.add(near);
+        inner.add(far);
+        final Group outer = new Group();
+        outer.setX(1000);
+        outer.add(inner);
+        doNothing().when(near).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        doNothing().when(far).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+
+        // The bounds are in the outer group's parent coordinates, so they become (0, 0, 100, 100) for the inner group.
+        outer.drawWithTransforms(mock(Context2D.class), 1, BoundingBox.fromDoubles(1000, 0, 1100, 100));
+
+        verify(near).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+        verify(far, never()).drawWithTransforms(any(Context2D.class), anyDouble(), any(BoundingBox.class));
+    }
+
+    @Test
+    public void testOrder() {
+        group.moveToBottom(rect3);
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertSame(rect3, children.get(0));
+        assertSame(rect1, children.get(1));
+    }
+
+    @Test
+    public void testRemove() {
+        group.remove(rect1);
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertEquals(1, children.size());
+        assertSame(rect3, children.get(0));
+        group.removeAll();
+        assertTrue(tested.getChildren(VISIBLE).isEmpty());
+    }
+
+    @Test
+    public void testOversized() {
+        final Rectangle background = new Rectangle(100000, 100000);
+        background.setX(-50000).setY(-50000);
+        group.add(background);
+        final NFastArrayList<IPrimitive<?>> children = tested.getChildren(VISIBLE);
+        assertEquals(3, children.size());
+        assertSame(background, children.get(2));
+    }
+}
@@ -93,4 +93,14 @@ public class WiresColorMapIndexTest {
         verify(picker, never()).build(any(NFastArrayList.class));
         verify(picker, never()).findShapeAt(anyInt(), anyInt());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClearRetained() {
+        tested = new WiresColorMapIndex(picker, true);
+        pickerOptions.getShapesToSkip().add(mock(WiresContainer.class));
+        tested.clear();
+        assertTrue(pickerOptions.getShapesToSkip().isEmpty());
+        verify(picker, never()).clear();
+    }
 }
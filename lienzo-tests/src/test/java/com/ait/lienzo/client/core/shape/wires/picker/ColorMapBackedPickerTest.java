@@ -21,6 +21,7 @@ import com.ait.lienzo.client.core.shape.Group;
 import com.ait.lienzo.client.core.shape.MultiPath;
 import com.ait.lienzo.client.core.shape.wires.PickerPart;
 import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.types.BoundingBox;
 import com.ait.lienzo.client.core.types.ImageDataPixelColor;
 import com.ait.lienzo.client.core.types.PathPartList;
 import com.ait.lienzo.client.core.types.Point2D;
@@ -34,6 +35,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +85,9 @@ public class ColorMapBackedPickerTest {
         when(path.getActualPathPartListArray()).thenReturn(pathPartList);
         when(scratchPad.getContext()).thenReturn(context);
         when(path.getComputedLocation()).thenReturn(location);
+        when(path.getBoundingBox()).thenReturn(BoundingBox.fromDoubles(0, 0, 10, 10));
+        when(scratchPad.getWidth()).thenReturn(100);
+        when(scratchPad.getHeight()).thenReturn(100);
         when(context.getImageDataPixelColor(X, Y)).thenReturn(pixelColor);
         when(pixelColor.toBrowserRGB()).thenReturn(Color.rgbToBrowserHexColor(0, 0, 0));
         when(pickerPart.getShape()).thenReturn(shape);
@@ -93,4 +103,123 @@ public class ColorMapBackedPickerTest {
         verify(context).getImageDataPixelColor(X, Y);
         verify(pixelColor).toBrowserRGB();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBuildKeepsUnchangedShapes() {
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testBuildRedrawsMovedShapeRegions() {
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        when(path.getComputedLocation()).thenReturn(new Point2D(50, 50));
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        // Both the old and the new regions for the shape.
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(context, times(2)).clip();
+    }
+
+    @Test
+    public void testBuildRedrawsSkippedShapeRegion() {
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        tested.getPickerOptions().getShapesToSkip().add(shape);
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(1)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        assertNull(tested.findShapeAt(X, Y));
+    }
+
+    @Test
+    public void testBuildRedrawsAllOnResize() {
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        when(scratchPad.getWidth()).thenReturn(200);
+        tested.build(shapes);
+        verify(scratchPad, times(2)).clear();
+    }
+
+    @Test
+    public void testFindShapeAtOutsideShapes() {
+        tested.build(shapes(shape));
+        assertNull(tested.findShapeAt(80, 80));
+        verify(context, never()).getImageDataPixelColor(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testFindShapeAtDistantShapes() {
+        final WiresShape distant = mock(WiresShape.class);
+        final MultiPath distantPath = mockPath(1000, 1000);
+        when(distant.getPath()).thenReturn(distantPath);
+        when(distant.getGroup()).thenReturn(new Group());
+        tested.build(shapes(shape, distant));
+        assertNull(tested.findShapeAt(500, 500));
+        verify(context, never()).getImageDataPixelColor(anyInt(), anyInt());
+        tested.findShapeAt(1005, 1005);
+        verify(context).getImageDataPixelColor(1005, 1005);
+    }
+
+    @Test
+    public void testFindShapeAtRemovedShape() {
+        tested.build(shapes(shape));
+        tested.getPickerOptions().getShapesToSkip().add(shape);
+        tested.build(shapes(shape));
+        assertNull(tested.findShapeAt(5, 5));
+        verify(context, never()).getImageDataPixelColor(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testBuildRedrawsShapeWithReplacedPath() {
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        final MultiPath replaced = mockPath(X, Y);
+        when(shape.getPath()).thenReturn(replaced);
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    public void testBuildRedrawsShapeWithMovedSupplementaryPath() {
+        final MultiPath supplementary = mockPath(20, 20);
+        tested = new ColorMapBackedPicker(scratchPad, new ColorMapBackedPicker.PickerOptions(false, 0)) {
+            @Override
+            protected void addSupplementaryPaths(final WiresShape prim) {
+                drawShape("#000001", 1, supplementary, new PickerPart(prim, PickerPart.ShapePart.BODY), true);
+            }
+        };
+        NFastArrayList<WiresShape> shapes = shapes(shape);
+        tested.build(shapes);
+        tested.build(shapes);
+        verify(context, never()).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        when(supplementary.getComputedLocation()).thenReturn(new Point2D(50, 50));
+        tested.build(shapes);
+        verify(scratchPad, times(1)).clear();
+        verify(context, times(2)).clearRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    private static NFastArrayList<WiresShape> shapes(final WiresShape... shapes) {
+        final NFastArrayList<WiresShape> list = new NFastArrayList<>();
+        for (final WiresShape shape : shapes) {
+            list.add(shape);
+        }
+        return list;
+    }
+
+    private MultiPath mockPath(final double x,
+                               final double y) {
+        final MultiPath multiPath = mock(MultiPath.class);
+        NFastArrayList<PathPartList> pathPartList = new NFastArrayList<>();
+        pathPartList.add(partList);
+        when(multiPath.getActualPathPartListArray()).thenReturn(pathPartList);
+        when(multiPath.getComputedLocation()).thenReturn(new Point2D(x, y));
+        when(multiPath.getBoundingBox()).thenReturn(BoundingBox.fromDoubles(0, 0, 10, 10));
+        return multiPath;
+    }
+}
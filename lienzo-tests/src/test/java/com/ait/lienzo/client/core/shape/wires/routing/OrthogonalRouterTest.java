@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ait.lienzo.client.core.shape.wires.routing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.ait.lienzo.client.core.types.BoundingBox;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.core.types.Point2DArray;
+import com.ait.lienzo.shared.core.types.Direction;
+import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(LienzoMockitoTestRunner.class)
+public class OrthogonalRouterTest {
+
+    private final OrthogonalRouter tested = new OrthogonalRouter();
+
+    @Test
+    public void testStraightRoute() {
+        Point2DArray route = tested.route(Collections.emptyList(),
+                                          new Point2D(0, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 0),
+                                          Direction.WEST);
+
+        assertPoints(route, 0, 0, 100, 0);
+    }
+
+    @Test
+    public void testRouteAroundObstacle() {
+        List<BoundingBox> obstacles = Arrays.asList(BoundingBox.fromDoubles(-50, -20, 0, 20),
+                                                    BoundingBox.fromDoubles(40, -20, 60, 20),
+                                                    BoundingBox.fromDoubles(100, -20, 150, 20));
+        Point2DArray route = tested.route(obstacles,
+                                          new Point2D(0, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 0),
+                                          Direction.WEST);
+
+        assertPoints(route, 0, 0, 30, 0, 30, 30, 90, 30, 90, 0, 100, 0);
+        assertOrthogonal(route);
+        assertFalse(crosses(route, obstacles.get(1)));
+    }
+
+    @Test
+    public void testRouteAroundLongObstacle() {
+        // Going around the obstacle by the top needs more bends.
+        List<BoundingBox> obstacles = Arrays.asList(BoundingBox.fromDoubles(40, -40, 60, 400));
+        Point2DArray route = tested.route(obstacles,
+                                          new Point2D(0, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 450),
+                                          Direction.NORTH);
+
+        assertPoints(route, 0, 0, 10, 0, 10, 440, 100, 440, 100, 450);
+        assertOrthogonal(route);
+        assertFalse(crosses(route, obstacles.get(0)));
+    }
+
+    @Test
+    public void testRouteEnteringTheTailFromItsDirection() {
+        Point2DArray route = tested.route(Collections.singletonList(BoundingBox.fromDoubles(80, 100, 120, 140)),
+                                          new Point2D(0, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 100),
+                                          Direction.NORTH);
+
+        assertPoints(route, 0, 0, 100, 0, 100, 100);
+    }
+
+    @Test
+    public void testRouteWithCornerDirections() {
+        Point2DArray route = tested.route(Collections.emptyList(),
+                                          new Point2D(0, 0),
+                                          Direction.NORTH_EAST,
+                                          new Point2D(100, 0),
+                                          Direction.SOUTH_WEST);
+
+        assertPoints(route, 0, 0, 100, 0);
+    }
+
+    @Test
+    public void testRouteWithoutDirections() {
+        List<BoundingBox> obstacles = Collections.singletonList(BoundingBox.fromDoubles(40, -20, 60, 20));
+        Point2DArray route = tested.route(obstacles,
+                                          new Point2D(0, 0),
+                                          Direction.NONE,
+                                          new Point2D(100, 0),
+                                          Direction.NONE);
+
+        assertEquals(4, route.size());
+        assertOrthogonal(route);
+        assertFalse(crosses(route, obstacles.get(0)));
+    }
+
+    @Test
+    public void testNoRoute() {
+        // The tail is enclosed by the obstacles.
+        List<BoundingBox> obstacles = Arrays.asList(BoundingBox.fromDoubles(0, -200, 10, 200),
+                                                    BoundingBox.fromDoubles(200, -200, 210, 200),
+                                                    BoundingBox.fromDoubles(0, -200, 210, -190),
+                                                    BoundingBox.fromDoubles(0, 190, 210, 200));
+        Point2DArray route = tested.route(obstacles,
+                                          new Point2D(-50, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 0),
+                                          Direction.WEST);
+
+        assertNull(route);
+    }
+
+    @Test
+    public void testPadding() {
+        OrthogonalRouter router = new OrthogonalRouter(20);
+        Point2DArray route = router.route(Collections.singletonList(BoundingBox.fromDoubles(40, -20, 60, 20)),
+                                          new Point2D(0, 0),
+                                          Direction.EAST,
+                                          new Point2D(100, 0),
+                                          Direction.WEST);
+
+        assertEquals(20, router.getPadding(), 0);
+        assertPoints(route, 0, 0, 20, 0, 20, -40, 80, -40, 80, 0, 100, 0);
+    }
+
+    private static void assertPoints(final Point2DArray route,
+                                     final double... expected) {
+        final double[] actual = new double[route.size() * 2];
+        for (int i = 0; i < route.size(); i++) {
+            actual[i * 2] = route.get(i).getX();
+            actual[i * 2 + 1] = route.get(i).getY();
+        }
+        assertArrayEquals(expected, actual, 0.0001);
+    }
+
+    private static void assertOrthogonal(final Point2DArray route) {
+        for (int i = 0; i < route.size() - 1; i++) {
+            final Point2D p0 = route.get(i);
+            final Point2D p1 = route.get(i + 1);
+            assertTrue(p0.getX() == p1.getX() || p0.getY() == p1.getY());
+        }
+    }
+
+    private static boolean crosses(final Point2DArray route,
+                                   final BoundingBox box) {
+        for (int i = 0; i < route.size() - 1; i++) {
+            final Point2D p0 = route.get(i);
+            final Point2D p1 = route.get(i + 1);
+            if (Math.min(p0.getX(), p1.getX()) < box.getMaxX() && Math.max(p0.getX(), p1.getX()) > box.getMinX()
+                    && Math.min(p0.getY(), p1.getY()) < box.getMaxY() && Math.max(p0.getY(), p1.getY()) > box.getMinY()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -27,6 +27,8 @@ public class BaseLienzoExamples {
                     new LineSpliceExample("Line Splice"),
                     new ToolboxExample("Toolbox"),
                     new PerformanceTests("Performance tests"),
+                    new ConnectorRoutingExample("Connector Routing"),
+                    new ImageFilterChainExample("Image Filter Chain"),
                     new StrokeAndFillingExample("Stroke and Filling"),
                     new GradientsAndShadowsExample("Gradients and Shadows"),
                     new ColorsAndTransparencyExample("Colors and Transparency"),
@@ -0,0 +1,167 @@
+package org.kie.lienzo.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ait.lienzo.client.core.shape.MultiPath;
+import com.ait.lienzo.client.core.shape.wires.WiresConnector;
+import com.ait.lienzo.client.core.shape.wires.WiresConnector.RoutingMode;
+import com.ait.lienzo.client.core.shape.wires.WiresManager;
+import com.ait.lienzo.client.core.shape.wires.WiresShape;
+import com.ait.lienzo.client.core.shape.wires.routing.WiresConnectorRouter;
+import com.ait.lienzo.client.core.types.Point2D;
+import com.ait.lienzo.client.widget.panel.LienzoPanel;
+import com.ait.lienzo.shared.core.types.Color;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.dom.client.Style.Display;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLButtonElement;
+import elemental2.dom.HTMLDivElement;
+
+import static org.kie.lienzo.client.util.WiresUtils.connect;
+
+/**
+ * Measures the cost for keeping the connector routes up to date while dragging a shape.
+ * The shapes are laid out in a grid, each one connected to some shapes on the next column, and the
+ * "Drag" test moves a shape around the diagram drawing the layer for each step, as a drag would do.
+ */
+public class ConnectorRoutingExample extends BaseExample implements Example {
+
+    private static final int COLUMNS = 6;
+    private static final int ROWS = 5;
+    private static final int SHAPE_WIDTH = 80;
+    private static final int SHAPE_HEIGHT = 50;
+    private static final int SPACING = 70;
+    private static final int DRAG_STEPS = 200;
+
+    private HTMLButtonElement modeButton;
+    private HTMLButtonElement dragButton;
+    private HTMLDivElement timeText;
+    private WiresManager wiresManager;
+    private final List<WiresShape> shapes = new ArrayList<>();
+    private final List<WiresConnector> connectors = new ArrayList<>();
+    private RoutingMode mode = RoutingMode.AVOID_SHAPES;
+
+    public ConnectorRoutingExample(final String title) {
+        super(title);
+    }
+
+    @Override
+    public void init(final LienzoPanel panel,
+                     final HTMLDivElement topDiv) {
+        super.init(panel, topDiv);
+
+        HTMLDivElement buttonsDiv = (HTMLDivElement) DomGlobal.document.createElement("div");
+        buttonsDiv.style.display = Display.INLINE_FLEX.getCssName();
+        topDiv.style.display = Display.INLINE.getCssName();
+        topDiv.appendChild(buttonsDiv);
+        heightOffset = 30;
+
+        modeButton = createButton(getModeText(), this::switchMode);
+        buttonsDiv.appendChild(modeButton);
+
+        dragButton = createButton("Drag", this::drag);
+        buttonsDiv.appendChild(dragButton);
+
+        timeText = createText("");
+        timeText.style.color = "blue";
+        buttonsDiv.appendChild(timeText);
+    }
+
+    @Override
+    public void run() {
+        wiresManager = WiresManager.get(layer);
+
+        for (int column = 0; column < COLUMNS; column++) {
+            for (int row = 0; row < ROWS; row++) {
+                WiresShape shape = new WiresShape(new MultiPath().rect(0, 0, SHAPE_WIDTH, SHAPE_HEIGHT)
+                                                          .setStrokeColor("#000000")
+                                                          .setFillColor(Color.getRandomHexColor()))
+                        .setDraggable(true)
+                        .setLocation(new Point2D(50 + column * (SHAPE_WIDTH + SPACING),
+                                                 50 + row * (SHAPE_HEIGHT + SPACING)));
+                wiresManager.register(shape);
+                wiresManager.getMagnetManager().createMagnets(shape);
+                shapes.add(shape);
+            }
+        }
+
+        // East magnet of each shape to the west magnet of the shapes on the next column, skipping the one in front.
+        for (int column = 0; column < COLUMNS - 1; column++) {
+            for (int row = 0; row < ROWS; row++) {
+                WiresShape source = shapes.get(column * ROWS + row);
+                WiresShape target = shapes.get((column + 1) * ROWS + ((row + 2) % ROWS));
+                WiresConnector connector = connect(source.getMagnets(),
+                                                   3,
+                                                   target.getMagnets(),
+                                                   7,
+                                                   wiresManager,
+                                                   true);
+                connector.setRoutingMode(mode);
+                connectors.add(connector);
+            }
+        }
+
+        Duration duration = new Duration();
+        layer.draw();
+        timeText.textContent = "[ first draw " + duration.elapsedMillis() + "ms, " + connectors.size() + " connectors ]";
+    }
+
+    private void switchMode() {
+        mode = (RoutingMode.AVOID_SHAPES == mode) ? RoutingMode.CONTROL_POINTS : RoutingMode.AVOID_SHAPES;
+        modeButton.textContent = getModeText();
+        for (WiresConnector connector : connectors) {
+            connector.setRoutingMode(mode);
+        }
+
+        Duration duration = new Duration();
+        layer.draw();
+        timeText.textContent = "[ " + mode + " draw " + duration.elapsedMillis() + "ms ]";
+    }
+
+    private void drag() {
+        final WiresShape shape = shapes.get((COLUMNS / 2) * ROWS + (ROWS / 2));
+        final double x = shape.getLocation().getX();
+        final double y = shape.getLocation().getY();
+        final WiresConnectorRouter router = wiresManager.getConnectorRouter();
+        router.resetStats();
+
+        Duration duration = new Duration();
+        for (int i = 0; i < DRAG_STEPS; i++) {
+            // A full turn around the initial location, crossing the surrounding connectors.
+            final double angle = (2 * Math.PI * i) / DRAG_STEPS;
+            shape.setLocation(new Point2D(x + Math.cos(angle) * (SHAPE_WIDTH + SPACING),
+                                          y + Math.sin(angle) * (SHAPE_HEIGHT + SPACING)));
+            layer.draw();
+        }
+        final int ellapsed = duration.elapsedMillis();
+
+        shape.setLocation(new Point2D(x, y));
+        layer.draw();
+
+        final String stats = "frame " + ((double) ellapsed / DRAG_STEPS) + "ms, routing " + ((double) router.getTotalUpdateDuration() / DRAG_STEPS) + "ms, " +
+                ((double) router.getTotalRoutedCount() / DRAG_STEPS) + " of " + connectors.size() + " connectors routed per frame";
+        console.log("Connector routing drag test [" + mode + "] - " + stats);
+        timeText.textContent = "[ " + stats + " ]";
+    }
+
+    private String getModeText() {
+        return (RoutingMode.AVOID_SHAPES == mode) ? "Avoid shapes" : "Control points";
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        for (WiresConnector connector : connectors) {
+            wiresManager.deregister(connector);
+        }
+        connectors.clear();
+        for (WiresShape shape : shapes) {
+            wiresManager.deregister(shape);
+        }
+        shapes.clear();
+        modeButton.remove();
+        dragButton.remove();
+        timeText.remove();
+    }
+}
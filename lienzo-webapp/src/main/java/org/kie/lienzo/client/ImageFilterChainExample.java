@@ -0,0 +1,123 @@
+package org.kie.lienzo.client;
+
+import com.ait.lienzo.client.core.image.filter.AverageGrayScaleImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.BrightnessImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.BumpImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.ContrastImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.GammaImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.ImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.ImageDataFilterChain;
+import com.ait.lienzo.client.core.image.filter.InvertColorImageDataFilter;
+import com.ait.lienzo.client.core.image.filter.SharpenImageDataFilter;
+import com.ait.lienzo.client.core.types.ImageDataUtil;
+import com.ait.lienzo.client.core.util.ScratchPad;
+import com.ait.lienzo.client.widget.panel.LienzoPanel;
+import com.ait.lienzo.shared.core.types.Color;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.dom.client.Style.Display;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLButtonElement;
+import elemental2.dom.HTMLDivElement;
+import elemental2.dom.ImageData;
+
+/**
+ * Measures the cost for filtering an image through some common filter chains.
+ * Each chain is applied as a whole, which composes the table filters into a single pass and shares the buffers
+ * between the convolve and transform filters, and then filter by filter, as the chain used to do.
+ */
+public class ImageFilterChainExample extends BaseExample implements Example {
+
+    private static final int IMAGE_SIZE = 512;
+    private static final int CELL_SIZE = 32;
+    private static final int ITERATIONS = 20;
+
+    private HTMLButtonElement runButton;
+    private HTMLDivElement timeText;
+    private ImageData image;
+
+    public ImageFilterChainExample(final String title) {
+        super(title);
+    }
+
+    @Override
+    public void init(final LienzoPanel panel,
+                     final HTMLDivElement topDiv) {
+        super.init(panel, topDiv);
+
+        HTMLDivElement buttonsDiv = (HTMLDivElement) DomGlobal.document.createElement("div");
+        buttonsDiv.style.display = Display.INLINE_FLEX.getCssName();
+        topDiv.style.display = Display.INLINE.getCssName();
+        topDiv.appendChild(buttonsDiv);
+        heightOffset = 30;
+
+        runButton = createButton("Run", this::runChains);
+        buttonsDiv.appendChild(runButton);
+
+        timeText = createText("");
+        timeText.style.color = "blue";
+        buttonsDiv.appendChild(timeText);
+    }
+
+    @Override
+    public void run() {
+        // A generated image, so the test doesn't depend on loading an external one.
+        final ScratchPad scratch = new ScratchPad(IMAGE_SIZE, IMAGE_SIZE);
+        for (int x = 0; x < IMAGE_SIZE; x += CELL_SIZE) {
+            for (int y = 0; y < IMAGE_SIZE; y += CELL_SIZE) {
+                scratch.getContext().setFillColor(Color.getRandomHexColor());
+                scratch.getContext().fillRect(x, y, CELL_SIZE, CELL_SIZE);
+            }
+        }
+        image = scratch.getContext().getImageData(0, 0, IMAGE_SIZE, IMAGE_SIZE);
+        timeText.textContent = "[ " + IMAGE_SIZE + "x" + IMAGE_SIZE + " image, " + ITERATIONS + " iterations per chain ]";
+    }
+
+    private void runChains() {
+        final StringBuilder stats = new StringBuilder();
+        stats.append(runChain("grayscale+brightness+contrast",
+                              new AverageGrayScaleImageDataFilter(),
+                              new BrightnessImageDataFilter(0.2),
+                              new ContrastImageDataFilter(1.5)));
+        stats.append(runChain("gamma+invert+brightness",
+                              new GammaImageDataFilter(1.8),
+                              new InvertColorImageDataFilter(),
+                              new BrightnessImageDataFilter(-0.1)));
+        stats.append(runChain("sharpen+bump+sharpen",
+                              new SharpenImageDataFilter(),
+                              new BumpImageDataFilter(),
+                              new SharpenImageDataFilter()));
+        timeText.textContent = "[ " + stats + "]";
+    }
+
+    private String runChain(final String name,
+                            final ImageDataFilter<?>... filters) {
+        final ImageDataFilterChain chain = new ImageDataFilterChain(filters);
+
+        Duration duration = new Duration();
+        for (int i = 0; i < ITERATIONS; i++) {
+            chain.filter(ImageDataUtil.copy(image), false);
+        }
+        final int chained = duration.elapsedMillis();
+
+        duration = new Duration();
+        for (int i = 0; i < ITERATIONS; i++) {
+            ImageData data = ImageDataUtil.copy(image);
+            for (ImageDataFilter<?> filter : filters) {
+                data = filter.filter(data, false);
+            }
+        }
+        final int separated = duration.elapsedMillis();
+
+        final String stats = name + " chain " + ((double) chained / ITERATIONS) + "ms, separate " + ((double) separated / ITERATIONS) + "ms; ";
+        console.log("Image filter chain test - " + stats);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        image = null;
+        runButton.remove();
+        timeText.remove();
+    }
+}
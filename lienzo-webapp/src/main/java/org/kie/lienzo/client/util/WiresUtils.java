@@ -13,12 +13,12 @@ import com.ait.lienzo.client.core.types.Point2DArray;
 
 public class WiresUtils {
 
-    public static void connect(MagnetManager.Magnets magnets0,
-                               int i0_1,
-                               MagnetManager.Magnets magnets1,
-                               int i1_1,
-                               WiresManager wiresManager,
-                               boolean orthogonalPolyline) {
+    public static WiresConnector connect(MagnetManager.Magnets magnets0,
+                                         int i0_1,
+                                         MagnetManager.Magnets magnets1,
+                                         int i1_1,
+                                         WiresManager wiresManager,
+                                         boolean orthogonalPolyline) {
         WiresMagnet m0_1 = magnets0.getMagnet(i0_1);
         WiresMagnet m1_1 = magnets1.getMagnet(i1_1);
 
@@ -74,6 +74,8 @@ public class WiresUtils {
         head.setStrokeWidth(5).setStrokeColor("#0000CC");
         tail.setStrokeWidth(5).setStrokeColor("#0000CC");
         line.setStrokeWidth(5).setStrokeColor("#0000CC");
+
+        return connector;
     }
 
     public static OrthogonalPolyLine createOrthogonalPolyline(final double... points) {
@@ -328,6 +328,15 @@ public interface GridData {
      */
     int getVisibleHeight();
 
+    /**
+     * Get the index of the rows' offsets, or null if the implementation does not keep one. The index
+     * may need to be refreshed before being used; see {@link GridRowOffsetIndex#isValid()}.
+     * @return
+     */
+    default GridRowOffsetIndex getRowOffsetIndex() {
+        return null;
+    }
+
     /**
      * A range of rows.
      */
@@ -41,6 +41,16 @@ public interface GridRow {
      */
     double peekHeight();
 
+    /**
+     * Returns whether the height of the row only changes through {@link #setHeight(double)}, {@link #collapse()},
+     * {@link #expand()} or {@link #reset()}, and these invalidate the {@link GridRowOffsetIndex} of the grid the
+     * row belongs to. Otherwise the height is read again each time the index is refreshed.
+     * @return true if changes to the height of the row are notified.
+     */
+    default boolean isHeightNotified() {
+        return false;
+    }
+
     /**
      * Returns the cells within the row. This is an sparse map of column index to value.
      * Empty cells do not have an entry within the map. Empty cells should be considered
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prefix sums of the heights of the rows in a grid. The offset of any row is available in constant time
+ * and the row at any offset is found by a binary search, instead of iterating the rows each time.
+ * <p>
+ * Grid data implementations invalidate the index on structural changes, and rows which changes to the height
+ * are notified (see {@link GridRow#isHeightNotified()}) invalidate it when their height changes. Refreshing an
+ * invalid index (see {@link #refresh(List)}) reads the height for each row, while refreshing a valid one only
+ * reads the height again for the rows that compute it on demand. Either way, offsets are only recomputed from
+ * the first row that has changed.
+ */
+public class GridRowOffsetIndex {
+
+    private double[] heights = new double[0];
+    private double[] offsets = new double[1];
+    private int[] dynamicRows = new int[0];
+    private int dynamicRowCount = 0;
+    private int rowCount = 0;
+    private boolean valid = false;
+
+    /**
+     * Marks the index as invalid, so it must be refreshed before being used again.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Whether the index has been refreshed after the last invalidation.
+     * @return
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Reads the height for the given rows, and updates the offsets for the ones that have changed. If the index is
+     * valid, the rows must be the same as on the last refresh, and only the heights of the rows that are not
+     * notified are read again.
+     * @param rows The rows, in the same order as in the grid.
+     * @return This index.
+     */
+    public GridRowOffsetIndex refresh(final List<GridRow> rows) {
+        final int size = rows.size();
+        final int firstChanged = (valid && size == rowCount) ? refreshDynamicRows(rows) : refreshAllRows(rows);
+        for (int i = firstChanged; i < size; i++) {
+            offsets[i + 1] = offsets[i] + heights[i];
+        }
+        rowCount = size;
+        valid = true;
+        return this;
+    }
+
+    private int refreshAllRows(final List<GridRow> rows) {
+        final int size = rows.size();
+        if (heights.length != size) {
+            heights = new double[size];
+        }
+        if (offsets.length < size + 1) {
+            offsets = new double[Math.max(size,
+                                          offsets.length + (offsets.length >> 1)) + 1];
+        }
+        dynamicRowCount = 0;
+        for (int i = 0; i < size; i++) {
+            final GridRow row = rows.get(i);
+            heights[i] = row.getHeight();
+            if (!row.isHeightNotified()) {
+                if (dynamicRowCount == dynamicRows.length) {
+                    dynamicRows = Arrays.copyOf(dynamicRows,
+                                                Math.max(8,
+                                                         dynamicRowCount * 2));
+                }
+                dynamicRows[dynamicRowCount++] = i;
+            }
+        }
+        offsets[0] = 0;
+        return 0;
+    }
+
+    private int refreshDynamicRows(final List<GridRow> rows) {
+        int firstChanged = rowCount;
+        for (int i = 0; i < dynamicRowCount; i++) {
+            final int rowIndex = dynamicRows[i];
+            final double height = rows.get(rowIndex).getHeight();
+            if (height != heights[rowIndex]) {
+                heights[rowIndex] = height;
+                if (rowIndex < firstChanged) {
+                    firstChanged = rowIndex;
+                }
+            }
+        }
+        return firstChanged;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get the total height of all rows.
+     * @return
+     */
+    public double getHeight() {
+        return offsets[rowCount];
+    }
+
+    /**
+     * Get the height of a row, as read on the last refresh.
+     * @param rowIndex The index of the row.
+     * @return
+     */
+    public double getRowHeight(final int rowIndex) {
+        return heights[rowIndex];
+    }
+
+    /**
+     * Get the y-offset for a given row index, relative to the first row. Indexes out of bounds are clamped.
+     * @param rowIndex The index of the row.
+     * @return
+     */
+    public double getRowOffset(final int rowIndex) {
+        if (rowIndex <= 0) {
+            return 0;
+        }
+        return offsets[Math.min(rowIndex,
+                                rowCount)];
+    }
+
+    /**
+     * Get the index of the first row which bottom edge is at, or below, the given y-offset relative to the first row.
+     * Offsets beyond the last row resolve to the last row.
+     * @param y The y-offset.
+     * @return The row index, or -1 if there are no rows.
+     */
+    public int getRowIndex(final double y) {
+        if (rowCount == 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = rowCount - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (offsets[middle + 1] >= y) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the heights for all rows, as read on the last refresh. The array is the one backing the index, so it has
+     * exactly {@link #getRowCount()} elements and must not be modified.
+     * @return
+     */
+    public double[] getRowHeights() {
+        return heights;
+    }
+
+    /**
+     * Get the y-offsets, relative to the first row, for the rows in the given range.
+     * @param minRowIndex The first row index, inclusive.
+     * @param maxRowIndex The last row index, inclusive.
+     * @return
+     */
+    public double[] getRowOffsets(final int minRowIndex,
+                                  final int maxRowIndex) {
+        if (rowCount == 0 || maxRowIndex < minRowIndex) {
+            return new double[0];
+        }
+        return Arrays.copyOfRange(offsets,
+                                  minRowIndex,
+                                  maxRowIndex + 1);
+    }
+}
@@ -33,6 +33,7 @@ import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridRowOffsetIndex;
 import org.uberfire.ext.wires.core.grids.client.widget.dom.HasDOMElementResources;
 
 /**
@@ -51,6 +52,7 @@ public class BaseGridData implements GridData {
 
     protected BaseGridDataIndexManager indexManager = new BaseGridDataIndexManager(this);
     protected BaseGridDataSelectionsManager selectionsManager = new BaseGridDataSelectionsManager(this);
+    protected GridRowOffsetIndex rowOffsetIndex = new GridRowOffsetIndex();
     private int visibleWidth;
     private int visibleHeight;
     private int previousVisibleWidth;
@@ -198,6 +200,9 @@ public class BaseGridData implements GridData {
     @Override
     public void appendRow(final GridRow row) {
         this.rows.add(row);
+        setRowOffsetIndex(row,
+                          rowOffsetIndex);
+        rowOffsetIndex.invalidate();
     }
 
     @Override
@@ -205,6 +210,9 @@ public class BaseGridData implements GridData {
                           final GridRow row) {
         this.rows.add(rowIndex,
                       row);
+        setRowOffsetIndex(row,
+                          rowOffsetIndex);
+        rowOffsetIndex.invalidate();
 
         indexManager.onInsertRow(rowIndex);
         selectionsManager.onInsertRow(rowIndex);
@@ -231,8 +239,10 @@ public class BaseGridData implements GridData {
                                       maxRowIndex);
 
         for (int _rowIndex = minRowIndex; _rowIndex <= maxRowIndex; _rowIndex++) {
-            rows.remove(minRowIndex);
+            setRowOffsetIndex(rows.remove(minRowIndex),
+                              null);
         }
+        rowOffsetIndex.invalidate();
 
         indexManager.onDeleteRow(range);
         selectionsManager.onDeleteRow(range);
@@ -275,6 +285,8 @@ public class BaseGridData implements GridData {
                              rows);
         }
 
+        rowOffsetIndex.invalidate();
+
         final Range oldBlockExtent = new Range(oldBlockStart,
                                                oldBlockEnd);
         indexManager.onMoveRows(rows,
@@ -288,6 +300,11 @@ public class BaseGridData implements GridData {
         return rows.size();
     }
 
+    @Override
+    public GridRowOffsetIndex getRowOffsetIndex() {
+        return rowOffsetIndex;
+    }
+
     @Override
     public int getHeaderRowCount() {
         int headerRowCount = this.headerRowCount;
@@ -367,6 +384,7 @@ public class BaseGridData implements GridData {
             return;
         }
         this.isMerged = isMerged;
+        rowOffsetIndex.invalidate();
         indexManager.onMerge(isMerged);
         selectionsManager.onMerge(isMerged);
     }
@@ -427,6 +445,9 @@ public class BaseGridData implements GridData {
 
         final int _columnIndex = columns.get(columnIndex).getIndex();
 
+        //Row heights may depend on their cells
+        rowOffsetIndex.invalidate();
+
         //If we're not merged just set the value of a single cell
         if (!isMerged) {
             ((BaseGridRow) rows.get(rowIndex)).setCell(_columnIndex,
@@ -467,6 +488,9 @@ public class BaseGridData implements GridData {
 
         final int _columnIndex = columns.get(columnIndex).getIndex();
 
+        //Row heights may depend on their cells
+        rowOffsetIndex.invalidate();
+
         //If we're not merged just set the value of a single cell
         if (!isMerged) {
             ((BaseGridRow) rows.get(rowIndex)).deleteCell(_columnIndex);
@@ -559,6 +583,7 @@ public class BaseGridData implements GridData {
         if (!cell.isMerged()) {
             return;
         }
+        rowOffsetIndex.invalidate();
         indexManager.onCollapseCell(rowIndex,
                                     _columnIndex);
     }
@@ -577,6 +602,7 @@ public class BaseGridData implements GridData {
         if (cell == null) {
             return;
         }
+        rowOffsetIndex.invalidate();
         indexManager.onExpandCell(rowIndex,
                                   _columnIndex);
     }
@@ -748,6 +774,13 @@ public class BaseGridData implements GridData {
         return Math.max(calculatedWidth, column.getMinimumWidth());
     }
 
+    private static void setRowOffsetIndex(final GridRow row,
+                                          final GridRowOffsetIndex rowOffsetIndex) {
+        if (row instanceof BaseGridRow) {
+            ((BaseGridRow) row).setRowOffsetIndex(rowOffsetIndex);
+        }
+    }
+
     private class GridWidthMetadata {
 
         // total size of the grid
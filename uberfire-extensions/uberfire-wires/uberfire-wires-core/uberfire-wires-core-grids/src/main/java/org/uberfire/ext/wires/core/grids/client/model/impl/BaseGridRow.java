@@ -22,6 +22,7 @@ import java.util.Stack;
 
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridRowOffsetIndex;
 
 /**
  * Base implementation of a grid row to avoid boiler-plate for more specific implementations.
@@ -34,6 +35,7 @@ public class BaseGridRow implements GridRow {
     private boolean hasMergedCells = false;
     private Stack<Double> heights = new Stack<Double>();
     private int collapseLevel = 0;
+    private GridRowOffsetIndex rowOffsetIndex;
 
     public BaseGridRow() {
         this(20);
@@ -57,6 +59,7 @@ public class BaseGridRow implements GridRow {
     @Override
     public void setHeight(final double height) {
         this.height = height;
+        invalidateRowOffsetIndex();
     }
 
     @Override
@@ -64,6 +67,15 @@ public class BaseGridRow implements GridRow {
         return heights.peek();
     }
 
+    /**
+     * Changes to the height are notified once the row is added to a {@link BaseGridData}. Subclasses that compute
+     * the height on demand must override this to return false.
+     */
+    @Override
+    public boolean isHeightNotified() {
+        return rowOffsetIndex != null;
+    }
+
     @Override
     public boolean isMerged() {
         return hasMergedCells;
@@ -81,6 +93,7 @@ public class BaseGridRow implements GridRow {
         for (GridCell<?> cell : cells.values()) {
             cell.collapse();
         }
+        invalidateRowOffsetIndex();
     }
 
     @Override
@@ -93,6 +106,7 @@ public class BaseGridRow implements GridRow {
         for (GridCell<?> cell : cells.values()) {
             cell.expand();
         }
+        invalidateRowOffsetIndex();
     }
 
     @Override
@@ -105,6 +119,7 @@ public class BaseGridRow implements GridRow {
         for (GridCell<?> cell : cells.values()) {
             cell.reset();
         }
+        invalidateRowOffsetIndex();
     }
 
     //This is not part of the GridCell interface as we don't want to expose this for general use
@@ -124,4 +139,15 @@ public class BaseGridRow implements GridRow {
     void setHasMergedCells(final boolean hasMergedCells) {
         this.hasMergedCells = hasMergedCells;
     }
+
+    //This is not part of the GridRow interface as we don't want to expose this for general use
+    void setRowOffsetIndex(final GridRowOffsetIndex rowOffsetIndex) {
+        this.rowOffsetIndex = rowOffsetIndex;
+    }
+
+    private void invalidateRowOffsetIndex() {
+        if (rowOffsetIndex != null) {
+            rowOffsetIndex.invalidate();
+        }
+    }
 }
@@ -38,6 +38,7 @@ import com.ait.lienzo.client.core.types.Point2D;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridRowOffsetIndex;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBodyRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridBoundaryRenderContext;
 import org.uberfire.ext.wires.core.grids.client.widget.context.GridHeaderRenderContext;
@@ -244,6 +245,11 @@ public class BaseGridWidget extends Group implements GridWidget {
 
     @Override
     public double getHeight() {
+        //Rows may compute their height on demand (e.g. nested grids) so read their heights again
+        final GridRowOffsetIndex rowOffsetIndex = model.getRowOffsetIndex();
+        if (rowOffsetIndex != null) {
+            rowOffsetIndex.refresh(model.getRows());
+        }
         double height = renderer.getHeaderHeight();
         height = height + rendererHelper.getRowOffset(model.getRowCount());
         return height;
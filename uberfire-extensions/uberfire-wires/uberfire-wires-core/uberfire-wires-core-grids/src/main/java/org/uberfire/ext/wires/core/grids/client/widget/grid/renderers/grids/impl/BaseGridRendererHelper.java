@@ -15,6 +15,7 @@
  */
 package org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.impl;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.uberfire.ext.wires.core.grids.client.model.Bounds;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 import org.uberfire.ext.wires.core.grids.client.model.GridData;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
+import org.uberfire.ext.wires.core.grids.client.model.GridRowOffsetIndex;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.GridWidget;
 import org.uberfire.ext.wires.core.grids.client.widget.grid.renderers.grids.GridRenderer;
 import org.uberfire.ext.wires.core.grids.client.widget.layer.GridLayer;
@@ -111,8 +113,15 @@ public class BaseGridRendererHelper {
      * @return
      */
     public double getRowOffset(final int rowIndex) {
-        double rowOffset = 0;
         final GridData model = view.getModel();
+        final GridRowOffsetIndex index = model.getRowOffsetIndex();
+        if (index != null) {
+            if (!index.isValid()) {
+                index.refresh(model.getRows());
+            }
+            return index.getRowOffset(rowIndex);
+        }
+        double rowOffset = 0;
         for (int i = 0; i < rowIndex; i++) {
             final GridRow row = model.getRow(i);
             rowOffset = rowOffset + row.getHeight();
@@ -163,14 +172,10 @@ public class BaseGridRendererHelper {
         final List<GridColumn<?>> bodyColumns = new ArrayList<>();
         final List<GridColumn<?>> floatingColumns = new ArrayList<>();
 
-        double viewHeight = 0;
-        final int rowCount = model.getRowCount();
-        final List<Double> rowHeights = new ArrayList<>();
-        for (GridRow row : model.getRows()) {
-            final double rowHeight = row.getHeight();
-            viewHeight = viewHeight + rowHeight;
-            rowHeights.add(rowHeight);
-        }
+        // Rows computing their height on demand may have changed since the last rendering, so the index is always
+        // refreshed. Rows which height changes are notified are only read again after invalidating the index.
+        final GridRowOffsetIndex rowOffsetIndex = getRowOffsetIndex(model);
+        final double viewHeight = rowOffsetIndex.getHeight();
 
         final double vpX = bounds.getX();
         final double vpY = bounds.getY();
@@ -216,21 +221,14 @@ public class BaseGridRendererHelper {
         long currentTimeMillis = log(LOGGER, " - Pre- identify rows to render");
 
         int minVisibleRowIndex = 0;
-        if (model.getRowCount() > 0) {
-            double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
-            while (rowHeights.get(minVisibleRowIndex) < clipTop && minVisibleRowIndex < rowCount - 1) {
-                clipTop = clipTop - rowHeights.get(minVisibleRowIndex);
-                minVisibleRowIndex++;
-            }
-        }
+        int maxVisibleRowIndex = 0;
+        if (rowOffsetIndex.getRowCount() > 0) {
+            final double clipTop = vpY - view.getComputedLocation().getY() - (isFloatingHeader ? 0.0 : renderer.getHeaderHeight());
+            minVisibleRowIndex = rowOffsetIndex.getRowIndex(clipTop);
 
-        int maxVisibleRowIndex = minVisibleRowIndex;
-        if (model.getRowCount() > 0) {
-            double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight - getRowOffset(minVisibleRowIndex, rowHeights);
-            while (rowHeights.get(maxVisibleRowIndex) < clipBottom && maxVisibleRowIndex < rowCount - 1) {
-                clipBottom = clipBottom - rowHeights.get(maxVisibleRowIndex);
-                maxVisibleRowIndex++;
-            }
+            final double clipBottom = vpY - view.getComputedLocation().getY() - renderer.getHeaderHeight() + vpHeight;
+            maxVisibleRowIndex = Math.max(minVisibleRowIndex,
+                                          rowOffsetIndex.getRowIndex(clipBottom));
         }
         log(LOGGER, " - Post- identify rows to render", currentTimeMillis);
 
@@ -282,7 +280,7 @@ public class BaseGridRendererHelper {
         log(LOGGER, " - Post- identify columns to render", currentTimeMillis);
 
         //Construct details of Floating and Body blocks
-        double visibleRowOffset = getRowOffset(minVisibleRowIndex, rowHeights);
+        final double visibleRowOffset = rowOffsetIndex.getRowOffset(minVisibleRowIndex);
         final double bodyOffsetY = visibleRowOffset + renderer.getHeaderHeight();
         final double offsetX = (bodyColumns.size() > 0 ? getColumnOffset(bodyColumns.get(0)) : 0);
         final double floatingOffsetX = getFloatingColumnOffset();
@@ -304,13 +302,8 @@ public class BaseGridRendererHelper {
         // each column as an optimisation to prevent each column from recalculating the same values.
         currentTimeMillis = log(LOGGER, " - Pre- calculate row offsets");
 
-        final List<Double> visibleRowOffsets = new ArrayList<>();
-        if (model.getRowCount() > 0) {
-            for (int rowIndex = minVisibleRowIndex; rowIndex <= maxVisibleRowIndex; rowIndex++) {
-                visibleRowOffsets.add(visibleRowOffset);
-                visibleRowOffset = visibleRowOffset + rowHeights.get(rowIndex);
-            }
-        }
+        final double[] visibleRowOffsets = rowOffsetIndex.getRowOffsets(minVisibleRowIndex,
+                                                                         maxVisibleRowIndex);
         log(LOGGER, " - Post- calculate row offsets", currentTimeMillis);
 
         final int headerRowCount = model.getHeaderRowCount();
@@ -326,7 +319,7 @@ public class BaseGridRendererHelper {
                                         floatingBlockInformation,
                                         minVisibleRowIndex,
                                         maxVisibleRowIndex,
-                                        rowHeights,
+                                        rowOffsetIndex.getRowHeights(),
                                         visibleRowOffsets,
                                         isFixedHeader,
                                         isFloatingHeader,
@@ -336,6 +329,11 @@ public class BaseGridRendererHelper {
                                         headerRowsYOffset);
     }
 
+    private static GridRowOffsetIndex getRowOffsetIndex(final GridData model) {
+        final GridRowOffsetIndex index = model.getRowOffsetIndex();
+        return (index != null ? index : new GridRowOffsetIndex()).refresh(model.getRows());
+    }
+
     /**
      * Get information about a column corresponding to a grid-relative x-coordinate. This method never returns null.
      * It returns a ColumnInformation object representing the column corresponding to the grid-relative x-coordinate;
@@ -492,8 +490,8 @@ public class BaseGridRendererHelper {
         private final RenderingBlockInformation floatingBlockInformation;
         private final int minVisibleRowIndex;
         private final int maxVisibleRowIndex;
-        private final List<Double> allRowHeights;
-        private final List<Double> visibleRowOffsets;
+        private final double[] allRowHeights;
+        private final double[] visibleRowOffsets;
         private final boolean isFixedHeader;
         private final boolean isFloatingHeader;
         private final int headerRowCount;
@@ -515,6 +513,36 @@ public class BaseGridRendererHelper {
                                     final double headerRowHeight,
                                     final double headerRowsHeight,
                                     final double headerRowsYOffset) {
+            this(bounds,
+                 allColumns,
+                 bodyBlockInformation,
+                 floatingBlockInformation,
+                 minVisibleRowIndex,
+                 maxVisibleRowIndex,
+                 toArray(allRowHeights),
+                 toArray(visibleRowOffsets),
+                 isFixedHeader,
+                 isFloatingHeader,
+                 headerRowCount,
+                 headerRowHeight,
+                 headerRowsHeight,
+                 headerRowsYOffset);
+        }
+
+        public RenderingInformation(final Bounds bounds,
+                                    final List<GridColumn<?>> allColumns,
+                                    final RenderingBlockInformation bodyBlockInformation,
+                                    final RenderingBlockInformation floatingBlockInformation,
+                                    final int minVisibleRowIndex,
+                                    final int maxVisibleRowIndex,
+                                    final double[] allRowHeights,
+                                    final double[] visibleRowOffsets,
+                                    final boolean isFixedHeader,
+                                    final boolean isFloatingHeader,
+                                    final int headerRowCount,
+                                    final double headerRowHeight,
+                                    final double headerRowsHeight,
+                                    final double headerRowsYOffset) {
             this.bounds = bounds;
             this.allColumns = allColumns;
             this.bodyBlockInformation = bodyBlockInformation;
@@ -556,11 +584,35 @@ public class BaseGridRendererHelper {
         }
 
         public List<Double> getAllRowHeights() {
-            return Collections.unmodifiableList(allRowHeights);
+            return new DoubleArrayList(allRowHeights);
         }
 
         public List<Double> getVisibleRowOffsets() {
-            return Collections.unmodifiableList(visibleRowOffsets);
+            return new DoubleArrayList(visibleRowOffsets);
+        }
+
+        /**
+         * The y-offsets for the visible rows, as in {@link #getVisibleRowOffsets()}. The array must not be modified.
+         * @return
+         */
+        public double[] getVisibleRowOffsetsArray() {
+            return visibleRowOffsets;
+        }
+
+        /**
+         * The heights for all rows, as in {@link #getAllRowHeights()}. The array must not be modified.
+         * @return
+         */
+        public double[] getAllRowHeightsArray() {
+            return allRowHeights;
+        }
+
+        private static double[] toArray(final List<Double> values) {
+            final double[] array = new double[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values.get(i);
+            }
+            return array;
         }
 
         public boolean isFixedHeader() {
@@ -588,6 +640,28 @@ public class BaseGridRendererHelper {
         }
     }
 
+    /**
+     * An unmodifiable view of an array of doubles.
+     */
+    private static class DoubleArrayList extends AbstractList<Double> {
+
+        private final double[] values;
+
+        private DoubleArrayList(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(final int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
     /**
      * A container for Rendering Block Information.
      */
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.uberfire.ext.wires.core.grids.client.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridData;
+import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridRow;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class GridRowOffsetIndexTest {
+
+    private static final double DELTA = 0.0;
+
+    private List<GridRow> rows;
+
+    private GridRowOffsetIndex index;
+
+    @Before
+    public void setup() {
+        rows = new ArrayList<>();
+        rows.add(new BaseGridRow(10));
+        rows.add(new BaseGridRow(20));
+        rows.add(new BaseGridRow(30));
+        index = new GridRowOffsetIndex();
+    }
+
+    @Test
+    public void testEmpty() {
+        index.refresh(new ArrayList<>());
+
+        assertEquals(0,
+                     index.getRowCount());
+        assertEquals(0,
+                     index.getHeight(),
+                     DELTA);
+        assertEquals(-1,
+                     index.getRowIndex(10));
+        assertEquals(0,
+                     index.getRowOffsets(0,
+                                         0).length);
+    }
+
+    @Test
+    public void testOffsets() {
+        assertFalse(index.isValid());
+
+        index.refresh(rows);
+
+        assertTrue(index.isValid());
+        assertEquals(60,
+                     index.getHeight(),
+                     DELTA);
+        assertEquals(0,
+                     index.getRowOffset(0),
+                     DELTA);
+        assertEquals(10,
+                     index.getRowOffset(1),
+                     DELTA);
+        assertEquals(30,
+                     index.getRowOffset(2),
+                     DELTA);
+        assertEquals(60,
+                     index.getRowOffset(3),
+                     DELTA);
+        assertArrayEquals(new double[]{10, 30},
+                          index.getRowOffsets(1,
+                                              2),
+                          DELTA);
+        assertArrayEquals(new double[]{10, 20, 30},
+                          index.getRowHeights(),
+                          DELTA);
+    }
+
+    @Test
+    public void testRowIndex() {
+        index.refresh(rows);
+
+        assertEquals(0,
+                     index.getRowIndex(-5));
+        assertEquals(0,
+                     index.getRowIndex(10));
+        assertEquals(1,
+                     index.getRowIndex(11));
+        assertEquals(1,
+                     index.getRowIndex(30));
+        assertEquals(2,
+                     index.getRowIndex(45));
+        assertEquals(2,
+                     index.getRowIndex(100));
+    }
+
+    @Test
+    public void testRefreshChangedHeight() {
+        index.refresh(rows);
+
+        rows.get(1).setHeight(50);
+        index.refresh(rows);
+
+        assertEquals(90,
+                     index.getHeight(),
+                     DELTA);
+        assertEquals(10,
+                     index.getRowOffset(1),
+                     DELTA);
+        assertEquals(60,
+                     index.getRowOffset(2),
+                     DELTA);
+    }
+
+    @Test
+    public void testRefreshChangedRows() {
+        index.refresh(rows);
+
+        rows.add(0,
+                 new BaseGridRow(5));
+        rows.remove(3);
+        index.refresh(rows);
+
+        assertEquals(3,
+                     index.getRowCount());
+        assertEquals(35,
+                     index.getHeight(),
+                     DELTA);
+        assertEquals(15,
+                     index.getRowOffset(2),
+                     DELTA);
+    }
+
+    @Test
+    public void testGridDataInvalidatesIndex() {
+        final GridData data = new BaseGridData();
+        data.appendRow(new BaseGridRow(10));
+        data.appendRow(new BaseGridRow(20));
+
+        final GridRowOffsetIndex dataIndex = data.getRowOffsetIndex();
+        dataIndex.refresh(data.getRows());
+        assertTrue(dataIndex.isValid());
+
+        data.insertRow(0,
+                       new BaseGridRow(40));
+        assertFalse(dataIndex.isValid());
+
+        dataIndex.refresh(data.getRows());
+        assertEquals(40,
+                     dataIndex.getRowOffset(1),
+                     DELTA);
+        assertEquals(70,
+                     dataIndex.getHeight(),
+                     DELTA);
+
+        data.deleteRow(0);
+        assertFalse(dataIndex.isValid());
+    }
+
+    @Test
+    public void testRowHeightsAreNotCopied() {
+        index.refresh(rows);
+        final double[] heights = index.getRowHeights();
+
+        index.refresh(rows);
+
+        assertSame(heights,
+                   index.getRowHeights());
+        assertEquals(index.getRowCount(),
+                     heights.length);
+    }
+
+    @Test
+    public void testRowChangesInvalidateIndex() {
+        final GridData data = new BaseGridData();
+        final GridRow row = new BaseGridRow(10);
+        data.appendRow(row);
+        data.appendRow(new BaseGridRow(20));
+
+        final GridRowOffsetIndex dataIndex = data.getRowOffsetIndex();
+        dataIndex.refresh(data.getRows());
+        assertTrue(row.isHeightNotified());
+
+        row.setHeight(30);
+        assertFalse(dataIndex.isValid());
+        dataIndex.refresh(data.getRows());
+        assertEquals(30,
+                     dataIndex.getRowOffset(1),
+                     DELTA);
+
+        row.collapse();
+        assertFalse(dataIndex.isValid());
+        dataIndex.refresh(data.getRows());
+
+        row.expand();
+        assertFalse(dataIndex.isValid());
+        dataIndex.refresh(data.getRows());
+
+        row.reset();
+        assertFalse(dataIndex.isValid());
+        dataIndex.refresh(data.getRows());
+        assertEquals(10,
+                     dataIndex.getRowOffset(1),
+                     DELTA);
+
+        data.deleteRow(0);
+        dataIndex.refresh(data.getRows());
+        assertFalse(row.isHeightNotified());
+
+        row.setHeight(50);
+        assertTrue(dataIndex.isValid());
+    }
+
+    @Test
+    public void testRefreshOnlyReadsRowsNotNotified() {
+        final GridData data = new BaseGridData();
+        final double[] dynamicHeight = {20};
+        final GridRow notified = spy(new BaseGridRow(10));
+        final GridRow dynamic = spy(new BaseGridRow() {
+            @Override
+            public double getHeight() {
+                return dynamicHeight[0];
+            }
+
+            @Override
+            public boolean isHeightNotified() {
+                return false;
+            }
+        });
+        data.appendRow(notified);
+        data.appendRow(dynamic);
+        data.appendRow(new BaseGridRow(30));
+
+        final GridRowOffsetIndex dataIndex = data.getRowOffsetIndex();
+        dataIndex.refresh(data.getRows());
+        dataIndex.refresh(data.getRows());
+        dataIndex.refresh(data.getRows());
+
+        verify(notified,
+               times(1)).getHeight();
+        verify(dynamic,
+               times(3)).getHeight();
+
+        dynamicHeight[0] = 40;
+        assertTrue(dataIndex.isValid());
+        dataIndex.refresh(data.getRows());
+
+        assertEquals(80,
+                     dataIndex.getHeight(),
+                     DELTA);
+        assertEquals(50,
+                     dataIndex.getRowOffset(2),
+                     DELTA);
+    }
+}